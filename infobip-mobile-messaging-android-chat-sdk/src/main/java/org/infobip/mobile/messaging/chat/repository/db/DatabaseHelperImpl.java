@@ -5,6 +5,10 @@ import android.database.sqlite.SQLiteDatabase;
 import android.support.annotation.VisibleForTesting;
 
 import org.infobip.mobile.messaging.dal.sqlite.BaseDatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.Migration;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author sslavin
@@ -56,8 +60,11 @@ public class DatabaseHelperImpl extends BaseDatabaseHelper {
         db.endTransaction();
     }
 
+    /**
+     * Has single version now, later versions should add {@link Migration}s here
+     */
     @Override
-    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        // has single version now, do nothing
+    protected List<Migration> getMigrations() {
+        return Collections.emptyList();
     }
 }
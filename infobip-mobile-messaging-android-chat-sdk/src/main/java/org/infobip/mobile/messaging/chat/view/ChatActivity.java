@@ -57,6 +57,7 @@ import org.infobip.mobile.messaging.chat.properties.PropertyHelper;
 import org.infobip.mobile.messaging.interactive.NotificationAction;
 import org.infobip.mobile.messaging.mobile.MobileMessagingError;
 import org.infobip.mobile.messaging.mobile.common.MAsyncTask;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.infobip.mobile.messaging.util.StringUtils;
 import org.json.JSONObject;
@@ -379,7 +380,7 @@ public class ChatActivity extends AppCompatActivity implements ChatAdapter.Actio
             public void after(Void aVoid) {
                 progressDialog.dismiss();
             }
-        }.execute();
+        }.execute(SdkExecutors.get().lane(SdkExecutors.Lane.CHAT));
     }
 
     protected void clearChatHistory() {
@@ -0,0 +1,102 @@
+package org.infobip.mobile.messaging.geo.storage;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.geo.Geo;
+import org.infobip.mobile.messaging.geo.MobileMessagingGeoProperty;
+import org.infobip.mobile.messaging.geo.mapper.GeoDataMapper;
+import org.infobip.mobile.messaging.geo.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.DateTimeUtil;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class GeoSQLiteMessageStoreTest extends MobileMessagingTestCase {
+
+    private GeoSQLiteMessageStore store;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        store = (GeoSQLiteMessageStore) geoStore;
+    }
+
+    @Test
+    public void test_shouldFindMessagesByAreaIdsIgnoringCase() {
+        createMessage(context, "message1", "campaign1", true, createArea("Area1"), createArea("area2"));
+        createMessage(context, "message2", "campaign2", true, createArea("area3"));
+
+        List<Message> messages = store.findByAreaIds(context, Arrays.asList("AREA2", "area1"));
+
+        assertEquals(1, messages.size());
+        assertEquals("message1", messages.get(0).getMessageId());
+        assertEquals(0, store.findByAreaIds(context, Collections.singletonList("area4")).size());
+    }
+
+    @Test
+    public void test_shouldReadGeoFromAreaTable() {
+        String expiryTime = DateTimeUtil.ISO8601DateToString(new Date(System.currentTimeMillis() + 60000));
+        createMessage(context, "message1", true, createGeo(1.0, 2.0, expiryTime, null, "campaign1", null,
+                createArea("area1", "title1", 3.0, 4.0, 5), createArea("area2")));
+
+        Map<String, Geo> geos = store.findAllGeo(context);
+
+        Geo geo = geos.get("message1");
+        assertEquals(1, geos.size());
+        assertEquals("campaign1", geo.getCampaignId());
+        assertEquals(expiryTime, geo.getExpiryTime());
+        assertEquals(2, geo.getAreasList().size());
+        assertJEquals(createArea("area1", "title1", 3.0, 4.0, 5), geo.getAreasList().get(0));
+    }
+
+    @Test
+    public void test_shouldFindExpiredMessagesAndRemoveTheirAreas() {
+        long now = System.currentTimeMillis();
+        createMessage(context, "expired", true, createGeo(0.0, 0.0, DateTimeUtil.ISO8601DateToString(new Date(now - 60000)), null, "campaign1", null, createArea("area1")));
+        createMessage(context, "active", true, createGeo(0.0, 0.0, DateTimeUtil.ISO8601DateToString(new Date(now + 60000)), null, "campaign2", null, createArea("area2")));
+
+        assertEquals(Collections.singleton("expired"), store.findExpiredMessageIds(context, now));
+
+        store.deleteById(context, "expired");
+
+        assertEquals(0, store.findByAreaIds(context, Collections.singletonList("area1")).size());
+        assertEquals(Collections.singleton("active"), store.findAllGeo(context).keySet());
+    }
+
+    @Test
+    public void test_shouldReplaceAreasWhenMessageIsSavedAgain() {
+        Message message = createMessage(context, "message1", "campaign1", true, createArea("area1"));
+
+        Geo geo = createGeo(0.0, 0.0, "campaign1", null, createArea("area2"));
+        message.setInternalData(GeoDataMapper.geoToInternalData(geo));
+        store.save(context, message);
+
+        assertEquals(0, store.findByAreaIds(context, Collections.singletonList("area1")).size());
+        assertEquals(1, store.findByAreaIds(context, Collections.singletonList("area2")).size());
+    }
+
+    @Test
+    public void test_shouldIndexMessagesSavedBeforeAreaTable() {
+        Message message = createMessage(context, "message1", "campaign1", false, createArea("area1"));
+        databaseHelper.save(new SQLiteGeoMessage(message));
+        PreferenceHelper.saveBoolean(context, MobileMessagingGeoProperty.GEO_AREAS_INDEXED.getKey(), false);
+
+        List<Message> messages = store.findByAreaIds(context, Collections.singletonList("area1"));
+
+        assertEquals(1, messages.size());
+        assertTrue(PreferenceHelper.findBoolean(context, MobileMessagingGeoProperty.GEO_AREAS_INDEXED.getKey(), false));
+    }
+}
@@ -10,7 +10,8 @@ public enum MobileMessagingGeoProperty {
 
     ALL_ACTIVE_GEO_AREAS_MONITORED("org.infobip.mobile.messaging.infobip.ALL_ACTIVE_GEO_AREAS_MONITORED", false),
     UNREPORTED_GEO_EVENTS("org.infobip.mobile.messaging.infobip.UNREPORTED_GEO_EVENTS", new String[0]),
-    GEOFENCING_ACTIVATED("org.infobip.mobile.messaging.geo.GEOFENCING_ACTIVATED", false);
+    GEOFENCING_ACTIVATED("org.infobip.mobile.messaging.geo.GEOFENCING_ACTIVATED", false),
+    GEO_AREAS_INDEXED("org.infobip.mobile.messaging.geo.GEO_AREAS_INDEXED", false);
 
     private final String key;
     private final Object defaultValue;
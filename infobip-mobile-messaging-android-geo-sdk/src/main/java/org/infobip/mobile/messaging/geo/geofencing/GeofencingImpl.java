@@ -43,6 +43,7 @@ import org.infobip.mobile.messaging.storage.MessageStore;
 import org.infobip.mobile.messaging.util.ComponentUtil;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -111,34 +112,7 @@ public class GeofencingImpl extends Geofencing implements GoogleApiClient.Connec
 
     void removeExpiredAreasFromStorage() {
         GeoSQLiteMessageStore messageStoreForGeo = (GeoSQLiteMessageStore) geofencingHelper.getMessageStoreForGeo();
-        List<Message> messages = messageStoreForGeo.findAll(context);
-        List<String> messageIdsToDelete = new ArrayList<>(messages.size());
-        Date now = new Date();
-
-        for (Message message : messages) {
-            Geo geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
-            if (geo == null) {
-                continue;
-            }
-
-            List<Area> areasList = geo.getAreasList();
-            Date expiryDate = geo.getExpiryDate();
-
-            if (areasList == null || areasList.isEmpty()) {
-                continue;
-            }
-
-            for (Area area : areasList) {
-                if (!area.isValid() || expiryDate == null) {
-                    continue;
-                }
-
-                if (expiryDate.before(now)) {
-                    messageIdsToDelete.add(message.getMessageId());
-                }
-            }
-        }
-
+        Set<String> messageIdsToDelete = messageStoreForGeo.findExpiredMessageIds(context, new Date().getTime());
         if (!messageIdsToDelete.isEmpty()) {
             messageStoreForGeo.deleteByIds(context, messageIdsToDelete.toArray(new String[]{}));
         }
@@ -155,10 +129,8 @@ public class GeofencingImpl extends Geofencing implements GoogleApiClient.Connec
         Date nextCheckExpireDate = null;
         Map<String, Geofence> geofences = new HashMap<>();
         Map<String, Date> expiryDates = new HashMap<>();
-        List<Message> messages = messageStore.findAll(context);
 
-        for (Message message : messages) {
-            Geo geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
+        for (Geo geo : findAllGeo(messageStore)) {
             if (geo == null || geo.getAreasList() == null || geo.getAreasList().isEmpty()) {
                 continue;
             }
@@ -194,6 +166,19 @@ public class GeofencingImpl extends Geofencing implements GoogleApiClient.Connec
         return new Pair<>(geofenceList, new Pair<>(nextCheckRefreshDate, nextCheckExpireDate));
     }
 
+    private Collection<Geo> findAllGeo(MessageStore messageStore) {
+        if (messageStore instanceof GeoSQLiteMessageStore) {
+            return ((GeoSQLiteMessageStore) messageStore).findAllGeo(context).values();
+        }
+
+        List<Message> messages = messageStore.findAll(context);
+        List<Geo> geos = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            geos.add(GeoDataMapper.geoFromInternalData(message.getInternalData()));
+        }
+        return geos;
+    }
+
     private static Date calculateNextCheckDateForGeoStart(Geo geo, Date oldCheckDate) {
         Date now = new Date();
         Date expiryDate = geo.getExpiryDate();
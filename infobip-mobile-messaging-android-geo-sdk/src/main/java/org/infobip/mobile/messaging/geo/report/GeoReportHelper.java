@@ -15,6 +15,7 @@ import org.infobip.mobile.messaging.geo.GeoEventType;
 import org.infobip.mobile.messaging.geo.GeoLatLng;
 import org.infobip.mobile.messaging.geo.geofencing.GeofencingHelper;
 import org.infobip.mobile.messaging.geo.mapper.GeoDataMapper;
+import org.infobip.mobile.messaging.geo.storage.GeoSQLiteMessageStore;
 import org.infobip.mobile.messaging.geo.transition.GeoNotificationHelper;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.storage.MessageStore;
@@ -255,7 +256,9 @@ public class GeoReportHelper {
     public static Map<Message, List<Area>> findSignalingMessagesAndAreas(Context context, MessageStore messageStore, Set<String> requestIds, @NonNull GeoEventType event) {
         Date now = Time.date();
         Map<Message, List<Area>> messagesAndAreas = new ArrayMap<>();
-        for (Message message : messageStore.findAll(context)) {
+        List<Message> messages = messageStore instanceof GeoSQLiteMessageStore ?
+                ((GeoSQLiteMessageStore) messageStore).findByAreaIds(context, requestIds) : messageStore.findAll(context);
+        for (Message message : messages) {
             Geo geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
             if (geo == null || geo.getAreasList() == null || geo.getAreasList().isEmpty()) {
                 continue;
@@ -20,6 +20,7 @@ import org.infobip.mobile.messaging.mobile.MobileMessagingError;
 import org.infobip.mobile.messaging.mobile.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobile.common.MRetryableTask;
 import org.infobip.mobile.messaging.mobile.common.RetryPolicyProvider;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.stats.MobileMessagingStatsError;
@@ -82,7 +83,7 @@ public class GeoReporter {
             }
         }
         .retryWith(retryPolicy)
-        .execute(reports);
+        .execute(SdkExecutors.get().lane(SdkExecutors.Lane.GEO), reports);
     }
 
     /**
@@ -0,0 +1,282 @@
+package org.infobip.mobile.messaging.geo.storage;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.GeoAreaColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.geo.Area;
+import org.infobip.mobile.messaging.geo.Geo;
+import org.infobip.mobile.messaging.geo.GeoEventSettings;
+import org.infobip.mobile.messaging.geo.GeoEventType;
+import org.infobip.mobile.messaging.geo.mapper.GeoDataMapper;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.util.DateTimeUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads and writes {@link Tables#GEO_AREAS}, denormalized copy of areas of geo messages.
+ * Rows are written when geo messages are saved, so geo data is parsed once per message and not on every area scan.
+ * Rows are removed by database trigger whenever geo message is deleted.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+class GeoAreaTable {
+
+    private static final String SQL_INSERT = "INSERT INTO " + Tables.GEO_AREAS + " (" +
+            GeoAreaColumns.AREA_ID + ", " +
+            GeoAreaColumns.MESSAGE_ID + ", " +
+            GeoAreaColumns.CAMPAIGN_ID + ", " +
+            GeoAreaColumns.TITLE + ", " +
+            GeoAreaColumns.LATITUDE + ", " +
+            GeoAreaColumns.LONGITUDE + ", " +
+            GeoAreaColumns.RADIUS + ", " +
+            GeoAreaColumns.START_TIME + ", " +
+            GeoAreaColumns.EXPIRY_TIME + ", " +
+            GeoAreaColumns.ENTRY_LIMIT + ", " +
+            GeoAreaColumns.ENTRY_TIMEOUT_MINUTES + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_DELETE_MESSAGE = "DELETE FROM " + Tables.GEO_AREAS + " WHERE " + GeoAreaColumns.MESSAGE_ID + " = ?";
+
+    private static final String[] PROJECTION = {
+            GeoAreaColumns.AREA_ID,
+            GeoAreaColumns.MESSAGE_ID,
+            GeoAreaColumns.CAMPAIGN_ID,
+            GeoAreaColumns.TITLE,
+            GeoAreaColumns.LATITUDE,
+            GeoAreaColumns.LONGITUDE,
+            GeoAreaColumns.RADIUS,
+            GeoAreaColumns.START_TIME,
+            GeoAreaColumns.EXPIRY_TIME,
+            GeoAreaColumns.ENTRY_LIMIT,
+            GeoAreaColumns.ENTRY_TIMEOUT_MINUTES
+    };
+
+    private final SQLiteDatabase db;
+
+    GeoAreaTable(SQLiteDatabase db) {
+        this.db = db;
+    }
+
+    /**
+     * Replaces areas of provided messages with the areas from their geo data.
+     * Must be called inside of transaction.
+     */
+    void write(Collection<Message> messages) {
+        SQLiteStatement delete = db.compileStatement(SQL_DELETE_MESSAGE);
+        SQLiteStatement insert = db.compileStatement(SQL_INSERT);
+        try {
+            for (Message message : messages) {
+                if (message.getMessageId() == null) {
+                    continue;
+                }
+
+                delete.bindString(1, message.getMessageId());
+                delete.executeUpdateDelete();
+                insertAreas(insert, message);
+            }
+        } finally {
+            delete.close();
+            insert.close();
+        }
+    }
+
+    /**
+     * Removes all areas and indexes provided messages from scratch.
+     * Must be called inside of transaction.
+     */
+    void rebuild(Collection<Message> messages) {
+        db.delete(Tables.GEO_AREAS, null, null);
+        SQLiteStatement insert = db.compileStatement(SQL_INSERT);
+        try {
+            for (Message message : messages) {
+                if (message.getMessageId() != null) {
+                    insertAreas(insert, message);
+                }
+            }
+        } finally {
+            insert.close();
+        }
+    }
+
+    /**
+     * Reads geo campaigns of all messages. Returned geo objects contain only data stored in the table:
+     * campaign id, areas, start and expiry time and settings of entry event.
+     *
+     * @return geo campaigns mapped by message id
+     */
+    Map<String, Geo> readAll() {
+        Map<String, GeoBuilder> builders = new LinkedHashMap<>();
+        Cursor cursor = db.query(Tables.GEO_AREAS, PROJECTION, null, null, null, null, GeoAreaColumns.MESSAGE_ID);
+        try {
+            while (cursor.moveToNext()) {
+                String messageId = cursor.getString(1);
+                GeoBuilder builder = builders.get(messageId);
+                if (builder == null) {
+                    builder = new GeoBuilder(cursor);
+                    builders.put(messageId, builder);
+                }
+                builder.areas.add(new Area(
+                        cursor.getString(0),
+                        cursor.getString(3),
+                        cursor.isNull(4) ? null : cursor.getDouble(4),
+                        cursor.isNull(5) ? null : cursor.getDouble(5),
+                        cursor.isNull(6) ? null : cursor.getInt(6)));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        Map<String, Geo> geos = new LinkedHashMap<>(builders.size());
+        for (Map.Entry<String, GeoBuilder> entry : builders.entrySet()) {
+            geos.put(entry.getKey(), entry.getValue().build());
+        }
+        return geos;
+    }
+
+    /**
+     * Finds messages with at least one valid area that expired before provided time
+     */
+    Set<String> findExpiredMessageIds(long now) {
+        return queryMessageIds(GeoAreaColumns.EXPIRY_TIME + " < ? AND " +
+                GeoAreaColumns.LATITUDE + " IS NOT NULL AND " +
+                GeoAreaColumns.LONGITUDE + " IS NOT NULL AND " +
+                GeoAreaColumns.RADIUS + " IS NOT NULL", new String[]{String.valueOf(now)});
+    }
+
+    /**
+     * Finds messages that contain any of provided areas, area ids are compared case-insensitively
+     */
+    Set<String> findMessageIdsByAreaIds(Collection<String> areaIds) {
+        if (areaIds.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+        return queryMessageIds(GeoAreaColumns.AREA_ID + " IN (" + placeholders(areaIds.size()) + ")", areaIds.toArray(new String[areaIds.size()]));
+    }
+
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(i > 0 ? ", ?" : "?");
+        }
+        return sb.toString();
+    }
+
+    private Set<String> queryMessageIds(String selection, String[] selectionArgs) {
+        Set<String> messageIds = new LinkedHashSet<>();
+        Cursor cursor = db.query(true, Tables.GEO_AREAS, new String[]{GeoAreaColumns.MESSAGE_ID}, selection, selectionArgs, null, null, null, null);
+        try {
+            while (cursor.moveToNext()) {
+                messageIds.add(cursor.getString(0));
+            }
+        } finally {
+            cursor.close();
+        }
+        return messageIds;
+    }
+
+    private static void insertAreas(SQLiteStatement insert, Message message) {
+        Geo geo;
+        try {
+            geo = GeoDataMapper.geoFromInternalData(message.getInternalData());
+        } catch (Exception e) {
+            MobileMessagingLogger.w("Cannot parse geo data of message " + message.getMessageId() + ": " + Log.getStackTraceString(e));
+            return;
+        }
+        if (geo == null || geo.getAreasList() == null) {
+            return;
+        }
+
+        GeoEventSettings entry = null;
+        if (geo.getEvents() != null) {
+            for (GeoEventSettings settings : geo.getEvents()) {
+                if (settings != null && settings.getType() == GeoEventType.entry) {
+                    entry = settings;
+                    break;
+                }
+            }
+        }
+
+        Date startDate = geo.getStartDate();
+        Date expiryDate = geo.getExpiryDate();
+        for (Area area : geo.getAreasList()) {
+            if (area == null || area.getId() == null) {
+                continue;
+            }
+
+            insert.clearBindings();
+            insert.bindString(1, area.getId());
+            insert.bindString(2, message.getMessageId());
+            bindString(insert, 3, geo.getCampaignId());
+            bindString(insert, 4, area.getTitle());
+            if (area.getLatitude() != null) {
+                insert.bindDouble(5, area.getLatitude());
+            }
+            if (area.getLongitude() != null) {
+                insert.bindDouble(6, area.getLongitude());
+            }
+            if (area.getRadius() != null) {
+                insert.bindLong(7, area.getRadius());
+            }
+            if (startDate != null) {
+                insert.bindLong(8, startDate.getTime());
+            }
+            if (expiryDate != null) {
+                insert.bindLong(9, expiryDate.getTime());
+            }
+            if (entry != null) {
+                insert.bindLong(10, entry.getLimit());
+                insert.bindLong(11, entry.getTimeoutInMinutes());
+            }
+            insert.executeInsert();
+        }
+    }
+
+    private static void bindString(SQLiteStatement statement, int index, String value) {
+        if (value != null) {
+            statement.bindString(index, value);
+        }
+    }
+
+    private static class GeoBuilder {
+        final String campaignId;
+        final Long startTime;
+        final Long expiryTime;
+        final Integer entryLimit;
+        final Long entryTimeoutMinutes;
+        final List<Area> areas = new ArrayList<>();
+
+        GeoBuilder(Cursor cursor) {
+            campaignId = cursor.getString(2);
+            startTime = cursor.isNull(7) ? null : cursor.getLong(7);
+            expiryTime = cursor.isNull(8) ? null : cursor.getLong(8);
+            entryLimit = cursor.isNull(9) ? null : cursor.getInt(9);
+            entryTimeoutMinutes = cursor.isNull(10) ? null : cursor.getLong(10);
+        }
+
+        Geo build() {
+            List<GeoEventSettings> events = new ArrayList<>();
+            if (entryLimit != null && entryTimeoutMinutes != null) {
+                events.add(new GeoEventSettings(GeoEventType.entry, entryLimit, entryTimeoutMinutes));
+            }
+            return new Geo(null, null, null, toISO8601(expiryTime), toISO8601(startTime), campaignId, areas, events, 0, null);
+        }
+
+        private static String toISO8601(Long time) {
+            return time != null ? DateTimeUtil.ISO8601DateToString(new Date(time)) : null;
+        }
+    }
+}
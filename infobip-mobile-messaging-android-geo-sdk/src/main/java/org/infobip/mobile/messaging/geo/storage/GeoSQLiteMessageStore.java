@@ -1,35 +1,117 @@
 package org.infobip.mobile.messaging.geo.storage;
 
 import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
-import org.infobip.mobile.messaging.storage.MessageStore;
+import org.infobip.mobile.messaging.dal.sqlite.CursorIterable;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+import org.infobip.mobile.messaging.dal.sqlite.SqliteMessage;
+import org.infobip.mobile.messaging.dal.sqlite.SqliteMessageQuery;
+import org.infobip.mobile.messaging.geo.Geo;
+import org.infobip.mobile.messaging.geo.MobileMessagingGeoProperty;
+import org.infobip.mobile.messaging.storage.MessageQuery;
+import org.infobip.mobile.messaging.storage.QueryableMessageStore;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author sslavin
  * @since 13/02/2017.
  */
 
-public class GeoSQLiteMessageStore implements MessageStore {
+public class GeoSQLiteMessageStore implements QueryableMessageStore {
+
+    private static final DatabaseContract.RowMapper<Message> ROW_MAPPER = SqliteMessage.rowMapper();
+    private static final DatabaseContract.RowMapper<Message> GEO_DATA_ROW_MAPPER = SqliteMessage.rowMapper(
+            MessageColumns.MESSAGE_ID,
+            MessageColumns.INTERNAL_DATA,
+            MessageColumns.RECEIVED_TIMESTAMP,
+            MessageColumns.SEEN_TIMESTAMP);
 
     public void save(Context context, Message... messages) {
-        DatabaseHelper helper = MobileMessagingCore.getDatabaseHelper(context);
+        List<SQLiteGeoMessage> objects = new ArrayList<>(messages.length);
         for (Message message : messages) {
-            helper.save(new SQLiteGeoMessage(message));
+            objects.add(new SQLiteGeoMessage(message));
+        }
+
+        SQLiteDatabase db = MobileMessagingCore.getDatabaseProvider(context).getDatabase();
+        db.beginTransaction();
+        try {
+            MobileMessagingCore.getDatabaseHelper(context).saveAll(objects);
+            new GeoAreaTable(db).write(Arrays.asList(messages));
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
     }
 
     public List<Message> findAll(Context context) {
-        return new ArrayList<Message>(MobileMessagingCore.getDatabaseHelper(context).findAll(SQLiteGeoMessage.class));
+        return MobileMessagingCore.getDatabaseHelper(context).findAll(SQLiteGeoMessage.class, ROW_MAPPER);
+    }
+
+    /**
+     * Finds all messages reading only id, internal data and timestamps, other fields of returned messages are empty.
+     * Geo areas are evaluated only from internal data, so area scans do not need to load whole messages.
+     */
+    public List<Message> findAllGeoData(Context context) {
+        return MobileMessagingCore.getDatabaseHelper(context).findAll(SQLiteGeoMessage.class, GEO_DATA_ROW_MAPPER);
+    }
+
+    /**
+     * Reads geo campaigns of all messages from the area table without parsing internal data of messages.
+     * Returned geo objects contain campaign id, areas, start and expiry time and settings of entry event.
+     *
+     * @return geo campaigns mapped by message id
+     */
+    public Map<String, Geo> findAllGeo(Context context) {
+        return geoAreaTable(context).readAll();
+    }
+
+    /**
+     * Finds ids of messages that have valid areas which expired before provided time
+     */
+    public Set<String> findExpiredMessageIds(Context context, long time) {
+        return geoAreaTable(context).findExpiredMessageIds(time);
+    }
+
+    /**
+     * Finds messages that contain any of provided areas, area ids are compared case-insensitively
+     */
+    public List<Message> findByAreaIds(Context context, Collection<String> areaIds) {
+        Set<String> messageIds = geoAreaTable(context).findMessageIdsByAreaIds(areaIds);
+        if (messageIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return MobileMessagingCore.getDatabaseHelper(context).find(SQLiteGeoMessage.class, ROW_MAPPER,
+                MessageColumns.MESSAGE_ID + " IN (" + GeoAreaTable.placeholders(messageIds.size()) + ")",
+                messageIds.toArray(new String[messageIds.size()]), null, 0);
+    }
+
+    @Override
+    public List<Message> find(Context context, MessageQuery query) {
+        SqliteMessageQuery sql = new SqliteMessageQuery(query);
+        return MobileMessagingCore.getDatabaseHelper(context)
+                .find(SQLiteGeoMessage.class, ROW_MAPPER, sql.getSelection(), sql.getSelectionArgs(), sql.getOrderBy(), sql.getLimit());
+    }
+
+    @Override
+    public CursorIterable<Message> iterate(Context context, MessageQuery query) {
+        SqliteMessageQuery sql = new SqliteMessageQuery(query);
+        return MobileMessagingCore.getDatabaseHelper(context)
+                .iterate(SQLiteGeoMessage.class, ROW_MAPPER, sql.getSelection(), sql.getSelectionArgs(), sql.getOrderBy(), sql.getLimit());
     }
 
     public Message findById(Context context, String messageId) {
-        return MobileMessagingCore.getDatabaseHelper(context).find(SQLiteGeoMessage.class, messageId);
+        return MobileMessagingCore.getDatabaseHelper(context).find(SQLiteGeoMessage.class, ROW_MAPPER, messageId);
     }
 
     public long countAll(Context context) {
@@ -47,4 +129,25 @@ public class GeoSQLiteMessageStore implements MessageStore {
     public void deleteByIds(Context context, String[] messageIds) {
         MobileMessagingCore.getDatabaseHelper(context).delete(SQLiteGeoMessage.class, messageIds);
     }
+
+    /**
+     * Returns area table, indexing messages saved before the table existed on first call
+     */
+    private static synchronized GeoAreaTable geoAreaTable(Context context) {
+        SQLiteDatabase db = MobileMessagingCore.getDatabaseProvider(context).getDatabase();
+        GeoAreaTable table = new GeoAreaTable(db);
+        if (PreferenceHelper.findBoolean(context, MobileMessagingGeoProperty.GEO_AREAS_INDEXED.getKey(), false)) {
+            return table;
+        }
+
+        db.beginTransaction();
+        try {
+            table.rebuild(MobileMessagingCore.getDatabaseHelper(context).findAll(SQLiteGeoMessage.class, GEO_DATA_ROW_MAPPER));
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        PreferenceHelper.saveBoolean(context, MobileMessagingGeoProperty.GEO_AREAS_INDEXED.getKey(), true);
+        return table;
+    }
 }
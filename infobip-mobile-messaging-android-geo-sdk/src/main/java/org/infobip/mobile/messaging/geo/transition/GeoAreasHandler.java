@@ -18,6 +18,7 @@ import org.infobip.mobile.messaging.geo.report.GeoReportHelper;
 import org.infobip.mobile.messaging.geo.report.GeoReporter;
 import org.infobip.mobile.messaging.geo.report.GeoReportingResult;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.mobile.EventBatcher;
 import org.infobip.mobile.messaging.mobile.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
 import org.infobip.mobile.messaging.storage.MessageStore;
@@ -34,6 +35,7 @@ import java.util.Map;
 public class GeoAreasHandler {
 
     private static final String TAG = "GeofenceTransitions";
+    private static final String GEO_EVENTS_ENDPOINT = "geo";
 
     private final MessageStore geoMessageStore;
     private final GeoNotificationHelper geoNotificationHelper;
@@ -112,9 +114,27 @@ public class GeoAreasHandler {
         } catch (Exception e) {
             MobileMessagingLogger.e(TAG, "Failed to report geo events " + e.toString());
             handleGeoReportingResult(context, new GeoReportingResult(e));
+            scheduleReport(unreportedEvents);
         }
     }
 
+    /**
+     * Keeps events that failed to be reported and schedules their reporting with the next batch of outbound events.
+     *
+     * @param unreportedEvents events that were not reported to the server.
+     */
+    private void scheduleReport(GeoReport unreportedEvents[]) {
+        geofencingHelper.addUnreportedGeoEvents(unreportedEvents);
+        EventBatcher eventBatcher = mobileMessagingCore.getEventBatcher();
+        eventBatcher.register(GEO_EVENTS_ENDPOINT, new Runnable() {
+            @Override
+            public void run() {
+                geoReporter.synchronize();
+            }
+        });
+        eventBatcher.add(GEO_EVENTS_ENDPOINT, unreportedEvents.length);
+    }
+
     /**
      * Generates new geo messages based on events and result data and also provides broadcasts and notifications.
      *
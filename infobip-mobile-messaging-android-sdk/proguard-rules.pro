@@ -74,6 +74,10 @@
 # Mobile Messaging API classes
 -keep class org.infobip.mobile.messaging.api.** { *; }
 
+# OkHttp is optional and used for HTTP/2 only when application includes it
+-dontwarn okhttp3.**
+-dontwarn okio.**
+
 # GSON-related
 
 # Gson specific classes
@@ -0,0 +1,75 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.util.Log;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * Compares write throughput of one transaction per row with batch writes,
+ * results are printed to logcat with tag {@value #TAG}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class DatabaseBatchWriteBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "DatabaseBenchmark";
+    private static final int MESSAGES_PER_SYNC = 100;
+    private static final int SYNCS = 10;
+
+    @Test
+    public void benchmark_saveMessagesFromSync() throws Exception {
+        List<Message[]> syncs = new ArrayList<>();
+        for (int i = 0; i < SYNCS; i++) {
+            syncs.add(messages("sync" + i));
+        }
+
+        databaseHelper.deleteAll(SqliteMessage.class);
+        long start = System.nanoTime();
+        for (Message[] messages : syncs) {
+            for (Message message : messages) {
+                databaseHelper.save(new SqliteMessage(message));
+            }
+        }
+        long rowByRowNanos = System.nanoTime() - start;
+        assertEquals(MESSAGES_PER_SYNC * SYNCS, databaseHelper.countAll(SqliteMessage.class));
+
+        databaseHelper.deleteAll(SqliteMessage.class);
+        SQLiteMessageStore messageStore = new SQLiteMessageStore();
+        start = System.nanoTime();
+        for (Message[] messages : syncs) {
+            messageStore.save(context, messages);
+        }
+        long batchNanos = System.nanoTime() - start;
+        assertEquals(MESSAGES_PER_SYNC * SYNCS, databaseHelper.countAll(SqliteMessage.class));
+
+        Log.i(TAG, String.format(Locale.US, "save() per row: %.0f rows/s, saveAll() per sync of %d: %.0f rows/s",
+                rowsPerSecond(rowByRowNanos), MESSAGES_PER_SYNC, rowsPerSecond(batchNanos)));
+    }
+
+    private static Message[] messages(String prefix) throws Exception {
+        Message[] messages = new Message[MESSAGES_PER_SYNC];
+        for (int i = 0; i < MESSAGES_PER_SYNC; i++) {
+            messages[i] = new Message(prefix + "-" + i, "Title " + i, "Body of message " + i, "default",
+                    true, null, false, null, null, 1000L * i, 0, 1000L * i,
+                    new JSONObject("{\"key\":\"value " + i + "\"}"), "{\"sendDateTime\":" + 1000L * i + "}",
+                    null, Message.Status.SUCCESS, null, null);
+        }
+        return messages;
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return MESSAGES_PER_SYNC * SYNCS * 1e9 / nanos;
+    }
+}
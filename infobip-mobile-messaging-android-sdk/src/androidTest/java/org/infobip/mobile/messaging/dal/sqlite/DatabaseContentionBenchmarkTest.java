@@ -0,0 +1,145 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Measures read latency while another thread keeps writing, with and without write-ahead logging.
+ * Percentiles are printed to logcat with tag {@value #TAG}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class DatabaseContentionBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "DatabaseBenchmark";
+    private static final String DATABASE_NAME = "mm_contention_benchmark.db";
+    private static final int ROWS = 500;
+    private static final int WRITES = 500;
+
+    private static class TestDatabaseHelper extends BaseDatabaseHelper {
+
+        TestDatabaseHelper(Context context, boolean writeAheadLoggingEnabled) {
+            super(context, DATABASE_NAME, 1, writeAheadLoggingEnabled);
+        }
+
+        @Override
+        public void onCreate(SQLiteDatabase db) {
+            db.execSQL("CREATE TABLE " + SomethingInDatabase.getTable() + " (" +
+                    "string_value TEXT PRIMARY KEY," +
+                    "long_value INTEGER," +
+                    "double_value REAL)");
+        }
+
+        @Override
+        public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        }
+    }
+
+    @Test
+    public void benchmark_readsWhileWriting() throws Exception {
+        Result rollbackJournal = run(false);
+        Result writeAheadLogging = run(true);
+
+        Log.i(TAG, "rollback journal: " + rollbackJournal);
+        Log.i(TAG, "write-ahead log:  " + writeAheadLogging);
+        assertFalse(rollbackJournal.reads.isEmpty());
+        assertFalse(writeAheadLogging.reads.isEmpty());
+    }
+
+    @Test
+    public void test_shouldReadRowsWrittenWithWriteAheadLogging() {
+        context.deleteDatabase(DATABASE_NAME);
+        TestDatabaseHelper helper = new TestDatabaseHelper(context, true);
+
+        helper.save(new SomethingInDatabase("Something1", 1, 2));
+
+        assertTrue(helper.getDatabase().isWriteAheadLoggingEnabled());
+        assertTrue(helper.find(SomethingInDatabase.class, "Something1") != null);
+        helper.deleteDatabase();
+    }
+
+    private Result run(boolean writeAheadLoggingEnabled) throws Exception {
+        context.deleteDatabase(DATABASE_NAME);
+        final TestDatabaseHelper helper = new TestDatabaseHelper(context, writeAheadLoggingEnabled);
+        List<SomethingInDatabase> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new SomethingInDatabase("Initial" + i, i, i));
+        }
+        helper.saveAll(rows);
+
+        final Result result = new Result();
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final CountDownLatch done = new CountDownLatch(2);
+
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < WRITES; i++) {
+                    long start = System.nanoTime();
+                    helper.save(new SomethingInDatabase("Written" + i, i, i));
+                    result.writes.add(System.nanoTime() - start);
+                }
+                writing.set(false);
+                done.countDown();
+            }
+        });
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (writing.get()) {
+                    long start = System.nanoTime();
+                    helper.find(SomethingInDatabase.class, "Initial" + (result.reads.size() % ROWS));
+                    result.reads.add(System.nanoTime() - start);
+                }
+                done.countDown();
+            }
+        });
+        writer.start();
+        reader.start();
+        done.await();
+
+        helper.deleteDatabase();
+        return result;
+    }
+
+    private static class Result {
+        final List<Long> reads = Collections.synchronizedList(new ArrayList<Long>());
+        final List<Long> writes = Collections.synchronizedList(new ArrayList<Long>());
+
+        @Override
+        public String toString() {
+            return "reads " + percentiles(reads) + ", writes " + percentiles(writes);
+        }
+
+        private static String percentiles(List<Long> latencies) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return String.format(Locale.US, "n=%d p50=%.2fms p95=%.2fms p99=%.2fms",
+                    sorted.size(), percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+        }
+
+        private static double percentile(List<Long> sorted, double percentile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1e6;
+        }
+    }
+}
@@ -6,12 +6,15 @@ import android.database.sqlite.SQLiteDatabase;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.fail;
 import static org.junit.Assert.assertNotEquals;
 
 /**
@@ -160,4 +163,50 @@ public class DatabaseHelperTest extends MobileMessagingTestCase {
 
         assertEquals(100, databaseHelper.countAll(SomethingInDatabase.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_shouldSaveAllObjectsAndReplaceExisting() {
+        database.insert(SomethingInDatabase.getTable(), null, new SomethingInDatabase("Something1", 1, 2).getContentValues());
+
+        databaseHelper.saveAll(Arrays.asList(
+                new SomethingInDatabase("Something1", 3, 4),
+                new SomethingInDatabase("Something2", 5, 6)));
+
+        assertEquals(2, databaseHelper.countAll(SomethingInDatabase.class));
+        SomethingInDatabase something1 = databaseHelper.find(SomethingInDatabase.class, "Something1");
+        assertEquals(3, something1.longValue);
+        assertEquals(4, something1.doubleValue, 0.001);
+        SomethingInDatabase something2 = databaseHelper.find(SomethingInDatabase.class, "Something2");
+        assertEquals(5, something2.longValue);
+        assertEquals(6, something2.doubleValue, 0.001);
+    }
+
+    @Test
+    public void test_shouldInsertAllObjects() throws Exception {
+        List<SomethingInDatabase> somethings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            somethings.add(new SomethingInDatabase("Something" + i, i, i + 0.5));
+        }
+
+        databaseHelper.insertAll(somethings);
+
+        assertEquals(100, databaseHelper.countAll(SomethingInDatabase.class));
+        assertEquals(99.5, databaseHelper.find(SomethingInDatabase.class, "Something99").doubleValue, 0.001);
+    }
+
+    @Test
+    public void test_shouldNotInsertAnyObjectIfOneViolatesPrimaryKey() {
+        database.insert(SomethingInDatabase.getTable(), null, new SomethingInDatabase("Something2", 1, 2).getContentValues());
+
+        try {
+            databaseHelper.insertAll(Arrays.asList(
+                    new SomethingInDatabase("Something1", 3, 4),
+                    new SomethingInDatabase("Something2", 5, 6)));
+            fail();
+        } catch (PrimaryKeyViolationException ignored) {
+        }
+
+        assertEquals(1, databaseHelper.countAll(SomethingInDatabase.class));
+        assertNull(databaseHelper.find(SomethingInDatabase.class, "Something1"));
+    }
+}
@@ -0,0 +1,133 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class DatabaseMigratorTest extends MobileMessagingTestCase {
+
+    private static final String TABLE = "migration_test";
+    private static final int ROWS = DatabaseMigrator.CHUNK_SIZE * 2 + 10;
+
+    private SQLiteDatabase db;
+
+    private static class UppercaseMigration extends RowMigration {
+
+        private final long failAtRowId;
+
+        UppercaseMigration(long failAtRowId) {
+            super(2, "uppercase", TABLE, "value");
+            this.failAtRowId = failAtRowId;
+        }
+
+        @Override
+        public ContentValues migrateRow(Cursor cursor) {
+            if (cursor.getLong(0) == failAtRowId) {
+                // errors are not handled per row, so this stops migration like process death would
+                throw new Error("Process died");
+            }
+
+            ContentValues values = new ContentValues();
+            values.put("value", cursor.getString(1).toUpperCase());
+            return values;
+        }
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        db = databaseProvider.getDatabase();
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        db.execSQL("CREATE TABLE " + TABLE + " (value TEXT)");
+        db.beginTransaction();
+        try {
+            for (int i = 0; i < ROWS; i++) {
+                db.execSQL("INSERT INTO " + TABLE + " (value) VALUES ('value" + i + "')");
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        db.delete(DatabaseContract.Tables.MIGRATIONS, null, null);
+
+        super.tearDown();
+    }
+
+    @Test
+    public void test_shouldApplySchemaMigrationsBetweenVersions() {
+        final StringBuilder applied = new StringBuilder();
+        List<Migration> migrations = Arrays.asList(migration(2, "a", applied), migration(3, "b", applied), migration(4, "c", applied));
+
+        int version = new DatabaseMigrator("test", migrations).upgrade(db, 2, 3);
+
+        assertEquals(3, version);
+        assertEquals("b", applied.toString());
+    }
+
+    @Test
+    public void test_shouldMigrateRowsInChunksAfterUpgrade() {
+        List<Migration> migrations = Collections.<Migration>singletonList(new UppercaseMigration(-1));
+        DatabaseMigrator migrator = new DatabaseMigrator("test", migrations);
+
+        migrator.upgrade(db, 1, 2);
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, DatabaseContract.Tables.MIGRATIONS));
+        assertEquals(ROWS, DatabaseUtils.queryNumEntries(db, TABLE, "value GLOB 'value*'"));
+
+        migrator.resume(db);
+
+        assertEquals(0, DatabaseUtils.queryNumEntries(db, DatabaseContract.Tables.MIGRATIONS));
+        assertEquals(ROWS, DatabaseUtils.queryNumEntries(db, TABLE, "value GLOB 'VALUE*'"));
+    }
+
+    @Test
+    public void test_shouldResumeInterruptedMigrationFromLastChunk() {
+        new DatabaseMigrator("test", Collections.<Migration>singletonList(new UppercaseMigration(-1))).upgrade(db, 1, 2);
+
+        boolean interrupted = false;
+        try {
+            new DatabaseMigrator("test", Collections.<Migration>singletonList(new UppercaseMigration(DatabaseMigrator.CHUNK_SIZE + 5))).resume(db);
+        } catch (Error ignored) {
+            interrupted = true;
+        }
+        assertTrue(interrupted);
+
+        // first chunk is committed, second one is rolled back
+        assertEquals(DatabaseMigrator.CHUNK_SIZE, DatabaseUtils.queryNumEntries(db, TABLE, "value GLOB 'VALUE*'"));
+
+        new DatabaseMigrator("test", Collections.<Migration>singletonList(new UppercaseMigration(-1))).resume(db);
+
+        assertEquals(ROWS, DatabaseUtils.queryNumEntries(db, TABLE, "value GLOB 'VALUE*'"));
+        assertEquals(0, DatabaseUtils.queryNumEntries(db, DatabaseContract.Tables.MIGRATIONS));
+    }
+
+    private static Migration migration(int version, final String name, final StringBuilder applied) {
+        return new Migration(version, name) {
+            @Override
+            public void migrateSchema(SQLiteDatabase db) {
+                applied.append(getName());
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.Cursor;
+import android.os.Debug;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+/**
+ * Compares scans of {@value #ROWS} messages: per-row column lookups with SELECT * (as before row mappers),
+ * row mapper reading all columns and row mapper reading only columns used by geo scanners.
+ * Time and allocations are printed to logcat with tag {@value #TAG}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class DatabaseReadBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "DatabaseBenchmark";
+    private static final int ROWS = 10000;
+    private static final int RUNS = 5;
+
+    private static final DatabaseContract.RowMapper<Message> PROJECTION_MAPPER = SqliteMessage.rowMapper(
+            MessageColumns.MESSAGE_ID,
+            MessageColumns.INTERNAL_DATA,
+            MessageColumns.RECEIVED_TIMESTAMP,
+            MessageColumns.SEEN_TIMESTAMP);
+
+    private interface Scan {
+        int run();
+    }
+
+    @Test
+    public void test_shouldReadOnlyProjectedColumns() {
+        Message message = createMessage(1);
+        new SQLiteMessageStore().save(context, message);
+
+        List<Message> messages = databaseHelper.findAll(SqliteMessage.class, PROJECTION_MAPPER);
+
+        assertEquals(1, messages.size());
+        assertEquals(message.getMessageId(), messages.get(0).getMessageId());
+        assertEquals(message.getReceivedTimestamp(), messages.get(0).getReceivedTimestamp());
+        assertNull(messages.get(0).getBody());
+    }
+
+    @Test
+    public void benchmark_scan10kRows() {
+        List<Message> messages = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            messages.add(createMessage(i));
+        }
+        new SQLiteMessageStore().save(context, messages.toArray(new Message[messages.size()]));
+
+        Log.i(TAG, "per-row lookups, all columns: " + measure(new Scan() {
+            @Override
+            public int run() {
+                Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT * FROM " + DatabaseContract.Tables.MESSAGES, new String[0]);
+                List<Message> messages = new ArrayList<>();
+                try {
+                    while (cursor.moveToNext()) {
+                        SqliteMessage message = SqliteMessage.class.newInstance();
+                        message.fillFromCursor(cursor);
+                        messages.add(message);
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    cursor.close();
+                }
+                return messages.size();
+            }
+        }));
+        Log.i(TAG, "row mapper, all columns:      " + measure(new Scan() {
+            @Override
+            public int run() {
+                return databaseHelper.findAll(SqliteMessage.class, SqliteMessage.rowMapper()).size();
+            }
+        }));
+        Log.i(TAG, "row mapper, geo projection:   " + measure(new Scan() {
+            @Override
+            public int run() {
+                return databaseHelper.findAll(SqliteMessage.class, PROJECTION_MAPPER).size();
+            }
+        }));
+    }
+
+    @SuppressWarnings("deprecation")
+    private String measure(Scan scan) {
+        // warm up
+        assertEquals(ROWS, scan.run());
+
+        long nanos = 0;
+        long bytes = 0;
+        long objects = 0;
+        for (int i = 0; i < RUNS; i++) {
+            Debug.resetThreadAllocCount();
+            Debug.resetThreadAllocSize();
+            Debug.startAllocCounting();
+            long start = System.nanoTime();
+            assertEquals(ROWS, scan.run());
+            nanos += System.nanoTime() - start;
+            Debug.stopAllocCounting();
+            bytes += Debug.getThreadAllocSize();
+            objects += Debug.getThreadAllocCount();
+        }
+        return String.format(Locale.US, "%.1f ms, %d KB, %d objects per scan", nanos / 1e6 / RUNS, bytes / 1024 / RUNS, objects / RUNS);
+    }
+
+    private Message createMessage(int i) {
+        Message message = new Message();
+        message.setMessageId("message" + i);
+        message.setTitle("Title " + i);
+        message.setBody("Some message body to take some space in database " + i);
+        message.setReceivedTimestamp(1000L + i);
+        message.setSeenTimestamp(i % 2 == 0 ? 2000L + i : 0);
+        message.setInternalData("{\"sendDateTime\":" + (500L + i) + "}");
+        return message;
+    }
+}
@@ -0,0 +1,105 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class MessageIdQueueTest extends MobileMessagingTestCase {
+
+    private MessageIdQueue queue;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        queue = new MessageIdQueue(databaseProvider, MessageIdQueue.UNREPORTED_DELIVERY);
+        queue.clear();
+    }
+
+    @Test
+    public void test_shouldKeepInsertionOrderAndIgnoreDuplicates() {
+        queue.add(1, "id3", "id1", null);
+        queue.add(2, "id2", "id1");
+
+        List<MessageIdQueue.Entry> entries = queue.peek(0);
+
+        assertArrayEquals(new String[]{"id3", "id1", "id2"}, MessageIdQueue.messageIds(entries));
+        assertEquals(1, entries.get(1).getTimestamp());
+    }
+
+    @Test
+    public void test_shouldPollInBatches() {
+        queue.add(1, "id1", "id2", "id3", "id4", "id5");
+
+        assertArrayEquals(new String[]{"id1", "id2"}, MessageIdQueue.messageIds(queue.poll(2)));
+        assertArrayEquals(new String[]{"id3", "id4", "id5"}, MessageIdQueue.messageIds(queue.poll(0)));
+        assertEquals(0, queue.poll(0).size());
+    }
+
+    @Test
+    public void test_shouldExpireAndTrimEntries() {
+        queue.add(1, "expired1", "expired2");
+        queue.add(10, "id1", "id2", "id3");
+
+        assertEquals(2, queue.expire(10));
+        queue.trim(2);
+
+        assertArrayEquals(new String[]{"id2", "id3"}, MessageIdQueue.messageIds(queue.peek(0)));
+    }
+
+    @Test
+    public void test_shouldRemoveAndReplaceIds() {
+        queue.add(1, "id1", "id2", "id3");
+
+        queue.remove("id2");
+        queue.replace(Collections.singletonMap("id1", "newId1"));
+
+        assertArrayEquals(new String[]{"newId1", "id3"}, MessageIdQueue.messageIds(queue.peek(0)));
+    }
+
+    @Test
+    public void test_shouldSeparateQueues() {
+        MessageIdQueue other = new MessageIdQueue(databaseProvider, MessageIdQueue.SYNC);
+        queue.add(1, "id1");
+        other.add(1, "id1", "id2");
+
+        queue.clear();
+
+        assertEquals(0, queue.peek(0).size());
+        assertEquals(2, other.peek(0).size());
+    }
+
+    @Test
+    public void test_shouldMigrateIdsFromSharedPreferences() {
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, "id1", "id2");
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, "id3, 1234");
+
+        SharedPreferencesMigrator.migrateMessageIdQueues(context, databaseProvider.getDatabase());
+
+        List<MessageIdQueue.Entry> seen = new MessageIdQueue(databaseProvider, MessageIdQueue.UNREPORTED_SEEN).peek(0);
+        assertEquals(new HashSet<>(Arrays.asList("id1", "id2")), new HashSet<>(Arrays.asList(MessageIdQueue.messageIds(queue.peek(0)))));
+        assertEquals(1, seen.size());
+        assertEquals("id3", seen.get(0).getMessageId());
+        assertEquals(1234, seen.get(0).getTimestamp());
+        assertEquals(2, PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).length);
+
+        SharedPreferencesMigrator.removeMigratedMessageIdQueues(context);
+
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS).length);
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).length);
+    }
+}
@@ -2,6 +2,7 @@ package org.infobip.mobile.messaging.dal.sqlite;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
@@ -11,9 +12,12 @@ import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 import static org.junit.Assert.assertNotEquals;
 
 /**
@@ -197,4 +201,71 @@ public class SqliteMessageMigrationTest extends MobileMessagingTestCase {
         assertEquals("SomeMessageStatusMessage", messages.get(0).getStatusMessage());
         assertEquals("SomeMessageContentUrl", messages.get(0).getContentUrl());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_shouldAddTimestampIndexes() throws Exception {
+        // Create SQLiteOpenHelper directly to perform raw operations on database
+        context.deleteDatabase(PushDatabaseHelperImpl.DATABASE_NAME);
+        SQLiteOpenHelper sqLiteOpenHelper = new SQLiteOpenHelper(context, PushDatabaseHelperImpl.DATABASE_NAME, null, PushDatabaseHelperImpl.VER_2017_AUG_25) {
+            @Override
+            public void onCreate(SQLiteDatabase db) {
+                db.execSQL(SQL_CREATE_MAY_MESSAGES_TABLE);
+                db.execSQL(SQL_CREATE_GEO_MESSAGES_TABLE);
+            }
+
+            @Override
+            public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+
+            }
+        };
+        sqLiteOpenHelper.getWritableDatabase().close();
+        sqLiteOpenHelper.close();
+
+        PushDatabaseHelperImpl helper = new PushDatabaseHelperImpl(context);
+        Cursor cursor = helper.getDatabase().rawQuery("SELECT tbl_name, sql FROM sqlite_master WHERE type = 'index' AND sql IS NOT NULL", new String[0]);
+        Set<String> indexes = new HashSet<>();
+        while (cursor.moveToNext()) {
+            String sql = cursor.getString(1);
+            indexes.add(cursor.getString(0) + ":" + sql.substring(sql.indexOf('(') + 1, sql.indexOf(')')));
+        }
+        cursor.close();
+        helper.close();
+
+        assertTrue(indexes.contains("messages:received_timestamp, id"));
+        assertTrue(indexes.contains("messages:seen_timestamp"));
+        assertTrue(indexes.contains("geo_messages:received_timestamp, id"));
+        assertTrue(indexes.contains("geo_messages:seen_timestamp"));
+    }
+
+    @Test
+    public void test_shouldAddGeoAreasTableThatFollowsGeoMessages() throws Exception {
+        // Create SQLiteOpenHelper directly to perform raw operations on database
+        context.deleteDatabase(PushDatabaseHelperImpl.DATABASE_NAME);
+        SQLiteOpenHelper sqLiteOpenHelper = new SQLiteOpenHelper(context, PushDatabaseHelperImpl.DATABASE_NAME, null, PushDatabaseHelperImpl.VER_2017_AUG_25) {
+            @Override
+            public void onCreate(SQLiteDatabase db) {
+                db.execSQL(SQL_CREATE_MAY_MESSAGES_TABLE);
+                db.execSQL(SQL_CREATE_GEO_MESSAGES_TABLE);
+            }
+
+            @Override
+            public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+
+            }
+        };
+        sqLiteOpenHelper.getWritableDatabase().close();
+        sqLiteOpenHelper.close();
+
+        PushDatabaseHelperImpl helper = new PushDatabaseHelperImpl(context);
+        SQLiteDatabase db = helper.getDatabase();
+        db.execSQL("INSERT INTO " + DatabaseContract.Tables.GEO_MESSAGES + " (id) VALUES ('message1')");
+        db.execSQL("INSERT INTO " + DatabaseContract.Tables.GEO_AREAS + " (area_id, message_id) VALUES ('Area1', 'message1')");
+        db.execSQL("INSERT INTO " + DatabaseContract.Tables.GEO_AREAS + " (area_id, message_id) VALUES ('Area2', 'message1')");
+        assertEquals(1, DatabaseUtils.queryNumEntries(db, DatabaseContract.Tables.GEO_AREAS, "area_id = 'area1'"));
+
+        db.delete(DatabaseContract.Tables.GEO_MESSAGES, null, null);
+
+        assertEquals(0, DatabaseUtils.queryNumEntries(db, DatabaseContract.Tables.GEO_AREAS));
+        helper.close();
+    }
+}
@@ -0,0 +1,86 @@
+package org.infobip.mobile.messaging.gcm;
+
+import android.util.Log;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.notification.NotificationHandler;
+import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
+import org.infobip.mobile.messaging.storage.MessageStoreWrapperImpl;
+import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures time from start of message handling to displaying notification
+ * with synchronous and write-behind message store wrapper.
+ * Results are printed to logcat with tag {@value #TAG}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class MessageHandlingBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "MessageHandlingBenchmark";
+    private static final int MESSAGES = 200;
+
+    private long displayedNanos;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        enableMessageStoreForReceivedMessages();
+    }
+
+    @Test
+    public void benchmark_timeToNotification() {
+        SQLiteMessageStore store = new SQLiteMessageStore();
+        ExecutorService writeExecutor = Executors.newSingleThreadExecutor();
+
+        Log.i(TAG, "synchronous:  " + measure("sync", new MessageStoreWrapperImpl(context, store)));
+        Log.i(TAG, "write-behind: " + measure("async", new MessageStoreWrapperImpl(context, store, writeExecutor)));
+
+        writeExecutor.shutdown();
+        assertEquals(2 * MESSAGES, store.countAll(context));
+    }
+
+    private String measure(String prefix, MessageStoreWrapper wrapper) {
+        NotificationHandler notificationHandler = mock(NotificationHandler.class);
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                displayedNanos = System.nanoTime();
+                return null;
+            }
+        }).when(notificationHandler).displayNotification(any(Message.class));
+        MobileMessageHandler handler = new MobileMessageHandler(mobileMessagingCore, broadcaster, notificationHandler, wrapper);
+
+        long totalNanos = 0;
+        long maxNanos = 0;
+        for (int i = 0; i < MESSAGES; i++) {
+            Message message = createMessage(context, prefix + i, false);
+            message.setBody("Some message body to take some space in database " + i);
+
+            long start = System.nanoTime();
+            handler.handleMessage(message);
+            long nanos = displayedNanos - start;
+
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+        wrapper.flush();
+        return String.format(Locale.US, "%.2f ms average, %.2f ms max to notification", totalNanos / 1e6 / MESSAGES, maxNanos / 1e6);
+    }
+}
@@ -106,8 +106,8 @@ public class MessagesSynchronizerTest extends MobileMessagingTestCase {
         mobileMessagingCore.setMessagesDelivered("5");
 
         // Then
-        verify(mobileApiMessages, after(500).atMost(5)).sync(any(SyncMessagesBody.class));
-        assertEquals(5, syncBodyCaptor.getAllValues().size());
+        verify(mobileApiMessages, after(500).times(1)).sync(any(SyncMessagesBody.class));
+        assertEquals(1, syncBodyCaptor.getAllValues().size());
         List<String> reportedDlrs = getReportedDLRs(syncBodyCaptor.getAllValues());
         assertEquals(5, reportedDlrs.size());
         assertTrue(reportedDlrs.containsAll(asList("1", "2", "3", "4", "5")));
@@ -4,29 +4,31 @@ import android.support.annotation.NonNull;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.api.messages.MoMessage;
 import org.infobip.mobile.messaging.api.messages.MoMessageDelivery;
 import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
 import org.infobip.mobile.messaging.api.messages.MoMessagesResponse;
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.dal.sqlite.MoMessageOutbox;
 import org.infobip.mobile.messaging.mobile.common.MRetryPolicy;
+import org.infobip.mobile.messaging.mobile.common.executor.Cancellable;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
 import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
-import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
@@ -195,6 +197,167 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
         assertEquals(givenMessage1.getMessageId(), storedMessages.get(0).getMessageId());
     }
 
+    @Test
+    public void shouldSendOutboxInBatches() {
+        // Given
+        MRetryPolicy policy = new MRetryPolicy.Builder().withMaxRetries(0).build();
+        moMessageSender = new MoMessageSender(
+                context,
+                mobileMessagingCore,
+                broadcaster,
+                Executors.newSingleThreadExecutor(),
+                new Executor[]{Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor()},
+                2,
+                mobileMessagingCore.getStats(),
+                policy,
+                apiMock,
+                messageStoreWrapperMock);
+        given(apiMock.sendMO(any(MoMessagesBody.class)))
+                .willReturn(new MoMessagesResponse(new MoMessageDelivery[0]));
+
+        // When
+        moMessageSender.sendWithRetry(givenMessage("1"), givenMessage("2"), givenMessage("3"), givenMessage("4"), givenMessage("5"));
+
+        // Then
+        verify(apiMock, after(500).times(3)).sendMO(bodyCaptor.capture());
+        List<String> sentMessageIds = new ArrayList<>();
+        for (MoMessagesBody body : bodyCaptor.getAllValues()) {
+            assertTrue(body.getMessages().length <= 2);
+            for (MoMessage message : body.getMessages()) {
+                sentMessageIds.add(message.getMessageId());
+            }
+        }
+        assertEquals(5, sentMessageIds.size());
+        assertTrue(sentMessageIds.containsAll(asList("1", "2", "3", "4", "5")));
+        assertEquals(0, getSavedMessages().length);
+        assertEquals(5, moMessageSender.getMetrics().getMessagesSent());
+        assertEquals(3, moMessageSender.getMetrics().getBatchesSent());
+        assertEquals(0, moMessageSender.getMetrics().getInFlight());
+    }
+
+    @Test
+    public void shouldUpdateStatusOfStoredMessagesSentFromOutbox() {
+        // Given
+        MobileMessagingCore.setMessageStoreClass(context, SQLiteMessageStore.class);
+        Message givenMessage = givenMessage("someMessageId");
+        given(messageStoreWrapperMock.findById("someMessageId")).willReturn(givenMessage);
+        given(apiMock.sendMO(any(MoMessagesBody.class)))
+                .willReturn(new MoMessagesResponse(new MoMessageDelivery[]{givenDelivery(givenMessage.getMessageId())}));
+
+        // When
+        moMessageSender.sendWithRetry(givenMessage);
+
+        // Then
+        verify(messageStoreWrapperMock, after(500).times(2)).upsert(messageCaptor.capture());
+        Message queuedMessage = messageCaptor.getAllValues().get(0)[0];
+        assertEquals("someMessageId", queuedMessage.getMessageId());
+        assertEquals(Message.Status.UNKNOWN, queuedMessage.getStatus());
+        Message storedMessage = messageCaptor.getAllValues().get(1)[0];
+        assertEquals("someMessageId", storedMessage.getMessageId());
+        assertEquals(Message.Status.SUCCESS, storedMessage.getStatus());
+        assertEquals("Message sent", storedMessage.getStatusMessage());
+    }
+
+    @Test
+    public void shouldSetErrorStatusOfStoredMessagesWhenBatchFails() {
+        // Given
+        MobileMessagingCore.setMessageStoreClass(context, SQLiteMessageStore.class);
+        Message givenMessage = givenMessage("someMessageId");
+        given(messageStoreWrapperMock.findById("someMessageId")).willReturn(givenMessage);
+        given(apiMock.sendMO(any(MoMessagesBody.class)))
+                .willThrow(new RuntimeException("Cannot send"));
+
+        // When
+        moMessageSender.sendWithRetry(givenMessage);
+
+        // Then
+        verify(messageStoreWrapperMock, after(500).times(2)).upsert(messageCaptor.capture());
+        Message storedMessage = messageCaptor.getValue()[0];
+        assertEquals("someMessageId", storedMessage.getMessageId());
+        assertEquals(Message.Status.ERROR, storedMessage.getStatus());
+        assertEquals("Cannot send", storedMessage.getStatusMessage());
+        assertEquals(1, getSavedMessages().length);
+    }
+
+    @Test
+    public void shouldSetErrorStatusOfStoredMessagesWhenTheyExpire() {
+        // Given
+        MobileMessagingCore.setMessageStoreClass(context, SQLiteMessageStore.class);
+        Message givenMessage = givenMessage("someMessageId");
+        givenMessage.setReceivedTimestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3));
+        given(messageStoreWrapperMock.findById("someMessageId")).willReturn(givenMessage);
+
+        // When
+        moMessageSender.sendWithRetry(givenMessage);
+
+        // Then
+        verify(messageStoreWrapperMock, times(1)).upsert(messageCaptor.capture());
+        Message storedMessage = messageCaptor.getValue()[0];
+        assertEquals(Message.Status.ERROR, storedMessage.getStatus());
+        assertEquals(0, getSavedMessages().length);
+        assertEquals(1, moMessageSender.getMetrics().getMessagesExpired());
+    }
+
+    @Test
+    public void shouldKeepUndeliveredMessagesInOutboxInOrder() {
+        // Given
+        given(apiMock.sendMO(any(MoMessagesBody.class)))
+                .willThrow(new RuntimeException());
+
+        // When
+        moMessageSender.sendWithRetry(givenMessage("1"), givenMessage("2"), givenMessage("3"));
+
+        // Then
+        verify(apiMock, after(200).times(1)).sendMO(any(MoMessagesBody.class));
+        Message savedMessages[] = getSavedMessages();
+        assertEquals(3, savedMessages.length);
+        assertEquals("1", savedMessages[0].getMessageId());
+        assertEquals("2", savedMessages[1].getMessageId());
+        assertEquals("3", savedMessages[2].getMessageId());
+        assertEquals(0, moMessageSender.getMetrics().getInFlight());
+    }
+
+    @Test
+    public void shouldSendBatchAgainAfterItWasCancelled() {
+        // Given
+        final List<Runnable> cancelledTasks = new ArrayList<>();
+        final Executor cancellingExecutor = new Executor() {
+            @Override
+            public void execute(@NonNull Runnable runnable) {
+                if (runnable instanceof Cancellable && cancelledTasks.isEmpty()) {
+                    cancelledTasks.add(runnable);
+                    ((Cancellable) runnable).cancel();
+                    return;
+                }
+                runnable.run();
+            }
+        };
+        moMessageSender = new MoMessageSender(
+                context,
+                mobileMessagingCore,
+                broadcaster,
+                cancellingExecutor,
+                new Executor[]{cancellingExecutor},
+                10,
+                mobileMessagingCore.getStats(),
+                new MRetryPolicy.Builder().withMaxRetries(0).build(),
+                apiMock,
+                messageStoreWrapperMock);
+        given(apiMock.sendMO(any(MoMessagesBody.class)))
+                .willReturn(new MoMessagesResponse(new MoMessageDelivery[0]));
+
+        // When
+        moMessageSender.sendWithRetry(givenMessage("1"));
+        assertEquals(1, getSavedMessages().length);
+        moMessageSender.sync();
+
+        // Then
+        assertEquals(1, cancelledTasks.size());
+        verify(apiMock, after(200).times(1)).sendMO(bodyCaptor.capture());
+        assertEquals("1", bodyCaptor.getValue().getMessages()[0].getMessageId());
+        assertEquals(0, getSavedMessages().length);
+    }
+
     private List<Message> getAllMessages(List<Message[]> messagesLists) {
         List<Message> messages = new ArrayList<>();
         for (Message[] arr : messagesLists) {
@@ -213,10 +376,10 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
     }
 
     private Message[] getSavedMessages() {
-        String jsons[] = PreferenceHelper.findStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
-        List<Message> messages = new ArrayList<>(jsons.length);
-        for (String json : jsons) {
-            messages.add(jsonSerializer.deserialize(json, Message.class));
+        List<MoMessageOutbox.Entry> entries = new MoMessageOutbox(databaseProvider).peek(0);
+        List<Message> messages = new ArrayList<>(entries.size());
+        for (MoMessageOutbox.Entry entry : entries) {
+            messages.add(jsonSerializer.deserialize(entry.getMessage(), Message.class));
         }
         return messages.toArray(new Message[messages.size()]);
     }
@@ -0,0 +1,156 @@
+package org.infobip.mobile.messaging.storage;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.DateTimeUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class MessageStoreCompactorTest extends MobileMessagingTestCase {
+
+    private SQLiteMessageStore messageStore;
+    private MessageStoreCompactor compactor;
+    private int executions;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        messageStore = new SQLiteMessageStore();
+        messageStore.deleteAll(context);
+        executions = 0;
+        compactor = new MessageStoreCompactor(context, databaseProvider, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                executions++;
+                command.run();
+            }
+        });
+    }
+
+    @Test
+    public void test_shouldNotDeleteMessagesWithoutPolicy() {
+        saveMessages(10, TimeUnit.DAYS.toMillis(365));
+
+        compactor.compact();
+
+        assertEquals(10, messageStore.countAll(context));
+    }
+
+    @Test
+    public void test_shouldKeepOnlyNewestMessages() {
+        MessageStoreCompactor.setRetentionPolicy(context, new RetentionPolicy.Builder().withMaxMessages(300).build());
+        saveMessages(1000, 0);
+
+        compactor.compact();
+
+        List<Message> messages = messageStore.find(context, new MessageQuery.Builder().withOrder(MessageQuery.Order.OLDEST_FIRST).build());
+        assertEquals(300, messages.size());
+        assertEquals("message700", messages.get(0).getMessageId());
+    }
+
+    @Test
+    public void test_shouldDeleteMessagesOlderThanMaxAge() {
+        MessageStoreCompactor.setRetentionPolicy(context, new RetentionPolicy.Builder().withMaxAge(30, TimeUnit.DAYS).build());
+        saveMessages(500, TimeUnit.DAYS.toMillis(1));
+
+        compactor.compact();
+
+        assertEquals(30, messageStore.countAll(context));
+    }
+
+    @Test
+    public void test_shouldDeleteOldestMessagesWhenMessagesAreTooBig() {
+        saveMessages(2000, 0);
+        long maxBytes = bodiesSize();
+        MessageStoreCompactor.setRetentionPolicy(context, new RetentionPolicy.Builder().withMaxBytes(maxBytes).build());
+
+        compactor.compact();
+
+        long count = messageStore.countAll(context);
+        assertEquals(true, count > 0 && count < 2000);
+        assertNotNull(messageStore.findById(context, "message1999"));
+        assertNull(messageStore.findById(context, "message0"));
+    }
+
+    @Test
+    public void test_shouldDeleteExpiredGeoMessages() {
+        insertGeoMessage("expired", new Date(time.now() - TimeUnit.DAYS.toMillis(1)));
+        insertGeoMessage("active", new Date(time.now() + TimeUnit.DAYS.toMillis(1)));
+
+        compactor.compact();
+
+        List<String> ids = new ArrayList<>();
+        Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT id FROM " + DatabaseContract.Tables.GEO_MESSAGES, new String[0]);
+        while (cursor.moveToNext()) {
+            ids.add(cursor.getString(0));
+        }
+        cursor.close();
+        assertEquals(1, ids.size());
+        assertEquals("active", ids.get(0));
+    }
+
+    @Test
+    public void test_shouldCompactOnlyOncePerInterval() {
+        compactor.compactIfDue();
+        compactor.compactIfDue();
+        assertEquals(1, executions);
+
+        time.forward(MessageStoreCompactor.COMPACTION_INTERVAL_MILLIS + 1, TimeUnit.MILLISECONDS);
+        compactor.compactIfDue();
+        assertEquals(2, executions);
+    }
+
+    private void saveMessages(int count, long intervalMillis) {
+        Message[] messages = new Message[count];
+        long now = time.now();
+        for (int i = 0; i < count; i++) {
+            Message message = new Message();
+            message.setMessageId("message" + i);
+            message.setBody("Some message body to take some space in database " + i);
+            message.setReceivedTimestamp(now - (count - 1 - i) * intervalMillis - (count - i));
+            messages[i] = message;
+        }
+        messageStore.save(context, messages);
+    }
+
+    private void insertGeoMessage(String id, Date expiryDate) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseContract.MessageColumns.MESSAGE_ID, id);
+        values.put(DatabaseContract.MessageColumns.INTERNAL_DATA, "{\"expiryTime\":\"" + DateTimeUtil.ISO8601DateToString(expiryDate) + "\"}");
+        databaseProvider.getDatabase().insert(DatabaseContract.Tables.GEO_MESSAGES, null, values);
+
+        values = new ContentValues();
+        values.put(DatabaseContract.GeoAreaColumns.AREA_ID, "area_" + id);
+        values.put(DatabaseContract.GeoAreaColumns.MESSAGE_ID, id);
+        values.put(DatabaseContract.GeoAreaColumns.EXPIRY_TIME, expiryDate.getTime());
+        databaseProvider.getDatabase().insert(DatabaseContract.Tables.GEO_AREAS, null, values);
+    }
+
+    private long bodiesSize() {
+        Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT TOTAL(LENGTH(" + DatabaseContract.MessageColumns.BODY + ")) FROM " +
+                DatabaseContract.Tables.MESSAGES, new String[0]);
+        cursor.moveToFirst();
+        long size = cursor.getLong(0);
+        cursor.close();
+        return size;
+    }
+}
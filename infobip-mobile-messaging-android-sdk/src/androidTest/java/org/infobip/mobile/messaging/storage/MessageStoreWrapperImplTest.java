@@ -0,0 +1,179 @@
+package org.infobip.mobile.messaging.storage;
+
+import android.content.Context;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class MessageStoreWrapperImplTest extends MobileMessagingTestCase {
+
+    private CountingMessageStore store;
+    private List<Runnable> scheduled;
+    private MessageStoreWrapperImpl wrapper;
+
+    public static class CountingMessageStore extends SQLiteMessageStore {
+        int saves;
+        boolean fail;
+
+        @Override
+        public void save(Context context, Message... messages) {
+            saves++;
+            if (fail) {
+                throw new RuntimeException("Cannot save");
+            }
+            super.save(context, messages);
+        }
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        store = new CountingMessageStore();
+        scheduled = new CopyOnWriteArrayList<>();
+        wrapper = new MessageStoreWrapperImpl(context, store, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                scheduled.add(command);
+            }
+        });
+    }
+
+    @Test
+    public void test_shouldReturnMessagesBeforeTheyAreWritten() {
+        wrapper.upsert(createMessage(context, "id1", false));
+
+        assertEquals(0, store.countAll(context));
+        assertEquals(1, wrapper.findAll().size());
+        assertNotNull(wrapper.findById("id1"));
+        assertNull(wrapper.findById("id2"));
+    }
+
+    @Test
+    public void test_shouldWriteQueuedMessagesWithOneSave() {
+        wrapper.upsert(createMessage(context, "id1", false));
+        wrapper.upsert(createMessage(context, "id2", false));
+        wrapper.upsert(new Message[]{createMessage(context, "id3", false), createMessage(context, "id1", false)});
+
+        runScheduled();
+
+        assertEquals(1, store.saves);
+        assertEquals(3, store.countAll(context));
+        assertEquals(3, wrapper.findAll().size());
+    }
+
+    @Test
+    public void test_shouldReturnNewerVersionOfStoredMessage() {
+        Message message = createMessage(context, "id1", false);
+        store.save(context, message);
+        message.setSeenTimestamp(1234);
+
+        wrapper.upsert(message);
+
+        assertEquals(0, store.findById(context, "id1").getSeenTimestamp());
+        assertEquals(1, wrapper.findAll().size());
+        assertEquals(1234, wrapper.findAll().get(0).getSeenTimestamp());
+        assertEquals(1234, wrapper.findById("id1").getSeenTimestamp());
+    }
+
+    @Test
+    public void test_shouldWriteOnFlush() {
+        wrapper.upsert(createMessage(context, "id1", false));
+
+        wrapper.flush();
+
+        assertEquals(1, store.countAll(context));
+        assertEquals(1, store.saves);
+    }
+
+    @Test
+    public void test_shouldKeepMessagesOfFailedWriteAndWriteThemWithNextBatch() {
+        wrapper.upsert(createMessage(context, "id1", false));
+        store.fail = true;
+
+        runScheduled();
+
+        assertEquals(0, store.countAll(context));
+        assertNotNull(wrapper.findById("id1"));
+
+        store.fail = false;
+        wrapper.upsert(createMessage(context, "id2", false));
+        runScheduled();
+
+        assertEquals(2, store.countAll(context));
+        assertEquals(2, store.saves);
+    }
+
+    @Test
+    public void test_shouldScheduleWriteOfFailedMessagesOnScheduleFlush() {
+        wrapper.upsert(createMessage(context, "id1", false));
+        store.fail = true;
+        runScheduled();
+        store.fail = false;
+
+        wrapper.scheduleFlush();
+        wrapper.scheduleFlush();
+
+        assertEquals(0, store.countAll(context));
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals(1, store.countAll(context));
+    }
+
+    @Test
+    public void test_shouldRetryFailedWriteAfterDelay() throws Exception {
+        wrapper.upsert(createMessage(context, "id1", false));
+        store.fail = true;
+        runScheduled();
+        store.fail = false;
+
+        long deadline = System.currentTimeMillis() + MessageStoreWrapperImpl.WRITE_RETRY_DELAY_MILLIS * 5;
+        while (scheduled.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals(1, store.countAll(context));
+        assertEquals(2, store.saves);
+    }
+
+    @Test
+    public void test_shouldWriteInCallerThreadWhenQueueIsFull() {
+        for (int i = 0; i < MessageStoreWrapperImpl.MAX_PENDING_MESSAGES; i++) {
+            wrapper.upsert(createMessage(context, "id" + i, false));
+        }
+
+        assertEquals(MessageStoreWrapperImpl.MAX_PENDING_MESSAGES, store.countAll(context));
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    public void test_shouldWriteSynchronouslyWithoutExecutor() {
+        MessageStoreWrapperImpl synchronousWrapper = new MessageStoreWrapperImpl(context, store);
+
+        synchronousWrapper.upsert(createMessage(context, "id1", false));
+
+        assertEquals(1, store.countAll(context));
+    }
+
+    private void runScheduled() {
+        while (!scheduled.isEmpty()) {
+            scheduled.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.infobip.mobile.messaging.storage;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.CursorIterable;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class SQLiteMessageStoreQueryTest extends MobileMessagingTestCase {
+
+    private SQLiteMessageStore messageStore;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        messageStore = new SQLiteMessageStore();
+        messageStore.deleteAll(context);
+    }
+
+    @Test
+    public void test_shouldReturnPagesNewestFirst() {
+        // two messages with the same timestamp to check that keyset also uses message id
+        messageStore.save(context,
+                message("1", 1000, 0, null, null),
+                message("2", 2000, 0, null, null),
+                message("3", 2000, 0, null, null),
+                message("4", 3000, 0, null, null),
+                message("5", 4000, 0, null, null));
+
+        MessageQuery query = new MessageQuery.Builder().withLimit(2).build();
+        List<Message> page1 = messageStore.find(context, query);
+        List<Message> page2 = messageStore.find(context, new MessageQuery.Builder(query).withAfter(page1.get(1)).build());
+        List<Message> page3 = messageStore.find(context, new MessageQuery.Builder(query).withAfter(page2.get(1)).build());
+
+        assertEquals("5,4", ids(page1));
+        assertEquals("3,2", ids(page2));
+        assertEquals("1", ids(page3));
+    }
+
+    @Test
+    public void test_shouldReturnPagesOldestFirst() {
+        messageStore.save(context,
+                message("1", 1000, 0, null, null),
+                message("2", 2000, 0, null, null),
+                message("3", 2000, 0, null, null));
+
+        MessageQuery query = new MessageQuery.Builder().withOrder(MessageQuery.Order.OLDEST_FIRST).withLimit(2).build();
+        List<Message> page1 = messageStore.find(context, query);
+        List<Message> page2 = messageStore.find(context, new MessageQuery.Builder(query).withAfter(page1.get(1)).build());
+
+        assertEquals("1,2", ids(page1));
+        assertEquals("3", ids(page2));
+    }
+
+    @Test
+    public void test_shouldFilterBySeenStatusAndCategory() {
+        messageStore.save(context,
+                message("1", 1000, 0, Message.Status.SUCCESS, "category1"),
+                message("2", 2000, 2500, Message.Status.SUCCESS, "category1"),
+                message("3", 3000, 0, Message.Status.ERROR, "category2"),
+                message("4", 4000, 4500, Message.Status.ERROR, "category1"));
+
+        assertEquals("3,1", ids(messageStore.find(context, new MessageQuery.Builder().withUnseenOnly().build())));
+        assertEquals("4,2", ids(messageStore.find(context, new MessageQuery.Builder().withSeenOnly().build())));
+        assertEquals("4,3", ids(messageStore.find(context, new MessageQuery.Builder().withStatus(Message.Status.ERROR).build())));
+        assertEquals("4,2,1", ids(messageStore.find(context, new MessageQuery.Builder().withCategory("category1").build())));
+        assertEquals("1", ids(messageStore.find(context, new MessageQuery.Builder()
+                .withUnseenOnly()
+                .withStatus(Message.Status.SUCCESS)
+                .withCategory("category1")
+                .build())));
+    }
+
+    @Test
+    public void test_shouldIterateOverAllMatchingMessages() {
+        for (int i = 0; i < 50; i++) {
+            messageStore.save(context, message(String.format("%02d", i), i * 1000, 0, null, null));
+        }
+
+        CursorIterable<Message> iterable = messageStore.iterate(context, new MessageQuery.Builder().withOrder(MessageQuery.Order.OLDEST_FIRST).build());
+        List<Message> messages = new ArrayList<>();
+        for (Message message : iterable) {
+            messages.add(message);
+        }
+
+        assertEquals(50, messages.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(String.format("%02d", i), messages.get(i).getMessageId());
+        }
+    }
+
+    @Test
+    public void test_shouldStopIteratingWhenClosed() {
+        messageStore.save(context,
+                message("1", 1000, 0, null, null),
+                message("2", 2000, 0, null, null));
+
+        CursorIterable<Message> iterable = messageStore.iterate(context, new MessageQuery.Builder().build());
+        int count = 0;
+        for (Message message : iterable) {
+            assertEquals("2", message.getMessageId());
+            count++;
+            iterable.close();
+        }
+
+        assertEquals(1, count);
+        assertTrue(messageStore.find(context, new MessageQuery.Builder().build()).size() == 2);
+    }
+
+    private static Message message(String id, long receivedTimestamp, long seenTimestamp, Message.Status status, String category) {
+        Message message = new Message();
+        message.setMessageId(id);
+        message.setReceivedTimestamp(receivedTimestamp);
+        message.setSeenTimestamp(seenTimestamp);
+        message.setStatus(status);
+        message.setCategory(category);
+        return message;
+    }
+
+    private static String ids(List<Message> messages) {
+        StringBuilder ids = new StringBuilder();
+        for (Message message : messages) {
+            ids.append(ids.length() > 0 ? "," : "").append(message.getMessageId());
+        }
+        return ids.toString();
+    }
+}
@@ -1,11 +1,16 @@
 package org.infobip.mobile.messaging.util;
 
+import android.preference.PreferenceManager;
+
 import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
 
 /**
  * @author sslavin
@@ -38,4 +43,40 @@ public class PreferenceHelperTest extends MobileMessagingTestCase {
         assertEquals(false, PreferenceHelper.contains(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
         assertEquals(null, PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
     }
+
+    @Test
+    public void test_shouldReadEncryptedValueFromCache() throws Exception {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "StubStringValue");
+        PreferenceHelper.getCache().resetStatistics();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("StubStringValue", PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+        }
+
+        assertTrue(PreferenceHelper.getCache().getHitCount() >= 10);
+        assertTrue(PreferenceHelper.getCache().getHitRate() > 0);
+    }
+
+    @Test
+    public void test_shouldInvalidateCacheOnSave() throws Exception {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "StubStringValue1");
+        PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID);
+
+        PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "StubStringValue2");
+
+        assertEquals("StubStringValue2", PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+    }
+
+    @Test
+    public void test_shouldNotReturnCachedValueAfterPreferencesAreCleared() throws Exception {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "StubStringValue");
+        PreferenceHelper.saveLongArray(context, "longArrayKey", new long[]{1, 2, 3});
+        PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID);
+        assertArrayEquals(new long[]{1, 2, 3}, PreferenceHelper.findLongArray(context, "longArrayKey", null));
+
+        PreferenceManager.getDefaultSharedPreferences(context).edit().clear().commit();
+
+        assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+        assertNull(PreferenceHelper.findLongArray(context, "longArrayKey", null));
+    }
 }
@@ -5,7 +5,12 @@ public enum LocalEvent {
     /**
      * It is triggered when Application goes in foreground.
      */
-    APPLICATION_FOREGROUND("org.infobip.mobile.messaging.APPLICATION_FOREGROUND");
+    APPLICATION_FOREGROUND("org.infobip.mobile.messaging.APPLICATION_FOREGROUND"),
+
+    /**
+     * It is triggered when Application goes in background.
+     */
+    APPLICATION_BACKGROUND("org.infobip.mobile.messaging.APPLICATION_BACKGROUND");
 
     private final String key;
 
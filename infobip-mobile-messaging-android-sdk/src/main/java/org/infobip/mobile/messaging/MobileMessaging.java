@@ -9,8 +9,10 @@ import android.os.Build;
 import android.support.annotation.Nullable;
 import android.support.annotation.RequiresPermission;
 
+import org.infobip.mobile.messaging.dal.sqlite.SynchronousMode;
 import org.infobip.mobile.messaging.mobile.MobileMessagingError;
 import org.infobip.mobile.messaging.storage.MessageStore;
+import org.infobip.mobile.messaging.storage.RetentionPolicy;
 import org.infobip.mobile.messaging.util.ResourceLoader;
 import org.infobip.mobile.messaging.util.StringUtils;
 
@@ -344,6 +346,11 @@ public abstract class MobileMessaging {
         private boolean doMarkSeenOnNotificationTap = true;
         private boolean shouldSaveUserData = true;
         private boolean storeAppCodeOnDisk = true;
+        private SynchronousMode databaseSynchronousMode = SynchronousMode.NORMAL;
+        private RetentionPolicy retentionPolicy = new RetentionPolicy.Builder().build();
+        private boolean messageStoreWriteBehind = false;
+        private int moMessagesMaxBatchSize = (int) MobileMessagingProperty.MO_MESSAGES_MAX_BATCH_SIZE.getDefaultValue();
+        private int moMessagesMaxInFlightBatches = (int) MobileMessagingProperty.MO_MESSAGES_MAX_IN_FLIGHT_BATCHES.getDefaultValue();
         private ApplicationCodeProvider applicationCodeProvider = null;
 
         @SuppressWarnings("unchecked")
@@ -646,6 +653,81 @@ public abstract class MobileMessaging {
             return this;
         }
 
+        /**
+         * It will delete the oldest stored messages in background when any of the policy limits is exceeded.
+         * Applies to {@link org.infobip.mobile.messaging.storage.SQLiteMessageStore}, messages are not deleted by default.
+         * <pre>
+         * {@code new MobileMessaging.Builder(application)
+         *       .withMessageRetention(new RetentionPolicy.Builder()
+         *               .withMaxMessages(1000)
+         *               .withMaxAge(90, TimeUnit.DAYS)
+         *               .build())
+         *       .build();}
+         * </pre>
+         *
+         * @return {@link Builder}
+         */
+        public Builder withMessageRetention(RetentionPolicy retentionPolicy) {
+            validateWithParam(retentionPolicy);
+            this.retentionPolicy = retentionPolicy;
+            return this;
+        }
+
+        /**
+         * It will save received messages to message store in background, after they are broadcast and displayed as notifications.
+         * Messages are written in batches on a background thread shortly after they are received and when application goes to background,
+         * so {@link MobileMessaging#getMessageStore()} returns them once they are written.
+         * <pre>
+         * {@code new MobileMessaging.Builder(application)
+         *       .withMessageStoreWriteBehind()
+         *       .build();}
+         * </pre>
+         *
+         * @return {@link Builder}
+         */
+        public Builder withMessageStoreWriteBehind() {
+            this.messageStoreWriteBehind = true;
+            return this;
+        }
+
+        /**
+         * It will limit the size of requests for mobile originated messages sent with retry and the number of such requests sent in parallel.
+         * Default is 100 messages per request and 2 requests.
+         * <pre>
+         * {@code new MobileMessaging.Builder(application)
+         *       .withMoMessagesBatching(50, 1)
+         *       .build();}
+         * </pre>
+         *
+         * @param maxBatchSize       maximum number of messages in one request
+         * @param maxInFlightBatches maximum number of requests in progress
+         * @return {@link Builder}
+         */
+        public Builder withMoMessagesBatching(int maxBatchSize, int maxInFlightBatches) {
+            if (maxBatchSize < 1 || maxInFlightBatches < 1) {
+                throw new IllegalArgumentException("Batch size and number of batches in flight must be positive");
+            }
+            this.moMessagesMaxBatchSize = maxBatchSize;
+            this.moMessagesMaxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        /**
+         * It will set SQLite {@code synchronous} level for SDK databases. Default is {@link SynchronousMode#NORMAL}.
+         * <pre>
+         * {@code new MobileMessaging.Builder(application)
+         *       .withDatabaseSynchronousMode(SynchronousMode.FULL)
+         *       .build();}
+         * </pre>
+         *
+         * @return {@link Builder}
+         */
+        public Builder withDatabaseSynchronousMode(SynchronousMode synchronousMode) {
+            validateWithParam(synchronousMode);
+            this.databaseSynchronousMode = synchronousMode;
+            return this;
+        }
+
         /**
          * Builds the <i>MobileMessaging</i> configuration. Registration token sync is started by default.
          * Any messages received in the past will be reported as delivered!
@@ -663,6 +745,10 @@ public abstract class MobileMessaging {
             MobileMessagingCore.setDoMarkSeenOnNotificationTap(application, doMarkSeenOnNotificationTap);
             MobileMessagingCore.setShouldSaveUserData(application, shouldSaveUserData);
             MobileMessagingCore.setShouldSaveAppCode(application, storeAppCodeOnDisk);
+            MobileMessagingCore.setDatabaseSynchronousMode(application, databaseSynchronousMode);
+            MobileMessagingCore.setRetentionPolicy(application, retentionPolicy);
+            MobileMessagingCore.setMessageStoreWriteBehind(application, messageStoreWriteBehind);
+            MobileMessagingCore.setMoMessagesBatching(application, moMessagesMaxBatchSize, moMessagesMaxInFlightBatches);
 
             MobileMessagingCore.Builder mobileMessagingCoreBuilder = new MobileMessagingCore.Builder(application)
                     .withDisplayNotification(notificationSettings);
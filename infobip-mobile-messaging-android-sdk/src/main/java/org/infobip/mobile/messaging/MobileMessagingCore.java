@@ -3,8 +3,10 @@ package org.infobip.mobile.messaging;
 import android.app.Application;
 import android.app.NotificationChannel;
 import android.app.NotificationManager;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.content.Intent;
+import android.content.res.Configuration;
 import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -13,18 +15,25 @@ import android.text.TextUtils;
 import org.infobip.mobile.messaging.app.ActivityLifecycleMonitor;
 import org.infobip.mobile.messaging.app.ContextHelper;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.MessageIdQueue;
+import org.infobip.mobile.messaging.dal.sqlite.MoMessageOutbox;
 import org.infobip.mobile.messaging.dal.sqlite.PushDatabaseHelperImpl;
 import org.infobip.mobile.messaging.dal.sqlite.SqliteDatabaseProvider;
+import org.infobip.mobile.messaging.dal.sqlite.SynchronousMode;
 import org.infobip.mobile.messaging.gcm.MobileMessageHandler;
 import org.infobip.mobile.messaging.gcm.MobileMessagingGcmIntentService;
 import org.infobip.mobile.messaging.gcm.PlayServicesSupport;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobile.BatchReporter;
+import org.infobip.mobile.messaging.mobile.EventBatcher;
 import org.infobip.mobile.messaging.mobile.InternalSdkError;
 import org.infobip.mobile.messaging.mobile.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.mobile.MobileMessagingError;
-import org.infobip.mobile.messaging.mobile.common.MAsyncTask;
+import org.infobip.mobile.messaging.mobile.SharedPreferencesValidatorCache;
+import org.infobip.mobile.messaging.mobile.SyncOrchestrator;
 import org.infobip.mobile.messaging.mobile.common.RetryPolicyProvider;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.mobile.common.executor.SerialLane;
 import org.infobip.mobile.messaging.mobile.data.LogoutActionListener;
 import org.infobip.mobile.messaging.mobile.data.LogoutServerListener;
 import org.infobip.mobile.messaging.mobile.data.LogoutUserSynchronizer;
@@ -46,8 +55,10 @@ import org.infobip.mobile.messaging.platform.MobileMessagingJobService;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.storage.MessageStore;
+import org.infobip.mobile.messaging.storage.MessageStoreCompactor;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapperImpl;
+import org.infobip.mobile.messaging.storage.RetentionPolicy;
 import org.infobip.mobile.messaging.telephony.MobileNetworkStateListener;
 import org.infobip.mobile.messaging.util.ComponentUtil;
 import org.infobip.mobile.messaging.util.DeviceInformation;
@@ -65,12 +76,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 
@@ -95,7 +104,8 @@ public class MobileMessagingCore
     private static DatabaseHelper databaseHelper;
     private static MobileMessagingSynchronizationReceiver mobileMessagingSynchronizationReceiver;
     private final MobileMessagingStats stats;
-    private final ExecutorService registrationAlignedExecutor;
+    private final Executor synchronizerExecutor;
+    private final List<SerialLane> synchronizerLanes = new CopyOnWriteArrayList<>();
     private final RetryPolicyProvider retryPolicyProvider;
     private final Broadcaster broadcaster;
     private final ModuleLoader moduleLoader;
@@ -108,6 +118,10 @@ public class MobileMessagingCore
     private LogoutUserSynchronizer logoutUserSynchronizer;
     private MoMessageSender moMessageSender;
     private SeenStatusReporter seenStatusReporter;
+    private MessageStoreCompactor messageStoreCompactor;
+    private MessageIdQueue unreportedMessageIdQueue;
+    private MessageIdQueue unreportedSeenMessageIdQueue;
+    private MessageIdQueue syncMessageIdQueue;
     private VersionChecker versionChecker;
     private ActivityLifecycleMonitor activityLifecycleMonitor;
     private MobileNetworkStateListener mobileNetworkStateListener;
@@ -115,20 +129,48 @@ public class MobileMessagingCore
     private NotificationSettings notificationSettings;
     private MessageStore messageStore;
     private MessageStoreWrapper messageStoreWrapper;
+    private SyncOrchestrator syncOrchestrator;
+    private EventBatcher eventBatcher;
     private final Context context;
     private Map<String, MessageHandlerModule> messageHandlerModules;
     private volatile boolean didSyncAtLeastOnce;
 
+    private static final long SYNC_STEP_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private interface SyncStep {
+        String REGISTRATION = "registration";
+        String VERSION = "version";
+        String SYSTEM_DATA = "system-data";
+        String LOGOUT = "logout";
+        String MESSAGES = "messages";
+        String MO_MESSAGES = "mo-messages";
+        String SEEN = "seen";
+        String USER_DATA = "user-data";
+        String PRIMARY = "primary";
+        String COMPACTION = "compaction";
+    }
+
+    private static final int EVENT_BATCH_SIZE = 50;
+
+    private interface BatchedEndpoint {
+        String DELIVERY = "delivery";
+        String SEEN = "seen";
+    }
+
     protected MobileMessagingCore(Context context) {
-        this(context, new AndroidBroadcaster(context), Executors.newSingleThreadExecutor(), new ModuleLoader(context));
+        this(context, new AndroidBroadcaster(context), null, new ModuleLoader(context));
     }
 
-    protected MobileMessagingCore(Context context, Broadcaster broadcaster, ExecutorService registrationAlignedExecutor, ModuleLoader moduleLoader) {
+    /**
+     * @param synchronizerExecutor executor for background tasks of all synchronizers,
+     *                             if null each synchronizer gets its own serial lane of {@link SdkExecutors}
+     */
+    protected MobileMessagingCore(Context context, Broadcaster broadcaster, Executor synchronizerExecutor, ModuleLoader moduleLoader) {
         MobileMessagingLogger.init(context);
 
         this.context = context;
         this.broadcaster = broadcaster;
-        this.registrationAlignedExecutor = registrationAlignedExecutor;
+        this.synchronizerExecutor = synchronizerExecutor;
         this.stats = new MobileMessagingStats(context);
         this.retryPolicyProvider = new RetryPolicyProvider(context);
         this.moduleLoader = moduleLoader;
@@ -142,6 +184,21 @@ public class MobileMessagingCore
         Application application = new ContextHelper(context).getApplication();
         if (application != null) {
             this.activityLifecycleMonitor = new ActivityLifecycleMonitor(application);
+            application.registerComponentCallbacks(new ComponentCallbacks2() {
+                @Override
+                public void onTrimMemory(int level) {
+                    scheduleMessageStoreFlush();
+                }
+
+                @Override
+                public void onConfigurationChanged(Configuration newConfig) {
+                }
+
+                @Override
+                public void onLowMemory() {
+                    scheduleMessageStoreFlush();
+                }
+            });
         }
 
         ComponentUtil.setSyncronizationReceiverStateEnabled(context, mobileMessagingSynchronizationReceiver, true);
@@ -253,32 +310,27 @@ public class MobileMessagingCore
 
     public void sync() {
         didSyncAtLeastOnce = true;
+        if (!isReadyToSync()) {
+            return;
+        }
+
+        syncOrchestrator().run(syncSteps(true));
+    }
+
+    /**
+     * Checks that network and application code are available, waits for network if it's not
+     */
+    private boolean isReadyToSync() {
         if (!MobileNetworkInformation.isNetworkAvailableSafely(context)) {
             registerForNetworkAvailability();
-            return;
+            return false;
         }
 
         if (TextUtils.isEmpty(MobileMessagingCore.getApplicationCode(context))) {
             MobileMessagingLogger.w("Application code is not found, check your setup");
-            return;
+            return false;
         }
-
-        boolean isLogoutInProgress = isLogoutUnreported();
-
-        registrationSynchronizer().sync();
-        versionChecker().sync();
-        reportSystemData();
-        logoutOnServerIfNeeded();
-
-        if (isLogoutInProgress) {
-            return;
-        }
-
-        messagesSynchronizer().sync();
-        moMessageSender().sync();
-        seenStatusReporter().sync();
-        userDataReporter().sync(null, getUnreportedUserData());
-        syncPrimary();
+        return true;
     }
 
     public void retrySyncOnNetworkAvailable() {
@@ -286,21 +338,91 @@ public class MobileMessagingCore
             return;
         }
 
+        syncOrchestrator().run(syncSteps(false));
+    }
+
+    /**
+     * Builds synchronization graph. Everything that talks to server about this installation needs push registration id,
+     * so it waits for registration, and pending logout gates all user-related steps.
+     *
+     * @param full true to include registration, version check and message store compaction
+     * @return steps to run
+     */
+    private List<SyncOrchestrator.Step> syncSteps(boolean full) {
         boolean isLogoutInProgress = isLogoutUnreported();
+        String[] afterRegistration = full ? new String[]{SyncStep.REGISTRATION} : new String[0];
 
-        reportSystemData();
-        logoutOnServerIfNeeded();
+        List<SyncOrchestrator.Step> steps = new ArrayList<>();
+        if (full) {
+            steps.add(new SyncOrchestrator.Step(SyncStep.REGISTRATION, new Runnable() {
+                @Override
+                public void run() {
+                    registrationSynchronizer().sync();
+                }
+            }));
+            steps.add(new SyncOrchestrator.Step(SyncStep.VERSION, new Runnable() {
+                @Override
+                public void run() {
+                    versionChecker().sync();
+                }
+            }));
+        }
+        steps.add(new SyncOrchestrator.Step(SyncStep.SYSTEM_DATA, new Runnable() {
+            @Override
+            public void run() {
+                reportSystemData();
+            }
+        }, afterRegistration));
+        steps.add(new SyncOrchestrator.Step(SyncStep.LOGOUT, new Runnable() {
+            @Override
+            public void run() {
+                logoutOnServerIfNeeded();
+            }
+        }, afterRegistration));
 
         if (isLogoutInProgress) {
-            return;
+            return steps;
         }
 
-        messagesSynchronizer().sync();
-        moMessageSender().sync();
-        seenStatusReporter().sync();
-        userDataReporter().sync(null, getUnreportedUserData());
-
-        syncPrimary();
+        steps.add(new SyncOrchestrator.Step(SyncStep.MESSAGES, new Runnable() {
+            @Override
+            public void run() {
+                messagesSynchronizer().sync();
+            }
+        }, SyncStep.LOGOUT));
+        steps.add(new SyncOrchestrator.Step(SyncStep.MO_MESSAGES, new Runnable() {
+            @Override
+            public void run() {
+                moMessageSender().sync();
+            }
+        }, SyncStep.LOGOUT));
+        steps.add(new SyncOrchestrator.Step(SyncStep.SEEN, new Runnable() {
+            @Override
+            public void run() {
+                seenStatusReporter().sync();
+            }
+        }, SyncStep.LOGOUT));
+        steps.add(new SyncOrchestrator.Step(SyncStep.USER_DATA, new Runnable() {
+            @Override
+            public void run() {
+                userDataReporter().sync(null, getUnreportedUserData());
+            }
+        }, SyncStep.LOGOUT));
+        steps.add(new SyncOrchestrator.Step(SyncStep.PRIMARY, new Runnable() {
+            @Override
+            public void run() {
+                syncPrimary();
+            }
+        }, SyncStep.LOGOUT));
+        if (full) {
+            steps.add(new SyncOrchestrator.Step(SyncStep.COMPACTION, new Runnable() {
+                @Override
+                public void run() {
+                    messageStoreCompactor().compactIfDue();
+                }
+            }, SyncStep.LOGOUT));
+        }
+        return steps;
     }
 
     private void syncPrimary() {
@@ -363,11 +485,13 @@ public class MobileMessagingCore
 
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_USER_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.USER_DATA);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+        unreportedMessageIdQueue().clear();
+        unreportedSeenMessageIdQueue().clear();
+        syncMessageIdQueue().clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.IS_PRIMARY_UNREPORTED);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+        new MoMessageOutbox(getDatabaseProvider(context)).clear();
+        SharedPreferencesValidatorCache.clear(context);
 
         PreferenceHelper.saveBoolean(context, MobileMessagingProperty.LOGOUT_UNREPORTED, true);
         if (messageStore != null) {
@@ -505,54 +629,32 @@ public class MobileMessagingCore
     }
 
     public String[] getAndRemoveUnreportedMessageIds() {
-        return PreferenceHelper.findAndRemoveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
+        return MessageIdQueue.messageIds(unreportedMessageIdQueue().poll(0));
     }
 
     public void addUnreportedMessageIds(String... messageIDs) {
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, messageIDs);
+        unreportedMessageIdQueue().add(Time.now(), messageIDs);
     }
 
     public void addSyncMessagesIds(String... messageIDs) {
-        String[] timestampMessageIdPair = concatTimestampToMessageId(messageIDs);
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, timestampMessageIdPair);
+        syncMessageIdQueue().add(Time.now(), messageIDs);
     }
 
     public String[] getSyncMessagesIds() {
-        String[] messageIds = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
-        ArrayList<String> messageIdsArrayList = new ArrayList<>(Arrays.asList(messageIds));
-        Set<String> messageIdsToSync = new HashSet<>(messageIdsArrayList.size() <= MESSAGE_ID_PARAMETER_LIMIT ? messageIdsArrayList.size() : MESSAGE_ID_PARAMETER_LIMIT);
-        boolean shouldUpdateMessageIds = false;
-
-        for (int i = 0; i < messageIdsArrayList.size(); i++) {
-            String syncMessage = messageIdsArrayList.get(i);
-            String[] messageIdWithTimestamp = syncMessage.split(StringUtils.COMMA_WITH_SPACE);
-
-            String strTimeMessageReceived = messageIdWithTimestamp[1];
-
-            long timeMessageReceived = Long.valueOf(strTimeMessageReceived);
-            long timeInterval = Time.now() - timeMessageReceived;
-
-            if (timeInterval > MESSAGE_EXPIRY_TIME || i >= MESSAGE_ID_PARAMETER_LIMIT) {
-                messageIdsArrayList.remove(i);
-                shouldUpdateMessageIds = true;
-            } else {
-                messageIdsToSync.add(messageIdWithTimestamp[0]);
-            }
-        }
-
-        if (shouldUpdateMessageIds) {
-            String[] messageIdsToUpdate = new String[messageIdsArrayList.size()];
-            messageIdsToUpdate = messageIdsArrayList.toArray(messageIdsToUpdate);
-            PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
-            PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, messageIdsToUpdate);
-        }
-
-        return messageIdsToSync.toArray(new String[messageIdsToSync.size()]);
+        MessageIdQueue queue = syncMessageIdQueue();
+        queue.expire(Time.now() - MESSAGE_EXPIRY_TIME);
+        queue.trim(MESSAGE_ID_PARAMETER_LIMIT);
+        return MessageIdQueue.messageIds(queue.peek(0));
     }
 
     public String[] getUnreportedSeenMessageIds() {
-        String[] ids = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-        return filterOutGeneratedMessageIds(ids);
+        List<MessageIdQueue.Entry> entries = unreportedSeenMessageIdQueue().peek(0);
+        String[] reports = new String[entries.size()];
+        for (int i = 0; i < reports.length; i++) {
+            MessageIdQueue.Entry entry = entries.get(i);
+            reports[i] = StringUtils.concat(entry.getMessageId(), String.valueOf(entry.getTimestamp()), StringUtils.COMMA_WITH_SPACE);
+        }
+        return filterOutGeneratedMessageIds(reports);
     }
 
     /**
@@ -565,26 +667,7 @@ public class MobileMessagingCore
             return;
         }
 
-        PreferenceHelper.runTransaction(new PreferenceHelper.Transaction<Void>() {
-            @Override
-            public Void run() {
-                String[] reports = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-                if (reports.length == 0) {
-                    return null;
-                }
-
-                for (int i = 0; i < reports.length; i++) {
-                    String messageIdAndTimestamp[] = reports[i].split(StringUtils.COMMA_WITH_SPACE);
-                    String newMessageId = messageIdMap.get(messageIdAndTimestamp[0]);
-                    if (newMessageId != null) {
-                        reports[i] = StringUtils.concat(newMessageId, messageIdAndTimestamp[1], StringUtils.COMMA_WITH_SPACE);
-                    }
-                }
-
-                PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, reports);
-                return null;
-            }
-        });
+        unreportedSeenMessageIdQueue().replace(messageIdMap);
     }
 
     public void updatedGeneratedMessageIDs(final Map<String, String> messageIdMap) {
@@ -619,23 +702,7 @@ public class MobileMessagingCore
     }
 
     private void addUnreportedSeenMessageIds(final String... messageIDs) {
-        String[] seenMessages = concatTimestampToMessageId(messageIDs);
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, seenMessages);
-    }
-
-    private String[] concatTimestampToMessageId(String[] messageIDs) {
-        List<String> syncMessages = new ArrayList<>(messageIDs.length);
-        if (messageIDs.length > 0) {
-            for (String messageId : messageIDs) {
-                if (messageId == null) {
-                    continue;
-                }
-                String seenTimestamp = String.valueOf(Time.now());
-                syncMessages.add(StringUtils.concat(messageId, seenTimestamp, StringUtils.COMMA_WITH_SPACE));
-            }
-        }
-
-        return syncMessages.toArray(new String[syncMessages.size()]);
+        unreportedSeenMessageIdQueue().add(Time.now(), messageIDs);
     }
 
     private String[] filterOutGeneratedMessageIds(String[] messageIDs) {
@@ -681,25 +748,31 @@ public class MobileMessagingCore
         return reportContents.length > 0 ? reportContents[0] : null;
     }
 
-    public void removeUnreportedSeenMessageIds(final String... messageIDs) {
-        PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, messageIDs);
+    /**
+     * Removes reported seen ids from the queue
+     *
+     * @param reports concatenated message id and timestamp
+     */
+    public void removeUnreportedSeenMessageIds(final String... reports) {
+        List<String> messageIds = getSeenMessageIdsFromReports(reports);
+        unreportedSeenMessageIdQueue().remove(messageIds.toArray(new String[messageIds.size()]));
     }
 
     public void setMessagesDelivered(String... messageIds) {
         addUnreportedMessageIds(messageIds);
         addSyncMessagesIds(messageIds);
-        sync();
+        getEventBatcher().add(BatchedEndpoint.DELIVERY, messageIds.length);
     }
 
     public void setMessagesSeen(String... messageIds) {
         addUnreportedSeenMessageIds(messageIds);
         updateStoredMessagesWithSeenStatus(messageIds);
-        sync();
+        getEventBatcher().add(BatchedEndpoint.SEEN, messageIds.length);
     }
 
     public void setMessagesSeenDontStore(String... messageIds) {
         addUnreportedSeenMessageIds(messageIds);
-        sync();
+        getEventBatcher().add(BatchedEndpoint.SEEN, messageIds.length);
     }
 
     private void updateStoredMessagesWithSeenStatus(String[] messageIds) {
@@ -707,14 +780,19 @@ public class MobileMessagingCore
             return;
         }
 
-        MessageStore messageStore = getMessageStore();
+        // wrapper also finds messages which are not yet written in write-behind mode
+        MessageStoreWrapper messageStoreWrapper = getMessageStoreWrapper();
         List<String> messageIdList = Arrays.asList(messageIds);
-        for (Message m : new ArrayList<>(messageStore.findAll(context))) {
+        List<Message> seenMessages = new ArrayList<>();
+        for (Message m : messageStoreWrapper.findAll()) {
             if (messageIdList.contains(m.getMessageId())) {
                 m.setSeenTimestamp(Time.now());
-                messageStore.save(context, m);
+                seenMessages.add(m);
             }
         }
+        if (!seenMessages.isEmpty()) {
+            messageStoreWrapper.upsert(seenMessages.toArray(new Message[seenMessages.size()]));
+        }
     }
 
     public NotificationSettings getNotificationSettings() {
@@ -797,11 +875,21 @@ public class MobileMessagingCore
 
     public MessageStoreWrapper getMessageStoreWrapper() {
         if (messageStoreWrapper == null) {
-            messageStoreWrapper = new MessageStoreWrapperImpl(context, getMessageStore());
+            Executor writeExecutor = isMessageStoreWriteBehindEnabled() ? SdkExecutors.get().lane(SdkExecutors.Lane.MESSAGES) : null;
+            messageStoreWrapper = new MessageStoreWrapperImpl(context, getMessageStore(), writeExecutor);
         }
         return messageStoreWrapper;
     }
 
+    /**
+     * Starts writing of messages saved in write-behind mode, i.e. when application goes to background or system is low on memory
+     */
+    void scheduleMessageStoreFlush() {
+        if (messageStoreWrapper != null) {
+            messageStoreWrapper.scheduleFlush();
+        }
+    }
+
     public MobileMessagingStats getStats() {
         return stats;
     }
@@ -908,6 +996,27 @@ public class MobileMessagingCore
         PreferenceHelper.saveBoolean(context, MobileMessagingProperty.MARK_SEEN_ON_NOTIFICATION_TAP, doMarkSeenOnNotificationTap);
     }
 
+    static void setDatabaseSynchronousMode(Context context, SynchronousMode synchronousMode) {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.DATABASE_SYNCHRONOUS_MODE, synchronousMode.name());
+    }
+
+    static void setMessageStoreWriteBehind(Context context, boolean writeBehind) {
+        PreferenceHelper.saveBoolean(context, MobileMessagingProperty.MESSAGE_STORE_WRITE_BEHIND, writeBehind);
+    }
+
+    static void setMoMessagesBatching(Context context, int maxBatchSize, int maxInFlightBatches) {
+        PreferenceHelper.saveInt(context, MobileMessagingProperty.MO_MESSAGES_MAX_BATCH_SIZE, maxBatchSize);
+        PreferenceHelper.saveInt(context, MobileMessagingProperty.MO_MESSAGES_MAX_IN_FLIGHT_BATCHES, maxInFlightBatches);
+    }
+
+    private boolean isMessageStoreWriteBehindEnabled() {
+        return PreferenceHelper.findBoolean(context, MobileMessagingProperty.MESSAGE_STORE_WRITE_BEHIND);
+    }
+
+    static void setRetentionPolicy(Context context, RetentionPolicy retentionPolicy) {
+        MessageStoreCompactor.setRetentionPolicy(context, retentionPolicy);
+    }
+
     public static void setShouldSaveUserData(Context context, boolean shouldSaveUserData) {
         PreferenceHelper.saveBoolean(context, MobileMessagingProperty.SAVE_USER_DATA_ON_DISK, shouldSaveUserData);
     }
@@ -930,6 +1039,18 @@ public class MobileMessagingCore
     }
 
     private static void cleanup(Context context) {
+        if (instance != null && instance.messageStoreWrapper != null) {
+            instance.messageStoreWrapper.flush();
+        }
+
+        if (instance != null) {
+            int cancelled = 0;
+            for (SerialLane lane : instance.synchronizerLanes) {
+                cancelled += lane.cancel();
+            }
+            MobileMessagingLogger.d("Cancelled " + cancelled + " pending tasks, executors: " + SdkExecutors.get().getMetrics());
+        }
+
         if (instance != null) {
             for (MessageHandlerModule module : instance.messageHandlerModules.values()) {
                 module.cleanup();
@@ -957,12 +1078,14 @@ public class MobileMessagingCore
 
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_USER_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.USER_DATA);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
-        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
+        new MessageIdQueue(getDatabaseProvider(context), MessageIdQueue.UNREPORTED_DELIVERY).clear();
+        new MessageIdQueue(getDatabaseProvider(context), MessageIdQueue.UNREPORTED_SEEN).clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_SYSTEM_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.REPORTED_SYSTEM_DATA_HASH);
         PreferenceHelper.remove(context, MobileMessagingProperty.IS_PRIMARY_UNREPORTED);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+        new MoMessageOutbox(getDatabaseProvider(context)).clear();
+        SharedPreferencesValidatorCache.clear(context);
     }
 
     private void resetCloudToken() {
@@ -1016,7 +1139,13 @@ public class MobileMessagingCore
             }
         }
 
-        userDataReporter().sync(listener, userDataToReport);
+        final UserData userDataToSync = userDataToReport;
+        afterRegistration(new Runnable() {
+            @Override
+            public void run() {
+                userDataReporter().sync(listener, userDataToSync);
+            }
+        });
     }
 
     @Override
@@ -1104,7 +1233,13 @@ public class MobileMessagingCore
     }
 
     public void sendMessagesWithRetry(Message... messages) {
-        moMessageSender().sendWithRetry(messages);
+        moMessageSender().addToOutbox(messages);
+        afterRegistration(new Runnable() {
+            @Override
+            public void run() {
+                moMessageSender().sync();
+            }
+        });
     }
 
     public void reportSystemData() {
@@ -1172,18 +1307,7 @@ public class MobileMessagingCore
     }
 
     private void runOnUiThread(final Runnable runnable) {
-        new MAsyncTask<Void, Void>() {
-
-            @Override
-            public Void run(Void[] voids) {
-                return null;
-            }
-
-            @Override
-            public void after(Void aVoid) {
-                runnable.run();
-            }
-        };
+        SdkExecutors.get().mainThread().dispatch(runnable);
     }
 
     @NonNull
@@ -1197,8 +1321,13 @@ public class MobileMessagingCore
     @NonNull
     private MoMessageSender moMessageSender() {
         if (moMessageSender == null) {
-            moMessageSender = new MoMessageSender(context, this, broadcaster,
-                    registrationAlignedExecutor, stats, retryPolicyProvider.DEFAULT(), mobileApiResourceProvider().getMobileApiMessages(context), getMessageStoreWrapper());
+            Executor batchExecutors[] = new Executor[Math.max(1, PreferenceHelper.findInt(context, MobileMessagingProperty.MO_MESSAGES_MAX_IN_FLIGHT_BATCHES))];
+            for (int i = 0; i < batchExecutors.length; i++) {
+                batchExecutors[i] = synchronizerExecutor("mo-messages-batch-" + i);
+            }
+            moMessageSender = new MoMessageSender(context, this, broadcaster, synchronizerExecutor("mo-messages"), batchExecutors,
+                    Math.max(1, PreferenceHelper.findInt(context, MobileMessagingProperty.MO_MESSAGES_MAX_BATCH_SIZE)),
+                    stats, retryPolicyProvider.DEFAULT(), mobileApiResourceProvider().getMobileApiMessages(context), getMessageStoreWrapper());
         }
         return moMessageSender;
     }
@@ -1206,7 +1335,7 @@ public class MobileMessagingCore
     @NonNull
     private UserDataReporter userDataReporter() {
         if (userDataReporter == null) {
-            userDataReporter = new UserDataReporter(this, registrationAlignedExecutor,
+            userDataReporter = new UserDataReporter(this, synchronizerExecutor("user-data"),
                     broadcaster, retryPolicyProvider, stats, mobileApiResourceProvider().getMobileApiData(context));
         }
         return userDataReporter;
@@ -1215,7 +1344,7 @@ public class MobileMessagingCore
     @NonNull
     private SystemDataReporter systemDataReporter() {
         if (systemDataReporter == null) {
-            systemDataReporter = new SystemDataReporter(this, stats, retryPolicyProvider.DEFAULT(), registrationAlignedExecutor,
+            systemDataReporter = new SystemDataReporter(this, stats, retryPolicyProvider.DEFAULT(), synchronizerExecutor("system-data"),
                     broadcaster, mobileApiResourceProvider().getMobileApiData(context));
         }
         return systemDataReporter;
@@ -1227,7 +1356,7 @@ public class MobileMessagingCore
             logoutUserSynchronizer = new LogoutUserSynchronizer(
                     mobileApiResourceProvider().getMobileApiData(context),
                     retryPolicyProvider.DEFAULT(),
-                    registrationAlignedExecutor,
+                    synchronizerExecutor("logout"),
                     new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)),
                     this);
         }
@@ -1238,7 +1367,7 @@ public class MobileMessagingCore
     private MessagesSynchronizer messagesSynchronizer() {
         if (messagesSynchronizer == null) {
             MobileMessageHandler mobileMessageHandler = new MobileMessageHandler(this, broadcaster, getNotificationHandler(), getMessageStoreWrapper());
-            messagesSynchronizer = new MessagesSynchronizer(this, stats, registrationAlignedExecutor,
+            messagesSynchronizer = new MessagesSynchronizer(this, stats, synchronizerExecutor("messages-sync"),
                     broadcaster, retryPolicyProvider.DEFAULT(), mobileMessageHandler, mobileApiResourceProvider().getMobileApiMessages(context));
         }
         return messagesSynchronizer;
@@ -1248,7 +1377,7 @@ public class MobileMessagingCore
     private RegistrationSynchronizer registrationSynchronizer() {
         if (registrationSynchronizer == null) {
             registrationSynchronizer = new RegistrationSynchronizer(context, this, stats,
-                    registrationAlignedExecutor, broadcaster, retryPolicyProvider, mobileApiResourceProvider().getMobileApiRegistration(context));
+                    synchronizerExecutor("registration"), broadcaster, retryPolicyProvider, mobileApiResourceProvider().getMobileApiRegistration(context));
         }
         return registrationSynchronizer;
     }
@@ -1256,12 +1385,147 @@ public class MobileMessagingCore
     @NonNull
     private SeenStatusReporter seenStatusReporter() {
         if (seenStatusReporter == null) {
-            seenStatusReporter = new SeenStatusReporter(this, stats, registrationAlignedExecutor, broadcaster,
-                    mobileApiResourceProvider().getMobileApiMessages(context), new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)));
+            seenStatusReporter = new SeenStatusReporter(this, stats, synchronizerExecutor("seen"), broadcaster,
+                    mobileApiResourceProvider().getMobileApiMessages(context));
         }
         return seenStatusReporter;
     }
 
+    @NonNull
+    private Executor synchronizerExecutor(String name) {
+        if (synchronizerExecutor != null) {
+            return synchronizerExecutor;
+        }
+
+        SerialLane lane = SdkExecutors.get().newLane(name);
+        synchronizerLanes.add(lane);
+        return lane;
+    }
+
+    /**
+     * Runs action after registration step if synchronization is in progress, right away otherwise.
+     * Requests outside of {@link #sync()} that need push registration id must not race with registration in progress.
+     */
+    private void afterRegistration(Runnable action) {
+        syncOrchestrator().runAfter(SyncStep.REGISTRATION, action);
+    }
+
+    @NonNull
+    private synchronized SyncOrchestrator syncOrchestrator() {
+        if (syncOrchestrator == null) {
+            syncOrchestrator = new SyncOrchestrator(SdkExecutors.get().io(), SYNC_STEP_TIMEOUT_MILLIS, new SyncOrchestrator.Listener() {
+                @Override
+                public void onStepFinished(String step, long startedAfterMs, long durationMs) {
+                    MobileMessagingLogger.d("Sync step " + step + " finished in " + durationMs + " ms, started after " + startedAfterMs + " ms");
+                }
+
+                @Override
+                public void onStepFailed(String step, Throwable error) {
+                    MobileMessagingLogger.e("Sync step " + step + " failed", error);
+                }
+
+                @Override
+                public void onFinished(long durationMs) {
+                    MobileMessagingLogger.i("Sync finished in " + durationMs + " ms");
+                }
+            });
+        }
+        return syncOrchestrator;
+    }
+
+    /**
+     * Batcher of outbound events, modules may register their own endpoints.
+     * Events are kept in storage by their owners, batcher only decides when to report them.
+     *
+     * @return batcher for outbound events
+     */
+    @NonNull
+    public synchronized EventBatcher getEventBatcher() {
+        if (eventBatcher != null) {
+            return eventBatcher;
+        }
+
+        eventBatcher = new EventBatcher(SdkExecutors.get().io(), EVENT_BATCH_SIZE,
+                PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY), new EventBatcher.Listener() {
+            @Override
+            public void onFlush(String endpoint, int events, EventBatcher.Reason reason) {
+                MobileMessagingLogger.d("Reporting " + events + " " + endpoint + " event(s), reason: " + reason);
+            }
+
+            @Override
+            public void onFlushFailed(String endpoint, Throwable error) {
+                MobileMessagingLogger.e("Failed to report " + endpoint + " events", error);
+            }
+        });
+        eventBatcher.register(BatchedEndpoint.DELIVERY, new Runnable() {
+            @Override
+            public void run() {
+                reportBatchedEvents(new Runnable() {
+                    @Override
+                    public void run() {
+                        messagesSynchronizer().sync();
+                    }
+                });
+            }
+        });
+        eventBatcher.register(BatchedEndpoint.SEEN, new Runnable() {
+            @Override
+            public void run() {
+                reportBatchedEvents(new Runnable() {
+                    @Override
+                    public void run() {
+                        seenStatusReporter().sync();
+                    }
+                });
+            }
+        });
+        return eventBatcher;
+    }
+
+    /**
+     * Reports batched events with the same dependencies as in {@link #syncSteps(boolean)}: after registration and not while logout is pending.
+     * Events which cannot be reported now stay in storage for the next synchronization.
+     */
+    private void reportBatchedEvents(Runnable report) {
+        if (!isReadyToSync() || isLogoutUnreported()) {
+            return;
+        }
+
+        afterRegistration(report);
+    }
+
+    @NonNull
+    private MessageStoreCompactor messageStoreCompactor() {
+        if (messageStoreCompactor == null) {
+            messageStoreCompactor = new MessageStoreCompactor(context, getDatabaseProvider(context), SdkExecutors.get().lane(SdkExecutors.Lane.MESSAGES));
+        }
+        return messageStoreCompactor;
+    }
+
+    @NonNull
+    private MessageIdQueue unreportedMessageIdQueue() {
+        if (unreportedMessageIdQueue == null) {
+            unreportedMessageIdQueue = new MessageIdQueue(getDatabaseProvider(context), MessageIdQueue.UNREPORTED_DELIVERY);
+        }
+        return unreportedMessageIdQueue;
+    }
+
+    @NonNull
+    private MessageIdQueue unreportedSeenMessageIdQueue() {
+        if (unreportedSeenMessageIdQueue == null) {
+            unreportedSeenMessageIdQueue = new MessageIdQueue(getDatabaseProvider(context), MessageIdQueue.UNREPORTED_SEEN);
+        }
+        return unreportedSeenMessageIdQueue;
+    }
+
+    @NonNull
+    private MessageIdQueue syncMessageIdQueue() {
+        if (syncMessageIdQueue == null) {
+            syncMessageIdQueue = new MessageIdQueue(getDatabaseProvider(context), MessageIdQueue.SYNC);
+        }
+        return syncMessageIdQueue;
+    }
+
     @NonNull
     VersionChecker versionChecker() {
         if (versionChecker == null) {
@@ -1275,7 +1539,7 @@ public class MobileMessagingCore
         if (instanceSynchronizer == null) {
             instanceSynchronizer = new InstanceSynchronizer(
                     this,
-                    registrationAlignedExecutor,
+                    synchronizerExecutor("instance"),
                     mobileApiResourceProvider().getMobileApiInstance(context),
                     new BatchReporter(PreferenceHelper.findLong(context, MobileMessagingProperty.BATCH_REPORTING_DELAY)),
                     retryPolicyProvider.DEFAULT());
@@ -3,6 +3,8 @@ package org.infobip.mobile.messaging;
 import android.app.PendingIntent;
 import android.content.Intent;
 
+import org.infobip.mobile.messaging.dal.sqlite.SynchronousMode;
+
 /**
  * @author mstipanov
  * @since 07.04.2016.
@@ -34,6 +36,14 @@ public enum MobileMessagingProperty {
     USER_DATA("org.infobip.mobile.messaging.infobip.USER_DATA"),
     SAVE_USER_DATA_ON_DISK("org.infobip.mobile.messaging.infobip.SAVE_USER_DATA_ON_DISK", true),
     SAVE_APP_CODE_ON_DISK("org.infobip.mobile.messaging.infobip.SAVE_APP_CODE_ON_DISK", true),
+    DATABASE_SYNCHRONOUS_MODE("org.infobip.mobile.messaging.infobip.DATABASE_SYNCHRONOUS_MODE", SynchronousMode.NORMAL.name()),
+    RETENTION_MAX_MESSAGES("org.infobip.mobile.messaging.infobip.RETENTION_MAX_MESSAGES", 0),
+    RETENTION_MAX_AGE_MILLIS("org.infobip.mobile.messaging.infobip.RETENTION_MAX_AGE_MILLIS", 0L),
+    RETENTION_MAX_BYTES("org.infobip.mobile.messaging.infobip.RETENTION_MAX_BYTES", 0L),
+    MESSAGE_STORE_WRITE_BEHIND("org.infobip.mobile.messaging.infobip.MESSAGE_STORE_WRITE_BEHIND", false),
+    MO_MESSAGES_MAX_BATCH_SIZE("org.infobip.mobile.messaging.infobip.MO_MESSAGES_MAX_BATCH_SIZE", 100),
+    MO_MESSAGES_MAX_IN_FLIGHT_BATCHES("org.infobip.mobile.messaging.infobip.MO_MESSAGES_MAX_IN_FLIGHT_BATCHES", 2),
+    LAST_COMPACTION_TIME("org.infobip.mobile.messaging.infobip.LAST_COMPACTION_TIME", 0L),
     APP_CODE_PROVIDER_CANONICAL_CLASS_NAME("org.infobip.mobile.messaging.infobip.APP_CODE_PROVIDER_CANONICAL_CLASS_NAME"),
     UNREPORTED_SYSTEM_DATA("org.infobip.mobile.messaging.infobip.UNREPORTED_SYSTEM_DATA"),
     REPORTED_SYSTEM_DATA_HASH("org.infobip.mobile.messaging.infobip.REPORTED_SYSTEM_DATA_HASH", 0),
@@ -14,6 +14,9 @@ public class MobileMessagingSynchronizationReceiver extends BroadcastReceiver {
     public void onReceive(Context context, Intent intent) {
         if (LocalEvent.APPLICATION_FOREGROUND.getKey().equals(intent.getAction())) {
             MobileMessagingCore.getInstance(context).sync();
+        } else if (LocalEvent.APPLICATION_BACKGROUND.getKey().equals(intent.getAction())) {
+            MobileMessagingCore.getInstance(context).getEventBatcher().flushAll();
+            MobileMessagingCore.getInstance(context).scheduleMessageStoreFlush();
         }
     }
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
 public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCallbacks {
     private static volatile boolean foreground = false;
     private static volatile Activity foregroundActivity = null;
+    private int startedActivities = 0;
 
     public ActivityLifecycleMonitor(@NonNull Application application) {
         application.registerActivityLifecycleCallbacks(this);
@@ -62,6 +63,10 @@ public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCa
         LocalBroadcastManager.getInstance(context).sendBroadcast(new Intent(LocalEvent.APPLICATION_FOREGROUND.getKey()));
     }
 
+    private static void dispatchBackgroundEventToCore(Context context) {
+        LocalBroadcastManager.getInstance(context).sendBroadcast(new Intent(LocalEvent.APPLICATION_BACKGROUND.getKey()));
+    }
+
     @Override
     public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
 
@@ -69,7 +74,7 @@ public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCa
 
     @Override
     public void onActivityStarted(Activity activity) {
-
+        startedActivities++;
     }
 
     @Override
@@ -86,7 +91,11 @@ public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCa
 
     @Override
     public void onActivityStopped(Activity activity) {
-
+        startedActivities = Math.max(0, startedActivities - 1);
+        // activity recreated because of configuration change is started again right away
+        if (startedActivities == 0 && !activity.isChangingConfigurations()) {
+            dispatchBackgroundEventToCore(activity);
+        }
     }
 
     @Override
@@ -35,6 +35,7 @@ public class InternalDataMapper {
         Silent<VibrateValueType> silent;
         String bulkId;
         String initialMessageId;
+        String expiryTime;
 
         public InternalData() {
         }
@@ -223,6 +224,20 @@ public class InternalDataMapper {
         }
     }
 
+    /**
+     * Returns expiry time from internal data, present only for geo messages
+     *
+     * @param json internal data json
+     * @return expiry time in ISO8601 format if present or null otherwise
+     */
+    public static String getInternalDataExpiryTime(String json) {
+        try {
+            return serializer.deserialize(json, InternalData.class).expiryTime;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Nullable
     private static <VibrateValueType> String createInternalDataForMessage(Message message) {
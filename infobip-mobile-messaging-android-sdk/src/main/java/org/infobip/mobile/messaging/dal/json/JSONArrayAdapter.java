@@ -5,12 +5,14 @@ import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.json.JSONArray;
 import org.json.JSONException;
 
+import java.util.List;
+
 /**
  * @author sslavin
  * @since 09/10/2017.
  */
 
-public class JSONArrayAdapter implements JsonSerializer.ObjectAdapter<JSONArray> {
+public class JSONArrayAdapter implements JsonSerializer.StreamingObjectAdapter<JSONArray> {
 
     @Override
     public Class<JSONArray> getCls() {
@@ -31,6 +33,23 @@ public class JSONArrayAdapter implements JsonSerializer.ObjectAdapter<JSONArray>
         }
     }
 
+    @Override
+    public JSONArray fromJsonValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (value instanceof List) {
+                return (JSONArray) JSONObjectAdapter.toJSON(value);
+            }
+            throw new JSONException("Value " + value + " cannot be converted to JSONArray");
+        } catch (JSONException e) {
+            MobileMessagingLogger.e("Error parsing JSONArray from " + value, e);
+            return null;
+        }
+    }
+
     @Override
     public String serialize(JSONArray value) {
         if (value == null) {
@@ -2,15 +2,19 @@ package org.infobip.mobile.messaging.dal.json;
 
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author sslavin
  * @since 09/10/2017.
  */
 
-public class JSONObjectAdapter implements JsonSerializer.ObjectAdapter<JSONObject> {
+public class JSONObjectAdapter implements JsonSerializer.StreamingObjectAdapter<JSONObject> {
     @Override
     public Class<JSONObject> getCls() {
         return JSONObject.class;
@@ -30,6 +34,23 @@ public class JSONObjectAdapter implements JsonSerializer.ObjectAdapter<JSONObjec
         }
     }
 
+    @Override
+    public JSONObject fromJsonValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (value instanceof Map) {
+                return (JSONObject) toJSON(value);
+            }
+            throw new JSONException("Value " + value + " cannot be converted to JSONObject");
+        } catch (JSONException e) {
+            MobileMessagingLogger.e("Error parsing JSONObject from " + value, e);
+            return null;
+        }
+    }
+
     @Override
     public String serialize(JSONObject value) {
         if (value == null) {
@@ -38,4 +59,31 @@ public class JSONObjectAdapter implements JsonSerializer.ObjectAdapter<JSONObjec
 
         return value.toString();
     }
+
+    /**
+     * Converts value parsed by {@link JsonSerializer} to the same objects which {@link JSONObject} creates when parsing a string.
+     */
+    static Object toJSON(Object value) throws JSONException {
+        if (value == JsonSerializer.NULL) {
+            return JSONObject.NULL;
+        }
+
+        if (value instanceof Map) {
+            JSONObject jsonObject = new JSONObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                jsonObject.put((String) entry.getKey(), toJSON(entry.getValue()));
+            }
+            return jsonObject;
+        }
+
+        if (value instanceof List) {
+            JSONArray jsonArray = new JSONArray();
+            for (Object element : (List<?>) value) {
+                jsonArray.put(toJSON(element));
+            }
+            return jsonArray;
+        }
+
+        return value;
+    }
 }
@@ -9,14 +9,24 @@ import android.database.sqlite.SQLiteOpenHelper;
 import android.support.annotation.NonNull;
 import android.util.Log;
 
+import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Base helper for SDK databases. Databases are opened with write-ahead logging, so the platform connection pool
+ * serves reads from other threads without waiting for writes running in background, while reads inside a transaction
+ * use the transaction's connection and see its writes. WAL is periodically checkpointed
+ * after {@value #CHECKPOINT_AFTER_WRITES} write operations without blocking readers.
+ *
  * @author sslavin
  * @since 09/10/2017.
  */
@@ -25,12 +35,54 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
 
     private static final Map<Class<? extends DatabaseContract.DatabaseObject>, DatabaseContract.DatabaseObject> databaseObjectsCache = new HashMap<>();
 
+    static final int CHECKPOINT_AFTER_WRITES = 200;
+
     protected final Context context;
+    private final boolean writeAheadLoggingEnabled;
+    private final AtomicInteger writesSinceCheckpoint = new AtomicInteger();
     private SQLiteDatabase sqLiteDatabase;
+    private volatile boolean writeAheadLogging;
 
     public BaseDatabaseHelper(Context context, String databaseName, int currentVersion) {
+        this(context, databaseName, currentVersion, true);
+    }
+
+    protected BaseDatabaseHelper(Context context, String databaseName, int currentVersion, boolean writeAheadLoggingEnabled) {
         super(context, databaseName, null, currentVersion);
         this.context = context;
+        this.writeAheadLoggingEnabled = writeAheadLoggingEnabled;
+    }
+
+    @Override
+    public void onOpen(SQLiteDatabase db) {
+        super.onOpen(db);
+        if (db.isReadOnly()) {
+            return;
+        }
+
+        writeAheadLogging = writeAheadLoggingEnabled && db.enableWriteAheadLogging();
+        if (writeAheadLoggingEnabled && !writeAheadLogging) {
+            MobileMessagingLogger.w("Cannot enable write-ahead logging for " + getDatabaseName());
+        }
+        db.execSQL("PRAGMA synchronous = " + synchronousMode().name());
+        new DatabaseMigrator(getDatabaseName(), getMigrations()).resume(db);
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        int version = new DatabaseMigrator(getDatabaseName(), getMigrations()).upgrade(db, oldVersion, newVersion);
+        if (version != newVersion) {
+            MobileMessagingLogger.e("SQLite DB version is not what expected: " + newVersion);
+        }
+    }
+
+    /**
+     * Returns migrations of this database ordered by version
+     *
+     * @return all migrations from the initial version to the current one
+     */
+    protected List<Migration> getMigrations() {
+        return Collections.emptyList();
     }
 
     private SQLiteDatabase db() {
@@ -40,20 +92,81 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         return sqLiteDatabase;
     }
 
+    /**
+     * Checkpoints WAL once in a while, passive checkpoint does not wait for readers and does not block them
+     */
+    private void onWrite() {
+        if (writesSinceCheckpoint.incrementAndGet() < CHECKPOINT_AFTER_WRITES) {
+            return;
+        }
+
+        writesSinceCheckpoint.set(0);
+        if (!writeAheadLogging) {
+            return;
+        }
+
+        try {
+            Cursor cursor = db().rawQuery("PRAGMA wal_checkpoint(PASSIVE)", new String[0]);
+            cursor.moveToFirst();
+            cursor.close();
+        } catch (SQLException e) {
+            MobileMessagingLogger.w("WAL checkpoint failed for " + getDatabaseName() + ": " + Log.getStackTraceString(e));
+        }
+    }
+
+    private SynchronousMode synchronousMode() {
+        String mode = PreferenceHelper.findString(context, MobileMessagingProperty.DATABASE_SYNCHRONOUS_MODE);
+        try {
+            return SynchronousMode.valueOf(mode);
+        } catch (Exception ignored) {
+            return SynchronousMode.NORMAL;
+        }
+    }
+
     @Override
     public <T extends DatabaseContract.DatabaseObject> List<T> findAll(Class<T> cls) {
-        Cursor cursor = db().rawQuery("SELECT * FROM " + getTableName(cls), new String[0]);
-        List<T> objects = loadFromCursor(cursor, cls);
-        cursor.close();
-        return objects;
+        return findAll(cls, DatabaseObjectRowMapper.of(cls));
+    }
+
+    @Override
+    public <T> List<T> findAll(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper) {
+        return find(cls, mapper, null, null, null, 0);
     }
 
     @Override
     public <T extends DatabaseContract.DatabaseObject> T find(Class<T> cls, @NonNull String primaryKey) {
-        Cursor cursor = db().rawQuery("SELECT * FROM " + getTableName(cls) + " WHERE " + getPrimaryKeyColumn(cls) + " = ?", new String[]{primaryKey});
-        List<T> objects = loadFromCursor(cursor, cls);
-        cursor.close();
-        return objects != null && !objects.isEmpty() ? objects.get(0) : null;
+        return find(cls, DatabaseObjectRowMapper.of(cls), primaryKey);
+    }
+
+    @Override
+    public <T> T find(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper, @NonNull String primaryKey) {
+        List<T> objects = find(cls, mapper, getPrimaryKeyColumn(cls) + " = ?", new String[]{primaryKey}, null, 0);
+        return !objects.isEmpty() ? objects.get(0) : null;
+    }
+
+    @Override
+    public <T extends DatabaseContract.DatabaseObject> List<T> find(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit) {
+        return find(cls, DatabaseObjectRowMapper.of(cls), selection, selectionArgs, orderBy, limit);
+    }
+
+    @Override
+    public <T> List<T> find(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper, String selection, String[] selectionArgs, String orderBy, int limit) {
+        Cursor cursor = query(cls, mapper.getProjection(), selection, selectionArgs, orderBy, limit);
+        try {
+            return loadFromCursor(cursor, mapper);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public <T extends DatabaseContract.DatabaseObject> CursorIterable<T> iterate(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit) {
+        return iterate(cls, DatabaseObjectRowMapper.of(cls), selection, selectionArgs, orderBy, limit);
+    }
+
+    @Override
+    public <T> CursorIterable<T> iterate(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper, String selection, String[] selectionArgs, String orderBy, int limit) {
+        return new CursorIterable<T>(query(cls, mapper.getProjection(), selection, selectionArgs, orderBy, limit), mapper);
     }
 
     @Override
@@ -69,6 +182,7 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
     @Override
     public void save(DatabaseContract.DatabaseObject object) {
         db().insertWithOnConflict(object.getTableName(), null, object.getContentValues(), SQLiteDatabase.CONFLICT_REPLACE);
+        onWrite();
     }
 
     @Override
@@ -78,22 +192,70 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         } catch (SQLException ignored) {
             throw new PrimaryKeyViolationException();
         }
+        onWrite();
+    }
+
+    @Override
+    public void saveAll(Collection<? extends DatabaseContract.DatabaseObject> objects) {
+        writeAll(db(), objects, true);
+        onWrite();
+    }
+
+    @Override
+    public void insertAll(Collection<? extends DatabaseContract.DatabaseObject> objects) throws PrimaryKeyViolationException {
+        try {
+            writeAll(db(), objects, false);
+        } catch (SQLException ignored) {
+            throw new PrimaryKeyViolationException();
+        }
+        onWrite();
+    }
+
+    /**
+     * Writes all objects in one transaction reusing one compiled statement per table
+     */
+    static void writeAll(SQLiteDatabase db, Collection<? extends DatabaseContract.DatabaseObject> objects, boolean replace) {
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        Map<String, BatchInsertStatement> statements = new HashMap<>();
+        db.beginTransaction();
+        try {
+            for (DatabaseContract.DatabaseObject object : objects) {
+                BatchInsertStatement statement = statements.get(object.getTableName());
+                if (statement == null) {
+                    statement = new BatchInsertStatement(db, object.getTableName(), replace);
+                    statements.put(object.getTableName(), statement);
+                }
+                statement.execute(object.getContentValues());
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            for (BatchInsertStatement statement : statements.values()) {
+                statement.close();
+            }
+            db.endTransaction();
+        }
     }
 
     @Override
     public <T extends DatabaseContract.DatabaseObject> void deleteAll(Class<T> cls) {
         db().delete(getTableName(cls), null, new String[0]);
+        onWrite();
     }
 
     @Override
     public <T extends DatabaseContract.DatabaseObject> void delete(Class<T> cls, @NonNull String primaryKey) {
         db().delete(getTableName(cls), getPrimaryKeyColumn(cls) + "=?", new String[]{primaryKey});
+        onWrite();
     }
 
     @Override
     public <T extends DatabaseContract.DatabaseObject> void delete(Class<T> cls, String[] primaryKeys) {
         db().delete(getTableName(cls), getPrimaryKeyColumn(cls) +
                 " IN (" + new String(new char[primaryKeys.length - 1]).replace("\0", "?,") + "?)", primaryKeys);
+        onWrite();
     }
 
     private DatabaseContract.DatabaseObject emptyDatabaseObject(Class<? extends DatabaseContract.DatabaseObject> cls) {
@@ -112,27 +274,27 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         return emptyInstance;
     }
 
-    private <T extends DatabaseContract.DatabaseObject> List<T> loadFromCursor(Cursor cursor, Class<T> cls) {
+    private <T> List<T> loadFromCursor(Cursor cursor, DatabaseContract.RowMapper<T> mapper) {
         if (cursor.getCount() == 0) {
-            cursor.close();
             return new ArrayList<>();
         }
 
-        List<T> objects = new ArrayList<>();
-        if (cursor.moveToFirst()) {
-            do {
-                try {
-                    T object = cls.newInstance();
-                    object.fillFromCursor(cursor);
-                    objects.add(object);
-                } catch (Exception e) {
-                    MobileMessagingLogger.e(Log.getStackTraceString(e));
-                }
-            } while (cursor.moveToNext());
+        List<T> objects = new ArrayList<>(cursor.getCount());
+        DatabaseContract.RowReader<T> reader = mapper.prepare(cursor);
+        while (cursor.moveToNext()) {
+            try {
+                objects.add(reader.read(cursor));
+            } catch (Exception e) {
+                MobileMessagingLogger.e(Log.getStackTraceString(e));
+            }
         }
         return objects;
     }
 
+    private Cursor query(Class<? extends DatabaseContract.DatabaseObject> cls, String[] projection, String selection, String[] selectionArgs, String orderBy, int limit) {
+        return db().query(getTableName(cls), projection, selection, selectionArgs, null, null, orderBy, limit > 0 ? String.valueOf(limit) : null);
+    }
+
     private String getTableName(Class<? extends DatabaseContract.DatabaseObject> cls) {
         DatabaseContract.DatabaseObject o = emptyDatabaseObject(cls);
         return o != null ? o.getTableName() : null;
@@ -149,7 +311,7 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
     }
 
     @Override
-    public void deleteDatabase() {
+    public synchronized void deleteDatabase() {
         if (sqLiteDatabase != null) {
             sqLiteDatabase.close();
             sqLiteDatabase = null;
@@ -0,0 +1,97 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Insert statement which is compiled once and then executed for many rows of the same table.
+ * Statement is compiled again only if set of columns changes between rows.
+ * <p>
+ * Does not manage transactions, caller is expected to execute all rows inside one transaction.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+class BatchInsertStatement {
+
+    private final SQLiteDatabase db;
+    private final String tableName;
+    private final boolean replace;
+    private final List<String> columns = new ArrayList<>();
+    private SQLiteStatement statement;
+
+    /**
+     * @param replace true to replace existing rows on conflict, false to fail with exception
+     */
+    BatchInsertStatement(SQLiteDatabase db, String tableName, boolean replace) {
+        this.db = db;
+        this.tableName = tableName;
+        this.replace = replace;
+    }
+
+    /**
+     * Binds values to the statement and executes it
+     * @param values row to insert
+     * @return row id of inserted row
+     * @throws android.database.SQLException if row cannot be inserted
+     */
+    long execute(ContentValues values) {
+        SQLiteStatement statement = statementFor(values.keySet());
+        statement.clearBindings();
+        for (int i = 0; i < columns.size(); i++) {
+            bind(statement, i + 1, values.get(columns.get(i)));
+        }
+        return statement.executeInsert();
+    }
+
+    void close() {
+        if (statement != null) {
+            statement.close();
+            statement = null;
+        }
+    }
+
+    private SQLiteStatement statementFor(Set<String> keys) {
+        if (statement != null && columns.size() == keys.size() && columns.containsAll(keys)) {
+            return statement;
+        }
+
+        close();
+        columns.clear();
+        columns.addAll(keys);
+
+        StringBuilder sql = new StringBuilder(replace ? "INSERT OR REPLACE INTO " : "INSERT INTO ")
+                .append(tableName).append(" (");
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            String separator = i > 0 ? "," : "";
+            sql.append(separator).append(columns.get(i));
+            placeholders.append(separator).append('?');
+        }
+        sql.append(") VALUES (").append(placeholders).append(')');
+        statement = db.compileStatement(sql.toString());
+        return statement;
+    }
+
+    private static void bind(SQLiteStatement statement, int index, Object value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else if (value instanceof Double || value instanceof Float) {
+            statement.bindDouble(index, ((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            statement.bindLong(index, ((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            statement.bindLong(index, (Boolean) value ? 1 : 0);
+        } else if (value instanceof byte[]) {
+            statement.bindBlob(index, (byte[]) value);
+        } else {
+            statement.bindString(index, value.toString());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.Cursor;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterable over database rows which creates objects only while iterating, one row at a time.
+ * Can be iterated only once, cursor is closed when iteration reaches the end or on {@link #close()}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class CursorIterable<T> implements Iterable<T>, Closeable {
+
+    private final Cursor cursor;
+    private final DatabaseContract.RowReader<T> reader;
+    private boolean iterated;
+
+    CursorIterable(Cursor cursor, DatabaseContract.RowMapper<T> mapper) {
+        this.cursor = cursor;
+        this.reader = mapper.prepare(cursor);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("Rows can be iterated only once");
+        }
+        iterated = true;
+
+        return new Iterator<T>() {
+
+            private T next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null && !cursor.isClosed();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T current = next;
+                next = advance();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (!cursor.isClosed()) {
+            cursor.close();
+        }
+    }
+
+    private T advance() {
+        while (!cursor.isClosed() && cursor.moveToNext()) {
+            try {
+                return reader.read(cursor);
+            } catch (Exception e) {
+                MobileMessagingLogger.e(Log.getStackTraceString(e));
+            }
+        }
+        close();
+        return null;
+    }
+}
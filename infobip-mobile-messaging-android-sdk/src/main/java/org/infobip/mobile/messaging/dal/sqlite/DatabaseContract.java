@@ -20,6 +20,26 @@ public interface DatabaseContract {
          * Table for geo messages
          */
         String  GEO_MESSAGES = "geo_messages";
+
+        /**
+         * Table for queues of message ids waiting to be reported
+         */
+        String MESSAGE_ID_QUEUE = "message_id_queue";
+
+        /**
+         * Table for areas of geo messages, one row per area of each geo message
+         */
+        String GEO_AREAS = "geo_areas";
+
+        /**
+         * Table for mobile originated messages waiting to be sent
+         */
+        String MO_MESSAGE_OUTBOX = "mo_message_outbox";
+
+        /**
+         * Table for state of row migrations which are not yet finished, present in each SDK database
+         */
+        String MIGRATIONS = "migrations";
     }
 
     interface MessageColumns {
@@ -126,6 +146,140 @@ public interface DatabaseContract {
         String CONTENT_URL = "content_url";
     }
 
+    interface MessageIdQueueColumns {
+        /**
+         * Name of the queue the entry belongs to
+         *  [TEXT]
+         */
+        String QUEUE = "queue";
+
+        /**
+         * Message identifier, unique within a queue
+         *  [TEXT]
+         */
+        String MESSAGE_ID = "message_id";
+
+        /**
+         * Timestamp when message id was added to the queue
+         *  [INTEGER]
+         */
+        String TIMESTAMP = "timestamp";
+    }
+
+    interface MoMessageOutboxColumns {
+        /**
+         * Message identifier, unique within the outbox
+         *  [TEXT]
+         */
+        String MESSAGE_ID = "message_id";
+
+        /**
+         * Message serialized to json
+         *  [TEXT]
+         */
+        String MESSAGE = "message";
+
+        /**
+         * Timestamp when message was created
+         *  [INTEGER]
+         */
+        String TIMESTAMP = "timestamp";
+    }
+
+    interface GeoAreaColumns {
+        /**
+         * Area identifier, compared case-insensitively
+         *  [TEXT]
+         */
+        String AREA_ID = "area_id";
+
+        /**
+         * Identifier of geo message that contains the area
+         *  [TEXT]
+         */
+        String MESSAGE_ID = "message_id";
+
+        /**
+         * Identifier of geo campaign
+         *  [TEXT]
+         */
+        String CAMPAIGN_ID = "campaign_id";
+
+        /**
+         * Title of area
+         *  [TEXT]
+         */
+        String TITLE = "title";
+
+        /**
+         * Latitude of area center
+         *  [REAL]
+         */
+        String LATITUDE = "latitude";
+
+        /**
+         * Longitude of area center
+         *  [REAL]
+         */
+        String LONGITUDE = "longitude";
+
+        /**
+         * Radius of area in meters
+         *  [INTEGER]
+         */
+        String RADIUS = "radius";
+
+        /**
+         * Time in millis when campaign starts, null if campaign has no start time
+         *  [INTEGER]
+         */
+        String START_TIME = "start_time";
+
+        /**
+         * Time in millis when campaign expires, null if campaign has no expiry time
+         *  [INTEGER]
+         */
+        String EXPIRY_TIME = "expiry_time";
+
+        /**
+         * Limit of entry events, null if campaign has no settings for entry event
+         *  [INTEGER]
+         */
+        String ENTRY_LIMIT = "entry_limit";
+
+        /**
+         * Timeout between entry events in minutes, null if campaign has no settings for entry event
+         *  [INTEGER]
+         */
+        String ENTRY_TIMEOUT_MINUTES = "entry_timeout_minutes";
+    }
+
+    interface MigrationColumns {
+        /**
+         * Unique name of migration, primary key
+         *  [TEXT]
+         */
+        String NAME = "name";
+
+        /**
+         * Row id of the last migrated row
+         *  [INTEGER]
+         */
+        String LAST_ROW_ID = "last_row_id";
+
+        /**
+         * Number of rows migrated so far
+         *  [INTEGER]
+         */
+        String ROWS = "rows";
+
+        /**
+         * Timestamp when migration was scheduled
+         *  [INTEGER]
+         */
+        String STARTED_TIMESTAMP = "started_timestamp";
+    }
+
     interface DatabaseObject {
 
         /**
@@ -152,4 +306,33 @@ public interface DatabaseContract {
          */
         ContentValues getContentValues();
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps database rows to objects. Column indices are resolved once per cursor, not for every row.
+     */
+    interface RowMapper<T> {
+
+        /**
+         * Gets the columns that mapper reads
+         * @return column names or null to read all columns
+         */
+        String[] getProjection();
+
+        /**
+         * Resolves column indices of a cursor
+         * @param cursor cursor which rows will be mapped
+         * @return reader for rows of the provided cursor
+         */
+        RowReader<T> prepare(Cursor cursor);
+    }
+
+    interface RowReader<T> {
+
+        /**
+         * Creates object from current row of the cursor
+         * @param cursor for current database row
+         * @return new object
+         */
+        T read(Cursor cursor) throws Exception;
+    }
+}
@@ -1,5 +1,6 @@
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +17,15 @@ public interface DatabaseHelper {
      */
     <T extends DatabaseContract.DatabaseObject> List<T> findAll(Class<T> cls);
 
+    /**
+     * Finds all rows of the table of specified type and maps them with the provided mapper
+     * @param cls object class, defines table
+     * @param mapper row mapper, defines columns to read
+     * @param <T> mapped type
+     * @return list of all mapped rows
+     */
+    <T> List<T> findAll(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper);
+
     /**
      * Finds instance of object by primary key
      * @param cls object class
@@ -25,6 +35,66 @@ public interface DatabaseHelper {
      */
     <T extends DatabaseContract.DatabaseObject> T find(Class<T> cls, String primaryKey);
 
+    /**
+     * Finds row by primary key and maps it with the provided mapper
+     * @param cls object class, defines table
+     * @param mapper row mapper, defines columns to read
+     * @param primaryKey object primary key
+     * @param <T> mapped type
+     * @return mapped row or null if not found
+     */
+    <T> T find(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper, String primaryKey);
+
+    /**
+     * Finds instances of specified type which match the selection
+     * @param cls object class
+     * @param selection SQL WHERE clause without "WHERE" or null for all objects
+     * @param selectionArgs values for "?" placeholders in selection
+     * @param orderBy SQL ORDER BY clause without "ORDER BY" or null for default order
+     * @param limit maximum number of objects to return, 0 for no limit
+     * @param <T> object type
+     * @return list of matching objects
+     */
+    <T extends DatabaseContract.DatabaseObject> List<T> find(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit);
+
+    /**
+     * Finds rows which match the selection and maps them with the provided mapper
+     * @param cls object class, defines table
+     * @param mapper row mapper, defines columns to read
+     * @param selection SQL WHERE clause without "WHERE" or null for all objects
+     * @param selectionArgs values for "?" placeholders in selection
+     * @param orderBy SQL ORDER BY clause without "ORDER BY" or null for default order
+     * @param limit maximum number of objects to return, 0 for no limit
+     * @param <T> mapped type
+     * @return list of mapped rows
+     */
+    <T> List<T> find(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper, String selection, String[] selectionArgs, String orderBy, int limit);
+
+    /**
+     * Iterates over instances of specified type which match the selection, objects are created while iterating
+     * @param cls object class
+     * @param selection SQL WHERE clause without "WHERE" or null for all objects
+     * @param selectionArgs values for "?" placeholders in selection
+     * @param orderBy SQL ORDER BY clause without "ORDER BY" or null for default order
+     * @param limit maximum number of objects to return, 0 for no limit
+     * @param <T> object type
+     * @return lazy iterable which has to be closed if iteration does not reach the end
+     */
+    <T extends DatabaseContract.DatabaseObject> CursorIterable<T> iterate(Class<T> cls, String selection, String[] selectionArgs, String orderBy, int limit);
+
+    /**
+     * Iterates over rows which match the selection, rows are mapped with the provided mapper while iterating
+     * @param cls object class, defines table
+     * @param mapper row mapper, defines columns to read
+     * @param selection SQL WHERE clause without "WHERE" or null for all objects
+     * @param selectionArgs values for "?" placeholders in selection
+     * @param orderBy SQL ORDER BY clause without "ORDER BY" or null for default order
+     * @param limit maximum number of objects to return, 0 for no limit
+     * @param <T> mapped type
+     * @return lazy iterable which has to be closed if iteration does not reach the end
+     */
+    <T> CursorIterable<T> iterate(Class<? extends DatabaseContract.DatabaseObject> cls, DatabaseContract.RowMapper<T> mapper, String selection, String[] selectionArgs, String orderBy, int limit);
+
     /**
      * Counts all instances of specified type in database
      * @param cls object class
@@ -54,6 +124,19 @@ public interface DatabaseHelper {
      */
     void insert(DatabaseContract.DatabaseObject object) throws PrimaryKeyViolationException;
 
+    /**
+     * Saves objects to database in a single transaction, replaces on conflict.
+     * Nothing is saved if any of the writes fails, the error is rethrown to the caller.
+     * @param objects objects to save
+     */
+    void saveAll(Collection<? extends DatabaseContract.DatabaseObject> objects);
+
+    /**
+     * Inserts objects to database in a single transaction, fails on conflict and none of objects is inserted
+     * @param objects objects to insert
+     */
+    void insertAll(Collection<? extends DatabaseContract.DatabaseObject> objects) throws PrimaryKeyViolationException;
+
     /**
      * Deletes all objects of the specified type from the database
      * @param cls object class
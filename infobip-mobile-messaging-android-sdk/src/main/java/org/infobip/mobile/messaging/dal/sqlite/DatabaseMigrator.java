@@ -0,0 +1,194 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MigrationColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies versioned {@link Migration}s to a database.
+ * <br>
+ * Schema changes run in upgrade transaction. Row migrations are only scheduled during upgrade
+ * and are run afterwards by {@link #resume(SQLiteDatabase)} in chunks of {@value #CHUNK_SIZE} rows.
+ * Progress is stored in {@link Tables#MIGRATIONS} in the same transaction as each chunk,
+ * so migration interrupted by process death continues where it stopped.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class DatabaseMigrator {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String SQL_CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + Tables.MIGRATIONS + " (" +
+            MigrationColumns.NAME + " TEXT PRIMARY KEY NOT NULL, " +
+            MigrationColumns.LAST_ROW_ID + " INTEGER NOT NULL DEFAULT 0, " +
+            MigrationColumns.ROWS + " INTEGER NOT NULL DEFAULT 0, " +
+            MigrationColumns.STARTED_TIMESTAMP + " INTEGER NOT NULL)";
+
+    private final String databaseName;
+    private final List<Migration> migrations;
+
+    public DatabaseMigrator(String databaseName, List<Migration> migrations) {
+        this.databaseName = databaseName;
+        this.migrations = migrations;
+    }
+
+    /**
+     * Applies schema changes of all migrations between provided versions and schedules their row migrations
+     *
+     * @param db         database in upgrade transaction
+     * @param oldVersion current version of database
+     * @param newVersion version to upgrade to
+     * @return version of the last applied migration
+     */
+    public int upgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        db.execSQL(SQL_CREATE_TABLE);
+
+        int version = oldVersion;
+        for (Migration migration : migrations) {
+            if (migration.getVersion() <= oldVersion || migration.getVersion() > newVersion) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            migration.migrateSchema(db);
+            if (migration instanceof RowMigration) {
+                ContentValues values = new ContentValues();
+                values.put(MigrationColumns.NAME, migration.getName());
+                values.put(MigrationColumns.STARTED_TIMESTAMP, Time.now());
+                db.insertWithOnConflict(Tables.MIGRATIONS, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            version = migration.getVersion();
+            MobileMessagingLogger.d("Migrated schema of " + databaseName + " to " + migration.getName() + " in " + millisSince(start) + " ms");
+        }
+        return version;
+    }
+
+    /**
+     * Runs all scheduled row migrations. Must be called outside of transaction, does nothing if there are no scheduled migrations.
+     *
+     * @param db writable database
+     */
+    public void resume(SQLiteDatabase db) {
+        db.execSQL(SQL_CREATE_TABLE);
+
+        List<String> names = new ArrayList<>();
+        Cursor cursor = db.query(Tables.MIGRATIONS, new String[]{MigrationColumns.NAME}, null, null, null, null, "rowid");
+        try {
+            while (cursor.moveToNext()) {
+                names.add(cursor.getString(0));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        for (String name : names) {
+            RowMigration migration = findRowMigration(name);
+            if (migration == null) {
+                MobileMessagingLogger.w("Unknown migration " + name + " of " + databaseName + ", skipping");
+                db.delete(Tables.MIGRATIONS, MigrationColumns.NAME + " = ?", new String[]{name});
+                continue;
+            }
+            run(db, migration);
+        }
+    }
+
+    private RowMigration findRowMigration(String name) {
+        for (Migration migration : migrations) {
+            if (migration instanceof RowMigration && migration.getName().equals(name)) {
+                return (RowMigration) migration;
+            }
+        }
+        return null;
+    }
+
+    private void run(SQLiteDatabase db, RowMigration migration) {
+        String[] state = {migration.getName()};
+        long lastRowId = 0;
+        long rows = 0;
+        long startedTimestamp = Time.now();
+        Cursor cursor = db.query(Tables.MIGRATIONS, new String[]{MigrationColumns.LAST_ROW_ID, MigrationColumns.ROWS, MigrationColumns.STARTED_TIMESTAMP},
+                MigrationColumns.NAME + " = ?", state, null, null, null);
+        try {
+            if (cursor.moveToFirst()) {
+                lastRowId = cursor.getLong(0);
+                rows = cursor.getLong(1);
+                startedTimestamp = cursor.getLong(2);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        if (lastRowId > 0) {
+            MobileMessagingLogger.d("Resuming migration " + migration.getName() + " of " + databaseName + " after " + rows + " rows");
+        }
+
+        String[] projection = new String[migration.getColumns().length + 1];
+        projection[0] = "rowid";
+        System.arraycopy(migration.getColumns(), 0, projection, 1, migration.getColumns().length);
+
+        long start = System.nanoTime();
+        int chunk;
+        do {
+            chunk = 0;
+            db.beginTransaction();
+            try {
+                Cursor rowCursor = db.query(migration.getTable(), projection, "rowid > ?", new String[]{String.valueOf(lastRowId)},
+                        null, null, "rowid", String.valueOf(CHUNK_SIZE));
+                try {
+                    while (rowCursor.moveToNext()) {
+                        lastRowId = rowCursor.getLong(0);
+                        chunk++;
+                        migrateRow(db, migration, rowCursor, lastRowId);
+                    }
+                } finally {
+                    rowCursor.close();
+                }
+
+                rows += chunk;
+                if (chunk < CHUNK_SIZE) {
+                    db.delete(Tables.MIGRATIONS, MigrationColumns.NAME + " = ?", state);
+                } else {
+                    ContentValues values = new ContentValues();
+                    values.put(MigrationColumns.LAST_ROW_ID, lastRowId);
+                    values.put(MigrationColumns.ROWS, rows);
+                    db.update(Tables.MIGRATIONS, values, MigrationColumns.NAME + " = ?", state);
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        } while (chunk == CHUNK_SIZE);
+
+        MobileMessagingLogger.i("Migration " + migration.getName() + " of " + databaseName + " finished: " + rows + " rows in " + millisSince(start) +
+                " ms, " + (Time.now() - startedTimestamp) + " ms since upgrade");
+    }
+
+    private static void migrateRow(SQLiteDatabase db, RowMigration migration, Cursor cursor, long rowId) {
+        ContentValues values;
+        try {
+            values = migration.migrateRow(cursor);
+        } catch (Exception e) {
+            MobileMessagingLogger.w("Cannot migrate row " + rowId + " of " + migration.getTable() + ": " + Log.getStackTraceString(e));
+            return;
+        }
+
+        if (values != null && values.size() > 0) {
+            db.update(migration.getTable(), values, "rowid = ?", new String[]{String.valueOf(rowId)});
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,58 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.Cursor;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default row mapper for {@link DatabaseContract.DatabaseObject} classes which do not provide their own mapper.
+ * Objects are created with cached no-argument constructor and filled with {@link DatabaseContract.DatabaseObject#fillFromCursor(Cursor)}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+class DatabaseObjectRowMapper<T extends DatabaseContract.DatabaseObject> implements DatabaseContract.RowMapper<T>, DatabaseContract.RowReader<T> {
+
+    private static final Map<Class<?>, DatabaseObjectRowMapper<?>> mappers = new ConcurrentHashMap<>();
+
+    private final Constructor<T> constructor;
+
+    private DatabaseObjectRowMapper(Class<T> cls) {
+        try {
+            constructor = cls.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static <T extends DatabaseContract.DatabaseObject> DatabaseObjectRowMapper<T> of(Class<T> cls) {
+        //noinspection unchecked
+        DatabaseObjectRowMapper<T> mapper = (DatabaseObjectRowMapper<T>) mappers.get(cls);
+        if (mapper == null) {
+            mapper = new DatabaseObjectRowMapper<>(cls);
+            mappers.put(cls, mapper);
+        }
+        return mapper;
+    }
+
+    @Override
+    public String[] getProjection() {
+        return null;
+    }
+
+    @Override
+    public DatabaseContract.RowReader<T> prepare(Cursor cursor) {
+        return this;
+    }
+
+    @Override
+    public T read(Cursor cursor) throws Exception {
+        T object = constructor.newInstance();
+        object.fillFromCursor(cursor);
+        return object;
+    }
+}
@@ -0,0 +1,252 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageIdQueueColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durable queue of message ids stored in {@link Tables#MESSAGE_ID_QUEUE}.
+ * Entries are kept in insertion order, each message id can be present in a queue only once.
+ * Appending an id is a single insert, so it does not depend on the size of the queue.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class MessageIdQueue {
+
+    public static final String UNREPORTED_DELIVERY = "unreported_delivery";
+    public static final String UNREPORTED_SEEN = "unreported_seen";
+    public static final String SYNC = "sync";
+
+    static final String SQL_CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + Tables.MESSAGE_ID_QUEUE + " (" +
+            MessageIdQueueColumns.QUEUE + " TEXT NOT NULL, " +
+            MessageIdQueueColumns.MESSAGE_ID + " TEXT NOT NULL, " +
+            MessageIdQueueColumns.TIMESTAMP + " INTEGER NOT NULL, " +
+            "UNIQUE (" + MessageIdQueueColumns.QUEUE + ", " + MessageIdQueueColumns.MESSAGE_ID + ") ON CONFLICT IGNORE)";
+
+    private static final String SQL_INSERT = "INSERT INTO " + Tables.MESSAGE_ID_QUEUE + " (" +
+            MessageIdQueueColumns.QUEUE + ", " + MessageIdQueueColumns.MESSAGE_ID + ", " + MessageIdQueueColumns.TIMESTAMP + ") VALUES (?, ?, ?)";
+
+    private static final String SQL_DELETE = "DELETE FROM " + Tables.MESSAGE_ID_QUEUE + " WHERE " +
+            MessageIdQueueColumns.QUEUE + " = ? AND " + MessageIdQueueColumns.MESSAGE_ID + " = ?";
+
+    private static final String SQL_UPDATE_ID = "UPDATE OR IGNORE " + Tables.MESSAGE_ID_QUEUE + " SET " + MessageIdQueueColumns.MESSAGE_ID + " = ? WHERE " +
+            MessageIdQueueColumns.QUEUE + " = ? AND " + MessageIdQueueColumns.MESSAGE_ID + " = ?";
+
+    private static final String SQL_TRIM = "DELETE FROM " + Tables.MESSAGE_ID_QUEUE + " WHERE rowid IN (SELECT rowid FROM " + Tables.MESSAGE_ID_QUEUE +
+            " WHERE " + MessageIdQueueColumns.QUEUE + " = ? ORDER BY rowid DESC LIMIT -1 OFFSET ?)";
+
+    private final SqliteDatabaseProvider databaseProvider;
+    private final String queue;
+
+    public MessageIdQueue(SqliteDatabaseProvider databaseProvider, String queue) {
+        this.databaseProvider = databaseProvider;
+        this.queue = queue;
+    }
+
+    /**
+     * Single entry of the queue
+     */
+    public static class Entry {
+        private final String messageId;
+        private final long timestamp;
+
+        public Entry(String messageId, long timestamp) {
+            this.messageId = messageId;
+            this.timestamp = timestamp;
+        }
+
+        public String getMessageId() {
+            return messageId;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    /**
+     * Appends message ids to the end of the queue. Null ids and ids already present in the queue are ignored.
+     *
+     * @param timestamp  time to associate with the ids
+     * @param messageIds ids to append
+     */
+    public void add(long timestamp, String... messageIds) {
+        if (messageIds == null || messageIds.length == 0) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement(SQL_INSERT);
+        try {
+            for (String messageId : messageIds) {
+                if (messageId == null) {
+                    continue;
+                }
+                statement.bindString(1, queue);
+                statement.bindString(2, messageId);
+                statement.bindLong(3, timestamp);
+                statement.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Returns entries from the head of the queue without removing them.
+     *
+     * @param limit maximum number of entries to return, all entries if not positive
+     * @return the oldest entries of the queue
+     */
+    public List<Entry> peek(int limit) {
+        return read(databaseProvider.getDatabase(), limit);
+    }
+
+    /**
+     * Removes and returns entries from the head of the queue in one transaction.
+     *
+     * @param limit maximum number of entries to remove, all entries if not positive
+     * @return removed entries
+     */
+    public List<Entry> poll(int limit) {
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            List<Entry> entries = read(db, limit);
+            delete(db, entries);
+            db.setTransactionSuccessful();
+            return entries;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes provided message ids from the queue.
+     */
+    public void remove(String... messageIds) {
+        List<Entry> entries = new ArrayList<>(messageIds.length);
+        for (String messageId : messageIds) {
+            if (messageId != null) {
+                entries.add(new Entry(messageId, 0));
+            }
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            delete(db, entries);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Replaces message ids in the queue keeping their position and timestamp.
+     *
+     * @param messageIdMap map that contains old id as key and new id as value
+     */
+    public void replace(Map<String, String> messageIdMap) {
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement(SQL_UPDATE_ID);
+        try {
+            for (Map.Entry<String, String> entry : messageIdMap.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    continue;
+                }
+                statement.bindString(1, entry.getValue());
+                statement.bindString(2, queue);
+                statement.bindString(3, entry.getKey());
+                statement.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes entries added before provided time.
+     *
+     * @param timestamp entries with older timestamp are removed
+     * @return number of removed entries
+     */
+    public int expire(long timestamp) {
+        return databaseProvider.getDatabase().delete(Tables.MESSAGE_ID_QUEUE,
+                MessageIdQueueColumns.QUEUE + " = ? AND " + MessageIdQueueColumns.TIMESTAMP + " < ?",
+                new String[]{queue, String.valueOf(timestamp)});
+    }
+
+    /**
+     * Removes the oldest entries so that at most provided number of entries remains in the queue.
+     */
+    public void trim(int maxSize) {
+        SQLiteStatement statement = databaseProvider.getDatabase().compileStatement(SQL_TRIM);
+        try {
+            statement.bindString(1, queue);
+            statement.bindLong(2, maxSize);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    public void clear() {
+        databaseProvider.getDatabase().delete(Tables.MESSAGE_ID_QUEUE, MessageIdQueueColumns.QUEUE + " = ?", new String[]{queue});
+    }
+
+    public static String[] messageIds(Collection<Entry> entries) {
+        String[] messageIds = new String[entries.size()];
+        int i = 0;
+        for (Entry entry : entries) {
+            messageIds[i++] = entry.getMessageId();
+        }
+        return messageIds;
+    }
+
+    private List<Entry> read(SQLiteDatabase db, int limit) {
+        Cursor cursor = db.query(Tables.MESSAGE_ID_QUEUE, new String[]{MessageIdQueueColumns.MESSAGE_ID, MessageIdQueueColumns.TIMESTAMP},
+                MessageIdQueueColumns.QUEUE + " = ?", new String[]{queue}, null, null, "rowid", limit > 0 ? String.valueOf(limit) : null);
+        try {
+            List<Entry> entries = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                entries.add(new Entry(cursor.getString(0), cursor.getLong(1)));
+            }
+            return entries;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private void delete(SQLiteDatabase db, List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        SQLiteStatement statement = db.compileStatement(SQL_DELETE);
+        try {
+            for (Entry entry : entries) {
+                statement.bindString(1, queue);
+                statement.bindString(2, entry.getMessageId());
+                statement.executeUpdateDelete();
+            }
+        } finally {
+            statement.close();
+        }
+    }
+}
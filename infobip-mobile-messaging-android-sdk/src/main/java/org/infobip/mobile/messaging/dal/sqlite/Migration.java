@@ -0,0 +1,41 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * Single step of database upgrade.
+ * Schema changes are applied in the upgrade transaction, so they should not depend on the number of rows in database.
+ * Use {@link RowMigration} to rewrite existing rows.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public abstract class Migration {
+
+    private final int version;
+    private final String name;
+
+    /**
+     * @param version database version that this migration upgrades to
+     * @param name    unique name of migration within database
+     */
+    protected Migration(int version, String name) {
+        this.version = version;
+        this.name = name;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Applies schema changes
+     *
+     * @param db database in upgrade transaction
+     */
+    public abstract void migrateSchema(SQLiteDatabase db);
+}
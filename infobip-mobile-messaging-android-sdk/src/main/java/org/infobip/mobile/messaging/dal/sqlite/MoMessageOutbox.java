@@ -0,0 +1,173 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MoMessageOutboxColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Durable outbox of mobile originated messages stored in {@link Tables#MO_MESSAGE_OUTBOX}.
+ * Messages are kept in insertion order until they are explicitly removed, each message id can be present only once.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class MoMessageOutbox {
+
+    static final String SQL_CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + Tables.MO_MESSAGE_OUTBOX + " (" +
+            MoMessageOutboxColumns.MESSAGE_ID + " TEXT NOT NULL UNIQUE ON CONFLICT IGNORE, " +
+            MoMessageOutboxColumns.MESSAGE + " TEXT NOT NULL, " +
+            MoMessageOutboxColumns.TIMESTAMP + " INTEGER NOT NULL)";
+
+    private static final String SQL_INSERT = "INSERT INTO " + Tables.MO_MESSAGE_OUTBOX + " (" +
+            MoMessageOutboxColumns.MESSAGE_ID + ", " + MoMessageOutboxColumns.MESSAGE + ", " + MoMessageOutboxColumns.TIMESTAMP + ") VALUES (?, ?, ?)";
+
+    private static final String SQL_DELETE = "DELETE FROM " + Tables.MO_MESSAGE_OUTBOX + " WHERE " + MoMessageOutboxColumns.MESSAGE_ID + " = ?";
+
+    private final SqliteDatabaseProvider databaseProvider;
+
+    public MoMessageOutbox(SqliteDatabaseProvider databaseProvider) {
+        this.databaseProvider = databaseProvider;
+    }
+
+    /**
+     * Single message of the outbox
+     */
+    public static class Entry {
+        private final String messageId;
+        private final String message;
+        private final long timestamp;
+
+        public Entry(String messageId, String message, long timestamp) {
+            this.messageId = messageId;
+            this.message = message;
+            this.timestamp = timestamp;
+        }
+
+        public String getMessageId() {
+            return messageId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    /**
+     * Appends messages to the end of the outbox. Entries without id and ids already present in the outbox are ignored.
+     */
+    public void add(Collection<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement(SQL_INSERT);
+        try {
+            for (Entry entry : entries) {
+                if (entry.getMessageId() == null || entry.getMessage() == null) {
+                    continue;
+                }
+                statement.bindString(1, entry.getMessageId());
+                statement.bindString(2, entry.getMessage());
+                statement.bindLong(3, entry.getTimestamp());
+                statement.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Returns the oldest messages without removing them.
+     *
+     * @param limit maximum number of messages to return, all messages if not positive
+     * @return messages in insertion order
+     */
+    public List<Entry> peek(int limit) {
+        Cursor cursor = databaseProvider.getDatabase().query(Tables.MO_MESSAGE_OUTBOX,
+                new String[]{MoMessageOutboxColumns.MESSAGE_ID, MoMessageOutboxColumns.MESSAGE, MoMessageOutboxColumns.TIMESTAMP},
+                null, null, null, null, "rowid", limit > 0 ? String.valueOf(limit) : null);
+        return read(cursor);
+    }
+
+    /**
+     * Removes provided message ids from the outbox in one transaction.
+     */
+    public void remove(Collection<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement(SQL_DELETE);
+        try {
+            for (String messageId : messageIds) {
+                if (messageId == null) {
+                    continue;
+                }
+                statement.bindString(1, messageId);
+                statement.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes messages created before provided time.
+     *
+     * @param timestamp messages with older timestamp are removed
+     * @return removed messages
+     */
+    public List<Entry> expire(long timestamp) {
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        String selection = MoMessageOutboxColumns.TIMESTAMP + " < ?";
+        String selectionArgs[] = new String[]{String.valueOf(timestamp)};
+        db.beginTransaction();
+        try {
+            List<Entry> entries = read(db.query(Tables.MO_MESSAGE_OUTBOX,
+                    new String[]{MoMessageOutboxColumns.MESSAGE_ID, MoMessageOutboxColumns.MESSAGE, MoMessageOutboxColumns.TIMESTAMP},
+                    selection, selectionArgs, null, null, "rowid"));
+            if (!entries.isEmpty()) {
+                db.delete(Tables.MO_MESSAGE_OUTBOX, selection, selectionArgs);
+            }
+            db.setTransactionSuccessful();
+            return entries;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    public void clear() {
+        databaseProvider.getDatabase().delete(Tables.MO_MESSAGE_OUTBOX, null, null);
+    }
+
+    private static List<Entry> read(Cursor cursor) {
+        try {
+            List<Entry> entries = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                entries.add(new Entry(cursor.getString(0), cursor.getString(1), cursor.getLong(2)));
+            }
+            return entries;
+        } finally {
+            cursor.close();
+        }
+    }
+}
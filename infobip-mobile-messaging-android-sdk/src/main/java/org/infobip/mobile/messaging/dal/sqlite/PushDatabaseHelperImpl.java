@@ -4,14 +4,13 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.GeoAreaColumns;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
-import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +26,11 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
     static final int VER_2017_FEB_14 = 2; // Added separate table for geo messages
     static final int VER_2017_MAY_15 = 3; // Added "content_url" column to messages/geo_messages table
     static final int VER_2017_AUG_25 = 4; // Added "sendDateTime" to internal data (must be present for all messages)
-    private static final int VER_CURRENT = VER_2017_AUG_25;
+    static final int VER_2026_OCT_18_1 = 5; // Added indexes on received/seen timestamps to messages/geo_messages tables
+    static final int VER_2026_OCT_18_2 = 6; // Added message_id_queue table to replace message id sets in shared preferences
+    static final int VER_2026_OCT_18_3 = 7; // Added geo_areas table with areas of geo messages
+    static final int VER_2026_OCT_18_4 = 8; // Added mo_message_outbox table to replace outbox in shared preferences
+    private static final int VER_CURRENT = VER_2026_OCT_18_4;
 
     @SuppressWarnings("WeakerAccess")
     static final String DATABASE_NAME = "mm_infobip_database.db";
@@ -74,6 +77,34 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
     private static final String SQL_ALTER_TABLE_GEO_MESSAGES_WITH_CONTENT_URL = "ALTER TABLE "
             + Tables.GEO_MESSAGES + " ADD COLUMN " + MessageColumns.CONTENT_URL + " TEXT;";
 
+    private static final String[] SQL_CREATE_TIMESTAMP_INDEXES = {
+            createIndex(Tables.MESSAGES, MessageColumns.RECEIVED_TIMESTAMP, MessageColumns.MESSAGE_ID),
+            createIndex(Tables.MESSAGES, MessageColumns.SEEN_TIMESTAMP),
+            createIndex(Tables.GEO_MESSAGES, MessageColumns.RECEIVED_TIMESTAMP, MessageColumns.MESSAGE_ID),
+            createIndex(Tables.GEO_MESSAGES, MessageColumns.SEEN_TIMESTAMP)
+    };
+
+    private static final String[] SQL_CREATE_GEO_AREAS = {
+            "CREATE TABLE IF NOT EXISTS " + Tables.GEO_AREAS + " (" +
+                    GeoAreaColumns.AREA_ID + " TEXT NOT NULL COLLATE NOCASE, " +
+                    GeoAreaColumns.MESSAGE_ID + " TEXT NOT NULL, " +
+                    GeoAreaColumns.CAMPAIGN_ID + " TEXT, " +
+                    GeoAreaColumns.TITLE + " TEXT, " +
+                    GeoAreaColumns.LATITUDE + " REAL, " +
+                    GeoAreaColumns.LONGITUDE + " REAL, " +
+                    GeoAreaColumns.RADIUS + " INTEGER, " +
+                    GeoAreaColumns.START_TIME + " INTEGER, " +
+                    GeoAreaColumns.EXPIRY_TIME + " INTEGER, " +
+                    GeoAreaColumns.ENTRY_LIMIT + " INTEGER, " +
+                    GeoAreaColumns.ENTRY_TIMEOUT_MINUTES + " INTEGER, " +
+                    "PRIMARY KEY (" + GeoAreaColumns.AREA_ID + ", " + GeoAreaColumns.MESSAGE_ID + ") ON CONFLICT REPLACE)",
+            createIndex(Tables.GEO_AREAS, GeoAreaColumns.MESSAGE_ID),
+            createIndex(Tables.GEO_AREAS, GeoAreaColumns.EXPIRY_TIME),
+            // areas follow their messages on any delete, including deletes done by message store compactor
+            "CREATE TRIGGER IF NOT EXISTS trg_" + Tables.GEO_MESSAGES + "_delete_areas AFTER DELETE ON " + Tables.GEO_MESSAGES +
+                    " BEGIN DELETE FROM " + Tables.GEO_AREAS + " WHERE " + GeoAreaColumns.MESSAGE_ID + " = OLD." + MessageColumns.MESSAGE_ID + "; END"
+    };
+
     public PushDatabaseHelperImpl(Context context) {
         super(context, DATABASE_NAME, VER_CURRENT);
     }
@@ -85,122 +116,115 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
         db.execSQL(SQL_ALTER_TABLE_MESSAGES_WITH_CONTENT_URL);
         db.execSQL(SQL_CREATE_GEO_MESSAGES_TABLE);
         db.execSQL(SQL_ALTER_TABLE_GEO_MESSAGES_WITH_CONTENT_URL);
+        for (String sql : SQL_CREATE_TIMESTAMP_INDEXES) {
+            db.execSQL(sql);
+        }
+        db.execSQL(MessageIdQueue.SQL_CREATE_TABLE);
+        for (String sql : SQL_CREATE_GEO_AREAS) {
+            db.execSQL(sql);
+        }
+        db.execSQL(MoMessageOutbox.SQL_CREATE_TABLE);
         db.setTransactionSuccessful();
         db.endTransaction();
         SharedPreferencesMigrator.migrateMessages(context, db);
+        SharedPreferencesMigrator.migrateMessageIdQueues(context, db);
     }
 
     @Override
-    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        int version = oldVersion;
-        if (version <= VER_2017_JAN_12) {
-            db.execSQL(SQL_CREATE_GEO_MESSAGES_TABLE);
-            version = VER_2017_FEB_14;
-        }
-
-        if (version <= VER_2017_FEB_14) {
-            db.execSQL(SQL_ALTER_TABLE_MESSAGES_WITH_CONTENT_URL);
-            db.execSQL(SQL_ALTER_TABLE_GEO_MESSAGES_WITH_CONTENT_URL);
-            version = VER_2017_MAY_15;
+    public void onOpen(SQLiteDatabase db) {
+        super.onOpen(db);
+        if (!db.isReadOnly()) {
+            // create and upgrade transactions are committed at this point
+            SharedPreferencesMigrator.removeMigratedMessageIdQueues(context);
         }
+    }
 
-        if (version <= VER_2017_MAY_15) {
-            setSendDateTimeToReceivedTImeIfAbsent(db);
-            version = VER_2017_AUG_25;
-        }
+    @Override
+    protected List<Migration> getMigrations() {
+        return Arrays.asList(
+                new Migration(VER_2017_FEB_14, "geo_messages") {
+                    @Override
+                    public void migrateSchema(SQLiteDatabase db) {
+                        db.execSQL(SQL_CREATE_GEO_MESSAGES_TABLE);
+                    }
+                },
+                new Migration(VER_2017_MAY_15, "content_url") {
+                    @Override
+                    public void migrateSchema(SQLiteDatabase db) {
+                        db.execSQL(SQL_ALTER_TABLE_MESSAGES_WITH_CONTENT_URL);
+                        db.execSQL(SQL_ALTER_TABLE_GEO_MESSAGES_WITH_CONTENT_URL);
+                    }
+                },
+                new SendDateTimeMigration(),
+                new Migration(VER_2026_OCT_18_1, "timestamp_indexes") {
+                    @Override
+                    public void migrateSchema(SQLiteDatabase db) {
+                        for (String sql : SQL_CREATE_TIMESTAMP_INDEXES) {
+                            db.execSQL(sql);
+                        }
+                    }
+                },
+                new Migration(VER_2026_OCT_18_2, "message_id_queue") {
+                    @Override
+                    public void migrateSchema(SQLiteDatabase db) {
+                        db.execSQL(MessageIdQueue.SQL_CREATE_TABLE);
+                        SharedPreferencesMigrator.migrateMessageIdQueues(context, db);
+                    }
+                },
+                new Migration(VER_2026_OCT_18_3, "geo_areas") {
+                    @Override
+                    public void migrateSchema(SQLiteDatabase db) {
+                        // existing geo messages are indexed by geo module on first use, core cannot parse geo data
+                        for (String sql : SQL_CREATE_GEO_AREAS) {
+                            db.execSQL(sql);
+                        }
+                    }
+                },
+                new Migration(VER_2026_OCT_18_4, "mo_message_outbox") {
+                    @Override
+                    public void migrateSchema(SQLiteDatabase db) {
+                        // messages from outbox in shared preferences are moved by MoMessageSender after upgrade is committed
+                        db.execSQL(MoMessageOutbox.SQL_CREATE_TABLE);
+                    }
+                });
+    }
 
-        if (version != VER_CURRENT) {
-            MobileMessagingLogger.e("SQLite DB version is not what expected: " + VER_CURRENT);
+    private static String createIndex(String table, String... columns) {
+        StringBuilder name = new StringBuilder("idx_").append(table);
+        StringBuilder columnList = new StringBuilder();
+        for (String column : columns) {
+            name.append('_').append(column);
+            columnList.append(columnList.length() > 0 ? ", " : "").append(column);
         }
+        return "CREATE INDEX IF NOT EXISTS " + name + " ON " + table + " (" + columnList + ")";
     }
 
-    private void setSendDateTimeToReceivedTImeIfAbsent(SQLiteDatabase db) {
-        // Read existing data from database
-        class Message {
-            private String id;
-            private String title;
-            private String body;
-            private String sound;
-            private int vibrate;
-            private String icon;
-            private short silent;
-            private String category;
-            private String from;
-            private long receivedTimestamp;
-            private long seenTimestamp;
-            private String customPayload;
-            private String internalData;
-            private String contentUrl;
-            private String destination;
-            private String status;
-            private String statusMessage;
-        }
+    /**
+     * Sets "sendDateTime" in internal data of messages to received time if absent
+     */
+    private static class SendDateTimeMigration extends RowMigration {
 
-        Cursor cursor = db.rawQuery("SELECT * FROM messages", new String[0]);
-        List<Message> messages = new ArrayList<>();
-        if (cursor.moveToFirst()) {
-            do {
-                try {
-                    Message message = new Message();
-                    message.id = cursor.getString(cursor.getColumnIndexOrThrow("id"));
-                    message.title = cursor.getString(cursor.getColumnIndexOrThrow("title"));
-                    message.body = cursor.getString(cursor.getColumnIndexOrThrow("body"));
-                    message.sound = cursor.getString(cursor.getColumnIndexOrThrow("sound"));
-                    message.vibrate = cursor.getInt(cursor.getColumnIndexOrThrow("vibrate"));
-                    message.icon = cursor.getString(cursor.getColumnIndexOrThrow("icon"));
-                    message.silent = cursor.getShort(cursor.getColumnIndexOrThrow("silent"));
-                    message.category = cursor.getString(cursor.getColumnIndexOrThrow("category"));
-                    message.from = cursor.getString(cursor.getColumnIndexOrThrow("_from"));
-                    message.receivedTimestamp = cursor.getLong(cursor.getColumnIndexOrThrow("received_timestamp"));
-                    message.seenTimestamp = cursor.getLong(cursor.getColumnIndexOrThrow("seen_timestamp"));
-                    message.customPayload = cursor.getString(cursor.getColumnIndexOrThrow("custom_payload"));
-                    message.internalData = cursor.getString(cursor.getColumnIndexOrThrow("internal_data"));
-                    message.contentUrl = cursor.getString(cursor.getColumnIndexOrThrow("content_url"));
-                    message.destination = cursor.getString(cursor.getColumnIndexOrThrow("destination"));
-                    message.status = cursor.getString(cursor.getColumnIndexOrThrow("status"));
-                    message.statusMessage = cursor.getString(cursor.getColumnIndexOrThrow("status_message"));
-                    messages.add(message);
-                } catch (Exception e) {
-                    MobileMessagingLogger.e(Log.getStackTraceString(e));
-                }
-            } while (cursor.moveToNext());
-        }
-        cursor.close();
+        private final JsonSerializer serializer = new JsonSerializer(false);
 
-        JsonSerializer serializer = new JsonSerializer(false);
-        for (Message m : messages) {
+        SendDateTimeMigration() {
+            super(VER_2017_AUG_25, "send_date_time", Tables.MESSAGES, MessageColumns.INTERNAL_DATA, MessageColumns.RECEIVED_TIMESTAMP);
+        }
 
-            // Set sendDateTime in internalData if absent
-            Map internalDataMap = serializer.deserialize(m.internalData, HashMap.class);
+        @Override
+        public ContentValues migrateRow(Cursor cursor) {
+            Map internalDataMap = serializer.deserialize(cursor.getString(1), HashMap.class);
             if (internalDataMap == null) {
                 internalDataMap = new HashMap();
             }
-            if (!internalDataMap.containsKey("sendDateTime")) {
-                //noinspection unchecked
-                internalDataMap.put("sendDateTime", m.receivedTimestamp);
+            if (internalDataMap.containsKey("sendDateTime")) {
+                return null;
             }
-            m.internalData = serializer.serialize(internalDataMap);
-
-            // Save new data to database
-            ContentValues contentValues = new ContentValues();
-            contentValues.put("id", m.id);
-            contentValues.put("title", m.title);
-            contentValues.put("body", m.body);
-            contentValues.put("sound", m.sound);
-            contentValues.put("vibrate", m.vibrate);
-            contentValues.put("icon", m.icon);
-            contentValues.put("silent", m.silent);
-            contentValues.put("category", m.category);
-            contentValues.put("_from", m.from);
-            contentValues.put("received_timestamp", m.receivedTimestamp);
-            contentValues.put("seen_timestamp", m.seenTimestamp);
-            contentValues.put("custom_payload", m.customPayload);
-            contentValues.put("internal_data", m.internalData);
-            contentValues.put("content_url", m.contentUrl);
-            contentValues.put("destination", m.destination);
-            contentValues.put("status", m.status);
-            contentValues.put("status_message", m.statusMessage);
-            db.insertWithOnConflict("messages", null, contentValues, SQLiteDatabase.CONFLICT_REPLACE);
+
+            //noinspection unchecked
+            internalDataMap.put("sendDateTime", cursor.getLong(2));
+            ContentValues values = new ContentValues();
+            values.put(MessageColumns.INTERNAL_DATA, serializer.serialize(internalDataMap));
+            return values;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * Migration that rewrites existing rows of a table.
+ * Rows are read in rowid order in chunks after the upgrade transaction is committed,
+ * each chunk is written in its own transaction together with migration progress,
+ * so that interrupted migration continues from the last written chunk on next database open.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public abstract class RowMigration extends Migration {
+
+    private final String table;
+    private final String[] columns;
+
+    /**
+     * @param version database version that this migration upgrades to
+     * @param name    unique name of migration within database
+     * @param table   table to migrate
+     * @param columns columns that {@link #migrateRow(Cursor)} reads
+     */
+    protected RowMigration(int version, String name, String table, String... columns) {
+        super(version, name);
+        this.table = table;
+        this.columns = columns;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String[] getColumns() {
+        return columns;
+    }
+
+    /**
+     * Row migrations do not change schema by default
+     */
+    @Override
+    public void migrateSchema(SQLiteDatabase db) {
+    }
+
+    /**
+     * Migrates single row
+     *
+     * @param cursor cursor positioned at the row, contains columns provided in constructor
+     * @return values to update in the row or null if the row does not need to be changed
+     */
+    public abstract ContentValues migrateRow(Cursor cursor) throws Exception;
+}
@@ -1,10 +1,17 @@
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import android.content.ContentValues;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 
 import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageIdQueueColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.storage.SharedPreferencesMessageStore;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.List;
 
@@ -26,4 +33,63 @@ class SharedPreferencesMigrator {
             db.insert(SqliteMessage.getTable(), null, SqliteMessage.save(message));
         }
     }
+
+    private static final MobileMessagingProperty[] MESSAGE_ID_QUEUE_PROPERTIES = {
+            MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS,
+            MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS,
+            MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS
+    };
+
+    /**
+     * Copies message ids from string sets in shared preferences to {@link Tables#MESSAGE_ID_QUEUE}.
+     * Sync and seen ids were stored together with timestamp as "id, timestamp".
+     * Preferences are kept, since outer create or upgrade transaction may still roll back, see {@link #removeMigratedMessageIdQueues(Context)}.
+     */
+    static void migrateMessageIdQueues(Context context, SQLiteDatabase db) {
+        migrateMessageIdQueue(context, db, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, MessageIdQueue.UNREPORTED_DELIVERY);
+        migrateMessageIdQueue(context, db, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, MessageIdQueue.UNREPORTED_SEEN);
+        migrateMessageIdQueue(context, db, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, MessageIdQueue.SYNC);
+    }
+
+    /**
+     * Removes message id sets from shared preferences. Must be called only after transaction which copied them to database is committed,
+     * i.e. when database is opened.
+     */
+    static void removeMigratedMessageIdQueues(Context context) {
+        for (MobileMessagingProperty property : MESSAGE_ID_QUEUE_PROPERTIES) {
+            if (PreferenceHelper.contains(context, property)) {
+                PreferenceHelper.remove(context, property);
+            }
+        }
+    }
+
+    private static void migrateMessageIdQueue(Context context, SQLiteDatabase db, MobileMessagingProperty property, String queue) {
+        String[] values = PreferenceHelper.findStringArray(context, property);
+        if (values.length == 0) {
+            return;
+        }
+
+        db.beginTransaction();
+        try {
+            for (String value : values) {
+                String[] messageIdWithTimestamp = value.split(StringUtils.COMMA_WITH_SPACE);
+                long timestamp = Time.now();
+                if (messageIdWithTimestamp.length > 1) {
+                    try {
+                        timestamp = Long.valueOf(messageIdWithTimestamp[1]);
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+
+                ContentValues contentValues = new ContentValues();
+                contentValues.put(MessageIdQueueColumns.QUEUE, queue);
+                contentValues.put(MessageIdQueueColumns.MESSAGE_ID, messageIdWithTimestamp[0]);
+                contentValues.put(MessageIdQueueColumns.TIMESTAMP, timestamp);
+                db.insert(Tables.MESSAGE_ID_QUEUE, null, contentValues);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
 }
@@ -9,6 +9,8 @@ import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
 import org.json.JSONObject;
 
+import java.util.Arrays;
+
 /**
  * @author sslavin
  * @since 09/01/2017.
@@ -57,32 +59,152 @@ public class SqliteMessage extends Message implements DatabaseContract.DatabaseO
         return new SqliteMessage().getTableName();
     }
 
+    /**
+     * Returns mapper which resolves column indices once per cursor.
+     *
+     * @param projection columns to read, all columns if empty; fields of columns not in projection keep default values
+     * @return row mapper for messages, it throws {@link IllegalArgumentException} if cursor lacks a column of projection
+     */
+    public static DatabaseContract.RowMapper<Message> rowMapper(final String... projection) {
+        return new DatabaseContract.RowMapper<Message>() {
+            @Override
+            public String[] getProjection() {
+                return projection.length > 0 ? projection : null;
+            }
+
+            @Override
+            public DatabaseContract.RowReader<Message> prepare(Cursor cursor) {
+                final Columns columns = new Columns(cursor, projection);
+                return new DatabaseContract.RowReader<Message>() {
+                    @Override
+                    public Message read(Cursor cursor) throws Exception {
+                        SqliteMessage message = new SqliteMessage();
+                        message.fill(cursor, columns);
+                        return message;
+                    }
+                };
+            }
+        };
+    }
+
     @Override
     public void fillFromCursor(Cursor cursor) throws Exception {
-        setMessageId(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.MESSAGE_ID)));
-        setTitle(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.TITLE)));
-        setBody(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.BODY)));
-        setSound(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.SOUND)));
-        setVibrate(cursor.getInt(cursor.getColumnIndexOrThrow(MessageColumns.VIBRATE)) != 0);
-        setIcon(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.ICON)));
-        setSilent(cursor.getShort(cursor.getColumnIndexOrThrow(MessageColumns.SILENT)) != 0);
-        setCategory(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.CATEGORY)));
-        setFrom(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.FROM)));
-        setReceivedTimestamp(cursor.getLong(cursor.getColumnIndexOrThrow(MessageColumns.RECEIVED_TIMESTAMP)));
-        setSeenTimestamp(cursor.getLong(cursor.getColumnIndexOrThrow(MessageColumns.SEEN_TIMESTAMP)));
-        setContentUrl(cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.CONTENT_URL)));
-
-        String dataJson = cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.INTERNAL_DATA));
-        setInternalData(dataJson);
-        setSentTimestamp(InternalDataMapper.getInternalDataSendDateTime(dataJson));
-
-        dataJson = cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.CUSTOM_PAYLOAD));
-        setCustomPayload(dataJson == null ? null : new JSONObject(dataJson));
-
-        setDestination(cursor.getString(cursor.getColumnIndex(MessageColumns.DESTINATION)));
-        String statusName = cursor.getString(cursor.getColumnIndex(MessageColumns.STATUS));
-        setStatus(statusName != null ? Status.valueOf(statusName) : null);
-        setStatusMessage(cursor.getString(cursor.getColumnIndex(MessageColumns.STATUS_MESSAGE)));
+        fill(cursor, new Columns(cursor));
+    }
+
+    private void fill(Cursor cursor, Columns columns) throws Exception {
+        if (columns.messageId >= 0) {
+            setMessageId(cursor.getString(columns.messageId));
+        }
+        if (columns.title >= 0) {
+            setTitle(cursor.getString(columns.title));
+        }
+        if (columns.body >= 0) {
+            setBody(cursor.getString(columns.body));
+        }
+        if (columns.sound >= 0) {
+            setSound(cursor.getString(columns.sound));
+        }
+        if (columns.vibrate >= 0) {
+            setVibrate(cursor.getInt(columns.vibrate) != 0);
+        }
+        if (columns.icon >= 0) {
+            setIcon(cursor.getString(columns.icon));
+        }
+        if (columns.silent >= 0) {
+            setSilent(cursor.getShort(columns.silent) != 0);
+        }
+        if (columns.category >= 0) {
+            setCategory(cursor.getString(columns.category));
+        }
+        if (columns.from >= 0) {
+            setFrom(cursor.getString(columns.from));
+        }
+        if (columns.receivedTimestamp >= 0) {
+            setReceivedTimestamp(cursor.getLong(columns.receivedTimestamp));
+        }
+        if (columns.seenTimestamp >= 0) {
+            setSeenTimestamp(cursor.getLong(columns.seenTimestamp));
+        }
+        if (columns.contentUrl >= 0) {
+            setContentUrl(cursor.getString(columns.contentUrl));
+        }
+
+        if (columns.internalData >= 0) {
+            String dataJson = cursor.getString(columns.internalData);
+            setInternalData(dataJson);
+            setSentTimestamp(InternalDataMapper.getInternalDataSendDateTime(dataJson));
+        }
+
+        if (columns.customPayload >= 0) {
+            String dataJson = cursor.getString(columns.customPayload);
+            setCustomPayload(dataJson == null ? null : new JSONObject(dataJson));
+        }
+
+        if (columns.destination >= 0) {
+            setDestination(cursor.getString(columns.destination));
+        }
+        if (columns.status >= 0) {
+            String statusName = cursor.getString(columns.status);
+            setStatus(statusName != null ? Status.valueOf(statusName) : null);
+        }
+        if (columns.statusMessage >= 0) {
+            setStatusMessage(cursor.getString(columns.statusMessage));
+        }
+    }
+
+    /**
+     * Column indices of a cursor, -1 for columns which are not in projection
+     */
+    private static class Columns {
+        final int messageId;
+        final int title;
+        final int body;
+        final int sound;
+        final int vibrate;
+        final int icon;
+        final int silent;
+        final int category;
+        final int from;
+        final int receivedTimestamp;
+        final int seenTimestamp;
+        final int contentUrl;
+        final int internalData;
+        final int customPayload;
+        final int destination;
+        final int status;
+        final int statusMessage;
+
+        Columns(Cursor cursor) {
+            this(cursor, new String[0]);
+        }
+
+        Columns(Cursor cursor, String[] projection) {
+            messageId = index(cursor, projection, MessageColumns.MESSAGE_ID);
+            title = index(cursor, projection, MessageColumns.TITLE);
+            body = index(cursor, projection, MessageColumns.BODY);
+            sound = index(cursor, projection, MessageColumns.SOUND);
+            vibrate = index(cursor, projection, MessageColumns.VIBRATE);
+            icon = index(cursor, projection, MessageColumns.ICON);
+            silent = index(cursor, projection, MessageColumns.SILENT);
+            category = index(cursor, projection, MessageColumns.CATEGORY);
+            from = index(cursor, projection, MessageColumns.FROM);
+            receivedTimestamp = index(cursor, projection, MessageColumns.RECEIVED_TIMESTAMP);
+            seenTimestamp = index(cursor, projection, MessageColumns.SEEN_TIMESTAMP);
+            contentUrl = index(cursor, projection, MessageColumns.CONTENT_URL);
+            internalData = index(cursor, projection, MessageColumns.INTERNAL_DATA);
+            customPayload = index(cursor, projection, MessageColumns.CUSTOM_PAYLOAD);
+            destination = index(cursor, projection, MessageColumns.DESTINATION);
+            status = index(cursor, projection, MessageColumns.STATUS);
+            statusMessage = index(cursor, projection, MessageColumns.STATUS_MESSAGE);
+        }
+
+        private static int index(Cursor cursor, String[] projection, String column) {
+            if (projection.length > 0 && !Arrays.asList(projection).contains(column)) {
+                return -1;
+            }
+            return cursor.getColumnIndexOrThrow(column);
+        }
     }
 
     @Override
@@ -0,0 +1,77 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+import org.infobip.mobile.messaging.storage.MessageQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates {@link MessageQuery} to SQL for messages and geo messages tables.
+ * Ordering by received timestamp and id is covered by index created in {@link PushDatabaseHelperImpl}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class SqliteMessageQuery {
+
+    private final String selection;
+    private final String[] selectionArgs;
+    private final String orderBy;
+    private final int limit;
+
+    public SqliteMessageQuery(MessageQuery query) {
+        boolean ascending = query.getOrder() == MessageQuery.Order.OLDEST_FIRST;
+        List<String> conditions = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+
+        if (query.getSeen() != null) {
+            conditions.add(MessageColumns.SEEN_TIMESTAMP + (query.getSeen() ? " > 0" : " = 0"));
+        }
+        if (query.getStatus() != null) {
+            conditions.add(MessageColumns.STATUS + " = ?");
+            args.add(query.getStatus().name());
+        }
+        if (query.getCategory() != null) {
+            conditions.add(MessageColumns.CATEGORY + " = ?");
+            args.add(query.getCategory());
+        }
+        if (query.getAfterReceivedTimestamp() != null && query.getAfterMessageId() != null) {
+            String comparison = ascending ? " > ?" : " < ?";
+            conditions.add("(" + MessageColumns.RECEIVED_TIMESTAMP + comparison + " OR (" +
+                    MessageColumns.RECEIVED_TIMESTAMP + " = ? AND " + MessageColumns.MESSAGE_ID + comparison + "))");
+            String timestamp = String.valueOf(query.getAfterReceivedTimestamp());
+            args.add(timestamp);
+            args.add(timestamp);
+            args.add(query.getAfterMessageId());
+        }
+
+        StringBuilder selection = new StringBuilder();
+        for (String condition : conditions) {
+            selection.append(selection.length() > 0 ? " AND " : "").append(condition);
+        }
+
+        String direction = ascending ? " ASC" : " DESC";
+        this.selection = selection.length() > 0 ? selection.toString() : null;
+        this.selectionArgs = args.toArray(new String[args.size()]);
+        this.orderBy = MessageColumns.RECEIVED_TIMESTAMP + direction + ", " + MessageColumns.MESSAGE_ID + direction;
+        this.limit = query.getLimit();
+    }
+
+    public String getSelection() {
+        return selection;
+    }
+
+    public String[] getSelectionArgs() {
+        return selectionArgs;
+    }
+
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
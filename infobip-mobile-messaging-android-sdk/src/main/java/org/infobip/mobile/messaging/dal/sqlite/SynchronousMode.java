@@ -0,0 +1,26 @@
+package org.infobip.mobile.messaging.dal.sqlite;
+
+/**
+ * SQLite {@code synchronous} level for SDK databases. Databases use write-ahead logging,
+ * so {@link #NORMAL} keeps database consistent after a crash and only the last transactions may be lost on power failure.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public enum SynchronousMode {
+
+    /**
+     * Does not wait for data to reach storage, fastest but database may be corrupted on power failure
+     */
+    OFF,
+
+    /**
+     * Syncs only on checkpoints, recommended for write-ahead logging
+     */
+    NORMAL,
+
+    /**
+     * Syncs on every commit
+     */
+    FULL
+}
@@ -11,6 +11,8 @@ import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
 import org.infobip.mobile.messaging.util.StringUtils;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author mstipanov
  * @since 14.04.2016.
@@ -44,6 +46,7 @@ public class MobileMessageHandler {
             return;
         }
 
+        long startNanos = System.nanoTime();
         message.setReceivedTimestamp(Time.now());
         sendDeliveryReport(message);
 
@@ -61,6 +64,7 @@ public class MobileMessageHandler {
         if (!message.isSilent()) {
             notificationHandler.displayNotification(message);
         }
+        MobileMessagingLogger.d("Message " + message.getMessageId() + " handled in " + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos) + " us");
     }
 
     private void saveMessage(Message message) {
@@ -196,6 +196,8 @@ public class MobileMessagingGcmIntentService extends JobIntentService {
                 Message message = FCMMessageMapper.fromCloudBundle(intent.getExtras());
                 MobileMessagingLogger.v("RECEIVED MESSAGE FROM FCM", message);
                 mobileMessageHandler().handleMessage(message);
+                // notification is already displayed, make sure message is stored before the service stops
+                MobileMessagingCore.getInstance(this).getMessageStoreWrapper().flush();
                 break;
 
             case ACTION_TOKEN_CLEANUP:
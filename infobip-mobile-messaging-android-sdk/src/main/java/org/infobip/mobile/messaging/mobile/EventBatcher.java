@@ -0,0 +1,255 @@
+package org.infobip.mobile.messaging.mobile;
+
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.mobile.common.executor.TaskScope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Accumulates outbound events (delivery and seen reports, geo events etc.) and reports them in batches,
+ * so that bursts of events wake up radio once instead of once per event.
+ * <br>
+ * Events themselves are kept by their owners (i.e. unreported message ids in preferences), batcher only counts them per endpoint
+ * and runs flush action of the endpoint, which sends all accumulated events in one request. Batches are flushed:
+ * <ul>
+ * <li>when any endpoint reaches max batch size</li>
+ * <li>when max latency passes since the first event of the batch</li>
+ * <li>when application goes to background, see {@link #flushAll()}</li>
+ * </ul>
+ * All endpoints with pending events are flushed together, since radio is already awake. Endpoint has at most one flush in progress,
+ * flush is in progress until its action and all background tasks it started are done, see {@link TaskScope}.
+ * Events added while flush is in progress are flushed again when it finishes.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class EventBatcher {
+
+    public enum Reason {
+        SIZE,
+        LATENCY,
+        BACKGROUND
+    }
+
+    public interface Listener {
+        /**
+         * Called when flush of the endpoint starts
+         *
+         * @param endpoint name of the endpoint
+         * @param events   number of events in the batch
+         * @param reason   what triggered the flush
+         */
+        void onFlush(String endpoint, int events, Reason reason);
+
+        /**
+         * Called when flush action throws
+         *
+         * @param endpoint name of the endpoint
+         * @param error    thrown error
+         */
+        void onFlushFailed(String endpoint, Throwable error);
+    }
+
+    private static class Endpoint {
+        final String name;
+        volatile Runnable flushAction;
+        int pending;
+        boolean inFlight;
+        Reason flushAgainReason;
+
+        Endpoint(String name, Runnable flushAction) {
+            this.name = name;
+            this.flushAction = flushAction;
+        }
+    }
+
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final long maxLatencyMillis;
+    private final Listener listener;
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    private long timerGeneration;
+    private boolean timerScheduled;
+
+    /**
+     * @param executor         executor to run flush actions on
+     * @param maxBatchSize     number of pending events of an endpoint which triggers flush
+     * @param maxLatencyMillis maximum time an event waits for its batch
+     * @param listener         listener for flushes
+     */
+    public EventBatcher(Executor executor, int maxBatchSize, long maxLatencyMillis, Listener listener) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.listener = listener;
+    }
+
+    /**
+     * Registers endpoint or replaces its flush action
+     *
+     * @param endpoint    unique name of the endpoint
+     * @param flushAction action which reports all pending events of the endpoint
+     */
+    public synchronized void register(String endpoint, Runnable flushAction) {
+        Endpoint existing = endpoints.get(endpoint);
+        if (existing != null) {
+            existing.flushAction = flushAction;
+            return;
+        }
+        endpoints.put(endpoint, new Endpoint(endpoint, flushAction));
+    }
+
+    /**
+     * Adds events to the batch of the endpoint
+     *
+     * @param endpoint name of registered endpoint
+     * @param events   number of new events
+     * @throws IllegalArgumentException if endpoint is not registered
+     */
+    public void add(String endpoint, int events) {
+        List<Endpoint> toFlush;
+        synchronized (this) {
+            Endpoint target = endpoints.get(endpoint);
+            if (target == null) {
+                throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+            }
+
+            target.pending += events;
+            if (target.pending < maxBatchSize) {
+                scheduleTimer();
+                return;
+            }
+            toFlush = takeBatches(Reason.SIZE);
+        }
+
+        flush(toFlush, Reason.SIZE);
+    }
+
+    /**
+     * Flushes all pending events, i.e. when application goes to background
+     */
+    public void flushAll() {
+        List<Endpoint> toFlush;
+        synchronized (this) {
+            toFlush = takeBatches(Reason.BACKGROUND);
+        }
+        flush(toFlush, Reason.BACKGROUND);
+    }
+
+    /**
+     * @return number of pending events of the endpoint which are not yet being flushed
+     */
+    public synchronized int getPendingCount(String endpoint) {
+        Endpoint target = endpoints.get(endpoint);
+        return target != null ? target.pending : 0;
+    }
+
+    private void scheduleTimer() {
+        if (timerScheduled) {
+            return;
+        }
+
+        timerScheduled = true;
+        final long generation = ++timerGeneration;
+        SdkExecutors.get().schedule(executor, new Runnable() {
+            @Override
+            public void run() {
+                List<Endpoint> toFlush;
+                synchronized (EventBatcher.this) {
+                    if (generation != timerGeneration) {
+                        return;
+                    }
+                    toFlush = takeBatches(Reason.LATENCY);
+                }
+                flush(toFlush, Reason.LATENCY);
+            }
+        }, maxLatencyMillis);
+    }
+
+    /**
+     * Cancels timer and marks all endpoints with pending events as in flight,
+     * endpoints which are already in flight are flushed again as soon as they finish
+     */
+    private List<Endpoint> takeBatches(Reason reason) {
+        timerScheduled = false;
+        timerGeneration++;
+
+        List<Endpoint> toFlush = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.pending == 0) {
+                continue;
+            }
+
+            if (endpoint.inFlight) {
+                endpoint.flushAgainReason = reason;
+                continue;
+            }
+
+            endpoint.inFlight = true;
+            toFlush.add(endpoint);
+        }
+        return toFlush;
+    }
+
+    private void flush(List<Endpoint> toFlush, Reason reason) {
+        for (Endpoint endpoint : toFlush) {
+            int events;
+            synchronized (this) {
+                events = endpoint.pending;
+                endpoint.pending = 0;
+                endpoint.flushAgainReason = null;
+            }
+            listener.onFlush(endpoint.name, events, reason);
+            submit(endpoint);
+        }
+    }
+
+    private void submit(final Endpoint endpoint) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                TaskScope scope = new TaskScope(new TaskScope.Listener() {
+                    @Override
+                    public void onFinished(TaskScope scope) {
+                        onFlushFinished(endpoint);
+                    }
+                });
+
+                try {
+                    scope.run(endpoint.flushAction);
+                } catch (RuntimeException e) {
+                    listener.onFlushFailed(endpoint.name, e);
+                }
+            }
+        });
+    }
+
+    private void onFlushFinished(Endpoint endpoint) {
+        Reason reason;
+        synchronized (this) {
+            endpoint.inFlight = false;
+            if (endpoint.pending == 0) {
+                return;
+            }
+
+            reason = endpoint.flushAgainReason;
+            if (reason == null && endpoint.pending >= maxBatchSize) {
+                reason = Reason.SIZE;
+            }
+            if (reason == null) {
+                scheduleTimer();
+                return;
+            }
+            endpoint.inFlight = true;
+        }
+        flush(Collections.singletonList(endpoint), reason);
+    }
+}
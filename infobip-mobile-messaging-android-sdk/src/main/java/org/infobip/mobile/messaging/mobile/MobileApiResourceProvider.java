@@ -11,6 +11,10 @@ import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.registration.MobileApiRegistration;
 import org.infobip.mobile.messaging.api.support.CustomApiHeaders;
 import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.support.http.client.CircuitBreaker;
+import org.infobip.mobile.messaging.api.support.http.client.Http2Transport;
+import org.infobip.mobile.messaging.api.support.http.client.HttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.KeepAliveHttpTransport;
 import org.infobip.mobile.messaging.api.support.http.client.Logger;
 import org.infobip.mobile.messaging.api.support.http.client.Request;
 import org.infobip.mobile.messaging.api.support.http.client.RequestInterceptor;
@@ -31,6 +35,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author mstipanov
@@ -38,6 +43,8 @@ import java.util.Properties;
  */
 public class MobileApiResourceProvider {
 
+    private static final long GET_MEMOIZATION_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
     public class BaseUrlManager implements RequestInterceptor, ResponsePreProcessor {
 
         private final Context context;
@@ -191,11 +198,27 @@ public class MobileApiResourceProvider {
                 .withRequestInterceptors(baseUrlManager(context))
                 .withResponseHeaderInterceptors(baseUrlManager(context))
                 .withLogger(new AndroidHTTPLogger())
+                .withHttpTransport(httpTransport())
+                .withResponseCompression(true)
+                .withSingleFlight(true)
+                .withGetMemoization(GET_MEMOIZATION_MILLIS)
+                .withValidatorCache(new SharedPreferencesValidatorCache(context))
+                .withCircuitBreaker(CircuitBreaker.DEFAULT_FAILURE_THRESHOLD, CircuitBreaker.DEFAULT_OPEN_MILLIS)
                 .build();
 
         return generator;
     }
 
+    /**
+     * HTTP/2 multiplexes concurrent requests over one connection, but OkHttp is an optional dependency of the application
+     */
+    private static HttpTransport httpTransport() {
+        if (Http2Transport.isAvailable()) {
+            return new Http2Transport();
+        }
+        return new KeepAliveHttpTransport();
+    }
+
     private BaseUrlManager baseUrlManager(Context context) {
         if (mobileMessagingRequestInterceptor == null) {
             mobileMessagingRequestInterceptor = new BaseUrlManager(context);
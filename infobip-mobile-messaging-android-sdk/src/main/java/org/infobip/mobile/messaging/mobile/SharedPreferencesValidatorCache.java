@@ -0,0 +1,90 @@
+package org.infobip.mobile.messaging.mobile;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import org.infobip.mobile.messaging.MobileMessagingCore;
+import org.infobip.mobile.messaging.api.support.http.client.InMemoryValidatorCache;
+import org.infobip.mobile.messaging.api.support.http.client.ValidatorCache;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+
+/**
+ * Keeps validators and bodies of conditional responses in a separate shared preferences file,
+ * so that instance data can be revalidated after application restart.
+ * <p>
+ * Entries are encrypted. If saving of user data on disk is disabled, entries are kept in memory only.
+ * Number of entries is limited, the file is cleared when the limit is reached since only
+ * a few endpoints are fetched conditionally. Cache is cleared on logout and on cleanup, see {@link #clear(Context)}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class SharedPreferencesValidatorCache implements ValidatorCache {
+
+    private static final String PREFERENCES_NAME = "org.infobip.mobile.messaging.validators";
+    private static final int MAX_ENTRIES = 16;
+    private static final JsonSerializer serializer = new JsonSerializer(false);
+    private static final InMemoryValidatorCache memoryCache = new InMemoryValidatorCache(MAX_ENTRIES);
+
+    private final Context context;
+    private final SharedPreferences preferences;
+
+    public SharedPreferencesValidatorCache(Context context) {
+        this.context = context;
+        this.preferences = preferences(context);
+    }
+
+    @Override
+    public Entry get(String key) {
+        if (!MobileMessagingCore.getInstance(context).shouldSaveUserData()) {
+            return memoryCache.get(key);
+        }
+
+        String encrypted = preferences.getString(key, null);
+        if (encrypted == null) {
+            return null;
+        }
+
+        try {
+            return serializer.deserialize(PreferenceHelper.getCryptor(context).decrypt(encrypted), Entry.class);
+        } catch (Exception e) {
+            MobileMessagingLogger.w("Cannot read cached validators", e);
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, Entry entry) {
+        if (!MobileMessagingCore.getInstance(context).shouldSaveUserData()) {
+            memoryCache.put(key, entry);
+            return;
+        }
+
+        SharedPreferences.Editor editor = preferences.edit();
+        if (!preferences.contains(key) && preferences.getAll().size() >= MAX_ENTRIES) {
+            editor.clear();
+        }
+        editor.putString(key, PreferenceHelper.getCryptor(context).encrypt(serializer.serialize(entry))).apply();
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        memoryCache.remove(key);
+        preferences.edit().remove(key).apply();
+    }
+
+    /**
+     * Removes all cached validators and response bodies, both from disk and memory
+     */
+    public static void clear(Context context) {
+        memoryCache.clear();
+        preferences(context).edit().clear().apply();
+    }
+
+    private static SharedPreferences preferences(Context context) {
+        return context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+    }
+}
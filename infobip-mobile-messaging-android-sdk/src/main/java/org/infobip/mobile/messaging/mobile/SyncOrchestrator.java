@@ -0,0 +1,360 @@
+package org.infobip.mobile.messaging.mobile;
+
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.mobile.common.executor.TaskScope;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs synchronization steps as a dependency graph.
+ * <br>
+ * Step starts as soon as all steps it depends on are finished, independent steps run in parallel
+ * on the provided executor, which bounds concurrency. Step is finished when its action returns
+ * and all background tasks that the action started have delivered their results, see {@link TaskScope}.
+ * <br>
+ * Step that does not finish within the timeout is reported as failed and its dependents are started anyway.
+ * <br>
+ * Only one run is active at a time, run requested in the meantime is started after the active one finishes.
+ * <br>
+ * Work requested outside of a run can wait for a step of the active run with {@link #runAfter(String, Runnable)}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class SyncOrchestrator {
+
+    public interface Listener {
+        /**
+         * Called when step is finished without error, not called for failed steps
+         *
+         * @param step           name of the step
+         * @param startedAfterMs time from start of the run to start of the step
+         * @param durationMs     duration of the step
+         */
+        void onStepFinished(String step, long startedAfterMs, long durationMs);
+
+        /**
+         * Called when action of the step throws or step times out, step is considered finished.
+         * Step that throws is reported when background tasks it started before throwing are done.
+         *
+         * @param step  name of the step
+         * @param error thrown error
+         */
+        void onStepFailed(String step, Throwable error);
+
+        /**
+         * Called when all steps are finished
+         *
+         * @param durationMs total duration of the run
+         */
+        void onFinished(long durationMs);
+    }
+
+    public static class Step {
+        private final String name;
+        private final Runnable action;
+        private final List<String> dependencies;
+
+        /**
+         * @param name         unique name of the step
+         * @param action       action to run in background
+         * @param dependencies names of the steps that must finish before this one starts
+         */
+        public Step(String name, Runnable action, String... dependencies) {
+            this.name = name;
+            this.action = action;
+            this.dependencies = Arrays.asList(dependencies);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getDependencies() {
+            return dependencies;
+        }
+    }
+
+    private final Executor executor;
+    private final long stepTimeoutMillis;
+    private final Listener listener;
+    private Run activeRun;
+    private List<Step> nextSteps;
+
+    /**
+     * @param executor          executor to run step actions on
+     * @param stepTimeoutMillis time after which unfinished step is considered failed
+     * @param listener          listener for step timings
+     */
+    public SyncOrchestrator(Executor executor, long stepTimeoutMillis, Listener listener) {
+        this.executor = executor;
+        this.stepTimeoutMillis = stepTimeoutMillis;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts steps or schedules them after the active run
+     *
+     * @param steps steps to run
+     * @return true if run started immediately, false if it was scheduled after the active one
+     * @throws IllegalArgumentException if dependencies refer to unknown steps or contain cycle
+     */
+    public synchronized boolean run(List<Step> steps) {
+        Map<String, Step> stepsByName = validate(steps);
+        if (activeRun != null) {
+            nextSteps = steps;
+            return false;
+        }
+
+        activeRun = new Run(stepsByName);
+        activeRun.start();
+        return true;
+    }
+
+    /**
+     * Runs action after the step of the active run is finished. Action runs right away on the calling thread if there is no active run,
+     * the active run does not contain the step or the step is already finished. Otherwise it runs on the executor
+     * in the {@link TaskScope} of the caller, so that the caller still waits for it.
+     *
+     * @param step   name of the step to wait for
+     * @param action action to run
+     */
+    public void runAfter(String step, Runnable action) {
+        Run run;
+        synchronized (this) {
+            run = activeRun;
+        }
+
+        if (run == null || !run.defer(step, action)) {
+            action.run();
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return activeRun != null;
+    }
+
+    private synchronized void onRunFinished() {
+        activeRun = null;
+        if (nextSteps != null) {
+            List<Step> steps = nextSteps;
+            nextSteps = null;
+            run(steps);
+        }
+    }
+
+    private static Map<String, Step> validate(List<Step> steps) {
+        Map<String, Step> stepsByName = new LinkedHashMap<>();
+        for (Step step : steps) {
+            if (stepsByName.put(step.name, step) != null) {
+                throw new IllegalArgumentException("Duplicate sync step " + step.name);
+            }
+        }
+
+        Map<String, Integer> remaining = new HashMap<>();
+        List<String> ready = new ArrayList<>();
+        for (Step step : steps) {
+            for (String dependency : step.dependencies) {
+                if (!stepsByName.containsKey(dependency)) {
+                    throw new IllegalArgumentException("Sync step " + step.name + " depends on unknown step " + dependency);
+                }
+            }
+            remaining.put(step.name, step.dependencies.size());
+            if (step.dependencies.isEmpty()) {
+                ready.add(step.name);
+            }
+        }
+
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            String name = ready.remove(ready.size() - 1);
+            visited++;
+            for (Step step : steps) {
+                if (step.dependencies.contains(name) && remaining.put(step.name, remaining.get(step.name) - 1) == 1) {
+                    ready.add(step.name);
+                }
+            }
+        }
+
+        if (visited != steps.size()) {
+            throw new IllegalArgumentException("Sync steps contain dependency cycle");
+        }
+        return stepsByName;
+    }
+
+    private class Run {
+
+        private final Map<String, Step> steps;
+        private final Map<String, Integer> remainingDependencies = new HashMap<>();
+        private final long startNanos = System.nanoTime();
+        private final Set<String> finishedSteps = new HashSet<>();
+        private final Map<String, List<DeferredAction>> deferredActions = new HashMap<>();
+        private int unfinished;
+
+        Run(Map<String, Step> steps) {
+            this.steps = steps;
+            this.unfinished = steps.size();
+            for (Step step : steps.values()) {
+                remainingDependencies.put(step.name, step.dependencies.size());
+            }
+        }
+
+        void start() {
+            if (steps.isEmpty()) {
+                finish();
+                return;
+            }
+
+            for (Step step : steps.values()) {
+                if (step.dependencies.isEmpty()) {
+                    submit(step);
+                }
+            }
+        }
+
+        private void submit(final Step step) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    final long stepStartNanos = System.nanoTime();
+                    final AtomicBoolean done = new AtomicBoolean();
+                    final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+                    TaskScope scope = new TaskScope(new TaskScope.Listener() {
+                        @Override
+                        public void onFinished(TaskScope scope) {
+                            if (!done.compareAndSet(false, true)) {
+                                return;
+                            }
+
+                            RuntimeException error = failure.get();
+                            if (error != null) {
+                                listener.onStepFailed(step.name, error);
+                            } else {
+                                listener.onStepFinished(step.name, millis(stepStartNanos - startNanos), millis(System.nanoTime() - stepStartNanos));
+                            }
+                            onStepFinished(step);
+                        }
+                    });
+
+                    SdkExecutors.get().schedule(executor, new Runnable() {
+                        @Override
+                        public void run() {
+                            if (done.compareAndSet(false, true)) {
+                                listener.onStepFailed(step.name, new TimeoutException("Step did not finish in " + stepTimeoutMillis + " ms"));
+                                onStepFinished(step);
+                            }
+                        }
+                    }, stepTimeoutMillis);
+
+                    scope.run(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                step.action.run();
+                            } catch (RuntimeException e) {
+                                failure.set(e);
+                            }
+                        }
+                    });
+                }
+            });
+        }
+
+        /**
+         * @return false if action cannot wait for the step because the step is not part of this run or is already finished
+         */
+        synchronized boolean defer(String step, Runnable action) {
+            if (!steps.containsKey(step) || finishedSteps.contains(step)) {
+                return false;
+            }
+
+            List<DeferredAction> actions = deferredActions.get(step);
+            if (actions == null) {
+                actions = new ArrayList<>();
+                deferredActions.put(step, actions);
+            }
+            actions.add(new DeferredAction(action));
+            return true;
+        }
+
+        private void onStepFinished(Step finished) {
+            List<Step> ready = new ArrayList<>();
+            List<DeferredAction> deferred;
+            boolean last;
+            synchronized (this) {
+                finishedSteps.add(finished.name);
+                deferred = deferredActions.remove(finished.name);
+                for (Step step : steps.values()) {
+                    if (step.dependencies.contains(finished.name)) {
+                        int remaining = remainingDependencies.get(step.name) - 1;
+                        remainingDependencies.put(step.name, remaining);
+                        if (remaining == 0) {
+                            ready.add(step);
+                        }
+                    }
+                }
+                last = --unfinished == 0;
+            }
+
+            if (deferred != null) {
+                for (DeferredAction action : deferred) {
+                    executor.execute(action);
+                }
+            }
+            for (Step step : ready) {
+                submit(step);
+            }
+            if (last) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            listener.onFinished(millis(System.nanoTime() - startNanos));
+            onRunFinished();
+        }
+    }
+
+    /**
+     * Action waiting for a step, holds scope of the thread which requested it
+     */
+    private static class DeferredAction implements Runnable {
+
+        private final Runnable action;
+        private final TaskScope.Hold hold = new TaskScope.Hold();
+
+        DeferredAction(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            try {
+                TaskScope scope = hold.getScope();
+                if (scope == null) {
+                    action.run();
+                } else {
+                    scope.run(action);
+                }
+            } finally {
+                hold.release();
+            }
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -1,7 +1,5 @@
 package org.infobip.mobile.messaging.mobile.common;
 
-import android.annotation.SuppressLint;
-import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 
 import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
@@ -12,19 +10,24 @@ import org.infobip.mobile.messaging.mobile.common.exceptions.BackendCommunicatio
 import org.infobip.mobile.messaging.mobile.common.exceptions.BackendCommunicationExceptionWithContent;
 import org.infobip.mobile.messaging.mobile.common.exceptions.BackendInvalidParameterException;
 import org.infobip.mobile.messaging.mobile.common.exceptions.BackendInvalidParameterExceptionWithContent;
+import org.infobip.mobile.messaging.mobile.common.executor.Cancellable;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.mobile.common.executor.TaskScope;
+import org.infobip.mobile.messaging.platform.MainThreadDispatcher;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Executor;
 
 /**
- * Wrapper object over native AsyncTask
+ * Background task with callbacks on UI thread
  * for easier handling of background operations.
+ * Runs on {@link SdkExecutors} instead of the global AsyncTask executor shared with application.
  *
  * @author sslavin
  * @since 23/07/2017.
  */
-public abstract class MAsyncTask<IN, OUT> {
+public abstract class MAsyncTask<IN, OUT> implements Cancellable {
 
     private final static Set<String> invalidParameterErrorCodes = new HashSet<String>() {{
         add(ApiErrorCode.INVALID_MSISDN_FORMAT);
@@ -33,37 +36,65 @@ public abstract class MAsyncTask<IN, OUT> {
         add(ApiErrorCode.INVALID_BIRTHDATE_FORMAT);
     }};
 
-    @SuppressLint("StaticFieldLeak")
-    private final AsyncTask<IN, Void, ResultWrapper<IN, OUT>> asyncTask = new AsyncTask<IN, Void, ResultWrapper<IN, OUT>>() {
-        @Override
-        protected void onPreExecute() {
-            before();
+    private volatile boolean cancelled;
+
+    private class BackgroundTask implements Runnable, Cancellable {
+
+        private final IN[] ins;
+        private final MainThreadDispatcher dispatcher;
+        private final TaskScope.Hold scopeHold = new TaskScope.Hold();
+        private volatile boolean started;
+
+        BackgroundTask(IN[] ins, MainThreadDispatcher dispatcher) {
+            this.ins = ins;
+            this.dispatcher = dispatcher;
         }
 
         @Override
-        protected ResultWrapper<IN, OUT> doInBackground(IN[] ins) {
+        public void run() {
+            started = true;
+            if (isCancelled()) {
+                scopeHold.release();
+                return;
+            }
+
+            ResultWrapper<IN, OUT> resultWrapper;
             try {
-                return new ResultWrapper<>(run(ins));
+                resultWrapper = new ResultWrapper<>(MAsyncTask.this.run(ins));
             } catch (Throwable error) {
-                return new ResultWrapper<>(ins, error);
+                resultWrapper = new ResultWrapper<>(ins, error);
             }
+
+            final ResultWrapper<IN, OUT> result = resultWrapper;
+            dispatcher.dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        deliver(result);
+                    } finally {
+                        scopeHold.release();
+                    }
+                }
+            });
         }
 
         @Override
-        protected void onPostExecute(ResultWrapper<IN, OUT> resultWrapper) {
-            if (resultWrapper.error == null) {
-                after(resultWrapper.result);
-                return;
+        public void cancel() {
+            MAsyncTask.this.cancel();
+            if (!started) {
+                scopeHold.release();
             }
+        }
 
-            Throwable error = backendErrorToTaskError(resultWrapper.error);
-            error(error);
-            error(resultWrapper.inputs, error);
+        @Override
+        public boolean isCancelled() {
+            return MAsyncTask.this.isCancelled();
         }
-    };
+    }
 
     /**
-     * Executed on UI thread before background processing.
+     * Executed on the thread that calls {@link #execute(Executor, Object[])}, before background processing is submitted.
+     * Tasks started by SDK synchronizers call it on a background thread, UI work here is safe only if task is executed from UI thread.
      */
     public void before() {
     }
@@ -107,28 +138,62 @@ public abstract class MAsyncTask<IN, OUT> {
     }
 
     /**
-     * Starts execution of background task
+     * Starts execution of background task in the SDK I/O pool
      *
      * @param ins input parametes
      */
     @SuppressWarnings({"unused", "unchecked"})
     public void execute(IN... ins) {
-        asyncTask.execute(ins);
+        execute(SdkExecutors.get().io(), ins);
     }
 
     /**
      * Starts execution of background task with the provided executor
      *
-     * @param executor executor to use for task execution.
+     * @param executor executor to use for task execution, use {@link SdkExecutors#lane(SdkExecutors.Lane)} for tasks that must not overlap.
      * @param ins      input parameters.
      */
     @SuppressWarnings({"unused", "unchecked"})
     public void execute(Executor executor, IN... ins) {
-        asyncTask.executeOnExecutor(executor, ins);
+        if (isCancelled()) {
+            return;
+        }
+
+        before();
+        executor.execute(new BackgroundTask(ins, SdkExecutors.get().mainThread()));
+    }
+
+    /**
+     * Cancels the task. Background work is not started if it is still queued
+     * and neither {@link #after(Object)} nor error callbacks are executed afterwards.
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
     }
 
     // region private methods
 
+    private void deliver(ResultWrapper<IN, OUT> resultWrapper) {
+        if (isCancelled()) {
+            return;
+        }
+
+        if (resultWrapper.error == null) {
+            after(resultWrapper.result);
+            return;
+        }
+
+        Throwable error = backendErrorToTaskError(resultWrapper.error);
+        error(error);
+        error(resultWrapper.inputs, error);
+    }
+
     private static Throwable backendErrorToTaskError(Throwable originalError) {
         if (isInvalidParameterErrorWithContent(originalError)) {
             return new BackendInvalidParameterExceptionWithContent(originalError.getMessage(), (ApiBackendExceptionWithContent) originalError);
@@ -155,7 +220,8 @@ public abstract class MAsyncTask<IN, OUT> {
         }
 
         String errorCode = ((ApiIOException) error).getCode();
-        return DefaultApiClient.ErrorCode.UNKNOWN_API_BACKEND_ERROR.getValue().equals(errorCode);
+        return DefaultApiClient.ErrorCode.UNKNOWN_API_BACKEND_ERROR.getValue().equals(errorCode) ||
+                DefaultApiClient.ErrorCode.API_CIRCUIT_OPEN.getValue().equals(errorCode);
     }
 
     private static boolean isInvalidParameterError(@NonNull Throwable error) {
@@ -1,22 +1,37 @@
 package org.infobip.mobile.messaging.mobile.common;
 
 import org.infobip.mobile.messaging.mobile.common.exceptions.BackendCommunicationException;
+import org.infobip.mobile.messaging.platform.PendingRetryStore;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Retry policy with capped exponential backoff.
+ * <br>
+ * Delay before n-th retry is {@code backoffMultiplier * 2^(n-1)} seconds, limited by max delay.
+ * With jitter delay is picked at random between zero and that value ("full jitter"),
+ * so that devices which failed at the same time do not retry at the same time.
+ * Delay is never shorter than time requested by server with {@code Retry-After}.
+ *
  * @author sslavin
  * @since 24/07/2017.
  */
 
 public class MRetryPolicy {
 
+    public static final long DEFAULT_MAX_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
     private final Set<Class<? extends Throwable>> errorsToRetryOn = new HashSet<>();
 
     private int maxRetries = 1;
     private int backoffMultiplier = 0;
+    private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+    private boolean jitter = true;
+    private PendingRetryStore pendingRetryStore;
     private MRetryPolicy() {
         errorsToRetryOn.add(BackendCommunicationException.class);
     }
@@ -30,6 +45,25 @@ public class MRetryPolicy {
         return false;
     }
 
+    /**
+     * @param attempt          number of the retry, starting from 1
+     * @param retryAfterMillis delay requested by server, 0 if none
+     * @param random           source of jitter
+     * @return delay before the retry in milliseconds
+     */
+    long delayMillis(int attempt, long retryAfterMillis, Random random) {
+        long backoffMillis = TimeUnit.SECONDS.toMillis(backoffMultiplier);
+        for (int i = 1; i < attempt && backoffMillis < maxDelayMillis; i++) {
+            backoffMillis *= 2;
+        }
+        backoffMillis = Math.min(backoffMillis, maxDelayMillis);
+
+        if (jitter && backoffMillis > 0) {
+            backoffMillis = (long) (random.nextDouble() * (backoffMillis + 1));
+        }
+        return Math.max(backoffMillis, retryAfterMillis);
+    }
+
     public int getMaxRetries() {
         return maxRetries;
     }
@@ -38,6 +72,18 @@ public class MRetryPolicy {
         return backoffMultiplier;
     }
 
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public boolean isJitter() {
+        return jitter;
+    }
+
+    public PendingRetryStore getPendingRetryStore() {
+        return pendingRetryStore;
+    }
+
     public Set<Class<? extends Throwable>> getErrorsToRetryOn() {
         return errorsToRetryOn;
     }
@@ -56,6 +102,28 @@ public class MRetryPolicy {
             return this;
         }
 
+        public Builder withMaxDelay(long maxDelayMillis) {
+            retryPolicy.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        public Builder withJitter(boolean jitter) {
+            retryPolicy.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Makes scheduled retries durable, store is notified about each retry so that it can
+         * resume work if process dies before the retry runs
+         *
+         * @param pendingRetryStore store of pending retries
+         * @return builder
+         */
+        public Builder withPendingRetryStore(PendingRetryStore pendingRetryStore) {
+            retryPolicy.pendingRetryStore = pendingRetryStore;
+            return this;
+        }
+
         @SafeVarargs
         public final Builder withRetryOn(Class<? extends Throwable>... errorsTypes) {
             retryPolicy.errorsToRetryOn.clear();
@@ -1,33 +1,49 @@
 package org.infobip.mobile.messaging.mobile.common;
 
-import android.os.Handler;
-import android.os.Looper;
 import android.support.annotation.Nullable;
 
+import org.infobip.mobile.messaging.api.support.ApiIOException;
+import org.infobip.mobile.messaging.mobile.common.executor.Cancellable;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.mobile.common.executor.TaskScope;
+import org.infobip.mobile.messaging.platform.PendingRetryStore;
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.Random;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Background task that is retried according to {@link MRetryPolicy}.
+ * Retries are scheduled with {@link SdkExecutors#schedule(Executor, Runnable, long)} on the same executor,
+ * so cancelling the lane also cancels pending retries.
+ * Retries stay in the {@link TaskScope} of the first attempt.
+ * Retries wait at least as long as server requested with {@code Retry-After} and are reported to
+ * {@link PendingRetryStore} of the policy while they wait.
+ *
  * @author sslavin
  * @since 23/07/2017.
  */
 
-public abstract class MRetryableTask<IN, OUT> {
+public abstract class MRetryableTask<IN, OUT> implements Cancellable {
 
-    private final Handler handler = new Handler(Looper.getMainLooper());
+    private static final Random random = new Random();
 
     private volatile ExecutionContext executionContext;
+    private volatile boolean cancelled;
     private MRetryPolicy retryPolicy;
 
     private class ExecutionContext {
         final Executor executor;
         final IN args[];
         final MRetryPolicy retryPolicy;
+        final TaskScope scope;
         int attempts;
 
         ExecutionContext(Executor executor, IN args[], MRetryPolicy retryPolicy) {
-            this.executor = executor;
+            this.executor = executor != null ? executor : SdkExecutors.get().io();
             this.args = args;
+            this.scope = TaskScope.current();
             if (retryPolicy == null) {
                 this.retryPolicy = new MRetryPolicy.Builder().build();
             } else {
@@ -37,7 +53,7 @@ public abstract class MRetryableTask<IN, OUT> {
     }
 
     /**
-     * Executed on UI thread before background processing.
+     * Executed on the thread that calls {@link #execute(Executor, Object[])}, before the first attempt only.
      */
     public void before() {
     }
@@ -89,6 +105,19 @@ public abstract class MRetryableTask<IN, OUT> {
         return this;
     }
 
+    /**
+     * Cancels current attempt and all further retries, no callbacks are executed afterwards
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
     @SafeVarargs
     public final void execute(IN... ins) {
         executionContext = new ExecutionContext(null, ins, retryPolicy);
@@ -102,8 +131,22 @@ public abstract class MRetryableTask<IN, OUT> {
     }
 
     private void execute() {
+        if (cancelled) {
+            return;
+        }
+
         MAsyncTask<IN, OUT> asyncTask = new MAsyncTask<IN, OUT>() {
 
+            @Override
+            public boolean isCancelled() {
+                return super.isCancelled() || MRetryableTask.this.isCancelled();
+            }
+
+            @Override
+            public void cancel() {
+                MRetryableTask.this.cancel();
+            }
+
             @Override
             public void before() {
                 if (executionContext.attempts > 0) {
@@ -133,19 +176,76 @@ public abstract class MRetryableTask<IN, OUT> {
                 }
 
                 executionContext.attempts++;
-                handler.postDelayed(new Runnable() {
-                    @Override
-                    public void run() {
-                        MRetryableTask.this.execute();
-                    }
-                }, TimeUnit.SECONDS.toMillis(executionContext.attempts * executionContext.attempts * executionContext.retryPolicy.getBackoffMultiplier()));
+                long delayMillis = executionContext.retryPolicy.delayMillis(executionContext.attempts, retryAfterMillis(error), random);
+                SdkExecutors.get().schedule(executionContext.executor,
+                        new RetryTask(executionContext.scope, executionContext.retryPolicy.getPendingRetryStore(), Time.now() + delayMillis),
+                        delayMillis);
             }
         };
 
-        if (executionContext.executor != null) {
-            asyncTask.execute(executionContext.executor, executionContext.args);
-        } else {
-            asyncTask.execute(executionContext.args);
+        asyncTask.execute(executionContext.executor, executionContext.args);
+    }
+
+    private static long retryAfterMillis(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiIOException) {
+                return ((ApiIOException) cause).getRetryAfterMillis();
+            }
+        }
+        return 0;
+    }
+
+    private class RetryTask implements Runnable, Cancellable {
+
+        private final TaskScope.Hold hold;
+        private final PendingRetryStore pendingRetryStore;
+        private final long retryAtMillis;
+        private final AtomicBoolean pending = new AtomicBoolean(true);
+
+        RetryTask(TaskScope scope, PendingRetryStore pendingRetryStore, long retryAtMillis) {
+            this.hold = new TaskScope.Hold(scope);
+            this.pendingRetryStore = pendingRetryStore;
+            this.retryAtMillis = retryAtMillis;
+            if (pendingRetryStore != null) {
+                pendingRetryStore.add(retryAtMillis);
+            }
+        }
+
+        @Override
+        public void run() {
+            // retry is not pending anymore once its attempt starts
+            dequeue();
+            TaskScope scope = hold.getScope();
+            if (scope == null) {
+                MRetryableTask.this.execute();
+                return;
+            }
+
+            scope.run(new Runnable() {
+                @Override
+                public void run() {
+                    MRetryableTask.this.execute();
+                }
+            });
+            hold.release();
+        }
+
+        @Override
+        public void cancel() {
+            MRetryableTask.this.cancel();
+            hold.release();
+            dequeue();
+        }
+
+        private void dequeue() {
+            if (pendingRetryStore != null && pending.compareAndSet(true, false)) {
+                pendingRetryStore.remove(retryAtMillis);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return MRetryableTask.this.isCancelled();
         }
     }
 }
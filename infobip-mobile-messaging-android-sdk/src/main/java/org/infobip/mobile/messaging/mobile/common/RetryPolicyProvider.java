@@ -5,6 +5,7 @@ import android.content.Context;
 import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.mobile.common.exceptions.BackendCommunicationException;
 import org.infobip.mobile.messaging.mobile.common.exceptions.BackendCommunicationExceptionWithContent;
+import org.infobip.mobile.messaging.platform.AndroidPendingRetryStore;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 
 /**
@@ -23,6 +24,7 @@ public class RetryPolicyProvider {
                 .withBackoffMultiplier(PreferenceHelper.findInt(context, MobileMessagingProperty.DEFAULT_EXP_BACKOFF_MULTIPLIER))
                 .withMaxRetries(PreferenceHelper.findInt(context, MobileMessagingProperty.DEFAULT_MAX_RETRY_COUNT))
                 .withRetryOn(BackendCommunicationException.class, BackendCommunicationExceptionWithContent.class)
+                .withPendingRetryStore(AndroidPendingRetryStore.getInstance(context))
                 .build();
         this.oneRetryPolicy = new MRetryPolicy.Builder()
                 .withMaxRetries(1)
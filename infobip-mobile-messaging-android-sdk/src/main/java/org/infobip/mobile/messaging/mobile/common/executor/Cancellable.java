@@ -0,0 +1,16 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+/**
+ * Task that can be cancelled by the lane it was submitted to.
+ * Cancelled task shall not start background work and shall not deliver any callbacks.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public interface Cancellable {
+
+    void cancel();
+
+    boolean isCancelled();
+}
@@ -0,0 +1,140 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue depth and latency counters of a single executor.
+ * Wait time is measured from submission to start of the task, run time from start to end of the task.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class ExecutorMetrics {
+
+    private final String name;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalRunNanos = new AtomicLong();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    ExecutorMetrics(String name) {
+        this.name = name;
+    }
+
+    void onSubmitted() {
+        submitted.incrementAndGet();
+        updateMax(maxQueueDepth, queueDepth.incrementAndGet());
+    }
+
+    void onStarted(long waitNanos) {
+        queueDepth.decrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        updateMax(maxWaitNanos, waitNanos);
+    }
+
+    void onFinished(long runNanos) {
+        completed.incrementAndGet();
+        totalRunNanos.addAndGet(runNanos);
+        updateMax(maxRunNanos, runNanos);
+    }
+
+    void onCancelled() {
+        queueDepth.decrementAndGet();
+        cancelled.incrementAndGet();
+    }
+
+    void onRejected() {
+        rejected.incrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of tasks submitted but not yet started
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * @return number of tasks removed from queue by cancellation
+     */
+    public long getCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * @return number of times a task did not fit into full queue and was offered again later
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getAverageWaitMillis() {
+        return average(totalWaitNanos.get(), completed.get());
+    }
+
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    public long getAverageRunMillis() {
+        return average(totalRunNanos.get(), completed.get());
+    }
+
+    public long getMaxRunMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRunNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%s: queued %d (max %d), completed %d, cancelled %d, rejected %d, wait %d ms (max %d ms), run %d ms (max %d ms)",
+                name, getQueueDepth(), getMaxQueueDepth(), getCompleted(), getCancelled(), getRejected(),
+                getAverageWaitMillis(), getMaxWaitMillis(), getAverageRunMillis(), getMaxRunMillis());
+    }
+
+    private static long average(long totalNanos, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+    }
+
+    private static void updateMax(AtomicInteger max, int value) {
+        int current;
+        do {
+            current = max.get();
+        } while (value > current && !max.compareAndSet(current, value));
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        do {
+            current = max.get();
+        } while (value > current && !max.compareAndSet(current, value));
+    }
+}
@@ -0,0 +1,47 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+/**
+ * Records wait and run time of a submitted task.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+class MeteredTask implements Runnable {
+
+    private final Runnable runnable;
+    private final ExecutorMetrics metrics;
+    private final long submittedNanos;
+
+    MeteredTask(Runnable runnable, ExecutorMetrics metrics) {
+        this.runnable = runnable;
+        this.metrics = metrics;
+        this.submittedNanos = System.nanoTime();
+        metrics.onSubmitted();
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        metrics.onStarted(start - submittedNanos);
+        try {
+            runnable.run();
+        } finally {
+            metrics.onFinished(System.nanoTime() - start);
+        }
+    }
+
+    Runnable getRunnable() {
+        return runnable;
+    }
+
+    /**
+     * Cancels task that has not started yet
+     */
+    void cancel() {
+        if (runnable instanceof Cancellable) {
+            ((Cancellable) runnable).cancel();
+        }
+        metrics.onCancelled();
+    }
+}
@@ -0,0 +1,224 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+import org.infobip.mobile.messaging.platform.AndroidMainThreadDispatcher;
+import org.infobip.mobile.messaging.platform.MainThreadDispatcher;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Task runtime owned by the SDK, so that background work does not compete with application tasks in the global AsyncTask executor.
+ * <ul>
+ * <li>bounded I/O pool of {@value #IO_POOL_SIZE} threads for independent tasks, with a queue of {@value #IO_QUEUE_CAPACITY} tasks;
+ * tasks that do not fit are offered again after a short delay, so they are neither lost nor run on the caller thread</li>
+ * <li>serial {@link Lane}s on top of the same pool for tasks that must not overlap</li>
+ * <li>scheduler for delayed tasks such as retries</li>
+ * <li>{@link MainThreadDispatcher} for callbacks</li>
+ * </ul>
+ * Does not depend on Android apart from the default dispatcher, use {@link #reset(SdkExecutors)} to run on JVM.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class SdkExecutors {
+
+    static final int IO_POOL_SIZE = 4;
+    static final int IO_QUEUE_CAPACITY = 128;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final long REJECTED_RETRY_DELAY_MILLIS = 100;
+
+    public enum Lane {
+        REGISTRATION,
+        MESSAGES,
+        GEO,
+        CHAT
+    }
+
+    private static SdkExecutors instance;
+
+    private final ThreadPoolExecutor pool;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final MainThreadDispatcher mainThreadDispatcher;
+    private final ExecutorMetrics ioMetrics = new ExecutorMetrics("io");
+    private final Map<Lane, SerialLane> lanes = new EnumMap<>(Lane.class);
+    private final List<SerialLane> namedLanes = new CopyOnWriteArrayList<>();
+    private final Executor io = new Executor() {
+        @Override
+        public void execute(Runnable runnable) {
+            pool.execute(new MeteredTask(runnable, ioMetrics));
+        }
+    };
+
+    public SdkExecutors(MainThreadDispatcher mainThreadDispatcher) {
+        this.mainThreadDispatcher = mainThreadDispatcher;
+        this.pool = new ThreadPoolExecutor(IO_POOL_SIZE, IO_POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(IO_QUEUE_CAPACITY), threadFactory("mm-io"), new RejectedExecutionHandler() {
+            @Override
+            public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                executeLater(runnable, executor);
+            }
+        });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory("mm-scheduler"));
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new SerialLane(lane.name().toLowerCase(Locale.US), pool, scheduler));
+        }
+    }
+
+    public static synchronized SdkExecutors get() {
+        if (instance == null) {
+            instance = new SdkExecutors(new AndroidMainThreadDispatcher());
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces default runtime, previous one is shut down
+     *
+     * @param executors new runtime
+     */
+    public static synchronized void reset(SdkExecutors executors) {
+        if (instance != null && instance != executors) {
+            instance.shutdown();
+        }
+        instance = executors;
+    }
+
+    /**
+     * @return executor for independent background tasks
+     */
+    public Executor io() {
+        return io;
+    }
+
+    /**
+     * @param lane concern of the tasks
+     * @return serial executor of the lane
+     */
+    public SerialLane lane(Lane lane) {
+        return lanes.get(lane);
+    }
+
+    /**
+     * Creates additional serial lane on the shared pool, for components
+     * that must not overlap with themselves but may run in parallel with each other.
+     * Created lanes are cancelled by {@link #cancelAll()}.
+     *
+     * @param name name of the lane for metrics
+     * @return new serial executor
+     */
+    public SerialLane newLane(String name) {
+        SerialLane lane = new SerialLane(name, pool, scheduler);
+        namedLanes.add(lane);
+        return lane;
+    }
+
+    public MainThreadDispatcher mainThread() {
+        return mainThreadDispatcher;
+    }
+
+    /**
+     * Submits task to the executor after the provided delay.
+     * Delayed tasks of {@link SerialLane}s are cancelled together with the lane.
+     *
+     * @param executor    target executor
+     * @param runnable    task to execute
+     * @param delayMillis delay in milliseconds
+     */
+    public void schedule(final Executor executor, final Runnable runnable, long delayMillis) {
+        if (executor instanceof SerialLane) {
+            ((SerialLane) executor).schedule(runnable, delayMillis);
+            return;
+        }
+
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                executor.execute(runnable);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels queued, delayed and running tasks of all lanes
+     *
+     * @return number of tasks that were removed before they started
+     */
+    public int cancelAll() {
+        int cancelled = 0;
+        for (SerialLane lane : lanes.values()) {
+            cancelled += lane.cancel();
+        }
+        for (SerialLane lane : namedLanes) {
+            cancelled += lane.cancel();
+        }
+        return cancelled;
+    }
+
+    /**
+     * @return metrics of the I/O pool followed by metrics of each lane and each named lane
+     */
+    public List<ExecutorMetrics> getMetrics() {
+        List<ExecutorMetrics> metrics = new ArrayList<>();
+        metrics.add(ioMetrics);
+        for (SerialLane lane : lanes.values()) {
+            metrics.add(lane.getMetrics());
+        }
+        for (SerialLane lane : namedLanes) {
+            metrics.add(lane.getMetrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * Offers task rejected by full pool queue again after a delay, caller may be the main thread so task is not run there
+     */
+    private void executeLater(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown() || scheduler.isShutdown()) {
+            return;
+        }
+
+        ioMetrics.onRejected();
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (!executor.isShutdown()) {
+                    executor.execute(runnable);
+                }
+            }
+        }, REJECTED_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        cancelAll();
+        scheduler.shutdownNow();
+        pool.shutdown();
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        return new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes tasks one at a time in submission order on a shared pool.
+ * <br>
+ * Lane is also a cancellation scope: {@link #cancel()} drops queued and delayed tasks
+ * and cancels the running one if it implements {@link Cancellable}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class SerialLane implements Executor {
+
+    private final Executor pool;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorMetrics metrics;
+    private final ArrayDeque<MeteredTask> tasks = new ArrayDeque<>();
+    private final Set<DelayedTask> delayedTasks = new HashSet<>();
+    private MeteredTask active;
+
+    private class DelayedTask implements Runnable {
+        final Runnable runnable;
+        volatile ScheduledFuture<?> future;
+
+        DelayedTask(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            synchronized (SerialLane.this) {
+                if (!delayedTasks.remove(this)) {
+                    return;
+                }
+            }
+            execute(runnable);
+        }
+    }
+
+    SerialLane(String name, Executor pool, ScheduledExecutorService scheduler) {
+        this.pool = pool;
+        this.scheduler = scheduler;
+        this.metrics = new ExecutorMetrics(name);
+    }
+
+    @Override
+    public synchronized void execute(Runnable runnable) {
+        tasks.offer(new MeteredTask(runnable, metrics));
+        if (active == null) {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Submits task to this lane after the provided delay
+     *
+     * @param runnable    task to execute
+     * @param delayMillis delay in milliseconds
+     */
+    public void schedule(Runnable runnable, long delayMillis) {
+        DelayedTask delayedTask = new DelayedTask(runnable);
+        synchronized (this) {
+            delayedTasks.add(delayedTask);
+        }
+        delayedTask.future = scheduler.schedule(delayedTask, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels all queued and delayed tasks and the running task.
+     * Running task is only notified if it implements {@link Cancellable}, it is not interrupted.
+     *
+     * @return number of tasks that were removed before they started
+     */
+    public synchronized int cancel() {
+        int cancelled = tasks.size() + delayedTasks.size();
+        for (MeteredTask task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
+
+        for (DelayedTask delayedTask : delayedTasks) {
+            if (delayedTask.future != null) {
+                delayedTask.future.cancel(false);
+            }
+            if (delayedTask.runnable instanceof Cancellable) {
+                ((Cancellable) delayedTask.runnable).cancel();
+            }
+        }
+        delayedTasks.clear();
+
+        if (active != null && active.getRunnable() instanceof Cancellable) {
+            ((Cancellable) active.getRunnable()).cancel();
+        }
+        return cancelled;
+    }
+
+    public ExecutorMetrics getMetrics() {
+        return metrics;
+    }
+
+    private synchronized void scheduleNext() {
+        active = tasks.poll();
+        if (active == null) {
+            return;
+        }
+
+        final MeteredTask task = active;
+        pool.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks completion of an action together with all background tasks it started.
+ * <br>
+ * Tasks started by {@link org.infobip.mobile.messaging.mobile.common.MAsyncTask} and
+ * {@link org.infobip.mobile.messaging.mobile.common.MRetryableTask} while the scope is current
+ * {@link #enter()} the scope and {@link #exit()} it after their callbacks are delivered, retries included.
+ * Scope finishes when the action and all such tasks are done.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class TaskScope {
+
+    public interface Listener {
+        void onFinished(TaskScope scope);
+    }
+
+    private static final ThreadLocal<TaskScope> current = new ThreadLocal<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final Listener listener;
+
+    public TaskScope(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return scope of the action running on current thread or null
+     */
+    public static TaskScope current() {
+        return current.get();
+    }
+
+    /**
+     * Runs action on current thread with this scope as current
+     *
+     * @param action action to run
+     */
+    public void run(Runnable action) {
+        enter();
+        TaskScope previous = current.get();
+        current.set(this);
+        try {
+            action.run();
+        } finally {
+            current.set(previous);
+            exit();
+        }
+    }
+
+    public void enter() {
+        pending.incrementAndGet();
+    }
+
+    public void exit() {
+        if (pending.decrementAndGet() == 0 && finished.compareAndSet(false, true)) {
+            listener.onFinished(this);
+        }
+    }
+
+    public boolean isFinished() {
+        return finished.get();
+    }
+
+    /**
+     * Holds scope of the current thread until released, releases at most once
+     */
+    public static class Hold {
+
+        private final TaskScope scope;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        public Hold() {
+            this(current());
+        }
+
+        public Hold(TaskScope scope) {
+            this.scope = scope;
+            if (scope != null) {
+                scope.enter();
+            }
+        }
+
+        public TaskScope getScope() {
+            return scope;
+        }
+
+        public void release() {
+            if (scope != null && released.compareAndSet(false, true)) {
+                scope.exit();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.infobip.mobile.messaging.mobile.messages;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency counters of mobile originated message outbox.
+ * Request time is measured from start to end of a batch including retries,
+ * delivery latency from creation of a message to its successful delivery.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class MoMessageMetrics {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong batchesSent = new AtomicLong();
+    private final AtomicLong batchesFailed = new AtomicLong();
+    private final AtomicLong messagesSent = new AtomicLong();
+    private final AtomicLong messagesFailed = new AtomicLong();
+    private final AtomicLong messagesExpired = new AtomicLong();
+    private final AtomicLong totalRequestNanos = new AtomicLong();
+    private final AtomicLong maxRequestNanos = new AtomicLong();
+    private final AtomicLong totalLatencyMillis = new AtomicLong();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+    private final AtomicLong firstBatchStartedNanos = new AtomicLong();
+    private final AtomicLong lastBatchFinishedNanos = new AtomicLong();
+
+    MoMessageMetrics() {
+    }
+
+    void onBatchStarted(long startedNanos) {
+        firstBatchStartedNanos.compareAndSet(0, startedNanos);
+        updateMax(maxInFlight, inFlight.incrementAndGet());
+    }
+
+    void onBatchSent(long startedNanos, long finishedNanos, long latenciesMillis[]) {
+        inFlight.decrementAndGet();
+        batchesSent.incrementAndGet();
+        messagesSent.addAndGet(latenciesMillis.length);
+        onRequestFinished(startedNanos, finishedNanos);
+        for (long latencyMillis : latenciesMillis) {
+            totalLatencyMillis.addAndGet(latencyMillis);
+            updateMax(maxLatencyMillis, latencyMillis);
+        }
+    }
+
+    void onBatchFailed(long startedNanos, long finishedNanos, int messages) {
+        inFlight.decrementAndGet();
+        batchesFailed.incrementAndGet();
+        messagesFailed.addAndGet(messages);
+        onRequestFinished(startedNanos, finishedNanos);
+    }
+
+    void onBatchCancelled() {
+        inFlight.decrementAndGet();
+    }
+
+    void onExpired(int messages) {
+        messagesExpired.addAndGet(messages);
+    }
+
+    /**
+     * @return number of batches currently being sent
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public long getBatchesSent() {
+        return batchesSent.get();
+    }
+
+    public long getBatchesFailed() {
+        return batchesFailed.get();
+    }
+
+    public long getMessagesSent() {
+        return messagesSent.get();
+    }
+
+    /**
+     * @return number of messages which failed after all retries and remain in outbox
+     */
+    public long getMessagesFailed() {
+        return messagesFailed.get();
+    }
+
+    /**
+     * @return number of messages dropped from outbox because they were not delivered within retry lifetime
+     */
+    public long getMessagesExpired() {
+        return messagesExpired.get();
+    }
+
+    public long getAverageRequestMillis() {
+        long batches = batchesSent.get() + batchesFailed.get();
+        if (batches == 0) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(totalRequestNanos.get() / batches);
+    }
+
+    public long getMaxRequestMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRequestNanos.get());
+    }
+
+    public long getAverageLatencyMillis() {
+        long sent = messagesSent.get();
+        if (sent == 0) {
+            return 0;
+        }
+        return totalLatencyMillis.get() / sent;
+    }
+
+    public long getMaxLatencyMillis() {
+        return maxLatencyMillis.get();
+    }
+
+    /**
+     * @return messages delivered per second between start of the first batch and end of the last one
+     */
+    public double getThroughputPerSecond() {
+        long elapsedNanos = lastBatchFinishedNanos.get() - firstBatchStartedNanos.get();
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return messagesSent.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "mo-messages: in flight %d (max %d), sent %d in %d batches, failed %d in %d batches, expired %d, " +
+                        "request %d ms (max %d ms), latency %d ms (max %d ms), %.2f messages/s",
+                getInFlight(), getMaxInFlight(), getMessagesSent(), getBatchesSent(), getMessagesFailed(), getBatchesFailed(), getMessagesExpired(),
+                getAverageRequestMillis(), getMaxRequestMillis(), getAverageLatencyMillis(), getMaxLatencyMillis(), getThroughputPerSecond());
+    }
+
+    private void onRequestFinished(long startedNanos, long finishedNanos) {
+        long requestNanos = finishedNanos - startedNanos;
+        totalRequestNanos.addAndGet(requestNanos);
+        updateMax(maxRequestNanos, requestNanos);
+        lastBatchFinishedNanos.set(finishedNanos);
+    }
+
+    private static void updateMax(AtomicInteger max, int value) {
+        int current;
+        do {
+            current = max.get();
+        } while (value > current && !max.compareAndSet(current, value));
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        do {
+            current = max.get();
+        } while (value > current && !max.compareAndSet(current, value));
+    }
+}
@@ -10,12 +10,14 @@ import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
 import org.infobip.mobile.messaging.api.messages.MoMessagesResponse;
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.dal.sqlite.MoMessageOutbox;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobile.InternalSdkError;
 import org.infobip.mobile.messaging.mobile.MobileMessagingError;
 import org.infobip.mobile.messaging.mobile.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobile.common.MRetryableTask;
 import org.infobip.mobile.messaging.platform.Broadcaster;
+import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.stats.MobileMessagingStatsError;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
@@ -25,28 +27,51 @@ import org.infobip.mobile.messaging.util.StringUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Sends mobile originated messages.
+ * <br>
+ * Messages sent with retry are kept in outbox ({@link MoMessageOutbox}) until they are delivered
+ * or for two days since they were created. Outbox is sent in batches of at most {@code maxBatchSize} messages in the order
+ * messages were added, each batch in flight occupies one of the batch executors, so number of executors limits number of concurrent requests.
+ * Messages of a batch stay in outbox while the batch is in flight and are removed only after successful delivery,
+ * so that failed or cancelled batches are sent again on next synchronization. Next batch is taken from outbox as soon as previous one is delivered.
+ * <br>
+ * If message store is enabled, status of outbox messages which are in the store is updated when they are queued,
+ * delivered, failed or expired. Outbox does not add new messages to the store.
+ *
  * @author sslavin
  * @since 21/07/16.
  */
 public class MoMessageSender {
 
-    private final long MESSAGE_MAX_RETRY_LIFETIME = TimeUnit.DAYS.toMillis(2);
+    private static final long MESSAGE_MAX_RETRY_LIFETIME = TimeUnit.DAYS.toMillis(2);
+    private static final String STATUS_MESSAGE_QUEUED = "Message queued";
+    private static final String STATUS_MESSAGE_EXPIRED = "Message not sent within retry lifetime";
 
     private final Context context;
     private final MobileMessagingCore mobileMessagingCore;
     private final Broadcaster broadcaster;
     private final Executor executor;
+    private final Executor batchExecutors[];
+    private final boolean batchExecutorsBusy[];
+    private final Set<String> inFlightMessageIds = new HashSet<>();
+    private final int maxBatchSize;
+    private final MoMessageMetrics metrics = new MoMessageMetrics();
     private final MobileMessagingStats stats;
     private final MRetryPolicy retryPolicy;
     private final MRetryPolicy noRetryPolicy;
     private final MobileApiMessages mobileApiMessages;
     private final MessageStoreWrapper messageStoreWrapper;
+    private final MoMessageOutbox outbox;
     private final JsonSerializer jsonSerializer;
+    private volatile boolean legacyOutboxImported;
 
     abstract class Task extends MRetryableTask<Message, Message[]> {
         @Override
@@ -67,15 +92,32 @@ public class MoMessageSender {
     }
 
     public MoMessageSender(Context context, MobileMessagingCore mobileMessagingCore, Broadcaster broadcaster, Executor executor, MobileMessagingStats stats, MRetryPolicy retryPolicy, MobileApiMessages mobileApiMessages, MessageStoreWrapper messageStoreWrapper) {
+        this(context, mobileMessagingCore, broadcaster, executor, new Executor[]{executor}, (int) MobileMessagingProperty.MO_MESSAGES_MAX_BATCH_SIZE.getDefaultValue(),
+                stats, retryPolicy, mobileApiMessages, messageStoreWrapper);
+    }
+
+    /**
+     * @param executor       executor for messages sent without retry
+     * @param batchExecutors executors for batches of outbox, one per batch in flight
+     * @param maxBatchSize   maximum number of messages in one request
+     */
+    public MoMessageSender(Context context, MobileMessagingCore mobileMessagingCore, Broadcaster broadcaster, Executor executor, Executor batchExecutors[], int maxBatchSize, MobileMessagingStats stats, MRetryPolicy retryPolicy, MobileApiMessages mobileApiMessages, MessageStoreWrapper messageStoreWrapper) {
+        if (batchExecutors.length == 0 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("At least one batch executor and positive batch size are required");
+        }
         this.context = context;
         this.mobileMessagingCore = mobileMessagingCore;
         this.broadcaster = broadcaster;
         this.executor = executor;
+        this.batchExecutors = batchExecutors;
+        this.batchExecutorsBusy = new boolean[batchExecutors.length];
+        this.maxBatchSize = maxBatchSize;
         this.stats = stats;
         this.retryPolicy = retryPolicy;
         this.mobileApiMessages = mobileApiMessages;
         this.jsonSerializer = new JsonSerializer(false);
         this.messageStoreWrapper = messageStoreWrapper;
+        this.outbox = new MoMessageOutbox(MobileMessagingCore.getDatabaseProvider(context));
         this.noRetryPolicy = new MRetryPolicy.Builder()
                 .withMaxRetries(0)
                 .build();
@@ -121,18 +163,84 @@ public class MoMessageSender {
     }
 
     public void sendWithRetry(Message... messages) {
-        saveMessages(messages);
+        addToOutbox(messages);
         sync();
     }
 
+    /**
+     * Adds messages to outbox without sending them, messages are sent on next {@link #sync()}
+     */
+    public void addToOutbox(Message... messages) {
+        saveMessages(messages);
+    }
+
+    /**
+     * Starts sending batches from outbox while there are free batch executors
+     */
     public void sync() {
-        Message messages[] = getAndRemoveMessages();
-        if (messages.length == 0) {
-            return;
+        importLegacyOutbox();
+        expireMessages();
+        while (true) {
+            int slot;
+            Message messages[];
+            synchronized (batchExecutorsBusy) {
+                slot = freeBatchExecutor();
+                if (slot < 0) {
+                    return;
+                }
+
+                messages = takeBatch();
+                if (messages.length == 0) {
+                    return;
+                }
+                batchExecutorsBusy[slot] = true;
+            }
+            sendBatch(slot, messages);
         }
+    }
+
+    public MoMessageMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void sendBatch(final int slot, final Message batch[]) {
+        final long startedNanos = System.nanoTime();
+        final AtomicBoolean released = new AtomicBoolean();
+        metrics.onBatchStarted(startedNanos);
 
         new Task() {
 
+            @Override
+            public Message[] run(Message[] messages) {
+                Message sentMessages[] = super.run(messages);
+                outbox.remove(messageIds(batch));
+                updateStoredStatus(sentMessages);
+                return sentMessages;
+            }
+
+            @Override
+            public void after(Message[] messages) {
+                if (!release(slot, batch, released)) {
+                    return;
+                }
+
+                long finishedNanos = System.nanoTime();
+                long now = Time.now();
+                long latenciesMillis[] = new long[batch.length];
+                for (int i = 0; i < batch.length; i++) {
+                    latenciesMillis[i] = now - batch[i].getReceivedTimestamp();
+                }
+                metrics.onBatchSent(startedNanos, finishedNanos, latenciesMillis);
+                MobileMessagingLogger.d("Sent batch of " + batch.length + " MO messages, " + metrics);
+
+                batchExecutors[slot].execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        sync();
+                    }
+                });
+            }
+
             @Override
             public void error(Message messages[], Throwable error) {
                 MobileMessagingLogger.e("MobileMessaging API returned error (sending messages in retry)! ", error);
@@ -140,48 +248,198 @@ public class MoMessageSender {
                 stats.reportError(MobileMessagingStatsError.MESSAGE_SEND_ERROR);
                 broadcaster.error(MobileMessagingError.createFrom(error));
 
-                saveMessages(messages);
+                if (release(slot, batch, released)) {
+                    metrics.onBatchFailed(startedNanos, System.nanoTime(), messages.length);
+                }
+                updateStoredStatus(messageIds(batch), Message.Status.ERROR, error.getMessage());
+            }
+
+            @Override
+            public void cancel() {
+                super.cancel();
+                // no callbacks run after cancel, messages stay in outbox for the next synchronization
+                if (release(slot, batch, released)) {
+                    metrics.onBatchCancelled();
+                }
             }
         }
         .retryWith(retryPolicy)
-        .execute(executor, messages);
+        .execute(batchExecutors[slot], batch);
     }
 
-    private void saveMessages(Message... messages) {
-        String jsons[] = messagesToJson(excludeOutdatedMessages(messages));
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES, jsons);
+    private int freeBatchExecutor() {
+        for (int i = 0; i < batchExecutorsBusy.length; i++) {
+            if (!batchExecutorsBusy[i]) {
+                return i;
+            }
+        }
+        return -1;
     }
 
-    private Message[] getAndRemoveMessages() {
-        String jsons[] = PreferenceHelper.findAndRemoveStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
-        Message messages[] = messagesFromJson(jsons);
-        return excludeOutdatedMessages(messages);
+    /**
+     * Frees batch executor and makes messages of the batch available for sending again
+     *
+     * @return true if batch was released by this call, false if it was already released before
+     */
+    private boolean release(int slot, Message batch[], AtomicBoolean released) {
+        if (!released.compareAndSet(false, true)) {
+            return false;
+        }
+
+        synchronized (batchExecutorsBusy) {
+            batchExecutorsBusy[slot] = false;
+            inFlightMessageIds.removeAll(messageIds(batch));
+        }
+        return true;
     }
 
-    private String[] messagesToJson(Message... messages) {
-        if (messages == null || messages.length == 0) {
-            return new String[0];
+    /**
+     * Updates status of sent messages which are already in message store
+     *
+     * @param messages messages with delivery status
+     */
+    private void updateStoredStatus(Message messages[]) {
+        if (!mobileMessagingCore.isMessageStoreEnabled()) {
+            return;
         }
 
-        List<String> jsons = new ArrayList<>(messages.length);
+        List<Message> storedMessages = new ArrayList<>(messages.length);
         for (Message message : messages) {
-            jsons.add(jsonSerializer.serialize(message));
+            if (message.getMessageId() != null && messageStoreWrapper.findById(message.getMessageId()) != null) {
+                storedMessages.add(message);
+            }
+        }
+
+        if (!storedMessages.isEmpty()) {
+            messageStoreWrapper.upsert(storedMessages.toArray(new Message[storedMessages.size()]));
         }
-        return jsons.toArray(new String[jsons.size()]);
     }
 
-    private Message[] messagesFromJson(String... jsons) {
-        if (jsons == null || jsons.length == 0) {
-            return new Message[0];
+    /**
+     * Sets status of messages which are already in message store
+     *
+     * @param messageIds    ids of messages to update
+     * @param status        new status
+     * @param statusMessage new status message
+     */
+    private void updateStoredStatus(List<String> messageIds, Message.Status status, String statusMessage) {
+        if (messageIds.isEmpty() || !mobileMessagingCore.isMessageStoreEnabled()) {
+            return;
+        }
+
+        List<Message> storedMessages = new ArrayList<>(messageIds.size());
+        for (String messageId : messageIds) {
+            Message storedMessage = messageId != null ? messageStoreWrapper.findById(messageId) : null;
+            if (storedMessage == null) {
+                continue;
+            }
+            storedMessage.setStatus(status);
+            storedMessage.setStatusMessage(statusMessage);
+            storedMessages.add(storedMessage);
+        }
+
+        if (!storedMessages.isEmpty()) {
+            messageStoreWrapper.upsert(storedMessages.toArray(new Message[storedMessages.size()]));
+        }
+    }
+
+    private void saveMessages(Message... messages) {
+        Message relevantMessages[] = excludeOutdatedMessages(messages);
+        List<MoMessageOutbox.Entry> entries = new ArrayList<>(relevantMessages.length);
+        for (Message message : relevantMessages) {
+            entries.add(new MoMessageOutbox.Entry(message.getMessageId(), jsonSerializer.serialize(message), message.getReceivedTimestamp()));
+        }
+        outbox.add(entries);
+        updateStoredStatus(messageIds(relevantMessages), Message.Status.UNKNOWN, STATUS_MESSAGE_QUEUED);
+    }
+
+    /**
+     * Moves messages from outbox which was kept in shared preferences by previous versions of the library.
+     * Preferences are removed only after messages are committed to the outbox table.
+     */
+    private void importLegacyOutbox() {
+        if (legacyOutboxImported) {
+            return;
         }
 
-        List<Message> messages = new ArrayList<>(jsons.length);
-        for (String json : jsons) {
-            messages.add(jsonSerializer.deserialize(json, Message.class));
+        String jsons[] = PreferenceHelper.findStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+        if (jsons.length > 0) {
+            List<Message> messages = new ArrayList<>(jsons.length);
+            for (String json : jsons) {
+                Message message = messageFromJson(json);
+                if (message != null) {
+                    messages.add(message);
+                }
+            }
+            saveMessages(messages.toArray(new Message[messages.size()]));
+            PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+        }
+        legacyOutboxImported = true;
+    }
+
+    private void expireMessages() {
+        List<MoMessageOutbox.Entry> expired = outbox.expire(Time.now() - MESSAGE_MAX_RETRY_LIFETIME);
+        if (expired.isEmpty()) {
+            return;
         }
+
+        MobileMessagingLogger.w("Dropping " + expired.size() + " MO message(s) not sent within " + TimeUnit.MILLISECONDS.toHours(MESSAGE_MAX_RETRY_LIFETIME) + " hours");
+        metrics.onExpired(expired.size());
+        List<String> expiredMessageIds = new ArrayList<>(expired.size());
+        for (MoMessageOutbox.Entry entry : expired) {
+            expiredMessageIds.add(entry.getMessageId());
+        }
+        updateStoredStatus(expiredMessageIds, Message.Status.ERROR, STATUS_MESSAGE_EXPIRED);
+    }
+
+    /**
+     * Takes up to {@code maxBatchSize} of the oldest messages from outbox which are not in flight yet and marks them as in flight.
+     * Must be called while holding lock on {@link #batchExecutorsBusy}.
+     *
+     * @return messages to send, empty array if there is nothing to send
+     */
+    private Message[] takeBatch() {
+        List<MoMessageOutbox.Entry> entries = outbox.peek(maxBatchSize + inFlightMessageIds.size());
+        List<Message> messages = new ArrayList<>(maxBatchSize);
+        List<String> unreadableMessageIds = new ArrayList<>();
+        for (MoMessageOutbox.Entry entry : entries) {
+            if (messages.size() >= maxBatchSize) {
+                break;
+            }
+            if (inFlightMessageIds.contains(entry.getMessageId())) {
+                continue;
+            }
+
+            Message message = messageFromJson(entry.getMessage());
+            if (message == null) {
+                unreadableMessageIds.add(entry.getMessageId());
+                continue;
+            }
+            messages.add(message);
+            inFlightMessageIds.add(entry.getMessageId());
+        }
+
+        outbox.remove(unreadableMessageIds);
         return messages.toArray(new Message[messages.size()]);
     }
 
+    private Message messageFromJson(String json) {
+        try {
+            return jsonSerializer.deserialize(json, Message.class);
+        } catch (Exception e) {
+            MobileMessagingLogger.w("Cannot read MO message from outbox, dropping it: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> messageIds(Message messages[]) {
+        List<String> messageIds = new ArrayList<>(messages.length);
+        for (Message message : messages) {
+            messageIds.add(message.getMessageId());
+        }
+        return messageIds;
+    }
+
     private Message[] excludeOutdatedMessages(Message messages[]) {
         if (messages.length == 0) {
             return new Message[0];
@@ -189,14 +447,22 @@ public class MoMessageSender {
 
         Date now = new Date();
         List<Message> relevantMessages = new ArrayList<>();
+        List<String> expiredMessageIds = new ArrayList<>();
         for (Message message : messages) {
             long expirationTimestamp = message.getReceivedTimestamp() + MESSAGE_MAX_RETRY_LIFETIME;
             if (expirationTimestamp < now.getTime()) {
+                expiredMessageIds.add(message.getMessageId());
                 continue;
             }
 
             relevantMessages.add(message);
         }
+
+        if (!expiredMessageIds.isEmpty()) {
+            MobileMessagingLogger.w("Dropping " + expiredMessageIds.size() + " MO message(s) not sent within " + TimeUnit.MILLISECONDS.toHours(MESSAGE_MAX_RETRY_LIFETIME) + " hours");
+            metrics.onExpired(expiredMessageIds.size());
+            updateStoredStatus(expiredMessageIds, Message.Status.ERROR, STATUS_MESSAGE_EXPIRED);
+        }
         return relevantMessages.toArray(new Message[relevantMessages.size()]);
     }
-}
\ No newline at end of file
+}
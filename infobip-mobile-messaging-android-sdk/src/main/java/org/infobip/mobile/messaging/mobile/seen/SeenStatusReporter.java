@@ -4,7 +4,6 @@ import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.messages.SeenMessages;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
-import org.infobip.mobile.messaging.mobile.BatchReporter;
 import org.infobip.mobile.messaging.mobile.InternalSdkError;
 import org.infobip.mobile.messaging.mobile.MobileMessagingError;
 import org.infobip.mobile.messaging.mobile.common.MAsyncTask;
@@ -26,22 +25,19 @@ public class SeenStatusReporter {
     private final Executor executor;
     private final Broadcaster broadcaster;
     private final MobileApiMessages mobileApiMessages;
-    private final BatchReporter batchReporter;
 
     public SeenStatusReporter(
             MobileMessagingCore mobileMessagingCore,
             MobileMessagingStats stats,
             Executor executor,
             Broadcaster broadcaster,
-            MobileApiMessages mobileApiMessages,
-            BatchReporter batchReporter) {
+            MobileApiMessages mobileApiMessages) {
 
         this.mobileMessagingCore = mobileMessagingCore;
         this.stats = stats;
         this.executor = executor;
         this.broadcaster = broadcaster;
         this.mobileApiMessages = mobileApiMessages;
-        this.batchReporter = batchReporter;
     }
 
     public void sync() {
@@ -50,47 +46,42 @@ public class SeenStatusReporter {
             return;
         }
 
-        batchReporter.put(new Runnable() {
+        new MAsyncTask<Void, String[]>() {
             @Override
-            public void run() {
-                new MAsyncTask<Void, String[]>() {
-                    @Override
-                    public String[] run(Void[] voids) {
+            public String[] run(Void[] voids) {
 
-                        if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
-                            MobileMessagingLogger.w("Can't report seen status without valid registration");
-                            throw InternalSdkError.NO_VALID_REGISTRATION.getException();
-                        }
+                if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
+                    MobileMessagingLogger.w("Can't report seen status without valid registration");
+                    throw InternalSdkError.NO_VALID_REGISTRATION.getException();
+                }
 
-                        String messageIDs[] = mobileMessagingCore.getUnreportedSeenMessageIds();
-                        if (messageIDs.length == 0) {
-                            return messageIDs;
-                        }
+                String messageIDs[] = mobileMessagingCore.getUnreportedSeenMessageIds();
+                if (messageIDs.length == 0) {
+                    return messageIDs;
+                }
 
-                        SeenMessages seenMessages = SeenMessagesMapper.fromMessageIds(messageIDs);
-                        MobileMessagingLogger.v("SEEN >>>", seenMessages);
-                        mobileApiMessages.reportSeen(seenMessages);
-                        MobileMessagingLogger.v("SEEN <<<");
-                        mobileMessagingCore.removeUnreportedSeenMessageIds(messageIDs);
-                        return messageIDs;
-                    }
+                SeenMessages seenMessages = SeenMessagesMapper.fromMessageIds(messageIDs);
+                MobileMessagingLogger.v("SEEN >>>", seenMessages);
+                mobileApiMessages.reportSeen(seenMessages);
+                MobileMessagingLogger.v("SEEN <<<");
+                mobileMessagingCore.removeUnreportedSeenMessageIds(messageIDs);
+                return messageIDs;
+            }
 
-                    @Override
-                    public void after(String[] messageIds) {
-                        broadcaster.seenStatusReported(messageIds);
-                    }
+            @Override
+            public void after(String[] messageIds) {
+                broadcaster.seenStatusReported(messageIds);
+            }
 
-                    @Override
-                    public void error(Throwable error) {
-                        mobileMessagingCore.setLastHttpException(error);
+            @Override
+            public void error(Throwable error) {
+                mobileMessagingCore.setLastHttpException(error);
 
-                        MobileMessagingLogger.e("Error reporting seen status!");
-                        stats.reportError(MobileMessagingStatsError.SEEN_REPORTING_ERROR);
-                        broadcaster.error(MobileMessagingError.createFrom(error));
-                    }
-                }
-                .execute(executor);
+                MobileMessagingLogger.e("Error reporting seen status!");
+                stats.reportError(MobileMessagingStatsError.SEEN_REPORTING_ERROR);
+                broadcaster.error(MobileMessagingError.createFrom(error));
             }
-        });
+        }
+        .execute(executor);
     }
 }
@@ -0,0 +1,21 @@
+package org.infobip.mobile.messaging.platform;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Posts callbacks to the main looper.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class AndroidMainThreadDispatcher implements MainThreadDispatcher {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    @Override
+    public void dispatch(Runnable runnable) {
+        handler.post(runnable);
+    }
+}
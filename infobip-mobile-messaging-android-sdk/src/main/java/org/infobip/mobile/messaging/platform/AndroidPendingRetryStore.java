@@ -0,0 +1,79 @@
+package org.infobip.mobile.messaging.platform;
+
+import android.content.Context;
+import android.os.Build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backs pending retries with a {@link android.app.job.JobScheduler} job on API 21 and above.
+ * <br>
+ * Job is scheduled after the latest pending retry and cancelled when there are no more pending retries,
+ * so it only runs if process died with retries still pending, and then it resumes work with synchronization.
+ * If the job runs while retries of a live process are only late, it is scheduled again instead, see {@link #rescheduleIfPending()}.
+ * Below API 21 retries are resumed with synchronization on next application start.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class AndroidPendingRetryStore implements PendingRetryStore {
+
+    private static final long GRACE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private static AndroidPendingRetryStore instance;
+
+    private final Context context;
+    private final List<Long> pendingRetries = new ArrayList<>();
+
+    private AndroidPendingRetryStore(Context context) {
+        this.context = context;
+    }
+
+    public static synchronized AndroidPendingRetryStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new AndroidPendingRetryStore(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    @Override
+    public synchronized void add(long retryAtMillis) {
+        boolean latest = pendingRetries.isEmpty() || retryAtMillis > Collections.max(pendingRetries);
+        pendingRetries.add(retryAtMillis);
+        if (latest) {
+            scheduleJob(retryAtMillis);
+        }
+    }
+
+    @Override
+    public synchronized void remove(long retryAtMillis) {
+        pendingRetries.remove(Long.valueOf(retryAtMillis));
+        if (pendingRetries.isEmpty() && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            MobileMessagingJobService.cancelJobForPendingRetries(context);
+        }
+    }
+
+    /**
+     * Schedules job again after the latest pending retry if retries of this process are still pending
+     *
+     * @return true if retries are pending and synchronization is not needed
+     */
+    public synchronized boolean rescheduleIfPending() {
+        if (pendingRetries.isEmpty()) {
+            return false;
+        }
+
+        scheduleJob(Collections.max(pendingRetries));
+        return true;
+    }
+
+    private void scheduleJob(long retryAtMillis) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            MobileMessagingJobService.scheduleJobForPendingRetries(context, Math.max(0, retryAtMillis - Time.now()) + GRACE_MILLIS);
+        }
+    }
+}
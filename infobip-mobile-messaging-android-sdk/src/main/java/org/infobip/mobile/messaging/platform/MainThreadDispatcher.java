@@ -0,0 +1,17 @@
+package org.infobip.mobile.messaging.platform;
+
+/**
+ * Delivers callbacks to the main thread of application.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public interface MainThreadDispatcher {
+    /**
+     * Posts runnable to be executed on the main thread
+     *
+     * @param runnable runnable to execute
+     */
+    void dispatch(Runnable runnable);
+}
@@ -15,16 +15,18 @@ import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
 import static org.infobip.mobile.messaging.MobileMessagingJob.ON_NETWORK_AVAILABLE_JOB_ID;
+import static org.infobip.mobile.messaging.MobileMessagingJob.PENDING_RETRIES_JOB_ID;
 import static org.infobip.mobile.messaging.MobileMessagingJob.getScheduleId;
 
 /**
- * Service that handles scheduled jobs
+ * Service that handles scheduled jobs.
+ * Connectivity job is used on API 24 and above, pending retries job on API 21 and above.
  *
  * @author sslavin
  * @since 14/09/2017.
  */
 
-@TargetApi(Build.VERSION_CODES.N)
+@TargetApi(Build.VERSION_CODES.LOLLIPOP)
 public class MobileMessagingJobService extends JobService {
 
     private static final String TAG = MobileMessagingJobService.class.getSimpleName();
@@ -49,6 +51,17 @@ public class MobileMessagingJobService extends JobService {
             return false;
         }
 
+        int pendingRetriesScheduleId = getScheduleId(this, PENDING_RETRIES_JOB_ID);
+        if (params.getJobId() == pendingRetriesScheduleId) {
+            if (AndroidPendingRetryStore.getInstance(this).rescheduleIfPending()) {
+                MobileMessagingLogger.d(TAG, "Retries are late but still pending");
+                return false;
+            }
+            MobileMessagingLogger.d(TAG, "Resuming pending retries");
+            mobileMessagingCore().sync();
+            return false;
+        }
+
         return false;
     }
 
@@ -67,6 +80,40 @@ public class MobileMessagingJobService extends JobService {
         registerForNetworkAvailability(context);
     }
 
+    /**
+     * Schedules job which resumes synchronization if process dies while retries are pending.
+     * Replaces previously scheduled job.
+     *
+     * @param context     android context object
+     * @param delayMillis  minimum delay before the job runs
+     */
+    public static void scheduleJobForPendingRetries(Context context, long delayMillis) {
+        JobScheduler jobScheduler = (JobScheduler) context.getSystemService(JOB_SCHEDULER_SERVICE);
+        if (jobScheduler == null) {
+            return;
+        }
+
+        int r = jobScheduler.schedule(new JobInfo.Builder(getScheduleId(context, PENDING_RETRIES_JOB_ID), new ComponentName(context, MobileMessagingJobService.class))
+                .setMinimumLatency(delayMillis)
+                .setRequiredNetworkType(JobInfo.NETWORK_TYPE_ANY)
+                .build());
+        if (r != JobScheduler.RESULT_SUCCESS) {
+            MobileMessagingLogger.e(TAG, "Failed to register job for pending retries");
+        }
+    }
+
+    /**
+     * Cancels job for pending retries when there are no more pending retries.
+     *
+     * @param context android context object
+     */
+    public static void cancelJobForPendingRetries(Context context) {
+        JobScheduler jobScheduler = (JobScheduler) context.getSystemService(JOB_SCHEDULER_SERVICE);
+        if (jobScheduler != null) {
+            jobScheduler.cancel(getScheduleId(context, PENDING_RETRIES_JOB_ID));
+        }
+    }
+
     //region Private methods
     @NonNull
     private MobileMessagingCore mobileMessagingCore() {
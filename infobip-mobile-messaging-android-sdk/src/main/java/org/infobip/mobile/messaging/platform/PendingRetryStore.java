@@ -0,0 +1,24 @@
+package org.infobip.mobile.messaging.platform;
+
+/**
+ * Keeps track of scheduled retries, so that work can be resumed if process dies before they run.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public interface PendingRetryStore {
+    /**
+     * Called when retry is scheduled
+     *
+     * @param retryAtMillis time when retry is due
+     */
+    void add(long retryAtMillis);
+
+    /**
+     * Called when scheduled retry starts or is cancelled
+     *
+     * @param retryAtMillis time when retry was due, same as provided to {@link #add(long)}
+     */
+    void remove(long retryAtMillis);
+}
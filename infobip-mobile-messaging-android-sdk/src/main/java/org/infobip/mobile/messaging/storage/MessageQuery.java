@@ -0,0 +1,204 @@
+package org.infobip.mobile.messaging.storage;
+
+import org.infobip.mobile.messaging.Message;
+
+/**
+ * Query for messages in {@link QueryableMessageStore}. Messages are ordered by received timestamp,
+ * pages are requested with keyset pagination: next page starts right after the last message of the previous one.
+ * <pre>
+ * {@code
+ * MessageQuery firstPage = new MessageQuery.Builder()
+ *         .withUnseenOnly()
+ *         .withLimit(20)
+ *         .build();
+ * List<Message> messages = messageStore.find(context, firstPage);
+ * MessageQuery secondPage = new MessageQuery.Builder(firstPage)
+ *         .withAfter(messages.get(messages.size() - 1))
+ *         .build();
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @see QueryableMessageStore
+ * @see Builder
+ * @since 18/10/2026.
+ */
+public class MessageQuery {
+
+    public enum Order {
+        NEWEST_FIRST,
+        OLDEST_FIRST
+    }
+
+    private final Order order;
+    private final int limit;
+    private final Boolean seen;
+    private final Message.Status status;
+    private final String category;
+    private final Long afterReceivedTimestamp;
+    private final String afterMessageId;
+
+    private MessageQuery(Builder builder) {
+        this.order = builder.order;
+        this.limit = builder.limit;
+        this.seen = builder.seen;
+        this.status = builder.status;
+        this.category = builder.category;
+        this.afterReceivedTimestamp = builder.afterReceivedTimestamp;
+        this.afterMessageId = builder.afterMessageId;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * @return maximum number of messages in a page, 0 if not limited
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return true for seen messages only, false for unseen only, null for all messages
+     */
+    public Boolean getSeen() {
+        return seen;
+    }
+
+    public Message.Status getStatus() {
+        return status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * @return received timestamp of the last message of previous page or null for the first page
+     */
+    public Long getAfterReceivedTimestamp() {
+        return afterReceivedTimestamp;
+    }
+
+    /**
+     * @return id of the last message of previous page or null for the first page
+     */
+    public String getAfterMessageId() {
+        return afterMessageId;
+    }
+
+    /**
+     * The {@link MessageQuery} builder class.
+     *
+     * @author agent
+     * @see MessageQuery
+     * @since 18/10/2026.
+     */
+    public static final class Builder {
+
+        private Order order = Order.NEWEST_FIRST;
+        private int limit = 0;
+        private Boolean seen;
+        private Message.Status status;
+        private String category;
+        private Long afterReceivedTimestamp;
+        private String afterMessageId;
+
+        public Builder() {
+        }
+
+        /**
+         * Creates builder with all parameters of existing query, i.e. to request next page
+         */
+        public Builder(MessageQuery query) {
+            this.order = query.order;
+            this.limit = query.limit;
+            this.seen = query.seen;
+            this.status = query.status;
+            this.category = query.category;
+            this.afterReceivedTimestamp = query.afterReceivedTimestamp;
+            this.afterMessageId = query.afterMessageId;
+        }
+
+        /**
+         * It will order messages by received timestamp. Default is {@link Order#NEWEST_FIRST}.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withOrder(Order order) {
+            this.order = order;
+            return this;
+        }
+
+        /**
+         * It will limit number of messages returned in one page.
+         *
+         * @param limit maximum number of messages, 0 for no limit
+         * @return {@link Builder}
+         */
+        public Builder withLimit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit cannot be negative");
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * It will return only messages which were seen.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withSeenOnly() {
+            this.seen = true;
+            return this;
+        }
+
+        /**
+         * It will return only messages which were not seen yet.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withUnseenOnly() {
+            this.seen = false;
+            return this;
+        }
+
+        /**
+         * It will return only messages with provided status.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withStatus(Message.Status status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * It will return only messages with provided category.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withCategory(String category) {
+            this.category = category;
+            return this;
+        }
+
+        /**
+         * It will return messages which follow provided message in the requested order.
+         *
+         * @param message last message of the previous page
+         * @return {@link Builder}
+         */
+        public Builder withAfter(Message message) {
+            this.afterReceivedTimestamp = message.getReceivedTimestamp();
+            this.afterMessageId = message.getMessageId();
+            return this;
+        }
+
+        public MessageQuery build() {
+            return new MessageQuery(this);
+        }
+    }
+}
@@ -54,7 +54,8 @@ public interface MessageStore {
      * Deletes all stored messages
      * </p>
      * This is convenience method.
-     * Mobile Messaging SDK will never delete messages from the store by itself.
+     * Mobile Messaging SDK will never delete messages from the store by itself,
+     * except from {@link SQLiteMessageStore} when {@link RetentionPolicy} is configured.
      * @param context current context
      */
     void deleteAll(Context context);
@@ -0,0 +1,242 @@
+package org.infobip.mobile.messaging.storage;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.VisibleForTesting;
+import android.util.Log;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.GeoAreaColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.dal.sqlite.SqliteDatabaseProvider;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Enforces {@link RetentionPolicy} on messages table and deletes expired geo messages.
+ * Geo messages are found by expiry time of their areas, geo messages which geo module did not index yet are deleted after they are indexed.
+ * Size limit applies to content of messages table, not to the whole database file.
+ * Messages are deleted in small batches, each in its own transaction, so that writers are not blocked for long.
+ * Database is vacuumed when free pages take a considerable part of the file.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class MessageStoreCompactor {
+
+    static final long COMPACTION_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(24);
+    static final int BATCH_SIZE = 200;
+    static final long VACUUM_MIN_FREE_BYTES = 512 * 1024;
+    static final double VACUUM_MIN_FREE_RATIO = 0.25;
+
+    private static final String SQL_DELETE_OLDEST = "DELETE FROM " + Tables.MESSAGES + " WHERE " + MessageColumns.MESSAGE_ID +
+            " IN (SELECT " + MessageColumns.MESSAGE_ID + " FROM " + Tables.MESSAGES +
+            " ORDER BY " + MessageColumns.RECEIVED_TIMESTAMP + ", " + MessageColumns.MESSAGE_ID + " LIMIT ?)";
+
+    private static final String SQL_DELETE_OLDER_THAN = "DELETE FROM " + Tables.MESSAGES + " WHERE " + MessageColumns.MESSAGE_ID +
+            " IN (SELECT " + MessageColumns.MESSAGE_ID + " FROM " + Tables.MESSAGES +
+            " WHERE " + MessageColumns.RECEIVED_TIMESTAMP + " < ? LIMIT " + BATCH_SIZE + ")";
+
+    private static final String SQL_DELETE_EXPIRED_GEO = "DELETE FROM " + Tables.GEO_MESSAGES + " WHERE " + MessageColumns.MESSAGE_ID +
+            " IN (SELECT DISTINCT " + GeoAreaColumns.MESSAGE_ID + " FROM " + Tables.GEO_AREAS +
+            " WHERE " + GeoAreaColumns.EXPIRY_TIME + " < ? LIMIT " + BATCH_SIZE + ")";
+
+    private static final String SQL_MESSAGES_BYTES = "SELECT TOTAL(" + lengthOf(
+            MessageColumns.MESSAGE_ID, MessageColumns.TITLE, MessageColumns.BODY, MessageColumns.SOUND, MessageColumns.VIBRATE,
+            MessageColumns.ICON, MessageColumns.SILENT, MessageColumns.CATEGORY, MessageColumns.FROM, MessageColumns.RECEIVED_TIMESTAMP,
+            MessageColumns.SEEN_TIMESTAMP, MessageColumns.INTERNAL_DATA, MessageColumns.CUSTOM_PAYLOAD, MessageColumns.DESTINATION,
+            MessageColumns.STATUS, MessageColumns.STATUS_MESSAGE, MessageColumns.CONTENT_URL) + ") FROM " + Tables.MESSAGES;
+
+    private final Context context;
+    private final SqliteDatabaseProvider databaseProvider;
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public MessageStoreCompactor(Context context, SqliteDatabaseProvider databaseProvider, Executor executor) {
+        this.context = context;
+        this.databaseProvider = databaseProvider;
+        this.executor = executor;
+    }
+
+    public static RetentionPolicy getRetentionPolicy(Context context) {
+        return new RetentionPolicy(
+                PreferenceHelper.findInt(context, MobileMessagingProperty.RETENTION_MAX_MESSAGES),
+                PreferenceHelper.findLong(context, MobileMessagingProperty.RETENTION_MAX_AGE_MILLIS),
+                PreferenceHelper.findLong(context, MobileMessagingProperty.RETENTION_MAX_BYTES));
+    }
+
+    public static void setRetentionPolicy(Context context, RetentionPolicy retentionPolicy) {
+        PreferenceHelper.saveInt(context, MobileMessagingProperty.RETENTION_MAX_MESSAGES, retentionPolicy.getMaxMessages());
+        PreferenceHelper.saveLong(context, MobileMessagingProperty.RETENTION_MAX_AGE_MILLIS, retentionPolicy.getMaxAgeMillis());
+        PreferenceHelper.saveLong(context, MobileMessagingProperty.RETENTION_MAX_BYTES, retentionPolicy.getMaxBytes());
+    }
+
+    /**
+     * Schedules compaction on executor if it didn't complete during last {@link #COMPACTION_INTERVAL_MILLIS}
+     * and is not already scheduled. Failed compaction is tried again on the next call.
+     */
+    public void compactIfDue() {
+        long lastCompactionTime = PreferenceHelper.findLong(context, MobileMessagingProperty.LAST_COMPACTION_TIME);
+        if (Time.now() - lastCompactionTime < COMPACTION_INTERVAL_MILLIS || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    compact();
+                    PreferenceHelper.saveLong(context, MobileMessagingProperty.LAST_COMPACTION_TIME, Time.now());
+                } catch (Exception e) {
+                    MobileMessagingLogger.e("Message store compaction failed: " + Log.getStackTraceString(e));
+                } finally {
+                    scheduled.set(false);
+                }
+            }
+        });
+    }
+
+    @VisibleForTesting
+    void compact() {
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        RetentionPolicy policy = getRetentionPolicy(context);
+        int deleted = deleteExpiredGeoMessages(db);
+
+        if (policy.getMaxAgeMillis() > 0) {
+            deleted += deleteOlderThan(db, Time.now() - policy.getMaxAgeMillis());
+        }
+        if (policy.getMaxMessages() > 0) {
+            deleted += deleteOldest(db, count(db, Tables.MESSAGES) - policy.getMaxMessages());
+        }
+        if (policy.getMaxBytes() > 0) {
+            while (messagesBytes(db) > policy.getMaxBytes()) {
+                int batch = deleteOldest(db, BATCH_SIZE);
+                deleted += batch;
+                if (batch == 0) {
+                    break;
+                }
+            }
+        }
+
+        if (deleted > 0) {
+            MobileMessagingLogger.d("Deleted " + deleted + " messages from store");
+        }
+        vacuumIfNeeded(db);
+    }
+
+    private int deleteOlderThan(SQLiteDatabase db, long timestamp) {
+        SQLiteStatement statement = db.compileStatement(SQL_DELETE_OLDER_THAN);
+        try {
+            int deleted = 0;
+            int batch;
+            do {
+                statement.bindLong(1, timestamp);
+                batch = statement.executeUpdateDelete();
+                deleted += batch;
+            } while (batch > 0);
+            return deleted;
+        } finally {
+            statement.close();
+        }
+    }
+
+    private int deleteOldest(SQLiteDatabase db, long count) {
+        SQLiteStatement statement = db.compileStatement(SQL_DELETE_OLDEST);
+        try {
+            int deleted = 0;
+            while (deleted < count) {
+                statement.bindLong(1, Math.min(BATCH_SIZE, count - deleted));
+                int batch = statement.executeUpdateDelete();
+                if (batch == 0) {
+                    break;
+                }
+                deleted += batch;
+            }
+            return deleted;
+        } finally {
+            statement.close();
+        }
+    }
+
+    private int deleteExpiredGeoMessages(SQLiteDatabase db) {
+        SQLiteStatement statement = db.compileStatement(SQL_DELETE_EXPIRED_GEO);
+        try {
+            int deleted = 0;
+            int batch;
+            do {
+                statement.bindLong(1, Time.now());
+                batch = statement.executeUpdateDelete();
+                deleted += batch;
+            } while (batch > 0);
+            return deleted;
+        } finally {
+            statement.close();
+        }
+    }
+
+    private void vacuumIfNeeded(SQLiteDatabase db) {
+        long pageSize = pragma(db, "page_size");
+        long freeBytes = pragma(db, "freelist_count") * pageSize;
+        long totalBytes = pragma(db, "page_count") * pageSize;
+        if (freeBytes < VACUUM_MIN_FREE_BYTES || freeBytes < totalBytes * VACUUM_MIN_FREE_RATIO) {
+            return;
+        }
+
+        try {
+            db.execSQL("VACUUM");
+            MobileMessagingLogger.d("Vacuumed message database, released " + freeBytes + " bytes");
+        } catch (SQLException e) {
+            MobileMessagingLogger.w("Cannot vacuum message database: " + Log.getStackTraceString(e));
+        }
+    }
+
+    /**
+     * @return size of content of messages table, without indexes and other tables of the database
+     */
+    private static long messagesBytes(SQLiteDatabase db) {
+        Cursor cursor = db.rawQuery(SQL_MESSAGES_BYTES, new String[0]);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static String lengthOf(String... columns) {
+        StringBuilder sql = new StringBuilder();
+        for (String column : columns) {
+            if (sql.length() > 0) {
+                sql.append(" + ");
+            }
+            sql.append("IFNULL(LENGTH(").append(column).append("), 0)");
+        }
+        return sql.toString();
+    }
+
+    private static long count(SQLiteDatabase db, String table) {
+        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + table, new String[0]);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static long pragma(SQLiteDatabase db, String name) {
+        Cursor cursor = db.rawQuery("PRAGMA " + name, new String[0]);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package org.infobip.mobile.messaging.storage;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import org.infobip.mobile.messaging.Message;
 
+import java.util.List;
+
 /**
  * Wrappper over existing message store interface.
  * <br>
@@ -31,4 +34,32 @@ public interface MessageStoreWrapper {
      * @param messages messages to save or create.
      */
     void upsert(@NonNull Message messages[]);
-}
\ No newline at end of file
+
+    /**
+     * Finds all messages including the ones which are not yet written to message store.
+     *
+     * @return all messages
+     */
+    @NonNull
+    List<Message> findAll();
+
+    /**
+     * Finds message by id including the ones which are not yet written to message store.
+     *
+     * @param messageId id of message
+     * @return message or null if there is no such message
+     */
+    @Nullable
+    Message findById(@NonNull String messageId);
+
+    /**
+     * Writes all pending messages to message store and waits until they are written.
+     * Writes on the calling thread, so it must not be called from UI thread.
+     */
+    void flush();
+
+    /**
+     * Starts writing of all pending messages in background without waiting for it.
+     */
+    void scheduleFlush();
+}
@@ -6,23 +6,83 @@ import android.support.annotation.Nullable;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.mobile.InternalSdkError;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
+ * Writes messages to message store either synchronously or, if write executor is provided, in write-behind mode.
+ * <br>
+ * In write-behind mode messages are kept in a bounded in-memory queue and written in batches (one save call per batch)
+ * on the write executor, so that saving does not delay broadcasts and notifications.
+ * When the queue is full, the caller writes pending messages itself.
+ * Pending messages are visible to {@link #findAll()} and {@link #findById(String)} until they are written.
+ * Messages of a failed write are put back to the queue and written again after a growing delay, up to
+ * {@value #MAX_WRITE_RETRIES} times in a row. After that they are written with the next upsert or flush.
+ *
  * @author sslavin
  * @since 29/08/2017.
  */
 
 public class MessageStoreWrapperImpl implements MessageStoreWrapper {
 
+    static final int MAX_PENDING_MESSAGES = 100;
+    static final int MAX_WRITE_RETRIES = 3;
+    static final long WRITE_RETRY_DELAY_MILLIS = 1000;
+
     @NonNull
     private final Context context;
 
     @Nullable
     private final MessageStore messageStore;
 
+    @Nullable
+    private final Executor writeExecutor;
+
+    private final Object writeLock = new Object();
+    private Map<String, Message> pending = new LinkedHashMap<>();
+    private Map<String, Message> writing = Collections.emptyMap();
+    private boolean writeScheduled;
+    private boolean retryScheduled;
+    private int failedWrites;
+
+    private final Runnable writeTask = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (MessageStoreWrapperImpl.this) {
+                writeScheduled = false;
+            }
+            writePending();
+        }
+    };
+
+    private final Runnable retryTask = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (MessageStoreWrapperImpl.this) {
+                retryScheduled = false;
+            }
+            writePending();
+        }
+    };
+
     public MessageStoreWrapperImpl(@NonNull Context context, @Nullable MessageStore messageStore) {
+        this(context, messageStore, null);
+    }
+
+    /**
+     * @param writeExecutor executor to write messages on, messages are written synchronously if null
+     */
+    public MessageStoreWrapperImpl(@NonNull Context context, @Nullable MessageStore messageStore, @Nullable Executor writeExecutor) {
         this.context = context;
         this.messageStore = messageStore;
+        this.writeExecutor = writeExecutor;
     }
 
     /**
@@ -35,7 +95,7 @@ public class MessageStoreWrapperImpl implements MessageStoreWrapper {
             return;
         }
 
-        messageStore.save(context, message);
+        upsert(new Message[]{message});
     }
 
     /**
@@ -50,6 +110,174 @@ public class MessageStoreWrapperImpl implements MessageStoreWrapper {
             return;
         }
 
-        messageStore.save(context, messages);
+        if (writeExecutor == null) {
+            messageStore.save(context, messages);
+            return;
+        }
+
+        List<Message> withoutIds = new ArrayList<>();
+        boolean full;
+        boolean schedule = false;
+        synchronized (this) {
+            for (Message message : messages) {
+                if (message.getMessageId() == null) {
+                    withoutIds.add(message);
+                    continue;
+                }
+                pending.put(message.getMessageId(), message);
+            }
+            full = pending.size() >= MAX_PENDING_MESSAGES;
+            if (!full && !pending.isEmpty() && !writeScheduled) {
+                writeScheduled = true;
+                schedule = true;
+            }
+        }
+
+        if (!withoutIds.isEmpty()) {
+            // cannot be found by id before it's written, so write it right away
+            messageStore.save(context, withoutIds.toArray(new Message[withoutIds.size()]));
+        }
+
+        if (full) {
+            writePending();
+        } else if (schedule) {
+            writeExecutor.execute(writeTask);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<Message> findAll() {
+        if (messageStore == null) {
+            return new ArrayList<>();
+        }
+
+        // unwritten messages are taken before reading the store, message written in between is then just found twice
+        Map<String, Message> unwritten = unwrittenMessages();
+        List<Message> stored = messageStore.findAll(context);
+        List<Message> messages = new ArrayList<>(stored.size() + unwritten.size());
+        for (Message message : stored) {
+            Message newer = unwritten.remove(message.getMessageId());
+            messages.add(newer != null ? newer : message);
+        }
+        messages.addAll(unwritten.values());
+        return messages;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public Message findById(@NonNull String messageId) {
+        if (messageStore == null) {
+            return null;
+        }
+
+        Message message = unwrittenMessages().get(messageId);
+        if (message != null) {
+            return message;
+        }
+
+        if (messageStore instanceof SQLiteMessageStore) {
+            return ((SQLiteMessageStore) messageStore).findById(context, messageId);
+        }
+
+        for (Message m : messageStore.findAll(context)) {
+            if (messageId.equals(m.getMessageId())) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        if (messageStore == null || writeExecutor == null) {
+            return;
+        }
+
+        writePending();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void scheduleFlush() {
+        if (messageStore == null || writeExecutor == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (pending.isEmpty() || writeScheduled) {
+                return;
+            }
+            writeScheduled = true;
+        }
+        writeExecutor.execute(writeTask);
+    }
+
+    private synchronized Map<String, Message> unwrittenMessages() {
+        Map<String, Message> messages = new LinkedHashMap<>(writing);
+        messages.putAll(pending);
+        return messages;
+    }
+
+    /**
+     * Writes all pending messages with one save call. Batches are written one at a time to keep the order of upserts.
+     */
+    private void writePending() {
+        if (messageStore == null) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            Message[] batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                writing = pending;
+                pending = new LinkedHashMap<>();
+                batch = writing.values().toArray(new Message[writing.size()]);
+            }
+
+            boolean written = false;
+            long retryDelayMillis = 0;
+            try {
+                messageStore.save(context, batch);
+                written = true;
+            } catch (Exception e) {
+                MobileMessagingLogger.e(InternalSdkError.ERROR_SAVING_MESSAGE.get(), e);
+            } finally {
+                synchronized (this) {
+                    if (!written) {
+                        // failed messages go before the ones upserted in the meantime, newer versions win
+                        Map<String, Message> requeued = new LinkedHashMap<>(writing);
+                        requeued.putAll(pending);
+                        pending = requeued;
+                        failedWrites++;
+                        if (failedWrites <= MAX_WRITE_RETRIES && !retryScheduled) {
+                            retryScheduled = true;
+                            retryDelayMillis = WRITE_RETRY_DELAY_MILLIS << (failedWrites - 1);
+                        }
+                    } else {
+                        failedWrites = 0;
+                    }
+                    writing = Collections.<String, Message>emptyMap();
+                }
+            }
+
+            if (retryDelayMillis > 0 && writeExecutor != null) {
+                SdkExecutors.get().schedule(writeExecutor, retryTask, retryDelayMillis);
+            }
+        }
     }
 }
@@ -0,0 +1,46 @@
+package org.infobip.mobile.messaging.storage;
+
+import android.content.Context;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.CursorIterable;
+
+import java.util.List;
+
+/**
+ * Message store which can return messages page by page instead of loading all of them with {@link #findAll(Context)}.
+ * <pre>
+ * {@code
+ * MessageStore messageStore = MobileMessaging.getInstance(context).getMessageStore();
+ * if (messageStore instanceof QueryableMessageStore) {
+ *     List<Message> messages = ((QueryableMessageStore) messageStore).find(context, query);
+ * }
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @see SQLiteMessageStore
+ * @see MessageQuery
+ * @since 18/10/2026.
+ */
+public interface QueryableMessageStore extends MessageStore {
+
+    /**
+     * Finds one page of stored messages
+     *
+     * @param context current context
+     * @param query   query with filters, order and page size
+     * @return messages which match the query
+     */
+    List<Message> find(Context context, MessageQuery query);
+
+    /**
+     * Iterates over stored messages loading them from database one by one while iterating.
+     * Iterable has to be closed if iteration does not reach the end.
+     *
+     * @param context current context
+     * @param query   query with filters, order and optional limit
+     * @return lazy iterable over messages which match the query
+     */
+    CursorIterable<Message> iterate(Context context, MessageQuery query);
+}
@@ -0,0 +1,116 @@
+package org.infobip.mobile.messaging.storage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits for messages kept by {@link SQLiteMessageStore}. When any of the limits is exceeded,
+ * the oldest messages by received timestamp are deleted in background.
+ * <pre>
+ * {@code new MobileMessaging.Builder(application)
+ *       .withMessageStore(SQLiteMessageStore.class)
+ *       .withMessageRetention(new RetentionPolicy.Builder()
+ *               .withMaxMessages(1000)
+ *               .withMaxAge(90, TimeUnit.DAYS)
+ *               .build())
+ *       .build();}
+ * </pre>
+ *
+ * @author agent
+ * @see Builder
+ * @since 18/10/2026.
+ */
+public class RetentionPolicy {
+
+    private final int maxMessages;
+    private final long maxAgeMillis;
+    private final long maxBytes;
+
+    public RetentionPolicy(int maxMessages, long maxAgeMillis, long maxBytes) {
+        this.maxMessages = maxMessages;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return maximum number of stored messages, 0 if not limited
+     */
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    /**
+     * @return maximum age of stored messages in milliseconds, 0 if not limited
+     */
+    public long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * @return maximum size of message database in bytes, 0 if not limited
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public boolean isLimited() {
+        return maxMessages > 0 || maxAgeMillis > 0 || maxBytes > 0;
+    }
+
+    /**
+     * The {@link RetentionPolicy} builder class.
+     *
+     * @author agent
+     * @see RetentionPolicy
+     * @since 18/10/2026.
+     */
+    public static final class Builder {
+
+        private int maxMessages = 0;
+        private long maxAgeMillis = 0;
+        private long maxBytes = 0;
+
+        /**
+         * It will keep at most provided number of the newest messages.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withMaxMessages(int maxMessages) {
+            if (maxMessages <= 0) {
+                throw new IllegalArgumentException("Maximum number of messages must be positive");
+            }
+            this.maxMessages = maxMessages;
+            return this;
+        }
+
+        /**
+         * It will delete messages received earlier than provided time ago.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withMaxAge(long maxAge, TimeUnit timeUnit) {
+            if (maxAge <= 0) {
+                throw new IllegalArgumentException("Maximum age must be positive");
+            }
+            this.maxAgeMillis = timeUnit.toMillis(maxAge);
+            return this;
+        }
+
+        /**
+         * It will delete the oldest messages while their content takes more than provided number of bytes.
+         * Size is measured as length of stored values of messages, indexes and other tables of the database are not counted.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withMaxBytes(long maxBytes) {
+            if (maxBytes <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        public RetentionPolicy build() {
+            return new RetentionPolicy(maxMessages, maxAgeMillis, maxBytes);
+        }
+    }
+}
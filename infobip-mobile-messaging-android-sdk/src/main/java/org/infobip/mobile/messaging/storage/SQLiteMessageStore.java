@@ -4,7 +4,9 @@ import android.content.Context;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.CursorIterable;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract;
+import org.infobip.mobile.messaging.dal.sqlite.SqliteMessageQuery;
 import org.infobip.mobile.messaging.dal.sqlite.SqliteMessage;
 
 import java.util.ArrayList;
@@ -28,21 +30,38 @@ import java.util.List;
  * @since 29/12/2016.
  */
 
-public class SQLiteMessageStore implements MessageStore {
+public class SQLiteMessageStore implements QueryableMessageStore {
+
+    private static final DatabaseContract.RowMapper<Message> ROW_MAPPER = SqliteMessage.rowMapper();
 
     public void save(Context context, Message... messages) {
-        DatabaseHelper helper = MobileMessagingCore.getDatabaseHelper(context);
+        List<SqliteMessage> objects = new ArrayList<>(messages.length);
         for (Message message : messages) {
-            helper.save(new SqliteMessage(message));
+            objects.add(new SqliteMessage(message));
         }
+        MobileMessagingCore.getDatabaseHelper(context).saveAll(objects);
     }
 
     public List<Message> findAll(Context context) {
-        return new ArrayList<Message>(MobileMessagingCore.getDatabaseHelper(context).findAll(SqliteMessage.class));
+        return MobileMessagingCore.getDatabaseHelper(context).findAll(SqliteMessage.class, ROW_MAPPER);
+    }
+
+    @Override
+    public List<Message> find(Context context, MessageQuery query) {
+        SqliteMessageQuery sql = new SqliteMessageQuery(query);
+        return MobileMessagingCore.getDatabaseHelper(context)
+                .find(SqliteMessage.class, ROW_MAPPER, sql.getSelection(), sql.getSelectionArgs(), sql.getOrderBy(), sql.getLimit());
+    }
+
+    @Override
+    public CursorIterable<Message> iterate(Context context, MessageQuery query) {
+        SqliteMessageQuery sql = new SqliteMessageQuery(query);
+        return MobileMessagingCore.getDatabaseHelper(context)
+                .iterate(SqliteMessage.class, ROW_MAPPER, sql.getSelection(), sql.getSelectionArgs(), sql.getOrderBy(), sql.getLimit());
     }
 
     public Message findById(Context context, String messageId) {
-        return MobileMessagingCore.getDatabaseHelper(context).find(SqliteMessage.class, messageId);
+        return MobileMessagingCore.getDatabaseHelper(context).find(SqliteMessage.class, ROW_MAPPER, messageId);
     }
 
     public long countAll(Context context) {
@@ -49,7 +49,9 @@ public class ComponentUtil {
 
     public static void setSyncronizationReceiverStateEnabled(Context context, MobileMessagingSynchronizationReceiver syncReceiver, boolean enabled) {
         if (enabled) {
-            LocalBroadcastManager.getInstance(context).registerReceiver(syncReceiver, new IntentFilter(LocalEvent.APPLICATION_FOREGROUND.getKey()));
+            IntentFilter intentFilter = new IntentFilter(LocalEvent.APPLICATION_FOREGROUND.getKey());
+            intentFilter.addAction(LocalEvent.APPLICATION_BACKGROUND.getKey());
+            LocalBroadcastManager.getInstance(context).registerReceiver(syncReceiver, intentFilter);
         } else {
             LocalBroadcastManager.getInstance(context).unregisterReceiver(syncReceiver);
         }
@@ -58,7 +60,8 @@ public class ComponentUtil {
     public static void setConnectivityComponentsStateEnabled(Context context, boolean enabled) {
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
             ComponentUtil.setState(context, enabled, MobileMessagingConnectivityReceiver.class);
-        } else {
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
             ComponentUtil.setState(context, enabled, MobileMessagingJobService.class);
         }
     }
@@ -88,9 +91,10 @@ public class ComponentUtil {
         verifyManifestReceiver(context, NotificationTapReceiver.class);
         verifyManifestService(context, MobileMessagingGcmIntentService.class);
         verifyManifestService(context, MobileMessagingInstanceIDListenerService.class);
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
             verifyManifestService(context, MobileMessagingJobService.class);
-        } else {
+        }
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
             verifyManifestReceiver(context, MobileMessagingConnectivityReceiver.class);
         }
     }
@@ -22,6 +22,8 @@ public class Cryptor {
 
     private static String AES_ALGO = "AES/ECB/PKCS5Padding";
     private Key key = null;
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
 
     public Cryptor(@NonNull String keySecret) {
         byte keyBytes[] = keySecret.getBytes();
@@ -57,22 +59,27 @@ public class Cryptor {
     }
 
     private byte[] encodeAES128(byte data[]) {
-        try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.ENCRYPT_MODE, key);
-            return cipher.doFinal(data);
-        } catch (Exception e) {
-            MobileMessagingLogger.d(Log.getStackTraceString(e));
-            return null;
-        }
+        return doFinal(encryptCipher, Cipher.ENCRYPT_MODE, data);
     }
 
     private byte[] decodeAES128(byte data[]) {
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, data);
+    }
+
+    /**
+     * Ciphers are reused per thread, {@link Cipher#doFinal(byte[])} resets cipher to the state after initialization.
+     */
+    private byte[] doFinal(ThreadLocal<Cipher> cipherHolder, int mode, byte data[]) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.DECRYPT_MODE, key);
+            Cipher cipher = cipherHolder.get();
+            if (cipher == null) {
+                cipher = Cipher.getInstance(AES_ALGO);
+                cipher.init(mode, key);
+                cipherHolder.set(cipher);
+            }
             return cipher.doFinal(data);
         } catch (Exception e) {
+            cipherHolder.remove();
             MobileMessagingLogger.d(Log.getStackTraceString(e));
             return null;
         }
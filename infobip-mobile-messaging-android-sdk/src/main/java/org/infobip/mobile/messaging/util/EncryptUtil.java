@@ -19,6 +19,8 @@ public class EncryptUtil {
 
     private final static String AES_ALGO = "AES/ECB/PKCS5Padding";
     private static Key key = null;
+    private static final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    private static final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
 
     private static Key getKey(String algorithm, Context context) {
         if (key != null && key.getAlgorithm().equals(algorithm)) {
@@ -50,24 +52,24 @@ public class EncryptUtil {
     }
 
     private static byte[] encodeAES128(Context context, byte data[]) {
-        Key key = getKey(AES_ALGO, context);
-        try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.ENCRYPT_MODE, key);
-            return cipher.doFinal(data);
-        } catch (Exception e) {
-            MobileMessagingLogger.d(Log.getStackTraceString(e));
-            return null;
-        }
+        return doFinal(encryptCipher, Cipher.ENCRYPT_MODE, getKey(AES_ALGO, context), data);
     }
 
     private static byte[] decodeAES128(Context context, byte data[]) {
-        Key key = getKey(AES_ALGO, context);
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, getKey(AES_ALGO, context), data);
+    }
+
+    private static byte[] doFinal(ThreadLocal<Cipher> cipherHolder, int mode, Key key, byte data[]) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.DECRYPT_MODE, key);
+            Cipher cipher = cipherHolder.get();
+            if (cipher == null) {
+                cipher = Cipher.getInstance(AES_ALGO);
+                cipher.init(mode, key);
+                cipherHolder.set(cipher);
+            }
             return cipher.doFinal(data);
         } catch (Exception e) {
+            cipherHolder.remove();
             MobileMessagingLogger.d(Log.getStackTraceString(e));
             return null;
         }
@@ -0,0 +1,97 @@
+package org.infobip.mobile.messaging.util;
+
+import android.content.SharedPreferences;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of values decoded from shared preferences (decrypted strings, classes, arrays).
+ * Each entry remembers the raw string it was decoded from and is used only while preferences still contain the same raw string,
+ * so the cache stays consistent even if preferences are modified without notifying it.
+ * Entries are also dropped when {@link PreferenceHelper} saves or removes a key, or when a change listener reports the key.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class PreferenceCache implements SharedPreferences.OnSharedPreferenceChangeListener {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private static class Entry {
+        final String raw;
+        final Object value;
+
+        Entry(String raw, Object value) {
+            this.raw = raw;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Returns value previously decoded from provided raw string.
+     *
+     * @param key  preference key
+     * @param raw  raw string currently stored in preferences
+     * @param type expected type of decoded value
+     * @return decoded value or null if there is no valid entry
+     */
+    <T> T get(String key, String raw, Class<T> type) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.raw.equals(raw) || !type.isInstance(entry.value)) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        return type.cast(entry.value);
+    }
+
+    void put(String key, String raw, Object value) {
+        if (raw == null || value == null) {
+            return;
+        }
+        entries.put(key, new Entry(raw, value));
+    }
+
+    void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    @Override
+    public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
+        if (key == null) {
+            invalidateAll();
+        } else {
+            invalidate(key);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return ratio of cache hits to all lookups, 0 if there were no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author mstipanov
@@ -20,12 +21,52 @@ import java.util.Set;
  */
 public abstract class PreferenceHelper {
     private static final Object LOCK = new Object();
+    private static final PreferenceCache cache = new PreferenceCache();
+    private static final ConcurrentHashMap<String, String> encryptedKeys = new ConcurrentHashMap<>();
+    private static volatile boolean cacheListenerRegistered = false;
     private static Cryptor cryptor = null;
 
     protected PreferenceHelper() {
     }
 
-    private static Cryptor getCryptor(Context context) {
+    /**
+     * Returns cache of decoded preference values, can be used to check cache hit rate.
+     *
+     * @return preference cache
+     */
+    public static PreferenceCache getCache() {
+        return cache;
+    }
+
+    private static SharedPreferences getSharedPreferences(Context context) {
+        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        if (!cacheListenerRegistered) {
+            synchronized (cache) {
+                if (!cacheListenerRegistered) {
+                    // preferences keep only weak reference to listener, cache is held by static field
+                    sharedPreferences.registerOnSharedPreferenceChangeListener(cache);
+                    cacheListenerRegistered = true;
+                }
+            }
+        }
+        return sharedPreferences;
+    }
+
+    private static String encryptKey(Context context, String key) {
+        String encryptedKey = encryptedKeys.get(key);
+        if (encryptedKey == null) {
+            encryptedKey = getCryptor(context).encrypt(key);
+            if (encryptedKey != null) {
+                encryptedKeys.put(key, encryptedKey);
+            }
+        }
+        return encryptedKey;
+    }
+
+    /**
+     * @return cryptor which is used for encrypted preferences
+     */
+    public static Cryptor getCryptor(Context context) {
         if (cryptor != null) {
             return cryptor;
         }
@@ -43,14 +84,23 @@ public abstract class PreferenceHelper {
     }
 
     public static String findString(Context context, String key, String defaultValue, boolean encrypted) {
-        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        SharedPreferences sharedPreferences = getSharedPreferences(context);
         if (!encrypted) {
             return sharedPreferences.getString(key, defaultValue);
         }
 
-        String encryptedKey = getCryptor(context).encrypt(key);
-        String encryptedValue = sharedPreferences.getString(encryptedKey, defaultValue);
-        return getCryptor(context).decrypt(encryptedValue);
+        String encryptedKey = encryptKey(context, key);
+        String encryptedValue = sharedPreferences.getString(encryptedKey, null);
+        if (encryptedValue == null) {
+            return getCryptor(context).decrypt(defaultValue);
+        }
+
+        String value = cache.get(encryptedKey, encryptedValue, String.class);
+        if (value == null) {
+            value = getCryptor(context).decrypt(encryptedValue);
+            cache.put(encryptedKey, encryptedValue, value);
+        }
+        return value;
     }
 
     public static void saveString(Context context, MobileMessagingProperty property, String value) {
@@ -63,17 +113,19 @@ public abstract class PreferenceHelper {
             return;
         }
 
-        String encryptedKey = getCryptor(context).encrypt(key);
+        String encryptedKey = encryptKey(context, key);
         String encryptedValue = getCryptor(context).encrypt(value);
         saveString(context, encryptedKey, encryptedValue);
+        cache.put(encryptedKey, encryptedValue, value);
     }
 
     public static void saveString(Context context, String key, String value) {
-        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        SharedPreferences sharedPreferences = getSharedPreferences(context);
         if (null == value) {
             remove(context, key);
             return;
         }
+        cache.invalidate(key);
         sharedPreferences.edit().putString(key, value).apply();
     }
 
@@ -99,7 +151,8 @@ public abstract class PreferenceHelper {
     }
 
     public static void saveLong(Context context, String key, long value) {
-        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        SharedPreferences sharedPreferences = getSharedPreferences(context);
+        cache.invalidate(key);
         sharedPreferences.edit().putString(key, String.valueOf(value)).apply();
     }
 
@@ -112,9 +165,16 @@ public abstract class PreferenceHelper {
         if (StringUtils.isBlank(callbackActivityClassName)) {
             return defaultValue;
         }
-        //TODO cache
+
+        Class cachedClass = cache.get(key, callbackActivityClassName, Class.class);
+        if (cachedClass != null) {
+            return (Class<T>) cachedClass;
+        }
+
         try {
-            return (Class<T>) Class.forName(callbackActivityClassName);
+            Class<T> aClass = (Class<T>) Class.forName(callbackActivityClassName);
+            cache.put(key, callbackActivityClassName, aClass);
+            return aClass;
         } catch (ClassNotFoundException e) {
             //TODO log
             return null;
@@ -180,13 +240,19 @@ public abstract class PreferenceHelper {
         if (null == vibrate) {
             return defaultValue;
         }
-        //TODO cache
+
+        long[] cachedPattern = cache.get(key, vibrate, long[].class);
+        if (cachedPattern != null) {
+            return cachedPattern.clone();
+        }
+
         try {
             JSONArray jsonArray = new JSONArray(vibrate);
             long[] vibratePattern = new long[jsonArray.length()];
             for (int i = 0; i < jsonArray.length(); i++) {
                 vibratePattern[i] = jsonArray.getLong(i);
             }
+            cache.put(key, vibrate, vibratePattern.clone());
             return vibratePattern;
         } catch (JSONException e) {
             //TODO log
@@ -199,11 +265,12 @@ public abstract class PreferenceHelper {
     }
 
     public static void saveLongArray(Context context, String key, long[] value) {
-        SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        SharedPreferences sharedPreferences = getSharedPreferences(context);
         if (null == value) {
             remove(context, key);
             return;
         }
+        cache.invalidate(key);
         JSONArray jsonArray = new JSONArray();
         for (long aValue : value) {
             jsonArray.put(aValue);
@@ -331,13 +398,14 @@ public abstract class PreferenceHelper {
     public static void remove(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptKey(context, key);
         }
         remove(context, key);
     }
 
     public static void remove(Context context, String key) {
-        PreferenceManager.getDefaultSharedPreferences(context)
+        cache.invalidate(key);
+        getSharedPreferences(context)
                 .edit()
                 .remove(key)
                 .apply();
@@ -346,7 +414,7 @@ public abstract class PreferenceHelper {
     public static boolean contains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptKey(context, key);
         }
         return contains(context, key);
     }
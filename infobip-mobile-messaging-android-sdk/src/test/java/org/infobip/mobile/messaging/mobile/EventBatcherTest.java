@@ -0,0 +1,161 @@
+package org.infobip.mobile.messaging.mobile;
+
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.platform.MainThreadDispatcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class EventBatcherTest {
+
+    private static final String DELIVERY = "delivery";
+    private static final String SEEN = "seen";
+
+    private ExecutorService mainThread;
+    private SdkExecutors sdkExecutors;
+    private List<String> flushes;
+    private List<String> actions;
+
+    @Before
+    public void setUp() throws Exception {
+        mainThread = Executors.newSingleThreadExecutor();
+        sdkExecutors = new SdkExecutors(new MainThreadDispatcher() {
+            @Override
+            public void dispatch(Runnable runnable) {
+                mainThread.execute(runnable);
+            }
+        });
+        SdkExecutors.reset(sdkExecutors);
+
+        flushes = Collections.synchronizedList(new ArrayList<String>());
+        actions = Collections.synchronizedList(new ArrayList<String>());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SdkExecutors.reset(null);
+        mainThread.shutdownNow();
+    }
+
+    @Test
+    public void test_shouldFlushAllEndpointsWhenBatchIsFull() throws Exception {
+        CountDownLatch done = new CountDownLatch(2);
+        EventBatcher batcher = newBatcher(3, 10000);
+        batcher.register(DELIVERY, action(DELIVERY, done));
+        batcher.register(SEEN, action(SEEN, done));
+
+        batcher.add(SEEN, 1);
+        batcher.add(DELIVERY, 2);
+        assertTrue(flushes.isEmpty());
+        batcher.add(DELIVERY, 1);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("delivery 3 SIZE", "seen 1 SIZE"), flushes);
+        assertEquals(0, batcher.getPendingCount(DELIVERY));
+        assertEquals(0, batcher.getPendingCount(SEEN));
+    }
+
+    @Test
+    public void test_shouldFlushAfterMaxLatency() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        EventBatcher batcher = newBatcher(10, 50);
+        batcher.register(DELIVERY, action(DELIVERY, done));
+
+        batcher.add(DELIVERY, 1);
+        batcher.add(DELIVERY, 1);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("delivery 2 LATENCY"), flushes);
+        assertEquals(Collections.singletonList(DELIVERY), actions);
+    }
+
+    @Test
+    public void test_shouldFlushPendingEventsOnFlushAll() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        EventBatcher batcher = newBatcher(10, 10000);
+        batcher.register(DELIVERY, action(DELIVERY, done));
+        batcher.register(SEEN, action(SEEN, done));
+
+        batcher.add(DELIVERY, 2);
+        batcher.flushAll();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("delivery 2 BACKGROUND"), flushes);
+    }
+
+    @Test
+    public void test_shouldFlushEventsAddedDuringInFlightBatchAfterItFinishes() throws Exception {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        EventBatcher batcher = newBatcher(2, 10000);
+        batcher.register(DELIVERY, new Runnable() {
+            @Override
+            public void run() {
+                await(blocker);
+                done.countDown();
+            }
+        });
+
+        batcher.add(DELIVERY, 2);
+        batcher.add(DELIVERY, 2);
+        batcher.add(DELIVERY, 1);
+        assertEquals(3, batcher.getPendingCount(DELIVERY));
+        assertEquals(Collections.singletonList("delivery 2 SIZE"), flushes);
+
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("delivery 2 SIZE", "delivery 3 SIZE"), flushes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_shouldRejectUnknownEndpoint() {
+        newBatcher(2, 100).add(DELIVERY, 1);
+    }
+
+    private EventBatcher newBatcher(int maxBatchSize, long maxLatencyMillis) {
+        return new EventBatcher(sdkExecutors.io(), maxBatchSize, maxLatencyMillis, new EventBatcher.Listener() {
+            @Override
+            public void onFlush(String endpoint, int events, EventBatcher.Reason reason) {
+                flushes.add(endpoint + " " + events + " " + reason);
+            }
+
+            @Override
+            public void onFlushFailed(String endpoint, Throwable error) {
+            }
+        });
+    }
+
+    private Runnable action(final String endpoint, final CountDownLatch done) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                actions.add(endpoint);
+                done.countDown();
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
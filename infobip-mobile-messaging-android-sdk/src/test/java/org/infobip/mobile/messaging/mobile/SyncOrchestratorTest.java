@@ -0,0 +1,274 @@
+package org.infobip.mobile.messaging.mobile;
+
+import org.infobip.mobile.messaging.mobile.common.MAsyncTask;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.platform.MainThreadDispatcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class SyncOrchestratorTest {
+
+    private ExecutorService mainThread;
+    private SdkExecutors sdkExecutors;
+    private List<String> events;
+    private List<String> failures;
+    private CountDownLatch finished;
+    private SyncOrchestrator orchestrator;
+
+    @Before
+    public void setUp() throws Exception {
+        mainThread = Executors.newSingleThreadExecutor();
+        sdkExecutors = new SdkExecutors(new MainThreadDispatcher() {
+            @Override
+            public void dispatch(Runnable runnable) {
+                mainThread.execute(runnable);
+            }
+        });
+        SdkExecutors.reset(sdkExecutors);
+
+        events = Collections.synchronizedList(new ArrayList<String>());
+        failures = Collections.synchronizedList(new ArrayList<String>());
+        finished = new CountDownLatch(1);
+        orchestrator = newOrchestrator(1000);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SdkExecutors.reset(null);
+        mainThread.shutdownNow();
+    }
+
+    @Test
+    public void test_shouldStartDependentStepAfterDependencyFinishes() throws Exception {
+        orchestrator.run(Arrays.asList(
+                step("b", 0, "a"),
+                step("a", 50),
+                step("c", 0, "b")));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("start a", "end a", "start b", "end b", "start c", "end c"), events);
+    }
+
+    @Test
+    public void test_shouldRunIndependentStepsInParallel() throws Exception {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable action = new Runnable() {
+            @Override
+            public void run() {
+                bothStarted.countDown();
+                await(bothStarted);
+            }
+        };
+
+        orchestrator.run(Arrays.asList(
+                new SyncOrchestrator.Step("a", action),
+                new SyncOrchestrator.Step("b", action)));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(0, bothStarted.getCount());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void test_shouldWaitForBackgroundTasksStartedByStep() throws Exception {
+        orchestrator.run(Arrays.asList(
+                new SyncOrchestrator.Step("a", new Runnable() {
+                    @Override
+                    public void run() {
+                        new MAsyncTask<Void, Void>() {
+                            @Override
+                            public Void run(Void[] voids) {
+                                sleep(50);
+                                return null;
+                            }
+
+                            @Override
+                            public void after(Void aVoid) {
+                                events.add("delivered a");
+                            }
+                        }.execute(sdkExecutors.lane(SdkExecutors.Lane.REGISTRATION));
+                    }
+                }),
+                step("b", 0, "a")));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("delivered a", "start b", "end b"), events);
+    }
+
+    @Test
+    public void test_shouldRunRequestedStepsAfterActiveRun() throws Exception {
+        finished = new CountDownLatch(2);
+
+        assertTrue(orchestrator.run(Collections.singletonList(step("a", 50))));
+        assertFalse(orchestrator.run(Collections.singletonList(step("b", 0))));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("start a", "end a", "start b", "end b"), events);
+    }
+
+    @Test
+    public void test_shouldContinueAfterStepTimeout() throws Exception {
+        orchestrator = newOrchestrator(20);
+        final CountDownLatch blocker = new CountDownLatch(1);
+
+        orchestrator.run(Arrays.asList(
+                new SyncOrchestrator.Step("a", new Runnable() {
+                    @Override
+                    public void run() {
+                        new MAsyncTask<Void, Void>() {
+                            @Override
+                            public Void run(Void[] voids) {
+                                await(blocker);
+                                return null;
+                            }
+                        }.execute(sdkExecutors.lane(SdkExecutors.Lane.REGISTRATION));
+                    }
+                }),
+                step("b", 0, "a")));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        blocker.countDown();
+        assertEquals(Collections.singletonList("a: " + TimeoutException.class.getSimpleName()), failures);
+        assertEquals(Arrays.asList("start b", "end b"), events);
+    }
+
+    @Test
+    public void test_shouldReportThrowingStepOnlyAsFailed() throws Exception {
+        final List<String> finishedSteps = Collections.synchronizedList(new ArrayList<String>());
+        orchestrator = new SyncOrchestrator(sdkExecutors.io(), 1000, new SyncOrchestrator.Listener() {
+            @Override
+            public void onStepFinished(String step, long startedAfterMs, long durationMs) {
+                finishedSteps.add(step);
+            }
+
+            @Override
+            public void onStepFailed(String step, Throwable error) {
+                failures.add(step + ": " + error.getClass().getSimpleName());
+            }
+
+            @Override
+            public void onFinished(long durationMs) {
+                finished.countDown();
+            }
+        });
+
+        orchestrator.run(Arrays.asList(
+                new SyncOrchestrator.Step("a", new Runnable() {
+                    @Override
+                    public void run() {
+                        throw new IllegalStateException();
+                    }
+                }),
+                step("b", 0, "a")));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("a: " + IllegalStateException.class.getSimpleName()), failures);
+        assertEquals(Collections.singletonList("b"), finishedSteps);
+        assertEquals(Arrays.asList("start b", "end b"), events);
+    }
+
+    @Test
+    public void test_shouldRunActionAfterStepOfActiveRun() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        orchestrator.run(Arrays.asList(
+                step("a", 100),
+                step("b", 100, "a")));
+
+        orchestrator.runAfter("a", new Runnable() {
+            @Override
+            public void run() {
+                events.add("after a");
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(events.indexOf("end a") + 1, events.indexOf("after a"));
+    }
+
+    @Test
+    public void test_shouldRunActionRightAwayWithoutActiveRun() {
+        orchestrator.runAfter("a", new Runnable() {
+            @Override
+            public void run() {
+                events.add("action");
+            }
+        });
+
+        assertEquals(Collections.singletonList("action"), events);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_shouldRejectDependencyCycle() {
+        orchestrator.run(Arrays.asList(step("a", 0, "b"), step("b", 0, "a")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_shouldRejectUnknownDependency() {
+        orchestrator.run(Collections.singletonList(step("a", 0, "b")));
+    }
+
+    private SyncOrchestrator newOrchestrator(long stepTimeoutMillis) {
+        return new SyncOrchestrator(sdkExecutors.io(), stepTimeoutMillis, new SyncOrchestrator.Listener() {
+            @Override
+            public void onStepFinished(String step, long startedAfterMs, long durationMs) {
+            }
+
+            @Override
+            public void onStepFailed(String step, Throwable error) {
+                failures.add(step + ": " + error.getClass().getSimpleName());
+            }
+
+            @Override
+            public void onFinished(long durationMs) {
+                finished.countDown();
+            }
+        });
+    }
+
+    private SyncOrchestrator.Step step(final String name, final long durationMillis, String... dependencies) {
+        return new SyncOrchestrator.Step(name, new Runnable() {
+            @Override
+            public void run() {
+                events.add("start " + name);
+                sleep(durationMillis);
+                events.add("end " + name);
+            }
+        }, dependencies);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.infobip.mobile.messaging.mobile.common;
+
+import org.infobip.mobile.messaging.api.support.ApiBackendException;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.mobile.common.executor.SdkExecutors;
+import org.infobip.mobile.messaging.platform.MainThreadDispatcher;
+import org.infobip.mobile.messaging.platform.PendingRetryStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class MRetryPolicyTest {
+
+    private ExecutorService mainThread;
+    private Random random = new Random(42);
+
+    @Before
+    public void setUp() throws Exception {
+        mainThread = Executors.newSingleThreadExecutor();
+        SdkExecutors.reset(new SdkExecutors(new MainThreadDispatcher() {
+            @Override
+            public void dispatch(Runnable runnable) {
+                mainThread.execute(runnable);
+            }
+        }));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SdkExecutors.reset(null);
+        mainThread.shutdownNow();
+    }
+
+    @Test
+    public void test_delayShouldGrowExponentiallyUpToMaxDelay() {
+        MRetryPolicy policy = new MRetryPolicy.Builder()
+                .withBackoffMultiplier(2)
+                .withMaxDelay(10000)
+                .withJitter(false)
+                .build();
+
+        assertEquals(2000, policy.delayMillis(1, 0, random));
+        assertEquals(4000, policy.delayMillis(2, 0, random));
+        assertEquals(8000, policy.delayMillis(3, 0, random));
+        assertEquals(10000, policy.delayMillis(4, 0, random));
+        assertEquals(10000, policy.delayMillis(100, 0, random));
+    }
+
+    @Test
+    public void test_jitteredDelayShouldBeSpreadBetweenZeroAndBackoff() {
+        MRetryPolicy policy = new MRetryPolicy.Builder()
+                .withBackoffMultiplier(2)
+                .build();
+
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.delayMillis(3, 0, random);
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+        }
+
+        assertTrue(min >= 0 && min < 1000);
+        assertTrue(max > 7000 && max <= 8000);
+    }
+
+    @Test
+    public void test_delayShouldNotBeShorterThanRetryAfter() {
+        MRetryPolicy policy = new MRetryPolicy.Builder()
+                .withBackoffMultiplier(1)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.delayMillis(1, 30000, random) == 30000);
+        }
+    }
+
+    @Test
+    public void test_retriesShouldBeReportedToPendingRetryStore() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+        MRetryPolicy policy = new MRetryPolicy.Builder()
+                .withMaxRetries(2)
+                .withPendingRetryStore(new PendingRetryStore() {
+                    @Override
+                    public void add(long retryAtMillis) {
+                        events.add("add");
+                    }
+
+                    @Override
+                    public void remove(long retryAtMillis) {
+                        events.add("remove");
+                    }
+                })
+                .build();
+
+        new MRetryableTask<Void, Void>() {
+            @Override
+            public Void run(Void[] voids) {
+                events.add("attempt");
+                if (attempts.incrementAndGet() < 3) {
+                    throw new ApiBackendException(DefaultApiClient.ErrorCode.UNKNOWN_API_BACKEND_ERROR.getValue(), "error", 0);
+                }
+                return null;
+            }
+
+            @Override
+            public void after(Void aVoid) {
+                done.countDown();
+            }
+        }.retryWith(policy).execute();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals(2, Collections.frequency(events, "add"));
+        assertEquals(2, Collections.frequency(events, "remove"));
+        assertEquals("attempt", events.get(0));
+        assertEquals("add", events.get(1));
+    }
+}
@@ -0,0 +1,280 @@
+package org.infobip.mobile.messaging.mobile.common.executor;
+
+import org.infobip.mobile.messaging.mobile.common.MAsyncTask;
+import org.infobip.mobile.messaging.platform.MainThreadDispatcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+
+public class SdkExecutorsTest {
+
+    private static final int TASKS = 20;
+
+    private ExecutorService mainThread;
+    private SdkExecutors sdkExecutors;
+
+    @Before
+    public void setUp() throws Exception {
+        mainThread = Executors.newSingleThreadExecutor();
+        sdkExecutors = new SdkExecutors(new MainThreadDispatcher() {
+            @Override
+            public void dispatch(Runnable runnable) {
+                mainThread.execute(runnable);
+            }
+        });
+        SdkExecutors.reset(sdkExecutors);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SdkExecutors.reset(null);
+        mainThread.shutdownNow();
+    }
+
+    @Test
+    public void test_laneShouldExecuteTasksOneByOneInOrder() throws Exception {
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final CountDownLatch done = new CountDownLatch(TASKS);
+
+        SerialLane lane = sdkExecutors.lane(SdkExecutors.Lane.REGISTRATION);
+        for (int i = 0; i < TASKS; i++) {
+            final int index = i;
+            lane.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (running.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    sleep(2);
+                    order.add(index);
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+        for (int i = 0; i < TASKS; i++) {
+            assertEquals(i, (int) order.get(i));
+        }
+    }
+
+    @Test
+    public void test_lanesShouldRunInParallel() throws Exception {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final CountDownLatch done = new CountDownLatch(2);
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                bothStarted.countDown();
+                try {
+                    bothStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                }
+                done.countDown();
+            }
+        };
+
+        sdkExecutors.lane(SdkExecutors.Lane.MESSAGES).execute(runnable);
+        sdkExecutors.lane(SdkExecutors.Lane.GEO).execute(runnable);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, bothStarted.getCount());
+    }
+
+    @Test
+    public void test_cancelShouldDropQueuedTasksAndCountThem() throws Exception {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final AtomicInteger executed = new AtomicInteger();
+        SerialLane lane = sdkExecutors.lane(SdkExecutors.Lane.MESSAGES);
+
+        lane.execute(new Runnable() {
+            @Override
+            public void run() {
+                await(blocker);
+            }
+        });
+        for (int i = 0; i < TASKS; i++) {
+            lane.execute(new Runnable() {
+                @Override
+                public void run() {
+                    executed.incrementAndGet();
+                }
+            });
+        }
+        lane.schedule(new Runnable() {
+            @Override
+            public void run() {
+                executed.incrementAndGet();
+            }
+        }, 1000);
+
+        assertEquals(TASKS, lane.getMetrics().getQueueDepth());
+        assertEquals(TASKS + 1, lane.cancel());
+        blocker.countDown();
+        sleep(100);
+
+        assertEquals(0, executed.get());
+        assertEquals(0, lane.getMetrics().getQueueDepth());
+        assertEquals(TASKS, lane.getMetrics().getCancelled());
+        assertEquals(1, lane.getMetrics().getCompleted());
+    }
+
+    @Test
+    public void test_asyncTaskShouldDeliverResultOnMainThread() throws Exception {
+        final AtomicReference<String> result = new AtomicReference<>();
+        final AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread main = mainThreadThread();
+
+        new MAsyncTask<String, String>() {
+            @Override
+            public String run(String[] strings) {
+                return strings[0] + "!";
+            }
+
+            @Override
+            public void after(String s) {
+                result.set(s);
+                callbackThread.set(Thread.currentThread());
+                done.countDown();
+            }
+        }.execute(sdkExecutors.lane(SdkExecutors.Lane.CHAT), "hello");
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("hello!", result.get());
+        assertEquals(main, callbackThread.get());
+    }
+
+    @Test
+    public void test_cancelledAsyncTaskShouldNotDeliverCallbacks() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final AtomicBoolean delivered = new AtomicBoolean();
+        SerialLane lane = sdkExecutors.lane(SdkExecutors.Lane.REGISTRATION);
+
+        new MAsyncTask<Void, Void>() {
+            @Override
+            public Void run(Void[] voids) {
+                started.countDown();
+                await(blocker);
+                return null;
+            }
+
+            @Override
+            public void after(Void aVoid) {
+                delivered.set(true);
+            }
+
+            @Override
+            public void error(Throwable error) {
+                delivered.set(true);
+            }
+        }.execute(lane);
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        lane.cancel();
+        blocker.countDown();
+        sleep(100);
+
+        assertFalse(delivered.get());
+    }
+
+    @Test
+    public void test_metricsShouldRecordWaitAndRunTime() throws Exception {
+        final CountDownLatch done = new CountDownLatch(2);
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                sleep(50);
+                done.countDown();
+            }
+        };
+
+        sdkExecutors.io().execute(runnable);
+        sdkExecutors.io().execute(runnable);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        sleep(10);
+        ExecutorMetrics metrics = sdkExecutors.getMetrics().get(0);
+        assertEquals("io", metrics.getName());
+        assertEquals(2, metrics.getSubmitted());
+        assertEquals(2, metrics.getCompleted());
+        assertEquals(0, metrics.getQueueDepth());
+        assertTrue(metrics.getMaxRunMillis() >= 50);
+    }
+
+    @Test
+    public void test_shouldRunTasksWhichDidNotFitIntoQueueLater() throws Exception {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        int tasks = SdkExecutors.IO_POOL_SIZE + SdkExecutors.IO_QUEUE_CAPACITY + TASKS;
+        final CountDownLatch done = new CountDownLatch(tasks);
+        final Thread caller = Thread.currentThread();
+        final AtomicBoolean ranOnCaller = new AtomicBoolean();
+
+        for (int i = 0; i < tasks; i++) {
+            sdkExecutors.io().execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (Thread.currentThread() == caller) {
+                        ranOnCaller.set(true);
+                    }
+                    await(blocker);
+                    done.countDown();
+                }
+            });
+        }
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(ranOnCaller.get());
+        assertEquals(TASKS, sdkExecutors.getMetrics().get(0).getRejected());
+    }
+
+    private Thread mainThreadThread() throws Exception {
+        return mainThread.submit(new Callable<Thread>() {
+            @Override
+            public Thread call() throws Exception {
+                return Thread.currentThread();
+            }
+        }).get();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.infobip.mobile.messaging.api.support;
+
+import org.infobip.mobile.messaging.api.registration.MobileApiRegistration;
+import org.infobip.mobile.messaging.api.registration.RegistrationResponse;
+import org.infobip.mobile.messaging.api.support.http.HttpRequest;
+import org.infobip.mobile.messaging.api.support.http.Query;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.infobip.mobile.messaging.api.support.util.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cost of dispatching a call through {@link Generator} proxy, without network.
+ * Compares precompiled invocation plans with the previous implementation which copied default
+ * query and header maps, walked parameter annotations and replaced URI placeholders on every call.
+ * <p>
+ * Run with {@code ./gradlew :infobip-mobile-messaging-api-java:jmh -Pjmh.include=GeneratorBenchmark}
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    private MobileApiRegistration plannedProxy;
+    private MobileApiRegistration legacyProxy;
+
+    @Setup
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.put("api.key", "benchmark");
+
+        Generator generator = new Generator.Builder()
+                .withBaseUrl("https://mobile.infobip.com/")
+                .withProperties(properties)
+                .build();
+        BlackholeApiClient apiClient = new BlackholeApiClient();
+        generator.setApiClient(apiClient);
+        plannedProxy = generator.create(MobileApiRegistration.class);
+        legacyProxy = (MobileApiRegistration) Proxy.newProxyInstance(MobileApiRegistration.class.getClassLoader(),
+                new Class[]{MobileApiRegistration.class}, new LegacyInvocationHandler(apiClient, "https://mobile.infobip.com/"));
+    }
+
+    @Benchmark
+    public RegistrationResponse plannedInvocation() {
+        return plannedProxy.upsert("registration-id", true);
+    }
+
+    @Benchmark
+    public RegistrationResponse perCallInvocation() {
+        return legacyProxy.upsert("registration-id", true);
+    }
+
+    private static class BlackholeApiClient extends DefaultApiClient {
+        private Object sink;
+
+        @Override
+        public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+            sink = uri;
+            sink = queryParams;
+            sink = headers;
+            return null;
+        }
+    }
+
+    /**
+     * Per-call part of the previous {@code Generator.CachingInvocationHandler} for {@link MobileApiRegistration#upsert(String, Boolean)}.
+     * Annotations are read once as they were before, everything else is repeated on each call.
+     */
+    private static class LegacyInvocationHandler implements InvocationHandler {
+        private final DefaultApiClient apiClient;
+        private final String baseUrl;
+        private final String uri = "/mobile/{version}/registration";
+        private final HashMap<String, Collection<Object>> defaultQueryParams = new HashMap<>();
+        private final HashMap<String, Collection<Object>> defaultHeaderMap = new HashMap<>();
+        private final Map<Method, Annotation[][]> parameters = new ConcurrentHashMap<>();
+        private final Map<Method, HttpRequest[]> httpRequests = new ConcurrentHashMap<>();
+
+        LegacyInvocationHandler(DefaultApiClient apiClient, String baseUrl) {
+            this.apiClient = apiClient;
+            this.baseUrl = baseUrl;
+            this.defaultQueryParams.put("platformType", Collections.<Object>singletonList("GCM"));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Annotation[][] parameterAnnotations = parameters.get(method);
+            if (null == parameterAnnotations) {
+                parameterAnnotations = method.getParameterAnnotations();
+                parameters.put(method, parameterAnnotations);
+                httpRequests.put(method, new HttpRequest[]{method.getAnnotation(HttpRequest.class)});
+            }
+
+            String uri = StringUtils.join("/", baseUrl, this.uri).replace("{version}", "4");
+            Map<String, Collection<Object>> queryParams = new HashMap<>(defaultQueryParams);
+            Map<String, Collection<Object>> headerMap = new HashMap<>(defaultHeaderMap);
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                for (Annotation annotation : parameterAnnotations[i]) {
+                    if (annotation instanceof Query) {
+                        queryParams.put(((Query) annotation).name(), Collections.singleton(args[i]));
+                    }
+                }
+            }
+
+            HttpMethod httpMethod = HttpMethod.GET;
+            for (HttpRequest httpRequest : httpRequests.get(method)) {
+                httpMethod = httpRequest.method();
+            }
+            return apiClient.execute(httpMethod, uri, null, null, queryParams, headerMap, null, method.getReturnType());
+        }
+    }
+}
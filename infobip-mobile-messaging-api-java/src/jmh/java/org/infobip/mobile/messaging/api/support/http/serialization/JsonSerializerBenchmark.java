@@ -0,0 +1,173 @@
+package org.infobip.mobile.messaging.api.support.http.serialization;
+
+import com.google.gson.TypeAdapterFactory;
+
+import org.infobip.mobile.messaging.api.data.CustomUserDataValueReport;
+import org.infobip.mobile.messaging.api.data.UserDataReport;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.SeenMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares streaming codecs of {@link ApiCodecs} with reflective Gson for the most frequent Mobile API bodies,
+ * and streaming {@link JsonSerializer.StreamingObjectAdapter} with string based {@link JsonSerializer.ObjectAdapter}.
+ * Scores are per message since each invocation handles {@link #MESSAGES} messages.
+ * <p>
+ * Run with {@code ./gradlew :infobip-mobile-messaging-api-java:jmh -Pjmh.include="JsonSerializerBenchmark -prof gc"},
+ * {@code gc.alloc.rate.norm} is then allocation per message.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializerBenchmark {
+
+    private static final int MESSAGES = 20;
+
+    private JsonSerializer codecs;
+    private JsonSerializer reflection;
+    private JsonSerializer stringAdapter;
+    private JsonSerializer streamingAdapter;
+    private String syncResponse;
+    private SeenMessages seenMessages;
+    private UserDataReport userDataReport;
+    private String payloads;
+
+    @Setup
+    public void setUp() {
+        codecs = new JsonSerializer(false, ApiCodecs.INSTANCE);
+        reflection = new JsonSerializer(false, (TypeAdapterFactory) null);
+        stringAdapter = new JsonSerializer(false, new StringPayloadAdapter());
+        streamingAdapter = new JsonSerializer(false, new StreamingPayloadAdapter());
+
+        List<MessageResponse> messages = new ArrayList<>();
+        SeenMessages.Message[] seen = new SeenMessages.Message[MESSAGES];
+        Map<String, CustomUserDataValueReport> customUserData = new HashMap<>();
+        StringBuilder payloads = new StringBuilder("[");
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(new MessageResponse("message-id-" + i, "Title " + i, "Message body number " + i, "default", "true", "false", null,
+                    "{\"url\":\"https://www.infobip.com\",\"index\":" + i + "}", "{\"silent\":{\"title\":\"Title\",\"body\":\"Body\"}}"));
+            seen[i] = new SeenMessages.Message("message-id-" + i, 1000L * i);
+            customUserData.put("key" + i, new CustomUserDataValueReport("value " + i, "String"));
+            payloads.append(i > 0 ? "," : "").append("{\"payload\":{\"url\":\"https://www.infobip.com\",\"index\":").append(i)
+                    .append(",\"tags\":[\"a\",\"b\"],\"nested\":{\"flag\":true,\"ratio\":0.5}}}");
+        }
+        syncResponse = reflection.serialize(new SyncMessagesResponse(messages));
+        seenMessages = new SeenMessages(seen);
+        userDataReport = new UserDataReport(new HashMap<String, Object>(), customUserData);
+        this.payloads = payloads.append("]").toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public SyncMessagesResponse readSyncResponseWithCodecs() {
+        return codecs.deserialize(new StringReader(syncResponse), SyncMessagesResponse.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public SyncMessagesResponse readSyncResponseWithReflection() {
+        return reflection.deserialize(new StringReader(syncResponse), SyncMessagesResponse.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public String writeSeenMessagesWithCodecs() {
+        return codecs.serialize(seenMessages);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public String writeSeenMessagesWithReflection() {
+        return reflection.serialize(seenMessages);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public String writeUserDataWithCodecs() {
+        return codecs.serialize(userDataReport);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public String writeUserDataWithReflection() {
+        return reflection.serialize(userDataReport);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public Holder[] readPayloadsWithStreamingAdapter() {
+        return streamingAdapter.deserialize(payloads, Holder[].class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public Holder[] readPayloadsWithStringAdapter() {
+        return stringAdapter.deserialize(payloads, Holder[].class);
+    }
+
+    public static class Holder {
+        Payload payload;
+    }
+
+    public static class Payload {
+        Object value;
+    }
+
+    /**
+     * Same approach as SDK adapters for {@code org.json} types before streaming, value is parsed again from string.
+     */
+    private static class StringPayloadAdapter implements JsonSerializer.ObjectAdapter<Payload> {
+        private final JsonSerializer serializer = new JsonSerializer();
+
+        @Override
+        public Class<Payload> getCls() {
+            return Payload.class;
+        }
+
+        @Override
+        public Payload deserialize(String value) {
+            Payload payload = new Payload();
+            payload.value = serializer.deserialize(value, Map.class);
+            return payload;
+        }
+
+        @Override
+        public String serialize(Payload value) {
+            return serializer.serialize(value.value);
+        }
+    }
+
+    private static class StreamingPayloadAdapter extends StringPayloadAdapter implements JsonSerializer.StreamingObjectAdapter<Payload> {
+
+        @Override
+        public Payload fromJsonValue(Object value) {
+            Payload payload = new Payload();
+            payload.value = value;
+            return payload;
+        }
+    }
+}
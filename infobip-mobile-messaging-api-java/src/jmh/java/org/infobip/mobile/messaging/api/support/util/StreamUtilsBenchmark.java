@@ -0,0 +1,90 @@
+package org.infobip.mobile.messaging.api.support.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares block-based {@link StreamUtils#readToString(InputStream, String, long)}
+ * with the previous implementation which read one byte per {@link InputStream#read()} call.
+ * <p>
+ * Run with {@code ./gradlew :infobip-mobile-messaging-api-java:jmh}
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamUtilsBenchmark {
+
+    @Param({"256", "16384", "1048576"})
+    public int size;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder sb = new StringBuilder(size);
+        String chunk = "{\"messageId\":\"a1b2c3\",\"text\":\"Žuta čaša\",\"silent\":false},";
+        while (sb.length() < size) {
+            sb.append(chunk);
+        }
+        payload = sb.toString().getBytes("UTF-8");
+    }
+
+    @Benchmark
+    public String byteByByte() throws IOException {
+        return readToStringByteByByte(new ByteArrayInputStream(payload), "UTF-8", payload.length);
+    }
+
+    @Benchmark
+    public String blocks() throws IOException {
+        return StreamUtils.readToString(new ByteArrayInputStream(payload), "UTF-8", payload.length);
+    }
+
+    @Benchmark
+    public String blocksWithoutLength() throws IOException {
+        return StreamUtils.readToString(new ByteArrayInputStream(payload), "UTF-8");
+    }
+
+    /**
+     * Previous implementation of {@link StreamUtils#readToString(InputStream, String, long)}
+     */
+    private static String readToStringByteByByte(InputStream inputStream, String charsetName, long length) throws IOException {
+        if (length < 1) {
+            return "";
+        }
+
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        int result = inputStream.read();
+        long count = 1;
+        while (result != -1) {
+            byte b = (byte) result;
+            buf.write(b);
+            if (count == length) {
+                break;
+            }
+            result = inputStream.read();
+            count++;
+        }
+        return buf.toString(charsetName);
+    }
+}
@@ -2,6 +2,7 @@ package org.infobip.mobile.messaging.api.messages;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
@@ -17,6 +18,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class SeenMessages {
 
+    @Getter
     public static class Message {
         /**
          * Id of a message.
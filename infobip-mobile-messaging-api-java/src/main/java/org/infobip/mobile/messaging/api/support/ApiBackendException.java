@@ -12,4 +12,8 @@ public class ApiBackendException extends ApiIOException {
     public ApiBackendException(String code, String message, Throwable cause) {
         super(code, message, cause);
     }
+
+    public ApiBackendException(String code, String message, long retryAfterMillis) {
+        super(code, message, null, retryAfterMillis);
+    }
 }
@@ -0,0 +1,103 @@
+package org.infobip.mobile.messaging.api.support;
+
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous API call returned by {@link Generator} proxies for methods returning {@link java.util.concurrent.Future}
+ * or accepting {@link Callback}.
+ * <p>
+ * Call fails with {@link ApiIOException} if it does not complete within timeout. Worker thread is never interrupted,
+ * neither on timeout nor on cancel, since blocking I/O of {@link java.net.HttpURLConnection} does not respond to interrupts;
+ * request in progress ends on connect or read timeout of the client and its result is ignored.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+class ApiCall<R> extends FutureTask<R> {
+
+    private final Callback<R> callback;
+    private volatile ScheduledFuture<?> timeout;
+
+    ApiCall(Callable<R> callable, Callback<R> callback) {
+        super(callable);
+        this.callback = callback;
+    }
+
+    /**
+     * Fails the call with {@link DefaultApiClient.ErrorCode#API_TIMEOUT} if it is still pending after timeout.
+     */
+    void scheduleTimeout(ScheduledExecutorService scheduler, long timeoutMillis) {
+        timeout = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                expire();
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        if (isDone()) {
+            timeout.cancel(false);
+        }
+    }
+
+    /**
+     * Cancels the call without interrupting worker thread, see {@link ApiCall}.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return super.cancel(false);
+    }
+
+    /**
+     * Completes the call with an error without running it, i.e. when executor rejects it.
+     */
+    void fail(ApiIOException error) {
+        setException(error);
+    }
+
+    @Override
+    protected void done() {
+        ScheduledFuture<?> timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+
+        if (callback == null || isCancelled()) {
+            return;
+        }
+
+        R result;
+        try {
+            result = get();
+        } catch (ExecutionException e) {
+            callback.onError(toApiIOException(e.getCause()));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        callback.onSuccess(result);
+    }
+
+    private void expire() {
+        if (isDone()) {
+            return;
+        }
+
+        DefaultApiClient.ErrorCode errorCode = DefaultApiClient.ErrorCode.API_TIMEOUT;
+        setException(new ApiIOException(errorCode.getValue(), errorCode.getDescription()));
+    }
+
+    private static ApiIOException toApiIOException(Throwable t) {
+        if (t instanceof ApiIOException) {
+            return (ApiIOException) t;
+        }
+        DefaultApiClient.ErrorCode errorCode = DefaultApiClient.ErrorCode.API_IO_ERROR;
+        return new ApiIOException(errorCode.getValue(), t.getMessage(), t);
+    }
+}
@@ -12,4 +12,8 @@ public class ApiException extends ApiIOException {
     public ApiException(String code, String message, Throwable cause) {
         super(code, message, cause);
     }
+
+    public ApiException(String code, String message, long retryAfterMillis) {
+        super(code, message, null, retryAfterMillis);
+    }
 }
@@ -8,21 +8,36 @@ import org.infobip.mobile.messaging.api.support.util.StringUtils;
  */
 public class ApiIOException extends RuntimeException {
     private final String code;
+    private final long retryAfterMillis;
 
     public ApiIOException(String code, String message) {
-        super(message);
-        this.code = code;
+        this(code, message, null, 0);
     }
 
     public ApiIOException(String code, String message, Throwable cause) {
+        this(code, message, cause, 0);
+    }
+
+    /**
+     * @param retryAfterMillis time after which request may be retried as requested by server, 0 if not provided
+     */
+    public ApiIOException(String code, String message, Throwable cause, long retryAfterMillis) {
         super(message, cause);
         this.code = code;
+        this.retryAfterMillis = retryAfterMillis;
     }
 
     public String getCode() {
         return code;
     }
 
+    /**
+     * @return time in milliseconds after which request may be retried, i.e. from {@code Retry-After} header, 0 if not provided
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
     public String toString() {
         String s = getClass().getName();
         String message = getLocalizedMessage();
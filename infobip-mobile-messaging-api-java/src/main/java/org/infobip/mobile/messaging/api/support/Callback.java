@@ -0,0 +1,25 @@
+package org.infobip.mobile.messaging.api.support;
+
+/**
+ * Receives result of an asynchronous API call.
+ * <p>
+ * Declare it as a parameter of API interface method to execute the method on the I/O executor of {@link Generator}:
+ * <pre>{@code
+ * @HttpRequest(method = HttpMethod.POST)
+ * void sync(@Body SyncMessagesBody body, Callback<SyncMessagesResponse> callback);
+ * }</pre>
+ * Methods are invoked on the I/O thread which executed the request, or on the timer thread if the call timed out.
+ * Neither method is invoked if the call is cancelled.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public interface Callback<R> {
+
+    void onSuccess(R result);
+
+    /**
+     * @param error {@link ApiException} for errors returned by backend, {@link ApiIOException} for I/O errors and timeouts
+     */
+    void onError(ApiIOException error);
+}
@@ -2,6 +2,7 @@ package org.infobip.mobile.messaging.api.support;
 
 import org.infobip.mobile.messaging.api.support.http.ApiKey;
 import org.infobip.mobile.messaging.api.support.http.Body;
+import org.infobip.mobile.messaging.api.support.http.Conditional;
 import org.infobip.mobile.messaging.api.support.http.Credentials;
 import org.infobip.mobile.messaging.api.support.http.Header;
 import org.infobip.mobile.messaging.api.support.http.Headers;
@@ -11,25 +12,45 @@ import org.infobip.mobile.messaging.api.support.http.Paths;
 import org.infobip.mobile.messaging.api.support.http.Queries;
 import org.infobip.mobile.messaging.api.support.http.Query;
 import org.infobip.mobile.messaging.api.support.http.Version;
+import org.infobip.mobile.messaging.api.support.http.client.CircuitBreaker;
+import org.infobip.mobile.messaging.api.support.http.client.ConditionalRequestCache;
 import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultHttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.HttpCompression;
 import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.infobip.mobile.messaging.api.support.http.client.HttpTransport;
 import org.infobip.mobile.messaging.api.support.http.client.Logger;
 import org.infobip.mobile.messaging.api.support.http.client.RequestInterceptor;
 import org.infobip.mobile.messaging.api.support.http.client.ResponsePreProcessor;
+import org.infobip.mobile.messaging.api.support.http.client.ValidatorCache;
 import org.infobip.mobile.messaging.api.support.util.StringUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.Data;
 import lombok.NonNull;
@@ -41,6 +62,8 @@ import static org.infobip.mobile.messaging.api.support.util.ReflectionUtils.load
  * <pre>{@code
  * MobileApiRegistration mobileApiRegistration = new Generator.Builder().build().create(MobileApiRegistration.class);
  * }</pre>
+ * Methods returning {@link Future} or accepting {@link Callback} are executed asynchronously on I/O executor,
+ * see {@link Builder#withIoExecutor(ExecutorService)} and {@link Builder#withCallTimeout(long)}.
  *
  * @author mstipanov
  * @see Builder
@@ -49,6 +72,10 @@ import static org.infobip.mobile.messaging.api.support.util.ReflectionUtils.load
 @Data
 public class Generator {
 
+    public static final int DEFAULT_IO_THREADS = 4;
+    public static final int DEFAULT_IO_QUEUE_CAPACITY = 64;
+    private static final long IO_THREAD_KEEP_ALIVE_SECONDS = 30;
+
     private DefaultApiClient apiClient;
     private String baseUrl = "https://mobile.infobip.com/";
     private ConcurrentHashMap<Class<?>, CachingInvocationHandler> proxyCacheMap = new ConcurrentHashMap<>();
@@ -59,16 +86,114 @@ public class Generator {
     private RequestInterceptor[] requestInterceptors = new RequestInterceptor[0];
     private ResponsePreProcessor[] responsePreProcessors = new ResponsePreProcessor[0];
     private Logger logger = new Logger();
-
-    private DefaultApiClient getApiClient() {
+    private HttpTransport httpTransport = new DefaultHttpTransport();
+    private boolean chunkedRequestBody = false;
+    private int requestCompressionThreshold = -1;
+    private boolean compressedResponses = false;
+    private ExecutorService ioExecutor;
+    private int ioThreads = DEFAULT_IO_THREADS;
+    private long callTimeoutMillis = 0;
+    private ScheduledExecutorService timeoutScheduler;
+    private boolean singleFlight = false;
+    private long getMemoizationMillis = 0;
+    private SingleFlight singleFlightCalls;
+    private ConditionalRequestCache conditionalRequestCache;
+    private CircuitBreaker circuitBreaker;
+
+    private synchronized DefaultApiClient getApiClient() {
         if (null != apiClient) {
             return apiClient;
         }
         String libraryVersion = properties.getProperty("library.version");
-        apiClient = new DefaultApiClient(connectTimeout, readTimeout, libraryVersion, requestInterceptors, responsePreProcessors, logger, userAgentAdditions);
+        apiClient = new DefaultApiClient(connectTimeout, readTimeout, libraryVersion, requestInterceptors, responsePreProcessors, logger, httpTransport, chunkedRequestBody,
+                new HttpCompression(requestCompressionThreshold, compressedResponses), conditionalRequestCache, circuitBreaker, userAgentAdditions);
         return apiClient;
     }
 
+    private synchronized ExecutorService getIoExecutor() {
+        if (null != ioExecutor) {
+            return ioExecutor;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(ioThreads, ioThreads, IO_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(DEFAULT_IO_QUEUE_CAPACITY), new DaemonThreadFactory("mm-api-io-"));
+        executor.allowCoreThreadTimeOut(true);
+        ioExecutor = executor;
+        return ioExecutor;
+    }
+
+    private synchronized ScheduledExecutorService getTimeoutScheduler() {
+        if (null != timeoutScheduler) {
+            return timeoutScheduler;
+        }
+        timeoutScheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("mm-api-timeout-"));
+        return timeoutScheduler;
+    }
+
+    private synchronized SingleFlight getSingleFlightCalls() {
+        if (!singleFlight) {
+            return null;
+        }
+        if (null == singleFlightCalls) {
+            singleFlightCalls = new SingleFlight(getMemoizationMillis);
+        }
+        return singleFlightCalls;
+    }
+
+    private Object execute(final InvocationPlan plan, final String uri, final Map<String, Collection<Object>> queryParams,
+                           final Map<String, Collection<Object>> headers, final Object body) {
+        final DefaultApiClient apiClient = getApiClient();
+        SingleFlight singleFlightCalls = getSingleFlightCalls();
+        if (null == singleFlightCalls) {
+            return call(apiClient, plan, uri, queryParams, headers, body);
+        }
+
+        String serializedBody = null != body ? DefaultApiClient.JSON_SERIALIZER.serialize(body) : null;
+        SingleFlight.Key key = new SingleFlight.Key(plan.httpMethod, uri, queryParams, headers, serializedBody);
+        return singleFlightCalls.execute(key, new SingleFlight.Call<Object>() {
+            @Override
+            public Object execute() {
+                return call(apiClient, plan, uri, queryParams, headers, body);
+            }
+        });
+    }
+
+    /**
+     * Conditional overload is used only for methods annotated with {@link Conditional},
+     * so that custom clients which override the default {@code execute} keep receiving all other calls.
+     */
+    private static Object call(DefaultApiClient apiClient, InvocationPlan plan, String uri, Map<String, Collection<Object>> queryParams,
+                               Map<String, Collection<Object>> headers, Object body) {
+        if (plan.conditional) {
+            return apiClient.execute(plan.httpMethod, uri, plan.apiKey, plan.credentials, queryParams, headers, body, plan.returnType, true);
+        }
+        return apiClient.execute(plan.httpMethod, uri, plan.apiKey, plan.credentials, queryParams, headers, body, plan.returnType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object executeAsync(final InvocationPlan plan, Object[] args) {
+        final String uri = plan.uri(baseUrl, args);
+        final Map<String, Collection<Object>> queryParams = plan.queryParams(args);
+        final Map<String, Collection<Object>> headers = plan.headers(args);
+        final Object body = plan.body(args);
+        ApiCall<Object> call = new ApiCall<>(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return execute(plan, uri, queryParams, headers, body);
+            }
+        }, (Callback<Object>) plan.callback(args));
+
+        try {
+            getIoExecutor().execute(call);
+            if (callTimeoutMillis > 0) {
+                call.scheduleTimeout(getTimeoutScheduler(), callTimeoutMillis);
+            }
+        } catch (RejectedExecutionException e) {
+            DefaultApiClient.ErrorCode errorCode = DefaultApiClient.ErrorCode.API_IO_ERROR;
+            call.fail(new ApiIOException(errorCode.getValue(), "Executor rejected the call", e));
+        }
+        return plan.returnsFuture ? call : null;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T create(@NonNull Class<T> type) {
         CachingInvocationHandler<?> cachingInvocationHandler = proxyCacheMap.get(type);
@@ -192,6 +317,15 @@ public class Generator {
      * @see Builder#withConnectTimeout(int)
      * @see Builder#withReadTimeout(int)
      * @see Builder#withUserAgentAdditions(String...)
+     * @see Builder#withHttpTransport(HttpTransport)
+     * @see Builder#withChunkedRequestBody(boolean)
+     * @see Builder#withRequestCompression(int)
+     * @see Builder#withResponseCompression(boolean)
+     * @see Builder#withIoExecutor(ExecutorService)
+     * @see Builder#withCallTimeout(long)
+     * @see Builder#withSingleFlight(boolean)
+     * @see Builder#withGetMemoization(long)
+     * @see Builder#withValidatorCache(ValidatorCache)
      */
     public static class Builder {
         private final Generator generator;
@@ -289,6 +423,164 @@ public class Generator {
             return this;
         }
 
+        /**
+         * Will set transport which provides connections for http client.
+         * By default each request is executed on a new connection.
+         *
+         * @param httpTransport transport, i.e. {@link org.infobip.mobile.messaging.api.support.http.client.KeepAliveHttpTransport}
+         *                      or {@link org.infobip.mobile.messaging.api.support.http.client.Http2Transport}
+         * @return {@link Builder}
+         */
+        public Builder withHttpTransport(@NonNull HttpTransport httpTransport) {
+            generator.httpTransport = httpTransport;
+            return this;
+        }
+
+        /**
+         * Will make http client stream request bodies using chunked transfer encoding.
+         * Body is then serialized directly to the connection without being buffered in memory.
+         * By default body is buffered to provide Content-Length header.
+         *
+         * @param chunkedRequestBody true to send request bodies in chunks
+         * @return {@link Builder}
+         */
+        public Builder withChunkedRequestBody(boolean chunkedRequestBody) {
+            generator.chunkedRequestBody = chunkedRequestBody;
+            return this;
+        }
+
+        /**
+         * Will make http client gzip request bodies which are at least {@code minBodySizeBytes} long.
+         * Chunked request bodies are always compressed since their size is not known in advance.
+         * Request compression is disabled by default, enable it only if backend accepts {@code Content-Encoding: gzip}.
+         *
+         * @param minBodySizeBytes minimum size of body to compress, i.e. {@link HttpCompression#DEFAULT_MIN_REQUEST_BODY_SIZE}
+         * @return {@link Builder}
+         */
+        public Builder withRequestCompression(int minBodySizeBytes) {
+            if (minBodySizeBytes < 0) {
+                throw new IllegalArgumentException("minBodySizeBytes must not be negative");
+            }
+            generator.requestCompressionThreshold = minBodySizeBytes;
+            return this;
+        }
+
+        /**
+         * Will make http client advertise {@code Accept-Encoding: gzip, deflate} and decode compressed responses.
+         *
+         * @param compressedResponses true to accept compressed responses
+         * @return {@link Builder}
+         */
+        public Builder withResponseCompression(boolean compressedResponses) {
+            generator.compressedResponses = compressedResponses;
+            return this;
+        }
+
+        /**
+         * Will set executor which runs asynchronous calls, i.e. methods returning {@link Future} or accepting {@link Callback}.
+         * By default a pool of {@link #DEFAULT_IO_THREADS} daemon threads with a queue of {@link #DEFAULT_IO_QUEUE_CAPACITY} calls
+         * is created on first asynchronous call. Calls rejected by the executor fail with {@link DefaultApiClient.ErrorCode#API_IO_ERROR}.
+         *
+         * @param ioExecutor executor for network calls
+         * @return {@link Builder}
+         */
+        public Builder withIoExecutor(@NonNull ExecutorService ioExecutor) {
+            generator.ioExecutor = ioExecutor;
+            return this;
+        }
+
+        /**
+         * Will set maximum number of asynchronous calls executed concurrently, other calls wait in queue
+         * of {@link #DEFAULT_IO_QUEUE_CAPACITY} calls, calls which do not fit fail with {@link DefaultApiClient.ErrorCode#API_IO_ERROR}.
+         * Ignored if executor is provided with {@link #withIoExecutor(ExecutorService)}.
+         *
+         * @param ioThreads number of I/O threads, default is {@link #DEFAULT_IO_THREADS}
+         * @return {@link Builder}
+         */
+        public Builder withIoThreads(int ioThreads) {
+            if (ioThreads < 1) {
+                throw new IllegalArgumentException("ioThreads must be positive");
+            }
+            generator.ioThreads = ioThreads;
+            return this;
+        }
+
+        /**
+         * Will make each asynchronous call fail with {@link DefaultApiClient.ErrorCode#API_TIMEOUT} if it does not complete
+         * within the timeout, including time spent in queue. By default asynchronous calls are limited only by connect and read timeouts.
+         * Worker thread is not interrupted on timeout, request in progress still ends on connect or read timeout.
+         *
+         * @param callTimeoutMillis timeout in milliseconds, 0 to disable
+         * @return {@link Builder}
+         */
+        public Builder withCallTimeout(long callTimeoutMillis) {
+            if (callTimeoutMillis < 0) {
+                throw new IllegalArgumentException("callTimeoutMillis must not be negative");
+            }
+            generator.callTimeoutMillis = callTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * Will make identical calls which are executed at the same time share one network request.
+         * Calls are identical if they have the same http method, URI, query parameters, headers and body.
+         * All callers then receive the same response object.
+         *
+         * @param singleFlight true to coalesce identical calls in flight
+         * @return {@link Builder}
+         */
+        public Builder withSingleFlight(boolean singleFlight) {
+            generator.singleFlight = singleFlight;
+            return this;
+        }
+
+        /**
+         * Will reuse results of successful GET calls for the provided time, i.e. to avoid fetching
+         * the same resource several times during one synchronization. Memoized results are discarded when any other
+         * call completes. Enables {@link #withSingleFlight(boolean)}.
+         *
+         * @param getMemoizationMillis for how long to reuse results of GET calls, 0 to disable
+         * @return {@link Builder}
+         */
+        public Builder withGetMemoization(long getMemoizationMillis) {
+            if (getMemoizationMillis < 0) {
+                throw new IllegalArgumentException("getMemoizationMillis must not be negative");
+            }
+            generator.getMemoizationMillis = getMemoizationMillis;
+            if (getMemoizationMillis > 0) {
+                generator.singleFlight = true;
+            }
+            return this;
+        }
+
+        /**
+         * Will make GET requests and requests annotated with {@link Conditional} conditional. Validators of responses
+         * ({@code ETag}/{@code Last-Modified}) are kept in provided cache and sent with subsequent identical requests,
+         * body of cached response is used when server responds with {@code 304 Not Modified}.
+         * Hit and miss counters are available with {@link Generator#getConditionalRequestCache()}.
+         *
+         * @param validatorCache cache for validators, i.e. persistent one to revalidate responses after restart
+         * @return {@link Builder}
+         */
+        public Builder withValidatorCache(@NonNull ValidatorCache validatorCache) {
+            generator.conditionalRequestCache = new ConditionalRequestCache(validatorCache);
+            return this;
+        }
+
+        /**
+         * Will make http client stop sending requests to an endpoint after {@code failureThreshold} consecutive
+         * {@code 5xx}/{@code 429} responses, such requests fail with {@link DefaultApiClient.ErrorCode#API_CIRCUIT_OPEN}
+         * until {@code openMillis} pass and a trial request succeeds. Endpoint is identified by http method and URI.
+         *
+         * @param failureThreshold number of consecutive failures which opens circuit, i.e. {@link CircuitBreaker#DEFAULT_FAILURE_THRESHOLD}
+         * @param openMillis       for how long requests are rejected, i.e. {@link CircuitBreaker#DEFAULT_OPEN_MILLIS}
+         * @return {@link Builder}
+         */
+        public Builder withCircuitBreaker(int failureThreshold, long openMillis) {
+            generator.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+            return this;
+        }
+
         public Generator build() {
             if (StringUtils.isBlank(generator.getBaseUrl())) {
                 throw new IllegalArgumentException("baseUrl is mandatory");
@@ -301,7 +593,7 @@ public class Generator {
     @Data
     private class CachingInvocationHandler<T> implements InvocationHandler {
         private final Class<T> type;
-        private ConcurrentHashMap<Method, ProxyCache> proxyCacheMap = new ConcurrentHashMap<>();
+        private ConcurrentHashMap<Method, InvocationPlan> invocationPlans = new ConcurrentHashMap<>();
 
         @SuppressWarnings("unchecked")
         public T getProxy() {
@@ -310,96 +602,263 @@ public class Generator {
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            ProxyCache proxyCache = getProxyCache(method);
-            String uri = StringUtils.join("/", baseUrl, proxyCache.getUri());
-
-            Map<String, Collection<Object>> queryParams = new HashMap<>(proxyCache.getDefaultQueryParams());
-            Map<String, Collection<Object>> headerMap = new HashMap<>(proxyCache.getDefaultHeaderMap());
-            String apiKey = proxyCache.getApiKey();
-            Tuple<String, String> credentials = proxyCache.getCredentials();
-
-            Parameter[] parameters = proxyCache.getParameters();
-            Object body = null;
-            for (int i = 0, parametersLength = parameters.length; i < parametersLength; i++) {
-                Parameter parameter = parameters[i];
-                Object arg = args[i];
-                if (null != parameter.getBody()) {
-                    body = arg;
+            InvocationPlan plan = getInvocationPlan(method);
+            if (plan.async) {
+                return executeAsync(plan, args);
+            }
+            return execute(plan, plan.uri(baseUrl, args), plan.queryParams(args), plan.headers(args), plan.body(args));
+        }
+
+        private InvocationPlan getInvocationPlan(Method method) {
+            InvocationPlan plan = invocationPlans.get(method);
+            if (null != plan) {
+                return plan;
+            }
+
+            plan = new InvocationPlan(method);
+            InvocationPlan existing = invocationPlans.putIfAbsent(method, plan);
+            return existing != null ? existing : plan;
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String namePrefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        DaemonThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Binds value of method argument at {@code index} to query parameter or header with {@code name}.
+     */
+    private static class ArgumentBinding {
+        private final int index;
+        private final String name;
+
+        ArgumentBinding(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+    }
+
+    /**
+     * URI split into literal segments and indexes of arguments which go in between them.
+     */
+    private static class UriTemplate {
+        private final String baseUrl;
+        private final String[] segments;
+        private final int[] argumentIndexes;
+        private final int literalLength;
+
+        UriTemplate(String baseUrl, String uri, Map<String, Integer> placeholders) {
+            this.baseUrl = baseUrl;
+
+            List<String> segments = new ArrayList<>();
+            List<Integer> argumentIndexes = new ArrayList<>();
+            int start = 0;
+            int open = uri.indexOf('{');
+            while (open >= 0) {
+                int close = uri.indexOf('}', open);
+                if (close < 0) {
+                    break;
+                }
+                Integer index = placeholders.get(uri.substring(open + 1, close));
+                if (null != index) {
+                    segments.add(uri.substring(start, open));
+                    argumentIndexes.add(index);
+                    start = close + 1;
                 }
+                open = uri.indexOf('{', null != index ? start : open + 1);
+            }
+            segments.add(uri.substring(start));
+
+            int literalLength = 0;
+            for (String segment : segments) {
+                literalLength += segment.length();
+            }
+            this.segments = segments.toArray(new String[segments.size()]);
+            this.argumentIndexes = new int[argumentIndexes.size()];
+            for (int i = 0; i < this.argumentIndexes.length; i++) {
+                this.argumentIndexes[i] = argumentIndexes.get(i);
+            }
+            this.literalLength = literalLength;
+        }
+
+        String expand(Object[] args) {
+            if (argumentIndexes.length == 0) {
+                return segments[0];
+            }
 
-                Version version = parameter.getVersion();
-                if (null != version) {
-                    uri = uri.replace("{version}", arg.toString());
+            StringBuilder sb = new StringBuilder(literalLength + 16 * argumentIndexes.length);
+            sb.append(segments[0]);
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                sb.append(args[argumentIndexes[i]].toString());
+                sb.append(segments[i + 1]);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Everything that can be resolved from method and its annotations, computed once per method.
+     * Per-call work is limited to expanding path arguments into URI and binding query, header and body arguments.
+     * Query and header maps are still created for each call since request interceptors are allowed to modify them.
+     */
+    private class InvocationPlan {
+        private final HttpMethod httpMethod;
+        private final Class<?> returnType;
+        private final boolean returnsFuture;
+        private final int callbackIndex;
+        private final boolean async;
+        private final String uri;
+        private final Map<String, Integer> uriPlaceholders;
+        private final Map<String, Collection<Object>> defaultQueryParams;
+        private final Map<String, Collection<Object>> defaultHeaderMap;
+        private final ArgumentBinding[] queryBindings;
+        private final ArgumentBinding[] headerBindings;
+        private final int bodyIndex;
+        private final String apiKey;
+        private final Tuple<String, String> credentials;
+        private final boolean conditional;
+        private volatile UriTemplate uriTemplate;
+
+        InvocationPlan(Method method) {
+            HttpRequest[] httpRequests = createHttpRequest(method);
+            this.httpMethod = getHttpRequestMethod(httpRequests);
+            this.returnsFuture = Future.class.equals(method.getReturnType());
+            this.callbackIndex = findCallbackIndex(method);
+            this.async = returnsFuture || callbackIndex >= 0;
+            if (returnsFuture) {
+                this.returnType = typeArgument(method.getGenericReturnType());
+            } else if (callbackIndex >= 0) {
+                this.returnType = typeArgument(method.getGenericParameterTypes()[callbackIndex]);
+            } else {
+                this.returnType = method.getReturnType();
+            }
+            this.uri = createUri(method, httpRequests);
+            this.defaultQueryParams = createDefaultQueryParams(method);
+            this.defaultHeaderMap = createDefaultHeaderMap(method);
+            this.apiKey = findApiKey(method);
+            this.credentials = findCredentials(method);
+            this.conditional = httpMethod != HttpMethod.GET && (method.isAnnotationPresent(Conditional.class)
+                    || method.getDeclaringClass().isAnnotationPresent(Conditional.class));
+
+            Map<String, Integer> uriPlaceholders = new HashMap<>();
+            List<ArgumentBinding> queryBindings = new ArrayList<>();
+            List<ArgumentBinding> headerBindings = new ArrayList<>();
+            int bodyIndex = -1;
+            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                Annotation[] annotations = parameterAnnotations[i];
+                if (null != getAnnotation(annotations, Body.class)) {
+                    bodyIndex = i;
                 }
 
-                Path p = parameter.getPath();
-                if (null != p) {
-                    uri = uri.replace("{" + p.name() + "}", arg.toString());
+                if (null != getAnnotation(annotations, Version.class) && !uriPlaceholders.containsKey("version")) {
+                    uriPlaceholders.put("version", i);
                 }
 
-                Query q = parameter.getQuery();
+                Path p = getAnnotation(annotations, Path.class);
+                if (null != p && !uriPlaceholders.containsKey(p.name())) {
+                    uriPlaceholders.put(p.name(), i);
+                }
+
+                Query q = getAnnotation(annotations, Query.class);
                 if (null != q) {
-                    String name = q.name();
-                    queryParams.put(name, toCollection(arg));
+                    queryBindings.add(new ArgumentBinding(i, q.name()));
                 }
 
-                Header h = parameter.getHeader();
+                Header h = getAnnotation(annotations, Header.class);
                 if (null != h) {
-                    String name = h.name();
-                    headerMap.put(name, toCollection(arg));
+                    headerBindings.add(new ArgumentBinding(i, h.name()));
                 }
             }
-
-            return getApiClient().execute(getHttpRequestMethod(proxyCache.httpRequests), uri, apiKey, credentials, queryParams, headerMap, body, method.getReturnType());
+            this.uriPlaceholders = uriPlaceholders;
+            this.queryBindings = queryBindings.toArray(new ArgumentBinding[queryBindings.size()]);
+            this.headerBindings = headerBindings.toArray(new ArgumentBinding[headerBindings.size()]);
+            this.bodyIndex = bodyIndex;
         }
 
-        private HttpMethod getHttpRequestMethod(HttpRequest[] httpRequests) {
-            HttpMethod method = HttpMethod.GET;
-            for (HttpRequest httpRequest : httpRequests) {
-                method = httpRequest.method();
+        String uri(String baseUrl, Object[] args) {
+            UriTemplate template = uriTemplate;
+            if (null == template || !template.baseUrl.equals(baseUrl)) {
+                template = new UriTemplate(baseUrl, StringUtils.join("/", baseUrl, uri), uriPlaceholders);
+                uriTemplate = template;
             }
-            return method;
+            return template.expand(args);
+        }
+
+        Map<String, Collection<Object>> queryParams(Object[] args) {
+            return bind(defaultQueryParams, queryBindings, args);
         }
 
-        private ProxyCache getProxyCache(Method method) {
-            ProxyCache proxyCache = proxyCacheMap.get(method);
-            if (null != proxyCache) {
-                return proxyCache;
+        Map<String, Collection<Object>> headers(Object[] args) {
+            return bind(defaultHeaderMap, headerBindings, args);
+        }
+
+        Object body(Object[] args) {
+            return bodyIndex >= 0 ? args[bodyIndex] : null;
+        }
+
+        Callback<?> callback(Object[] args) {
+            return callbackIndex >= 0 ? (Callback<?>) args[callbackIndex] : null;
+        }
+
+        private int findCallbackIndex(Method method) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (Callback.class.isAssignableFrom(parameterTypes[i])) {
+                    return i;
+                }
             }
+            return -1;
+        }
 
-            proxyCache = new ProxyCache(method);
-            proxyCacheMap.put(method, proxyCache);
-            return proxyCache;
+        /**
+         * @return raw type of the first type argument, i.e. {@code SyncMessagesResponse} for {@code Future<SyncMessagesResponse>}
+         */
+        private Class<?> typeArgument(Type type) {
+            if (!(type instanceof ParameterizedType)) {
+                return Object.class;
+            }
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+            if (argument instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+            return Object.class;
         }
-    }
 
-    @Data
-    private class Parameter {
-        private final Body body;
-        private final Path path;
-        private final Query query;
-        private final Header header;
-        private final Version version;
-    }
+        private Map<String, Collection<Object>> bind(Map<String, Collection<Object>> defaults, ArgumentBinding[] bindings, Object[] args) {
+            Map<String, Collection<Object>> map = new HashMap<>(capacity(defaults.size() + bindings.length));
+            map.putAll(defaults);
+            for (ArgumentBinding binding : bindings) {
+                map.put(binding.name, toCollection(args[binding.index]));
+            }
+            return map;
+        }
 
-    @Data
-    private class ProxyCache {
-        private final HttpRequest[] httpRequests;
-        private final String uri;
-        private final HashMap<String, Collection<Object>> defaultQueryParams;
-        private final HashMap<String, Collection<Object>> defaultHeaderMap;
-        private final Parameter[] parameters;
-        private final String apiKey;
-        private final Tuple<String, String> credentials;
+        private int capacity(int size) {
+            return Math.max(4, (int) (size / 0.75f) + 1);
+        }
 
-        public ProxyCache(Method method) {
-            this.httpRequests = createHttpRequest(method);
-            this.uri = createUri(method);
-            this.defaultQueryParams = createDefaultQueryParams(method);
-            this.defaultHeaderMap = createDefaultHeaderMap(method);
-            this.parameters = createParameters(method);
-            this.apiKey = findApiKey(method);
-            this.credentials = findCredentials(method);
+        private HttpMethod getHttpRequestMethod(HttpRequest[] httpRequests) {
+            HttpMethod method = HttpMethod.GET;
+            for (HttpRequest httpRequest : httpRequests) {
+                method = httpRequest.method();
+            }
+            return method;
         }
 
         private String findApiKey(Method method) {
@@ -418,23 +877,6 @@ public class Generator {
             return new Tuple<>(injectProperty(credentialsAnnotation.user()), injectProperty(credentialsAnnotation.password()));
         }
 
-        private Parameter[] createParameters(Method method) {
-            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-            Parameter[] parameters = new Parameter[parameterAnnotations.length];
-            int i = 0;
-            for (Annotation[] annotations : parameterAnnotations) {
-                Parameter parameter = new Parameter(
-                        getAnnotation(annotations, Body.class)
-                        , getAnnotation(annotations, Path.class)
-                        , getAnnotation(annotations, Query.class)
-                        , getAnnotation(annotations, Header.class)
-                        , getAnnotation(annotations, Version.class)
-                );
-                parameters[i++] = parameter;
-            }
-            return parameters;
-        }
-
         private HttpRequest[] createHttpRequest(Method method) {
             HttpRequest httpRequestOnClass = method.getDeclaringClass().getAnnotation(HttpRequest.class);
             HttpRequest httpRequest = method.getAnnotation(HttpRequest.class);
@@ -450,8 +892,8 @@ public class Generator {
             throw new NoHttpRequestAnnotation("Method '" + method.getName() + "' must be annotated with @HttpRequest!");
         }
 
-        private String createUri(Method method) {
-            String uri = getHttpRequestValue();
+        private String createUri(Method method, HttpRequest[] httpRequests) {
+            String uri = getHttpRequestValue(httpRequests);
             Version version = getVersionAnnotation(method);
             if (null != version) {
                 uri = uri.replace("{version}", injectProperty(version.value()));
@@ -470,7 +912,7 @@ public class Generator {
             return uri;
         }
 
-        private String getHttpRequestValue() {
+        private String getHttpRequestValue(HttpRequest[] httpRequests) {
             String uri = "";
             for (HttpRequest httpRequest : httpRequests) {
                 uri = StringUtils.join("/", uri, httpRequest.value());
@@ -499,10 +941,10 @@ public class Generator {
             for (String s : strings) {
                 objects.add(injectProperty(s));
             }
-            return objects;
+            return Collections.unmodifiableList(objects);
         }
 
-        private HashMap<String, Collection<Object>> createDefaultQueryParams(Method method) {
+        private Map<String, Collection<Object>> createDefaultQueryParams(Method method) {
             HashMap<String, Collection<Object>> queryParams = new HashMap<>();
             Query query = method.getAnnotation(Query.class);
             if (null != query) {
@@ -514,10 +956,10 @@ public class Generator {
                     queryParams.put(q.name(), injectProperty(q.value()));
                 }
             }
-            return queryParams;
+            return Collections.unmodifiableMap(queryParams);
         }
 
-        private HashMap<String, Collection<Object>> createDefaultHeaderMap(Method method) {
+        private Map<String, Collection<Object>> createDefaultHeaderMap(Method method) {
             HashMap<String, Collection<Object>> headerMap = new HashMap<>();
             Header header = method.getAnnotation(Header.class);
             if (null != header) {
@@ -530,7 +972,7 @@ public class Generator {
                 }
             }
 
-            return headerMap;
+            return Collections.unmodifiableMap(headerMap);
         }
     }
 }
@@ -0,0 +1,202 @@
+package org.infobip.mobile.messaging.api.support;
+
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces identical API calls which are executed at the same time, so that only the first one goes to the network
+ * and the others receive its result or exception. Calls are identical when they have the same http method, URI,
+ * query parameters, explicit headers and body.
+ * <p>
+ * Results of successful GET calls can additionally be memoized for a short time. Any other completed call clears
+ * memoized results since it might have changed the state on server.
+ * <p>
+ * Note that coalesced callers share the same response object.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+class SingleFlight {
+
+    interface Call<R> {
+        R execute();
+    }
+
+    private static final int MEMO_PURGE_THRESHOLD = 32;
+
+    private final long getMemoizationMillis;
+    private final ConcurrentHashMap<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<Key, Memo> memos = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong memoized = new AtomicLong();
+
+    /**
+     * @param getMemoizationMillis for how long results of GET calls are reused, 0 to disable memoization
+     */
+    SingleFlight(long getMemoizationMillis) {
+        this.getMemoizationMillis = getMemoizationMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    <R> R execute(Key key, Call<R> call) {
+        boolean memoizable = getMemoizationMillis > 0 && key.httpMethod == HttpMethod.GET;
+        if (memoizable) {
+            Memo memo = memos.get(key);
+            if (memo != null && memo.expiresAt > System.currentTimeMillis()) {
+                memoized.incrementAndGet();
+                return (R) memo.result;
+            }
+        }
+
+        Flight flight = new Flight();
+        Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalesced.incrementAndGet();
+            return (R) inFlight.await();
+        }
+
+        executed.incrementAndGet();
+        try {
+            R result = call.execute();
+            flight.result = result;
+            if (memoizable) {
+                memoize(key, result);
+            } else if (key.httpMethod != HttpMethod.GET) {
+                memos.clear();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            flight.error = e;
+            throw e;
+        } catch (Error e) {
+            flight.error = e;
+            throw e;
+        } finally {
+            flights.remove(key);
+            flight.latch.countDown();
+        }
+    }
+
+    /**
+     * @return number of calls which were executed on network
+     */
+    long getExecutedCount() {
+        return executed.get();
+    }
+
+    /**
+     * @return number of calls which shared result of identical call in flight
+     */
+    long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return number of GET calls served from memoized results
+     */
+    long getMemoizedCount() {
+        return memoized.get();
+    }
+
+    private void memoize(Key key, Object result) {
+        long now = System.currentTimeMillis();
+        if (memos.size() >= MEMO_PURGE_THRESHOLD) {
+            Iterator<Memo> iterator = memos.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAt <= now) {
+                    iterator.remove();
+                }
+            }
+        }
+        memos.put(key, new Memo(result, now + getMemoizationMillis));
+    }
+
+    static class Key {
+        private final HttpMethod httpMethod;
+        private final String uri;
+        private final Map<String, Collection<Object>> queryParams;
+        private final Map<String, Collection<Object>> headers;
+        private final String body;
+        private final int hashCode;
+
+        /**
+         * Query parameters and headers are copied since request interceptors may modify them during the call.
+         *
+         * @param body serialized request body or null
+         */
+        Key(HttpMethod httpMethod, String uri, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, String body) {
+            this.httpMethod = httpMethod;
+            this.uri = uri;
+            this.queryParams = new HashMap<>(queryParams);
+            this.headers = new HashMap<>(headers);
+            this.body = body;
+
+            int hashCode = httpMethod.hashCode();
+            hashCode = 31 * hashCode + uri.hashCode();
+            hashCode = 31 * hashCode + this.queryParams.hashCode();
+            hashCode = 31 * hashCode + this.headers.hashCode();
+            hashCode = 31 * hashCode + (body != null ? body.hashCode() : 0);
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hashCode == key.hashCode
+                    && httpMethod == key.httpMethod
+                    && uri.equals(key.uri)
+                    && queryParams.equals(key.queryParams)
+                    && headers.equals(key.headers)
+                    && (body != null ? body.equals(key.body) : key.body == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Flight {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile Object result;
+        private volatile Throwable error;
+
+        Object await() {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                DefaultApiClient.ErrorCode errorCode = DefaultApiClient.ErrorCode.API_IO_ERROR;
+                throw new ApiIOException(errorCode.getValue(), "Interrupted while waiting for identical call", e);
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            if (error instanceof Error) {
+                throw (Error) error;
+            }
+            return result;
+        }
+    }
+
+    private static class Memo {
+        private final Object result;
+        private final long expiresAt;
+
+        Memo(Object result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.infobip.mobile.messaging.api.support.http;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Makes requests conditional ({@code If-None-Match}/{@code If-Modified-Since}) even if they are not GET requests,
+ * i.e. for fetch operations which are modeled as POST. GET requests are always conditional when validator cache is
+ * configured.
+ * <p>
+ * Must not be used for requests which change data on server, server answers such conditional requests
+ * with {@code 412 Precondition Failed}.
+ *
+ * @author agent
+ * @see org.infobip.mobile.messaging.api.support.Generator.Builder#withValidatorCache(org.infobip.mobile.messaging.api.support.http.client.ValidatorCache)
+ * @since 18/10/2026.
+ */
+@Documented
+@Target({TYPE, METHOD})
+@Retention(RUNTIME)
+public @interface Conditional {
+}
@@ -0,0 +1,128 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stops sending requests to an endpoint which keeps failing on server side.
+ * <p>
+ * Circuit of the endpoint opens after {@code failureThreshold} consecutive failures ({@code 5xx} or {@code 429} responses),
+ * requests are then rejected without network access until {@code openMillis} pass. After that one trial request is let through,
+ * success closes the circuit and failure opens it again. Requests which did not get any response do not change the state,
+ * so that lost connectivity does not open circuits of all endpoints.
+ * <p>
+ * Only endpoints with failures are tracked, at most {@value #MAX_CIRCUITS} of them since endpoint is identified by resolved URI;
+ * circuit of the least recently used endpoint is dropped when the limit is reached.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class CircuitBreaker {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_MILLIS = 30000;
+    static final int MAX_CIRCUITS = 64;
+
+    private static class Circuit {
+        int failures;
+        long openedAt;
+        boolean open;
+        boolean trialInFlight;
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, Circuit> circuits = new LinkedHashMap<String, Circuit>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Circuit> eldest) {
+            return size() > MAX_CIRCUITS;
+        }
+    };
+    private final AtomicLong rejected = new AtomicLong();
+
+    public CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_MILLIS);
+    }
+
+    /**
+     * @param failureThreshold number of consecutive failures which opens circuit
+     * @param openMillis       for how long requests are rejected before trial request
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * @return number of requests rejected while circuit was open
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return true if requests to the endpoint are currently rejected
+     */
+    public synchronized boolean isOpen(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        return circuit != null && circuit.open;
+    }
+
+    /**
+     * Checks whether request to the endpoint may be sent, reserves trial request if open period is over.
+     *
+     * @return 0 if request may be sent, otherwise time in milliseconds until the next trial request
+     */
+    synchronized long acquire(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        if (circuit == null || !circuit.open) {
+            return 0;
+        }
+
+        long openFor = circuit.openedAt + openMillis - currentTimeMillis();
+        if (openFor <= 0 && !circuit.trialInFlight) {
+            circuit.trialInFlight = true;
+            return 0;
+        }
+
+        rejected.incrementAndGet();
+        return Math.max(openFor, 1);
+    }
+
+    synchronized void onSuccess(String endpoint) {
+        circuits.remove(endpoint);
+    }
+
+    synchronized void onFailure(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        if (circuit == null) {
+            circuit = new Circuit();
+            circuits.put(endpoint, circuit);
+        }
+
+        circuit.failures++;
+        circuit.trialInFlight = false;
+        if (circuit.open || circuit.failures >= failureThreshold) {
+            circuit.open = true;
+            circuit.openedAt = currentTimeMillis();
+        }
+    }
+
+    /**
+     * Releases trial request which did not get any response.
+     */
+    synchronized void onNoResponse(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        if (circuit != null) {
+            circuit.trialInFlight = false;
+        }
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,27 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+/**
+ * Receives compression statistics for http bodies.
+ * <p>
+ * Any {@link RequestInterceptor} or {@link ResponsePreProcessor} which also implements this interface
+ * will be notified each time request body is compressed or compressed response is decoded.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public interface CompressionListener {
+
+    /**
+     * @param uri             request uri
+     * @param originalBytes   size of request body before compression
+     * @param compressedBytes number of bytes sent
+     */
+    void onRequestBodyCompressed(String uri, long originalBytes, long compressedBytes);
+
+    /**
+     * @param uri               request uri
+     * @param compressedBytes   number of bytes received
+     * @param decompressedBytes size of response body after decompression
+     */
+    void onResponseBodyDecompressed(String uri, long compressedBytes, long decompressedBytes);
+}
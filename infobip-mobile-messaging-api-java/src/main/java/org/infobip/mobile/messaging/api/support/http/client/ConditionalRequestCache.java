@@ -0,0 +1,101 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps validators ({@code ETag}/{@code Last-Modified}) of responses to conditional requests in {@link ValidatorCache}
+ * and counts how many responses were revalidated with {@code 304 Not Modified} (hits) and how many had to be downloaded (misses).
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class ConditionalRequestCache {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ValidatorCache validatorCache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ConditionalRequestCache(ValidatorCache validatorCache) {
+        this.validatorCache = validatorCache;
+    }
+
+    /**
+     * @return number of responses served from cache after {@code 304 Not Modified}
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of full responses received for conditional requests
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    ValidatorCache.Entry find(String key) {
+        return validatorCache.get(key);
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    /**
+     * Stores validators of a full response, or removes outdated ones if response has no validators.
+     */
+    void miss(String key, String etag, String lastModified, String body) {
+        misses.incrementAndGet();
+        if (null == etag && null == lastModified) {
+            validatorCache.remove(key);
+        } else {
+            validatorCache.put(key, new ValidatorCache.Entry(etag, lastModified, body));
+        }
+    }
+
+    void remove(String key) {
+        validatorCache.remove(key);
+    }
+
+    /**
+     * @param url            request URL including query parameters
+     * @param serializedBody request body or null
+     * @return digest which identifies request and does not expose its content in storage
+     */
+    static String key(Request request, String url, String serializedBody) {
+        StringBuilder sb = new StringBuilder()
+                .append(request.getHttpMethod()).append(' ').append(url)
+                .append('\n').append(request.getApiKey());
+        if (null != request.getCredentials()) {
+            sb.append('\n').append(request.getCredentials().getLeft());
+        }
+        if (null != request.getHeaders()) {
+            for (Map.Entry<String, Collection<Object>> header : new TreeMap<>(request.getHeaders()).entrySet()) {
+                sb.append('\n').append(header.getKey()).append(':').append(header.getValue());
+            }
+        }
+        if (null != serializedBody) {
+            sb.append("\n\n").append(serializedBody);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(sb.toString().getBytes("UTF-8"));
+            char[] chars = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                chars[2 * i] = HEX[(digest[i] >> 4) & 0xF];
+                chars[2 * i + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,26 +1,47 @@
 package org.infobip.mobile.messaging.api.support.http.client;
 
+
 import org.apache.commons.codec.binary.Base64;
 import org.infobip.mobile.messaging.api.support.ApiBackendException;
 import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
 import org.infobip.mobile.messaging.api.support.ApiException;
 import org.infobip.mobile.messaging.api.support.ApiIOException;
 import org.infobip.mobile.messaging.api.support.Tuple;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiError;
 import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.api.support.util.CountingInputStream;
+import org.infobip.mobile.messaging.api.support.util.CountingOutputStream;
 import org.infobip.mobile.messaging.api.support.util.StreamUtils;
 import org.infobip.mobile.messaging.api.support.util.StringUtils;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * @author mstipanov
@@ -31,8 +52,13 @@ public class DefaultApiClient implements ApiClient {
 
     public static final int DEFAULT_READ_TIMEOUT = 60000;
 
+    public static final long MAX_RESPONSE_LENGTH = StreamUtils.DEFAULT_MAX_LENGTH;
+
     public static final JsonSerializer JSON_SERIALIZER = new JsonSerializer();
 
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final String HTTP_DATE_FORMAT = "EEE, dd MMM yyyy HH:mm:ss zzz";
+
     private final int connectTimeout;
     private final int readTimeout;
     private final String libraryVersion;
@@ -40,6 +66,12 @@ public class DefaultApiClient implements ApiClient {
     private final RequestInterceptor requestInterceptors[];
     private final ResponsePreProcessor responsePreProcessors[];
     private final Logger logger;
+    private final HttpTransport httpTransport;
+    private final boolean chunkedRequestBody;
+    private final HttpCompression compression;
+    private final List<CompressionListener> compressionListeners;
+    private final ConditionalRequestCache conditionalRequestCache;
+    private final CircuitBreaker circuitBreaker;
     private String userAgent;
 
     public DefaultApiClient() {
@@ -47,6 +79,33 @@ public class DefaultApiClient implements ApiClient {
     }
 
     public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[], Logger logger, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, new DefaultHttpTransport(), userAgentAdditions);
+    }
+
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[], Logger logger, HttpTransport httpTransport, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, httpTransport, false, userAgentAdditions);
+    }
+
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[], Logger logger, HttpTransport httpTransport, boolean chunkedRequestBody, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, httpTransport, chunkedRequestBody, HttpCompression.DISABLED, userAgentAdditions);
+    }
+
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[], Logger logger, HttpTransport httpTransport, boolean chunkedRequestBody, HttpCompression compression, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, httpTransport, chunkedRequestBody, compression, null, userAgentAdditions);
+    }
+
+    /**
+     * @param conditionalRequestCache validators for conditional requests, null to disable conditional requests
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[], Logger logger, HttpTransport httpTransport, boolean chunkedRequestBody, HttpCompression compression, ConditionalRequestCache conditionalRequestCache, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, httpTransport, chunkedRequestBody, compression, conditionalRequestCache, null, userAgentAdditions);
+    }
+
+    /**
+     * @param conditionalRequestCache validators for conditional requests, null to disable conditional requests
+     * @param circuitBreaker          circuit breaker for failing endpoints, null to always send requests
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[], Logger logger, HttpTransport httpTransport, boolean chunkedRequestBody, HttpCompression compression, ConditionalRequestCache conditionalRequestCache, CircuitBreaker circuitBreaker, String... userAgentAdditions) {
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
         this.libraryVersion = libraryVersion;
@@ -54,10 +113,35 @@ public class DefaultApiClient implements ApiClient {
         this.responsePreProcessors = responsePreProcessors;
         this.userAgentAdditions = userAgentAdditions;
         this.logger = logger;
+        this.httpTransport = httpTransport;
+        this.chunkedRequestBody = chunkedRequestBody;
+        this.compression = compression;
+        this.compressionListeners = findCompressionListeners(interceptors, responsePreProcessors);
+        this.conditionalRequestCache = conditionalRequestCache;
+        this.circuitBreaker = circuitBreaker;
     }
 
+    /**
+     * Executes request, GET requests are conditional if validator cache is configured.
+     */
     @Override
     public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+        return execute(method, uri, apiKey, credentials, queryParams, headers, body, responseType, method == HttpMethod.GET);
+    }
+
+    /**
+     * Executes request.
+     * <p>
+     * If request is conditional and validator cache is configured, validators of the previous response are sent
+     * with {@code If-None-Match}/{@code If-Modified-Since} and body of the previous response is used on {@code 304 Not Modified}.
+     * <p>
+     * Errors carry time from {@code Retry-After} header, see {@link ApiIOException#getRetryAfterMillis()}.
+     * If circuit breaker is configured and circuit of the endpoint is open, request fails with {@link ErrorCode#API_CIRCUIT_OPEN}
+     * without network access.
+     *
+     * @param conditional true to make request conditional regardless of http method
+     */
+    public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType, boolean conditional) {
         Request request = new Request(method, uri, apiKey, credentials, headers, queryParams, body);
         for (RequestInterceptor interceptor : requestInterceptors) {
             try {
@@ -69,14 +153,25 @@ public class DefaultApiClient implements ApiClient {
 
         logger.d("REQUEST: " + request);
 
+        String endpoint = request.httpMethod.name() + " " + request.uri;
+        if (null != circuitBreaker) {
+            long openForMillis = circuitBreaker.acquire(endpoint);
+            if (openForMillis > 0) {
+                throw new ApiIOException(ErrorCode.API_CIRCUIT_OPEN.value, ErrorCode.API_CIRCUIT_OPEN.description + " : " + request.uri, null, openForMillis);
+            }
+        }
+
         HttpURLConnection urlConnection = null;
+        boolean reusable = false;
+        boolean responded = false;
         try {
             StringBuilder sb = new StringBuilder();
             for (Map.Entry<String, Collection<Object>> entry : request.queryParams.entrySet()) {
                 appendValue(sb, entry);
             }
 
-            urlConnection = (HttpURLConnection) new URL(request.uri + sb.toString()).openConnection();
+            String url = request.uri + sb.toString();
+            urlConnection = httpTransport.open(new URL(url));
             urlConnection.setRequestMethod(request.httpMethod.name());
             urlConnection.setUseCaches(false);
             if (request.httpMethod != HttpMethod.GET) {
@@ -110,45 +205,81 @@ public class DefaultApiClient implements ApiClient {
                 urlConnection.setRequestProperty("Authorization", "Basic " + basicApiKey);
             }
             urlConnection.setRequestProperty("Accept", "application/json");
+            if (compression.isCompressedResponses()) {
+                urlConnection.setRequestProperty("Accept-Encoding", "gzip, deflate");
+            }
             String userAgent = urlConnection.getRequestProperty("User-Agent");
             if (null == userAgent) {
                 urlConnection.setRequestProperty("User-Agent", getUserAgent());
             }
 
+            String validatorKey = null;
+            ValidatorCache.Entry validators = null;
+            if (conditional && null != conditionalRequestCache && !Void.class.equals(responseType) && !void.class.equals(responseType)) {
+                String serializedBody = null != request.body ? JSON_SERIALIZER.serialize(request.body) : null;
+                validatorKey = ConditionalRequestCache.key(request, url, serializedBody);
+                validators = conditionalRequestCache.find(validatorKey);
+                if (null != validators && null != validators.getEtag()) {
+                    urlConnection.setRequestProperty("If-None-Match", validators.getEtag());
+                }
+                if (null != validators && null != validators.getLastModified()) {
+                    urlConnection.setRequestProperty("If-Modified-Since", validators.getLastModified());
+                }
+            }
+
             if (null != request.body) {
-                byte[] bytes = JSON_SERIALIZER.serialize(request.body).getBytes("UTF-8");
-                urlConnection.setRequestProperty("Content-Length", "" + Long.toString(bytes.length));
                 urlConnection.setRequestProperty("Content-Type", "application/json");
-                OutputStream outputStream = null;
-                try {
-                    outputStream = new BufferedOutputStream(urlConnection.getOutputStream());
-                    outputStream.write(bytes);
-                    outputStream.flush();
-                } finally {
-                    StreamUtils.closeSafely(outputStream);
-                }
+                writeBody(urlConnection, request.uri, request.body);
             }
 
             int responseCode = urlConnection.getResponseCode();
+            reusable = true;
+            responded = true;
+            if (null != circuitBreaker) {
+                if (responseCode >= 500 || responseCode == HTTP_TOO_MANY_REQUESTS) {
+                    circuitBreaker.onFailure(endpoint);
+                } else {
+                    circuitBreaker.onSuccess(endpoint);
+                }
+            }
             interceptResponse(responseCode, urlConnection.getHeaderFields());
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && null != validatorKey) {
+                if (null == validators) {
+                    throw new ApiIOException(ErrorCode.API_IO_ERROR.value, "Not modified response without cached body : " + request.uri);
+                }
+                conditionalRequestCache.hit();
+                logger.d("Response not modified, using cached body: " + request.uri);
+                return toResponse(new StringReader(validators.getBody()), responseType);
+            }
+
             if (responseCode >= 400) {
+                long retryAfterMillis = parseRetryAfter(urlConnection.getHeaderField("Retry-After"), System.currentTimeMillis());
                 ApiResponse apiResponse = new ApiResponse(ErrorCode.UNKNOWN_ERROR.value, ErrorCode.UNKNOWN_ERROR.description);
-                if (urlConnection.getContentLength() > 0) {
-                    InputStream inputStream = urlConnection.getErrorStream();
-                    String s = StreamUtils.readToString(inputStream, "UTF-8", Long.parseLong(urlConnection.getHeaderField("Content-Length")));
-                    apiResponse = JSON_SERIALIZER.deserialize(s, ApiResponse.class);
+                InputStream errorStream = urlConnection.getErrorStream();
+                if (urlConnection.getContentLength() != 0 && errorStream != null) {
+                    ResponseBody responseBody = new ResponseBody(urlConnection, errorStream);
+                    ApiResponse errorResponse = JSON_SERIALIZER.deserialize(responseBody.reader, ApiResponse.class);
+                    reportResponseCompression(request.uri, responseBody);
+                    if (errorResponse != null) {
+                        apiResponse = errorResponse;
+                    }
                 }
 
                 if (responseCode >= 500) {
                     Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description);
-                    throw new ApiBackendException(tuple.getLeft(), tuple.getRight());
+                    throw new ApiBackendException(tuple.getLeft(), tuple.getRight(), retryAfterMillis);
                 }
 
                 Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_ERROR.value, ErrorCode.UNKNOWN_API_ERROR.description);
-                throw new ApiException(tuple.getLeft(), tuple.getRight());
+                throw new ApiException(tuple.getLeft(), tuple.getRight(), retryAfterMillis);
             }
 
-            if (urlConnection.getContentLength() <= 0) {
+            // content length is unknown (-1) for chunked and transparently decompressed responses, such responses still have a body,
+            // see execute_receivesOK_withChunkedResponseBody
+            if (urlConnection.getContentLength() == 0) {
+                if (null != validatorKey) {
+                    conditionalRequestCache.remove(validatorKey);
+                }
                 return null;
             }
 
@@ -156,23 +287,18 @@ public class DefaultApiClient implements ApiClient {
                 return null;
             }
 
-            InputStream inputStream = urlConnection.getInputStream();
-            String s = StreamUtils.readToString(inputStream, "UTF-8", Long.parseLong(urlConnection.getHeaderField("Content-Length")));
-            inputStream.close();
-
-            R response = JSON_SERIALIZER.deserialize(s, responseType);
-            ApiResponse apiResponse = null;
-            try {
-                apiResponse = JSON_SERIALIZER.deserialize(s, ApiResponse.class);
-            } catch (Exception ignored) {
+            ResponseBody responseBody = new ResponseBody(urlConnection, urlConnection.getInputStream());
+            Reader reader = responseBody.reader;
+            if (null != validatorKey) {
+                String content = StreamUtils.readToString(responseBody.inputStream, "UTF-8", -1, MAX_RESPONSE_LENGTH);
+                conditionalRequestCache.miss(validatorKey, urlConnection.getHeaderField("ETag"), urlConnection.getHeaderField("Last-Modified"), content);
+                reader = new StringReader(content);
             }
-
-            if (apiResponse != null && apiResponse.getRequestError() != null) {
-                Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description);
-                throw new ApiBackendExceptionWithContent(tuple.getLeft(), tuple.getRight(), response);
+            try {
+                return toResponse(reader, responseType);
+            } finally {
+                reportResponseCompression(request.uri, responseBody);
             }
-
-            return response;
         } catch (Exception e) {
             interceptErrorResponse(e);
             if (e instanceof ApiIOException) {
@@ -180,16 +306,137 @@ public class DefaultApiClient implements ApiClient {
             }
             throw new ApiIOException(ErrorCode.API_IO_ERROR.value, ErrorCode.API_IO_ERROR.description + " : " + request.uri, e);
         } finally {
+            if (null != circuitBreaker && !responded) {
+                circuitBreaker.onNoResponse(endpoint);
+            }
             if (null != urlConnection) {
-                try {
-                    urlConnection.disconnect();
-                } catch (Exception e) {
-                    //ignore
-                }
+                httpTransport.release(urlConnection, reusable);
             }
         }
     }
 
+    /**
+     * Parses value of {@code Retry-After} header, which is either number of seconds or http date.
+     *
+     * @return delay in milliseconds, 0 if value is missing or invalid
+     */
+    static long parseRetryAfter(String value, long nowMillis) {
+        if (StringUtils.isBlank(value)) {
+            return 0;
+        }
+
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+        }
+
+        SimpleDateFormat httpDate = new SimpleDateFormat(HTTP_DATE_FORMAT, Locale.US);
+        httpDate.setTimeZone(TimeZone.getTimeZone("GMT"));
+        try {
+            return Math.max(0, httpDate.parse(trimmed).getTime() - nowMillis);
+        } catch (ParseException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads response and its request error in one pass, request error is bound to the response if it is an {@link ApiResponse}.
+     */
+    private <R> R toResponse(Reader reader, Class<R> responseType) {
+        JsonSerializer.UnboundMember<ApiError> unboundRequestError = new JsonSerializer.UnboundMember<>("requestError", ApiError.class);
+        R response = JSON_SERIALIZER.deserialize(reader, responseType, unboundRequestError);
+        ApiError requestError = response instanceof ApiResponse ? ((ApiResponse) response).getRequestError() : unboundRequestError.getValue();
+        if (requestError != null) {
+            Tuple<String, String> tuple = safeGetErrorInfo(new ApiResponse(requestError), ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description);
+            throw new ApiBackendExceptionWithContent(tuple.getLeft(), tuple.getRight(), response);
+        }
+        return response;
+    }
+
+    /**
+     * Serializes body directly into connection output stream.
+     * Body is sent in chunks if chunked request body is enabled, otherwise it is serialized
+     * into a byte buffer first to provide Content-Length and to decide whether it is large enough to be compressed.
+     */
+    private void writeBody(HttpURLConnection urlConnection, String uri, Object body) throws IOException {
+        ByteArrayOutputStream bytes = null;
+        boolean gzip = false;
+        if (chunkedRequestBody) {
+            urlConnection.setChunkedStreamingMode(0);
+            gzip = compression.isRequestCompressionEnabled();
+        } else {
+            bytes = new ByteArrayOutputStream();
+            JSON_SERIALIZER.serialize(body, new OutputStreamWriter(bytes, "UTF-8"));
+            if (compression.shouldCompressRequestBody(bytes.size())) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.size() / 2);
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed);
+                bytes.writeTo(gzipOutputStream);
+                gzipOutputStream.finish();
+                reportRequestCompression(uri, bytes.size(), compressed.size());
+                bytes = compressed;
+                gzip = true;
+            }
+            urlConnection.setRequestProperty("Content-Length", Integer.toString(bytes.size()));
+        }
+        if (gzip) {
+            urlConnection.setRequestProperty("Content-Encoding", "gzip");
+        }
+
+        OutputStream outputStream = null;
+        try {
+            outputStream = new BufferedOutputStream(urlConnection.getOutputStream());
+            if (bytes != null) {
+                bytes.writeTo(outputStream);
+            } else if (gzip) {
+                CountingOutputStream compressed = new CountingOutputStream(outputStream);
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed);
+                CountingOutputStream original = new CountingOutputStream(gzipOutputStream);
+                JSON_SERIALIZER.serialize(body, new OutputStreamWriter(original, "UTF-8"));
+                gzipOutputStream.finish();
+                reportRequestCompression(uri, original.getCount(), compressed.getCount());
+            } else {
+                JSON_SERIALIZER.serialize(body, new OutputStreamWriter(outputStream, "UTF-8"));
+            }
+            outputStream.flush();
+        } finally {
+            StreamUtils.closeSafely(outputStream);
+        }
+    }
+
+    private void reportRequestCompression(String uri, long originalBytes, long compressedBytes) {
+        logger.d("Request body compressed: " + compressionSummary(originalBytes, compressedBytes));
+        for (CompressionListener listener : compressionListeners) {
+            try {
+                listener.onRequestBodyCompressed(uri, originalBytes, compressedBytes);
+            } catch (Exception e) {
+                logger.e("Compression listener " + listener + " thrown an exception " + e);
+            }
+        }
+    }
+
+    private void reportResponseCompression(String uri, ResponseBody responseBody) {
+        if (responseBody.compressed == null) {
+            return;
+        }
+
+        long compressedBytes = responseBody.compressed.getCount();
+        long decompressedBytes = responseBody.decompressed.getCount();
+        logger.d("Response body decompressed: " + compressionSummary(decompressedBytes, compressedBytes));
+        for (CompressionListener listener : compressionListeners) {
+            try {
+                listener.onResponseBodyDecompressed(uri, compressedBytes, decompressedBytes);
+            } catch (Exception e) {
+                logger.e("Compression listener " + listener + " thrown an exception " + e);
+            }
+        }
+    }
+
+    private static String compressionSummary(long originalBytes, long compressedBytes) {
+        long ratio = originalBytes > 0 ? 100 * compressedBytes / originalBytes : 100;
+        return originalBytes + " -> " + compressedBytes + " bytes (" + ratio + "%), saved " + (originalBytes - compressedBytes) + " bytes";
+    }
+
     private void interceptErrorResponse(Exception error) {
         for (ResponsePreProcessor responsePreProcessor : responsePreProcessors) {
             try {
@@ -210,6 +457,19 @@ public class DefaultApiClient implements ApiClient {
         }
     }
 
+    private static List<CompressionListener> findCompressionListeners(RequestInterceptor interceptors[], ResponsePreProcessor responsePreProcessors[]) {
+        List<CompressionListener> listeners = new ArrayList<>();
+        List<Object> candidates = new ArrayList<>();
+        candidates.addAll(Arrays.asList(interceptors));
+        candidates.addAll(Arrays.asList(responsePreProcessors));
+        for (Object candidate : candidates) {
+            if (candidate instanceof CompressionListener && !listeners.contains(candidate)) {
+                listeners.add((CompressionListener) candidate);
+            }
+        }
+        return listeners;
+    }
+
     private String getUserAgent() {
         if (null != userAgent) {
             return userAgent;
@@ -263,11 +523,41 @@ public class DefaultApiClient implements ApiClient {
         }
     }
 
+    /**
+     * Response body decoded according to Content-Encoding, reads are limited to {@link #MAX_RESPONSE_LENGTH}.
+     */
+    private static class ResponseBody {
+        private final CountingInputStream compressed;
+        private final CountingInputStream decompressed;
+        private final InputStream inputStream;
+        private final Reader reader;
+
+        ResponseBody(HttpURLConnection urlConnection, InputStream inputStream) throws IOException {
+            String contentEncoding = urlConnection.getContentEncoding();
+            if ("gzip".equalsIgnoreCase(contentEncoding)) {
+                compressed = new CountingInputStream(inputStream);
+                decompressed = new CountingInputStream(new GZIPInputStream(compressed));
+                inputStream = decompressed;
+            } else if ("deflate".equalsIgnoreCase(contentEncoding)) {
+                compressed = new CountingInputStream(inputStream);
+                decompressed = new CountingInputStream(new InflaterInputStream(compressed));
+                inputStream = decompressed;
+            } else {
+                compressed = null;
+                decompressed = null;
+            }
+            this.inputStream = inputStream;
+            reader = new InputStreamReader(new BufferedInputStream(StreamUtils.limit(inputStream, MAX_RESPONSE_LENGTH)), "UTF-8");
+        }
+    }
+
     public enum ErrorCode {
         UNKNOWN_ERROR("-1", "Unknown error"), // responseCode >= 400
         UNKNOWN_API_BACKEND_ERROR("-2", "Unknown API backend error"), // responseCode >= 500
         UNKNOWN_API_ERROR("-3", "Unknown API error"), // apiResponse == null
-        API_IO_ERROR("-4", "Can't access URI"); // Can't access URI (404?)
+        API_IO_ERROR("-4", "Can't access URI"), // Can't access URI (404?)
+        API_TIMEOUT("-5", "Request timed out"), // asynchronous call did not complete in time
+        API_CIRCUIT_OPEN("-6", "Endpoint is temporarily unavailable"); // circuit breaker rejected request
 
         private final String value;
         private final String description;
@@ -0,0 +1,28 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Opens a new connection for each request and disconnects it when request is completed.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class DefaultHttpTransport implements HttpTransport {
+
+    @Override
+    public HttpURLConnection open(URL url) throws IOException {
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    @Override
+    public void release(HttpURLConnection connection, boolean reusable) {
+        try {
+            connection.disconnect();
+        } catch (Exception e) {
+            //ignore
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Sends requests over HTTP/2 using OkHttp, so that concurrent requests to Mobile API are multiplexed
+ * over a single connection instead of occupying one socket each.
+ * <p>
+ * Protocol is negotiated with ALPN during TLS handshake, connections fall back to HTTP/1.1 with keep-alive
+ * if server or platform does not support HTTP/2. Plain http URLs always use HTTP/1.1.
+ * <p>
+ * This is the pooled transport of the library: idle connections are kept in the client's own bounded
+ * {@link ConnectionPool} and evicted after keep-alive duration, TLS sessions are resumed from the session cache
+ * of the client's own SSL context. Nothing is changed in platform pool or default socket factory.
+ * Connections are provided as {@link HttpURLConnection} so {@link DefaultApiClient} handles requests,
+ * interceptors and response pre-processors in the same way for both protocols.
+ * <p>
+ * OkHttp is not a transitive dependency of this library, application has to include
+ * {@code com.squareup.okhttp3:okhttp-urlconnection} to use this transport, see {@link #isAvailable()}.
+ * <p>
+ * {@link okhttp3.OkUrlFactory} is deprecated in OkHttp, but it is the only way to get {@link HttpURLConnection} from OkHttp
+ * which {@link HttpTransport} has to provide, so its deprecation warnings are suppressed
+ * (it is not imported since imports of deprecated classes cannot be suppressed on Java 7 and 8).
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+@SuppressWarnings("deprecation")
+public class Http2Transport implements HttpTransport {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE_DURATION_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final String OK_URL_FACTORY_CLASS = "okhttp3.OkUrlFactory";
+
+    private final okhttp3.OkUrlFactory urlFactory;
+
+    public Http2Transport() {
+        this(DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_KEEP_ALIVE_DURATION_MILLIS);
+    }
+
+    /**
+     * @param maxIdleConnections      maximum number of idle connections kept in the pool
+     * @param keepAliveDurationMillis time after which idle connection is evicted from the pool
+     */
+    public Http2Transport(int maxIdleConnections, long keepAliveDurationMillis) {
+        this(new OkHttpClient.Builder()
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectionPool(connectionPool(maxIdleConnections, keepAliveDurationMillis))
+                .build());
+    }
+
+    /**
+     * @param client configured client, i.e. with custom TLS settings; client protocols are used as provided
+     */
+    public Http2Transport(OkHttpClient client) {
+        this.urlFactory = new okhttp3.OkUrlFactory(client);
+    }
+
+    /**
+     * @return true if OkHttp is available on classpath and transport can be created
+     */
+    public static boolean isAvailable() {
+        try {
+            Class.forName(OK_URL_FACTORY_CLASS, false, Http2Transport.class.getClassLoader());
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    @Override
+    public HttpURLConnection open(URL url) throws IOException {
+        return urlFactory.open(url);
+    }
+
+    private static ConnectionPool connectionPool(int maxIdleConnections, long keepAliveDurationMillis) {
+        if (maxIdleConnections < 1) {
+            throw new IllegalArgumentException("maxIdleConnections must be positive");
+        }
+        if (keepAliveDurationMillis < 1) {
+            throw new IllegalArgumentException("keepAliveDurationMillis must be positive");
+        }
+        return new ConnectionPool(maxIdleConnections, keepAliveDurationMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void release(HttpURLConnection connection, boolean reusable) {
+        if (!reusable || !KeepAliveHttpTransport.drainAndClose(connection)) {
+            try {
+                connection.disconnect();
+            } catch (Exception e) {
+                //ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+/**
+ * Compression settings for {@link DefaultApiClient}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class HttpCompression {
+
+    public static final HttpCompression DISABLED = new HttpCompression(-1, false);
+
+    public static final int DEFAULT_MIN_REQUEST_BODY_SIZE = 1024;
+
+    private final int minRequestBodySize;
+    private final boolean compressedResponses;
+
+    /**
+     * @param minRequestBodySize  request bodies of this size or larger will be sent with {@code Content-Encoding: gzip},
+     *                            negative value disables request compression. Chunked request bodies are compressed regardless of size.
+     * @param compressedResponses true to send {@code Accept-Encoding: gzip, deflate} and decode compressed responses
+     */
+    public HttpCompression(int minRequestBodySize, boolean compressedResponses) {
+        this.minRequestBodySize = minRequestBodySize;
+        this.compressedResponses = compressedResponses;
+    }
+
+    public boolean isRequestCompressionEnabled() {
+        return minRequestBodySize >= 0;
+    }
+
+    public boolean shouldCompressRequestBody(long bodySize) {
+        return isRequestCompressionEnabled() && bodySize >= minRequestBodySize;
+    }
+
+    public int getMinRequestBodySize() {
+        return minRequestBodySize;
+    }
+
+    public boolean isCompressedResponses() {
+        return compressedResponses;
+    }
+}
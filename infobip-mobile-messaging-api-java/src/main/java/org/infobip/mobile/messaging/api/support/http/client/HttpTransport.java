@@ -0,0 +1,33 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Provides and recycles http connections for {@link DefaultApiClient}.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ * @see DefaultHttpTransport
+ * @see KeepAliveHttpTransport
+ */
+public interface HttpTransport {
+
+    /**
+     * Opens new connection to the provided url. Connection is not yet connected.
+     *
+     * @param url target url
+     * @return connection
+     * @throws IOException if connection cannot be opened
+     */
+    HttpURLConnection open(URL url) throws IOException;
+
+    /**
+     * Releases connection after request is completed. Transport is responsible for closing response stream.
+     *
+     * @param connection connection returned by {@link #open(URL)}
+     * @param reusable   true if request completed normally and underlying socket can be used for subsequent requests
+     */
+    void release(HttpURLConnection connection, boolean reusable);
+}
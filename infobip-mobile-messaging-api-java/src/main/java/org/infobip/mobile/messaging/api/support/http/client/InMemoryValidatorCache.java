@@ -0,0 +1,49 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Validator cache which keeps a limited number of most recently used entries in memory.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class InMemoryValidatorCache implements ValidatorCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+
+    private final Map<String, Entry> entries;
+
+    public InMemoryValidatorCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public InMemoryValidatorCache(final int maxEntries) {
+        this.entries = new LinkedHashMap<String, ValidatorCache.Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ValidatorCache.Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
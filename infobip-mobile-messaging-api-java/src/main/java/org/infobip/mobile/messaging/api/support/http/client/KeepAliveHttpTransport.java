@@ -0,0 +1,73 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Keeps sockets open between requests so that subsequent requests to the same host
+ * do not have to establish new TCP connection and perform full TLS handshake.
+ * <p>
+ * Connections are never disconnected after successful request, response body is drained instead and
+ * the socket is returned to the platform keep-alive pool. Size of the pool and duration of idle connections
+ * are left to the platform and the application, transport does not change any global settings
+ * nor the socket factory of https connections.
+ * Use {@link Http2Transport} for a bounded pool with idle eviction and TLS session reuse of its own.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class KeepAliveHttpTransport implements HttpTransport {
+
+    private static final int MAX_DRAIN_BYTES = 64 * 1024;
+
+    @Override
+    public HttpURLConnection open(URL url) throws IOException {
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    @Override
+    public void release(HttpURLConnection connection, boolean reusable) {
+        if (!reusable || !drainAndClose(connection)) {
+            try {
+                connection.disconnect();
+            } catch (Exception e) {
+                //ignore
+            }
+        }
+    }
+
+    /**
+     * Socket is returned to the pool only when response body is read completely and the stream is closed.
+     * Response stream is therefore left open by {@link DefaultApiClient} and closed here.
+     *
+     * @return true if socket can be reused
+     */
+    static boolean drainAndClose(HttpURLConnection connection) {
+        InputStream inputStream = null;
+        try {
+            inputStream = connection.getResponseCode() >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            if (inputStream == null) {
+                return true;
+            }
+
+            byte[] buffer = new byte[4096];
+            int total = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                total += read;
+                if (total > MAX_DRAIN_BYTES) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            StreamUtils.closeSafely(inputStream);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Storage of response validators for conditional requests. Implementations are expected to persist entries,
+ * so that responses can be revalidated after application restart, and to be safe for use from multiple threads.
+ * <p>
+ * Keys are opaque digests of request method, URL, authorization, headers and body.
+ *
+ * @author agent
+ * @see ConditionalRequestCache
+ * @since 18/10/2026.
+ */
+public interface ValidatorCache {
+
+    /**
+     * Validators and body of the last successful response.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    class Entry {
+        private String etag;
+        private String lastModified;
+        private String body;
+    }
+
+    /**
+     * @return stored entry or null if there is none
+     */
+    Entry get(String key);
+
+    void put(String key, Entry entry);
+
+    void remove(String key);
+}
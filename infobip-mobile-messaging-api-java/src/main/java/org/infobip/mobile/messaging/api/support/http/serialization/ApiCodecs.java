@@ -0,0 +1,679 @@
+package org.infobip.mobile.messaging.api.support.http.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import org.infobip.mobile.messaging.api.data.CustomUserDataValueReport;
+import org.infobip.mobile.messaging.api.data.UserDataReport;
+import org.infobip.mobile.messaging.api.geo.EventReport;
+import org.infobip.mobile.messaging.api.geo.EventReportBody;
+import org.infobip.mobile.messaging.api.geo.EventType;
+import org.infobip.mobile.messaging.api.geo.MessagePayload;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.MoMessage;
+import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
+import org.infobip.mobile.messaging.api.messages.SeenMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hand-written streaming codecs for Mobile API bodies which are serialized most often.
+ * They read and write fields directly instead of using reflection and produce the same JSON as reflective Gson:
+ * same field names and order, nulls written only if serializer is configured to serialize nulls,
+ * unknown fields skipped. Containers and untyped values are delegated to Gson adapters.
+ * <p>
+ * Codecs are used only for exact classes, subclasses are still serialized with reflection.
+ *
+ * @author agent
+ * @see JsonSerializer#JsonSerializer(boolean, TypeAdapterFactory, JsonSerializer.ObjectAdapter[])
+ * @since 18/10/2026.
+ */
+public class ApiCodecs implements TypeAdapterFactory {
+
+    public static final ApiCodecs INSTANCE = new ApiCodecs();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> cls = type.getRawType();
+        if (cls == SyncMessagesResponse.class) {
+            return (TypeAdapter<T>) new SyncMessagesResponseCodec(gson);
+        } else if (cls == MessageResponse.class) {
+            return (TypeAdapter<T>) new MessageResponseCodec();
+        } else if (cls == MoMessagesBody.class) {
+            return (TypeAdapter<T>) new MoMessagesBodyCodec(gson);
+        } else if (cls == MoMessage.class) {
+            return (TypeAdapter<T>) new MoMessageCodec(gson);
+        } else if (cls == SeenMessages.class) {
+            return (TypeAdapter<T>) new SeenMessagesCodec(gson);
+        } else if (cls == SeenMessages.Message.class) {
+            return (TypeAdapter<T>) new SeenMessageCodec();
+        } else if (cls == EventReportBody.class) {
+            return (TypeAdapter<T>) new EventReportBodyCodec(gson);
+        } else if (cls == EventReport.class) {
+            return (TypeAdapter<T>) new EventReportCodec(gson);
+        } else if (cls == MessagePayload.class) {
+            return (TypeAdapter<T>) new MessagePayloadCodec();
+        } else if (cls == UserDataReport.class) {
+            return (TypeAdapter<T>) new UserDataReportCodec(gson);
+        } else if (cls == CustomUserDataValueReport.class) {
+            return (TypeAdapter<T>) new CustomUserDataValueReportCodec(gson);
+        }
+        return null;
+    }
+
+    private static class SyncMessagesResponseCodec extends TypeAdapter<SyncMessagesResponse> {
+        private final TypeAdapter<List<MessageResponse>> payloads;
+
+        SyncMessagesResponseCodec(Gson gson) {
+            this.payloads = gson.getAdapter(new TypeToken<List<MessageResponse>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, SyncMessagesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("payloads");
+            payloads.write(out, value.getPayloads());
+            out.endObject();
+        }
+
+        @Override
+        public SyncMessagesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SyncMessagesResponse value = new SyncMessagesResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("payloads".equals(in.nextName())) {
+                    value.setPayloads(payloads.read(in));
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class MessageResponseCodec extends TypeAdapter<MessageResponse> {
+
+        @Override
+        public void write(JsonWriter out, MessageResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("gcm.notification.messageId").value(value.getMessageId());
+            out.name("gcm.notification.title").value(value.getTitle());
+            out.name("gcm.notification.body").value(value.getBody());
+            out.name("gcm.notification.sound").value(value.getSound());
+            out.name("gcm.notification.vibrate").value(value.getVibrate());
+            out.name("gcm.notification.silent").value(value.getSilent());
+            out.name("gcm.notification.category").value(value.getCategory());
+            out.name("customPayload").value(value.getCustomPayload());
+            out.name("internalData").value(value.getInternalData());
+            out.endObject();
+        }
+
+        @Override
+        public MessageResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MessageResponse value = new MessageResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "gcm.notification.messageId":
+                        value.setMessageId(readString(in));
+                        break;
+                    case "gcm.notification.title":
+                        value.setTitle(readString(in));
+                        break;
+                    case "gcm.notification.body":
+                        value.setBody(readString(in));
+                        break;
+                    case "gcm.notification.sound":
+                        value.setSound(readString(in));
+                        break;
+                    case "gcm.notification.vibrate":
+                        value.setVibrate(readString(in));
+                        break;
+                    case "gcm.notification.silent":
+                        value.setSilent(readString(in));
+                        break;
+                    case "gcm.notification.category":
+                        value.setCategory(readString(in));
+                        break;
+                    case "customPayload":
+                        value.setCustomPayload(readString(in));
+                        break;
+                    case "internalData":
+                        value.setInternalData(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class MoMessagesBodyCodec extends TypeAdapter<MoMessagesBody> {
+        private final TypeAdapter<MoMessage[]> messages;
+
+        MoMessagesBodyCodec(Gson gson) {
+            this.messages = gson.getAdapter(MoMessage[].class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MoMessagesBody value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from").value(value.getFrom());
+            out.name("messages");
+            messages.write(out, value.getMessages());
+            out.endObject();
+        }
+
+        @Override
+        public MoMessagesBody read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoMessagesBody value = new MoMessagesBody();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "from":
+                        value.setFrom(readString(in));
+                        break;
+                    case "messages":
+                        value.setMessages(messages.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class MoMessageCodec extends TypeAdapter<MoMessage> {
+        private final TypeAdapter<Map> customPayload;
+
+        MoMessageCodec(Gson gson) {
+            this.customPayload = gson.getAdapter(Map.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MoMessage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("messageId").value(value.getMessageId());
+            out.name("destination").value(value.getDestination());
+            out.name("text").value(value.getText());
+            out.name("initialMessageId").value(value.getInitialMessageId());
+            out.name("bulkId").value(value.getBulkId());
+            out.name("customPayload");
+            customPayload.write(out, value.getCustomPayload());
+            out.endObject();
+        }
+
+        @Override
+        public MoMessage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoMessage value = new MoMessage();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "messageId":
+                        value.setMessageId(readString(in));
+                        break;
+                    case "destination":
+                        value.setDestination(readString(in));
+                        break;
+                    case "text":
+                        value.setText(readString(in));
+                        break;
+                    case "initialMessageId":
+                        value.setInitialMessageId(readString(in));
+                        break;
+                    case "bulkId":
+                        value.setBulkId(readString(in));
+                        break;
+                    case "customPayload":
+                        value.setCustomPayload(customPayload.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class SeenMessagesCodec extends TypeAdapter<SeenMessages> {
+        private final TypeAdapter<SeenMessages.Message[]> messages;
+
+        SeenMessagesCodec(Gson gson) {
+            this.messages = gson.getAdapter(SeenMessages.Message[].class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SeenMessages value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("messages");
+            messages.write(out, value.getMessages());
+            out.endObject();
+        }
+
+        @Override
+        public SeenMessages read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SeenMessages value = new SeenMessages();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("messages".equals(in.nextName())) {
+                    value.setMessages(messages.read(in));
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class SeenMessageCodec extends TypeAdapter<SeenMessages.Message> {
+
+        @Override
+        public void write(JsonWriter out, SeenMessages.Message value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("messageId").value(value.getMessageId());
+            out.name("timestampDelta").value(value.getTimestampDelta());
+            out.endObject();
+        }
+
+        @Override
+        public SeenMessages.Message read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String messageId = null;
+            long timestampDelta = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "messageId":
+                        messageId = readString(in);
+                        break;
+                    case "timestampDelta":
+                        Long delta = readLong(in);
+                        if (delta != null) {
+                            timestampDelta = delta;
+                        }
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new SeenMessages.Message(messageId, timestampDelta);
+        }
+    }
+
+    private static class EventReportBodyCodec extends TypeAdapter<EventReportBody> {
+        private final TypeAdapter<Set<MessagePayload>> messages;
+        private final TypeAdapter<Set<EventReport>> reports;
+
+        EventReportBodyCodec(Gson gson) {
+            this.messages = gson.getAdapter(new TypeToken<Set<MessagePayload>>() {});
+            this.reports = gson.getAdapter(new TypeToken<Set<EventReport>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, EventReportBody value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("platformType").value(value.getPlatformType());
+            out.name("messages");
+            messages.write(out, value.getMessages());
+            out.name("reports");
+            reports.write(out, value.getReports());
+            out.name("deviceApplicationInstanceId").value(value.getDeviceApplicationInstanceId());
+            out.endObject();
+        }
+
+        @Override
+        public EventReportBody read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Set<MessagePayload> messages = null;
+            Set<EventReport> reports = null;
+            String deviceApplicationInstanceId = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "messages":
+                        messages = this.messages.read(in);
+                        break;
+                    case "reports":
+                        reports = this.reports.read(in);
+                        break;
+                    case "deviceApplicationInstanceId":
+                        deviceApplicationInstanceId = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EventReportBody(messages, reports, deviceApplicationInstanceId);
+        }
+    }
+
+    private static class EventReportCodec extends TypeAdapter<EventReport> {
+        private final TypeAdapter<EventType> eventType;
+
+        EventReportCodec(Gson gson) {
+            this.eventType = gson.getAdapter(EventType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EventReport value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("event");
+            eventType.write(out, value.getEvent());
+            out.name("geoAreaId").value(value.getGeoAreaId());
+            out.name("campaignId").value(value.getCampaignId());
+            out.name("messageId").value(value.getMessageId());
+            out.name("sdkMessageId").value(value.getSdkMessageId());
+            out.name("timestampDelta").value(value.getTimestampDelta());
+            out.endObject();
+        }
+
+        @Override
+        public EventReport read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EventReport value = new EventReport();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "event":
+                        value.setEvent(eventType.read(in));
+                        break;
+                    case "geoAreaId":
+                        value.setGeoAreaId(readString(in));
+                        break;
+                    case "campaignId":
+                        value.setCampaignId(readString(in));
+                        break;
+                    case "messageId":
+                        value.setMessageId(readString(in));
+                        break;
+                    case "sdkMessageId":
+                        value.setSdkMessageId(readString(in));
+                        break;
+                    case "timestampDelta":
+                        value.setTimestampDelta(readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class MessagePayloadCodec extends TypeAdapter<MessagePayload> {
+
+        @Override
+        public void write(JsonWriter out, MessagePayload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("messageId").value(value.getMessageId());
+            out.name("title").value(value.getTitle());
+            out.name("body").value(value.getBody());
+            out.name("sound").value(value.getSound());
+            out.name("vibrate").value(value.getVibrate());
+            out.name("category").value(value.getCategory());
+            out.name("silent").value(value.getSilent());
+            out.name("customPayload").value(value.getCustomPayload());
+            out.name("internalData").value(value.getInternalData());
+            out.endObject();
+        }
+
+        @Override
+        public MessagePayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MessagePayload value = new MessagePayload();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "messageId":
+                        value.setMessageId(readString(in));
+                        break;
+                    case "title":
+                        value.setTitle(readString(in));
+                        break;
+                    case "body":
+                        value.setBody(readString(in));
+                        break;
+                    case "sound":
+                        value.setSound(readString(in));
+                        break;
+                    case "vibrate":
+                        value.setVibrate(readBoolean(in));
+                        break;
+                    case "category":
+                        value.setCategory(readString(in));
+                        break;
+                    case "silent":
+                        value.setSilent(readBoolean(in));
+                        break;
+                    case "customPayload":
+                        value.setCustomPayload(readString(in));
+                        break;
+                    case "internalData":
+                        value.setInternalData(readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class UserDataReportCodec extends TypeAdapter<UserDataReport> {
+        private final TypeAdapter<Map<String, Object>> predefinedUserData;
+        private final TypeAdapter<Map<String, CustomUserDataValueReport>> customUserData;
+
+        UserDataReportCodec(Gson gson) {
+            this.predefinedUserData = gson.getAdapter(new TypeToken<Map<String, Object>>() {});
+            this.customUserData = gson.getAdapter(new TypeToken<Map<String, CustomUserDataValueReport>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, UserDataReport value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("predefinedUserData");
+            predefinedUserData.write(out, value.getPredefinedUserData());
+            out.name("customUserData");
+            customUserData.write(out, value.getCustomUserData());
+            out.endObject();
+        }
+
+        @Override
+        public UserDataReport read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataReport value = new UserDataReport();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "predefinedUserData":
+                        value.setPredefinedUserData(predefinedUserData.read(in));
+                        break;
+                    case "customUserData":
+                        value.setCustomUserData(customUserData.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static class CustomUserDataValueReportCodec extends TypeAdapter<CustomUserDataValueReport> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        CustomUserDataValueReportCodec(Gson gson) {
+            this.objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CustomUserDataValueReport value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("value");
+            objectAdapter.write(out, value.getValue());
+            out.name("type").value(value.getType());
+            out.endObject();
+        }
+
+        @Override
+        public CustomUserDataValueReport read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Object value = null;
+            String type = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "value":
+                        value = objectAdapter.read(in);
+                        break;
+                    case "type":
+                        type = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new CustomUserDataValueReport(value, type);
+        }
+    }
+
+    /**
+     * Reads string in the same way as Gson, booleans and numbers are accepted as strings.
+     */
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    private static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    private static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextLong();
+    }
+}
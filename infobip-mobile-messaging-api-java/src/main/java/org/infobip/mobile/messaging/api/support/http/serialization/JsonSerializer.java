@@ -2,15 +2,28 @@ package org.infobip.mobile.messaging.api.support.http.serialization;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
 import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
+ * Serializes objects to JSON and back. Mobile API bodies are handled with streaming codecs ({@link ApiCodecs} by default),
+ * all other types with reflection.
+ *
  * @author mstipanov
  * @since 08.03.2016.
  */
@@ -22,6 +35,77 @@ public class JsonSerializer {
         String serialize(T value);
     }
 
+    /**
+     * Object adapter which receives already parsed JSON value instead of JSON string,
+     * so that value is not converted to string and parsed again.
+     */
+    public interface StreamingObjectAdapter<T> extends ObjectAdapter<T> {
+
+        /**
+         * @param value JSON value as {@link Map} or {@link List} (with {@link #NULL} for null members and elements),
+         *              {@link String}, {@link Boolean} or {@link Number}; numbers are {@link Integer} or {@link Long}
+         *              if literal is an integer within range and {@link Double} otherwise
+         */
+        T fromJsonValue(Object value);
+    }
+
+    /**
+     * Null member of an object or element of an array provided to {@link StreamingObjectAdapter#fromJsonValue(Object)}.
+     */
+    public static final Object NULL = new Object() {
+        @Override
+        public String toString() {
+            return "null";
+        }
+    };
+
+    /**
+     * Top-level member of JSON object which is not declared by the object type, i.e. envelope field of API response.
+     * Its value is read in the same pass as the object, see {@link #deserialize(Reader, Class, UnboundMember)}.
+     */
+    public static class UnboundMember<V> {
+        private final String name;
+        private final Class<V> type;
+        private V value;
+
+        public UnboundMember(String name, Class<V> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * @return value of the member, null if it is missing or bound to the object
+         */
+        public V getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Reads value of the unbound member when object adapter skips it as unknown.
+     */
+    private class UnboundMemberReader extends JsonReader {
+
+        private final UnboundMember member;
+        private final String path;
+
+        UnboundMemberReader(Reader reader, UnboundMember member) {
+            super(reader);
+            this.member = member;
+            this.path = "$." + member.name;
+        }
+
+        @Override
+        public void skipValue() throws IOException {
+            if (path.equals(getPath())) {
+                //noinspection unchecked
+                member.value = gson.getAdapter(member.type).read(this);
+                return;
+            }
+            super.skipValue();
+        }
+    }
+
     private class CustomTypeAdapter extends TypeAdapter<Object> {
 
         private final ObjectAdapter adapter;
@@ -38,20 +122,38 @@ public class JsonSerializer {
 
         @Override
         public Object read(JsonReader in) throws IOException {
-            JsonElement element = new JsonParser().parse(in);
-            return adapter.deserialize(element.toString());
+            if (adapter instanceof StreamingObjectAdapter) {
+                return ((StreamingObjectAdapter) adapter).fromJsonValue(readValue(in));
+            }
+            StringWriter json = new StringWriter();
+            JsonWriter out = new JsonWriter(json);
+            out.setLenient(true);
+            copy(in, out);
+            out.flush();
+            return adapter.deserialize(json.toString());
         }
     }
 
     public JsonSerializer() {
-        gson = new GsonBuilder().serializeNulls().create();
+        this(true, ApiCodecs.INSTANCE);
     }
 
     public JsonSerializer(boolean serializeNulls, ObjectAdapter... adapters) {
+        this(serializeNulls, ApiCodecs.INSTANCE, adapters);
+    }
+
+    /**
+     * @param codecs   streaming codecs for specific types, i.e. {@link ApiCodecs#INSTANCE}, null to use only reflection
+     * @param adapters adapters for types which cannot be serialized with reflection
+     */
+    public JsonSerializer(boolean serializeNulls, TypeAdapterFactory codecs, ObjectAdapter... adapters) {
         GsonBuilder builder = new GsonBuilder();
         if (serializeNulls) {
             builder = builder.serializeNulls();
         }
+        if (codecs != null) {
+            builder.registerTypeAdapterFactory(codecs);
+        }
         if (adapters.length > 0) {
             for (ObjectAdapter adapter : adapters) {
                 builder.registerTypeHierarchyAdapter(adapter.getCls(), new CustomTypeAdapter(adapter));
@@ -69,4 +171,130 @@ public class JsonSerializer {
     public <T> String serialize(T t) {
         return gson.toJson(t);
     }
+
+    /**
+     * Writes JSON representation of an object directly to the writer, without building intermediate string.
+     */
+    public <T> void serialize(T t, Writer writer) throws IOException {
+        gson.toJson(t, writer);
+        writer.flush();
+    }
+
+    /**
+     * Reads object directly from the reader, without building intermediate string.
+     */
+    public <T> T deserialize(Reader reader, Class<T> type) {
+        return gson.fromJson(reader, type);
+    }
+
+    /**
+     * Reads object directly from the reader and also reads top-level member which object type does not declare,
+     * so that both are available without parsing JSON twice.
+     */
+    public <T> T deserialize(Reader reader, Class<T> type, UnboundMember<?> member) {
+        JsonReader in = new UnboundMemberReader(reader, member);
+        try {
+            T value = gson.fromJson(in, type);
+            if (value != null && in.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonIOException("JSON document was not fully consumed.");
+            }
+            return value;
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Copies one JSON value token by token, number literals are kept as they are.
+     */
+    private static void copy(JsonReader in, JsonWriter out) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_ARRAY:
+                in.beginArray();
+                out.beginArray();
+                while (in.hasNext()) {
+                    copy(in, out);
+                }
+                in.endArray();
+                out.endArray();
+                break;
+            case BEGIN_OBJECT:
+                in.beginObject();
+                out.beginObject();
+                while (in.hasNext()) {
+                    out.name(in.nextName());
+                    copy(in, out);
+                }
+                in.endObject();
+                out.endObject();
+                break;
+            case STRING:
+                out.value(in.nextString());
+                break;
+            case NUMBER:
+                out.jsonValue(in.nextString());
+                break;
+            case BOOLEAN:
+                out.value(in.nextBoolean());
+                break;
+            case NULL:
+                in.nextNull();
+                out.nullValue();
+                break;
+            default:
+                throw new IllegalStateException("Unexpected token " + in.peek());
+        }
+    }
+
+    private static Object readValue(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    Object value = readValue(in);
+                    list.add(value != null ? value : NULL);
+                }
+                in.endArray();
+                return list;
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    Object value = readValue(in);
+                    map.put(name, value != null ? value : NULL);
+                }
+                in.endObject();
+                return map;
+            case STRING:
+                return in.nextString();
+            case NUMBER:
+                return toNumber(in.nextString());
+            case BOOLEAN:
+                return in.nextBoolean();
+            case NULL:
+                in.nextNull();
+                return null;
+            default:
+                throw new IllegalStateException("Unexpected token " + in.peek());
+        }
+    }
+
+    private static Number toNumber(String literal) {
+        if (literal.indexOf('.') < 0 && literal.indexOf('e') < 0 && literal.indexOf('E') < 0) {
+            try {
+                long value = Long.parseLong(literal);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+                return value;
+            } catch (NumberFormatException ignored) {
+                // fall back to double for integers out of range
+            }
+        }
+        return Double.valueOf(literal);
+    }
 }
@@ -1,36 +1,92 @@
 package org.infobip.mobile.messaging.api.support.util;
 
-import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 
 /**
  * @author mstipanov
  * @since 03.03.2016.
  */
 public abstract class StreamUtils {
+
+    /**
+     * Maximum number of bytes that will be read from a stream if no explicit limit is provided.
+     */
+    public static final long DEFAULT_MAX_LENGTH = 10 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<byte[]> byteBuffers = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+
+    private static final ThreadLocal<CharBuffer> charBuffers = new ThreadLocal<CharBuffer>() {
+        @Override
+        protected CharBuffer initialValue() {
+            return CharBuffer.allocate(BUFFER_SIZE);
+        }
+    };
+
     private StreamUtils() {
     }
 
+    /**
+     * Reads exactly {@code length} bytes or until the end of stream.
+     *
+     * @param length number of bytes to read, nothing is read if less than 1
+     */
     public static String readToString(InputStream inputStream, String charsetName, long length) throws IOException {
         if (length < 1) {
             return "";
         }
 
-        ByteArrayOutputStream buf = new ByteArrayOutputStream();
-        int result = inputStream.read();
-        long count = 1;
-        while (result != -1) {
-            byte b = (byte) result;
-            buf.write(b);
-            if (count == length) {
-                break;
-            }
-            result = inputStream.read();
-            count++;
+        return read(inputStream, Charset.forName(charsetName), length, length);
+    }
+
+    /**
+     * Reads stream until the end, i.e. when response is chunked and there is no Content-Length.
+     *
+     * @throws IOException if stream is longer than {@link #DEFAULT_MAX_LENGTH}
+     */
+    public static String readToString(InputStream inputStream, String charsetName) throws IOException {
+        return readToString(inputStream, charsetName, -1, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Reads stream in blocks using per-thread buffers and decodes bytes directly into characters.
+     *
+     * @param length    expected number of bytes or negative value if unknown
+     * @param maxLength maximum number of bytes to read
+     * @throws IOException if stream is longer than maxLength
+     */
+    public static String readToString(InputStream inputStream, String charsetName, long length, long maxLength) throws IOException {
+        if (length == 0) {
+            return "";
         }
-        return buf.toString(charsetName);
+        if (length > maxLength) {
+            throw new StreamTooLongException(maxLength);
+        }
+
+        return read(inputStream, Charset.forName(charsetName), length > 0 ? length : Long.MAX_VALUE, maxLength);
+    }
+
+    /**
+     * Wraps stream so that reading more than maxLength bytes results in {@link IOException}.
+     */
+    public static InputStream limit(InputStream inputStream, long maxLength) {
+        return new LimitedInputStream(inputStream, maxLength);
     }
 
     public static long write(String s, OutputStream outputStream, String charsetName) throws IOException {
@@ -53,4 +109,129 @@ public abstract class StreamUtils {
             //ignore
         }
     }
+
+    public static void closeSafely(InputStream inputStream) {
+        if (null == inputStream) {
+            return;
+        }
+
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            //ignore
+        }
+    }
+
+    private static String read(InputStream inputStream, Charset charset, long length, long maxLength) throws IOException {
+        byte[] bytes = byteBuffers.get();
+        CharBuffer chars = charBuffers.get();
+        chars.clear();
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        StringBuilder sb = new StringBuilder(length < BUFFER_SIZE ? (int) length : BUFFER_SIZE);
+
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        in.limit(0);
+        long total = 0;
+        while (total < length) {
+            in.compact();
+            int toRead = (int) Math.min(in.remaining(), length - total);
+            int read = inputStream.read(bytes, in.position(), toRead);
+            if (read == -1) {
+                in.flip();
+                break;
+            }
+            total += read;
+            if (total > maxLength) {
+                throw new StreamTooLongException(maxLength);
+            }
+            in.position(in.position() + read);
+            in.flip();
+            decode(decoder, in, chars, sb, false);
+        }
+        decode(decoder, in, chars, sb, true);
+        flush(decoder, chars, sb);
+        return sb.toString();
+    }
+
+    private static void decode(CharsetDecoder decoder, ByteBuffer in, CharBuffer out, StringBuilder sb, boolean endOfInput) throws CharacterCodingException {
+        while (true) {
+            CoderResult result = decoder.decode(in, out, endOfInput);
+            if (result.isOverflow()) {
+                drain(out, sb);
+                continue;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            drain(out, sb);
+            return;
+        }
+    }
+
+    private static void flush(CharsetDecoder decoder, CharBuffer out, StringBuilder sb) {
+        while (decoder.flush(out).isOverflow()) {
+            drain(out, sb);
+        }
+        drain(out, sb);
+    }
+
+    private static void drain(CharBuffer out, StringBuilder sb) {
+        out.flip();
+        sb.append(out);
+        out.clear();
+    }
+
+    /**
+     * Thrown when stream contains more bytes than allowed.
+     */
+    public static class StreamTooLongException extends IOException {
+        public StreamTooLongException(long maxLength) {
+            super("Stream exceeds maximum allowed length of " + maxLength + " bytes");
+        }
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long maxLength;
+        private long count;
+
+        LimitedInputStream(InputStream in, long maxLength) {
+            super(in);
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result > 0) {
+                count(result);
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long read) throws IOException {
+            count += read;
+            if (count > maxLength) {
+                throw new StreamTooLongException(maxLength);
+            }
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package it.org.infobip.mobile.messaging.api;
+
+import org.infobip.mobile.messaging.api.data.MobileApiData;
+import org.infobip.mobile.messaging.api.data.UserDataReport;
+import org.infobip.mobile.messaging.api.messages.MoMessage;
+import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
+import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
+import org.infobip.mobile.messaging.api.messages.SeenMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
+import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.support.http.client.Http2Transport;
+import org.infobip.mobile.messaging.api.tools.Http2DebugServer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import okhttp3.Protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Sends sync, seen, MO and user data requests concurrently, as SDK does after start,
+ * and compares number of connections used with HTTP/2 multiplexing and with HTTP/1.1 fallback on a local server.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class MobileApiHttp2Test {
+
+    private static final int ROUNDS = 10;
+    private static final long SERVER_DELAY_MILLIS = 20;
+
+    private Http2DebugServer debugServer;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        if (null != debugServer) {
+            debugServer.stop();
+        }
+    }
+
+    @Test
+    public void concurrentCalls_withHttp2_shouldShareSingleConnection() throws Exception {
+        runConcurrentCalls(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+
+        assertEquals(ROUNDS * 4, debugServer.getRequestCount());
+        assertEquals(1, debugServer.getConnectionCount());
+    }
+
+    @Test
+    public void concurrentCalls_withHttp1Fallback_shouldOpenConnectionPerConcurrentCall() throws Exception {
+        runConcurrentCalls(Collections.singletonList(Protocol.HTTP_1_1));
+
+        assertEquals(ROUNDS * 4, debugServer.getRequestCount());
+        assertTrue(debugServer.getConnectionCount() > 1);
+    }
+
+    private void runConcurrentCalls(List<Protocol> protocols) throws Exception {
+        debugServer = new Http2DebugServer(protocols);
+        debugServer.setResponseDelay(SERVER_DELAY_MILLIS);
+        debugServer.respondWith(200, "{}");
+        debugServer.start();
+
+        Properties properties = new Properties();
+        properties.put("api.key", "my_API_key");
+        Generator generator = new Generator.Builder()
+                .withBaseUrl(debugServer.getBaseUrl())
+                .withProperties(properties)
+                .withHttpTransport(new Http2Transport(debugServer.newClient(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))))
+                .build();
+        final MobileApiMessages mobileApiMessages = generator.create(MobileApiMessages.class);
+        final MobileApiData mobileApiData = generator.create(MobileApiData.class);
+
+        List<Callable<Void>> calls = new ArrayList<>();
+        calls.add(call(new Runnable() {
+            @Override
+            public void run() {
+                mobileApiMessages.sync(SyncMessagesBody.make(new String[]{"mid"}, new String[0]));
+            }
+        }));
+        calls.add(call(new Runnable() {
+            @Override
+            public void run() {
+                SeenMessages seenMessages = new SeenMessages();
+                seenMessages.setMessages(new SeenMessages.Message[]{new SeenMessages.Message("mid", 0)});
+                mobileApiMessages.reportSeen(seenMessages);
+            }
+        }));
+        calls.add(call(new Runnable() {
+            @Override
+            public void run() {
+                mobileApiMessages.sendMO(new MoMessagesBody("from", new MoMessage[0]));
+            }
+        }));
+        calls.add(call(new Runnable() {
+            @Override
+            public void run() {
+                mobileApiData.reportUserData("externalUserId", new UserDataReport());
+            }
+        }));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Future<Void> future : executor.invokeAll(calls)) {
+                future.get();
+            }
+        }
+    }
+
+    private static Callable<Void> call(final Runnable call) {
+        return new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                call.run();
+                return null;
+            }
+        };
+    }
+}
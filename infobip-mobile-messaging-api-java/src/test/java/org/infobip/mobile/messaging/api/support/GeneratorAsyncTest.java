@@ -0,0 +1,246 @@
+package org.infobip.mobile.messaging.api.support;
+
+import org.infobip.mobile.messaging.api.support.http.Body;
+import org.infobip.mobile.messaging.api.support.http.HttpRequest;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class GeneratorAsyncTest {
+
+    private ExecutorService ioExecutor;
+    private BlockingApiClient apiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        ioExecutor = Executors.newFixedThreadPool(2);
+        apiClient = new BlockingApiClient();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        apiClient.release.countDown();
+        ioExecutor.shutdownNow();
+    }
+
+    @Test
+    public void future_shouldReturnResultOfCall() throws Exception {
+        apiClient.release.countDown();
+        AsyncApi api = api(0);
+
+        Future<String> future = api.get("body");
+
+        assertEquals("result", future.get(1, TimeUnit.SECONDS));
+        assertEquals(String.class, apiClient.responseType);
+        assertEquals("body", apiClient.body);
+    }
+
+    @Test
+    public void future_shouldUseRawTypeOfGenericResult() throws Exception {
+        apiClient.release.countDown();
+        AsyncApi api = api(0);
+
+        api.list().get(1, TimeUnit.SECONDS);
+
+        assertEquals(List.class, apiClient.responseType);
+    }
+
+    @Test
+    public void callback_shouldReceiveResultOfCall() throws Exception {
+        apiClient.release.countDown();
+        AsyncApi api = api(0);
+        RecordingCallback<String> callback = new RecordingCallback<>();
+
+        api.get("body", callback);
+
+        assertTrue(callback.latch.await(1, TimeUnit.SECONDS));
+        assertEquals("result", callback.result.get());
+        assertNull(callback.error.get());
+    }
+
+    @Test
+    public void callback_shouldReceiveApiError() throws Exception {
+        apiClient.error = new ApiException("1", "Invalid Application ID");
+        apiClient.release.countDown();
+        AsyncApi api = api(0);
+        RecordingCallback<String> callback = new RecordingCallback<>();
+
+        api.get("body", callback);
+
+        assertTrue(callback.latch.await(1, TimeUnit.SECONDS));
+        assertSame(apiClient.error, callback.error.get());
+    }
+
+    @Test
+    public void future_shouldFailWithTimeout() throws Exception {
+        AsyncApi api = api(100);
+        RecordingCallback<String> callback = new RecordingCallback<>();
+
+        Future<String> future = api.getWithFuture("body", callback);
+
+        assertTrue(callback.latch.await(1, TimeUnit.SECONDS));
+        assertEquals(DefaultApiClient.ErrorCode.API_TIMEOUT.getValue(), callback.error.get().getCode());
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiIOException);
+        }
+        assertFalse(apiClient.interrupted.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void future_shouldCancelWithoutCallbackOrInterrupt() throws Exception {
+        AsyncApi api = api(0);
+        RecordingCallback<String> callback = new RecordingCallback<>();
+
+        Future<String> future = api.getWithFuture("body", callback);
+        assertTrue(apiClient.started.await(1, TimeUnit.SECONDS));
+        assertTrue(future.cancel(true));
+
+        assertFalse(apiClient.interrupted.await(100, TimeUnit.MILLISECONDS));
+        assertTrue(future.isCancelled());
+        assertFalse(callback.latch.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void calls_shouldNotExceedIoThreads() throws Exception {
+        apiClient.release.countDown();
+        apiClient.delayMillis = 50;
+        Generator generator = new Generator.Builder().withBaseUrl("X").withIoThreads(2).build();
+        generator.setApiClient(apiClient);
+        AsyncApi api = generator.create(AsyncApi.class);
+
+        Future<?>[] futures = new Future[6];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = api.get("body" + i);
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, apiClient.maxConcurrentCalls.get());
+    }
+
+    @Test
+    public void callback_shouldReceiveErrorWhenQueueIsFull() throws Exception {
+        Generator generator = new Generator.Builder().withBaseUrl("X").withIoThreads(1).build();
+        generator.setApiClient(apiClient);
+        AsyncApi api = generator.create(AsyncApi.class);
+
+        api.get("running");
+        assertTrue(apiClient.started.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < Generator.DEFAULT_IO_QUEUE_CAPACITY; i++) {
+            api.get("queued" + i);
+        }
+        RecordingCallback<String> callback = new RecordingCallback<>();
+        api.get("rejected", callback);
+
+        assertTrue(callback.latch.await(1, TimeUnit.SECONDS));
+        assertEquals(DefaultApiClient.ErrorCode.API_IO_ERROR.getValue(), callback.error.get().getCode());
+    }
+
+    private AsyncApi api(long timeoutMillis) {
+        Generator generator = new Generator.Builder()
+                .withBaseUrl("X")
+                .withIoExecutor(ioExecutor)
+                .withCallTimeout(timeoutMillis)
+                .build();
+        generator.setApiClient(apiClient);
+        return generator.create(AsyncApi.class);
+    }
+
+    @HttpRequest(method = HttpMethod.POST, value = "/async")
+    private interface AsyncApi {
+        Future<String> get(@Body String body);
+
+        void get(@Body String body, Callback<String> callback);
+
+        Future<String> getWithFuture(@Body String body, Callback<String> callback);
+
+        Future<List<String>> list();
+    }
+
+    private static class RecordingCallback<R> implements Callback<R> {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final AtomicReference<R> result = new AtomicReference<>();
+        private final AtomicReference<ApiIOException> error = new AtomicReference<>();
+
+        @Override
+        public void onSuccess(R result) {
+            this.result.set(result);
+            latch.countDown();
+        }
+
+        @Override
+        public void onError(ApiIOException error) {
+            this.error.set(error);
+            latch.countDown();
+        }
+    }
+
+    private static class BlockingApiClient extends DefaultApiClient {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+        private volatile long delayMillis;
+        private volatile ApiIOException error;
+        private volatile Object body;
+        private volatile Class<?> responseType;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+            this.body = body;
+            this.responseType = responseType;
+            int concurrent = concurrentCalls.incrementAndGet();
+            while (true) {
+                int max = maxConcurrentCalls.get();
+                if (concurrent <= max || maxConcurrentCalls.compareAndSet(max, concurrent)) {
+                    break;
+                }
+            }
+            started.countDown();
+            try {
+                release.await();
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new ApiIOException("-4", "Interrupted", e);
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+            if (error != null) {
+                throw error;
+            }
+            return List.class.equals(responseType) ? null : (R) "result";
+        }
+    }
+}
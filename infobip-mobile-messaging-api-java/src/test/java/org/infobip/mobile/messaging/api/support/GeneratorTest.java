@@ -1,9 +1,19 @@
 package org.infobip.mobile.messaging.api.support;
 
+import org.infobip.mobile.messaging.api.support.http.Body;
+import org.infobip.mobile.messaging.api.support.http.Header;
 import org.infobip.mobile.messaging.api.support.http.HttpRequest;
+import org.infobip.mobile.messaging.api.support.http.Path;
+import org.infobip.mobile.messaging.api.support.http.Query;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -45,6 +55,82 @@ public class GeneratorTest {
         generator.create(WrongClass.class).bar();
     }
 
+    @Test
+    public void invoke_shouldExpandPathAndBindArguments() throws Exception {
+        RecordingApiClient apiClient = new RecordingApiClient();
+        generator.setApiClient(apiClient);
+
+        generator.create(TestApi.class).send("id/1", "v2", "query value", "header value", "body");
+
+        assertEquals("X/api/v2/items/id/1/id/1", apiClient.uri);
+        assertEquals(HttpMethod.POST, apiClient.method);
+        assertEquals(Collections.<Object>singletonList("1"), apiClient.queryParams.get("default"));
+        assertEquals(Collections.<Object>singleton("query value"), apiClient.queryParams.get("q"));
+        assertEquals(Collections.<Object>singleton("header value"), apiClient.headers.get("h"));
+        assertEquals("body", apiClient.body);
+        assertEquals(String.class, apiClient.responseType);
+    }
+
+    @Test
+    public void invoke_shouldReturnMutableMapsForEachCall() throws Exception {
+        RecordingApiClient apiClient = new RecordingApiClient();
+        generator.setApiClient(apiClient);
+        TestApi api = generator.create(TestApi.class);
+
+        api.send("1", "v1", "a", "b", null);
+        apiClient.queryParams.put("added", null);
+        apiClient.headers.clear();
+        api.send("2", "v1", "c", "d", null);
+
+        assertEquals(2, apiClient.queryParams.size());
+        assertEquals(Collections.<Object>singleton("d"), apiClient.headers.get("h"));
+        assertEquals("X/api/v1/items/2/2", apiClient.uri);
+    }
+
+    @Test
+    public void invoke_shouldUseUpdatedBaseUrl() throws Exception {
+        RecordingApiClient apiClient = new RecordingApiClient();
+        generator.setApiClient(apiClient);
+        TestApi api = generator.create(TestApi.class);
+
+        api.constant();
+        assertEquals("X/api/constant/{unknown}", apiClient.uri);
+
+        generator.setBaseUrl("https://other/");
+        api.constant();
+        assertEquals("https://other/api/constant/{unknown}", apiClient.uri);
+    }
+
+    @HttpRequest("/api")
+    private interface TestApi {
+        @HttpRequest(method = HttpMethod.POST, value = "{version}/items/{id}/{id}")
+        @Query(name = "default", value = "1")
+        String send(@Path(name = "id") String id, @Path(name = "version") String version, @Query(name = "q") String q, @Header(name = "h") String h, @Body String body);
+
+        @HttpRequest("constant/{unknown}")
+        void constant();
+    }
+
+    private static class RecordingApiClient extends DefaultApiClient {
+        private HttpMethod method;
+        private String uri;
+        private Map<String, Collection<Object>> queryParams;
+        private Map<String, Collection<Object>> headers;
+        private Object body;
+        private Class<?> responseType;
+
+        @Override
+        public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+            this.method = method;
+            this.uri = uri;
+            this.queryParams = queryParams;
+            this.headers = headers;
+            this.body = body;
+            this.responseType = responseType;
+            return null;
+        }
+    }
+
     private interface WrongClass {
         @HttpRequest
         String foo();
@@ -0,0 +1,160 @@
+package org.infobip.mobile.messaging.api.support;
+
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class SingleFlightTest {
+
+    @Test
+    public void execute_identicalCallsInFlight_shouldShareResult() throws Exception {
+        final SingleFlight singleFlight = new SingleFlight(0);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+        final Object response = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        Callable<Object> caller = new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return singleFlight.execute(key(HttpMethod.POST, "/sync", "{\"a\":1}"), new SingleFlight.Call<Object>() {
+                    @Override
+                    public Object execute() {
+                        executions.incrementAndGet();
+                        try {
+                            release.await();
+                        } catch (InterruptedException ignored) {
+                        }
+                        return response;
+                    }
+                });
+            }
+        };
+        Future<Object> first = executor.submit(caller);
+        Future<Object> second = executor.submit(caller);
+        Future<Object> third = executor.submit(caller);
+        waitForCoalescedCalls(singleFlight, 2);
+        release.countDown();
+
+        assertSame(response, first.get(1, TimeUnit.SECONDS));
+        assertSame(response, second.get(1, TimeUnit.SECONDS));
+        assertSame(response, third.get(1, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        assertEquals(1, singleFlight.getExecutedCount());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void execute_differentBody_shouldNotCoalesce() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(0);
+
+        singleFlight.execute(key(HttpMethod.POST, "/sync", "{\"a\":1}"), returning("1"));
+        singleFlight.execute(key(HttpMethod.POST, "/sync", "{\"a\":2}"), returning("2"));
+
+        assertEquals(2, singleFlight.getExecutedCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void execute_sequentialCalls_shouldExecuteEachWithoutMemoization() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(0);
+
+        assertEquals("1", singleFlight.execute(key(HttpMethod.GET, "/version", null), returning("1")));
+        assertEquals("2", singleFlight.execute(key(HttpMethod.GET, "/version", null), returning("2")));
+
+        assertEquals(2, singleFlight.getExecutedCount());
+    }
+
+    @Test
+    public void execute_get_shouldReturnMemoizedResult() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(TimeUnit.MINUTES.toMillis(1));
+
+        assertEquals("1", singleFlight.execute(key(HttpMethod.GET, "/version", null), returning("1")));
+        assertEquals("1", singleFlight.execute(key(HttpMethod.GET, "/version", null), returning("2")));
+
+        assertEquals(1, singleFlight.getExecutedCount());
+        assertEquals(1, singleFlight.getMemoizedCount());
+    }
+
+    @Test
+    public void execute_nonGet_shouldClearMemoizedResults() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(TimeUnit.MINUTES.toMillis(1));
+
+        singleFlight.execute(key(HttpMethod.GET, "/instance", null), returning("1"));
+        singleFlight.execute(key(HttpMethod.PUT, "/instance", "{}"), returning(null));
+
+        assertEquals("2", singleFlight.execute(key(HttpMethod.GET, "/instance", null), returning("2")));
+        assertEquals(0, singleFlight.getMemoizedCount());
+    }
+
+    @Test
+    public void execute_failedGet_shouldNotBeMemoized() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(TimeUnit.MINUTES.toMillis(1));
+
+        try {
+            singleFlight.execute(key(HttpMethod.GET, "/version", null), new SingleFlight.Call<Object>() {
+                @Override
+                public Object execute() {
+                    throw new ApiIOException("-4", "Can't access URI");
+                }
+            });
+            fail();
+        } catch (ApiIOException ignored) {
+        }
+
+        assertEquals("1", singleFlight.execute(key(HttpMethod.GET, "/version", null), returning("1")));
+    }
+
+    @Test
+    public void key_shouldNotChangeWhenHeadersAreModified() throws Exception {
+        Map<String, Collection<Object>> headers = new HashMap<>();
+        SingleFlight.Key key = new SingleFlight.Key(HttpMethod.GET, "/version", MapUtils.map(), headers, null);
+        int hashCode = key.hashCode();
+
+        headers.put("pushregistrationid", Collections.<Object>singletonList("id"));
+
+        assertEquals(hashCode, key.hashCode());
+        assertEquals(key(HttpMethod.GET, "/version", null), key);
+    }
+
+    private static SingleFlight.Key key(HttpMethod httpMethod, String uri, String body) {
+        return new SingleFlight.Key(httpMethod, uri, new HashMap<String, Collection<Object>>(), new HashMap<String, Collection<Object>>(), body);
+    }
+
+    private static SingleFlight.Call<Object> returning(final Object result) {
+        return new SingleFlight.Call<Object>() {
+            @Override
+            public Object execute() {
+                return result;
+            }
+        };
+    }
+
+    private static void waitForCoalescedCalls(SingleFlight singleFlight, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (singleFlight.getCoalescedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, singleFlight.getCoalescedCount());
+    }
+}
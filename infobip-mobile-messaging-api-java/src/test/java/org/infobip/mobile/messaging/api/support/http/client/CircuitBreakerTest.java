@@ -0,0 +1,167 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.ApiBackendException;
+import org.infobip.mobile.messaging.api.support.ApiIOException;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.DebugServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import fi.iki.elonen.NanoHTTPD;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 100;
+
+    private DebugServer debugServer;
+    private CircuitBreaker circuitBreaker;
+    private DefaultApiClient apiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        debugServer = new DebugServer();
+        debugServer.start();
+        circuitBreaker = new CircuitBreaker(2, OPEN_MILLIS);
+        apiClient = new DefaultApiClient(
+                DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT,
+                null,
+                new RequestInterceptor[0],
+                new ResponsePreProcessor[0],
+                new Logger(),
+                new DefaultHttpTransport(),
+                false,
+                HttpCompression.DISABLED,
+                null,
+                circuitBreaker);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        debugServer.stop();
+    }
+
+    @Test
+    public void execute_shouldRejectRequestsWithoutNetworkAfterConsecutiveFailures() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.INTERNAL_ERROR, null);
+
+        assertCode(DefaultApiClient.ErrorCode.UNKNOWN_ERROR.getValue(), post("/a"));
+        assertCode(DefaultApiClient.ErrorCode.UNKNOWN_ERROR.getValue(), post("/a"));
+        ApiIOException rejected = post("/a");
+
+        assertCode(DefaultApiClient.ErrorCode.API_CIRCUIT_OPEN.getValue(), rejected);
+        assertTrue(rejected.getRetryAfterMillis() > 0 && rejected.getRetryAfterMillis() <= OPEN_MILLIS);
+        assertEquals(2, debugServer.getRequestCount());
+        assertEquals(1, circuitBreaker.getRejectedCount());
+    }
+
+    @Test
+    public void execute_shouldKeepCircuitsOfOtherEndpointsClosed() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.INTERNAL_ERROR, null);
+        post("/a");
+        post("/a");
+
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{}");
+        execute("/b");
+
+        assertTrue(circuitBreaker.isOpen("POST " + url("/a")));
+        assertFalse(circuitBreaker.isOpen("POST " + url("/b")));
+        assertEquals(3, debugServer.getRequestCount());
+    }
+
+    @Test
+    public void execute_shouldCloseCircuitAfterSuccessfulTrialRequest() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.INTERNAL_ERROR, null);
+        post("/a");
+        post("/a");
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{}");
+        execute("/a");
+
+        assertFalse(circuitBreaker.isOpen("POST " + url("/a")));
+        assertEquals(3, debugServer.getRequestCount());
+    }
+
+    @Test
+    public void execute_shouldReopenCircuitAfterFailedTrialRequest() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.INTERNAL_ERROR, null);
+        post("/a");
+        post("/a");
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        assertCode(DefaultApiClient.ErrorCode.UNKNOWN_ERROR.getValue(), post("/a"));
+        assertCode(DefaultApiClient.ErrorCode.API_CIRCUIT_OPEN.getValue(), post("/a"));
+        assertEquals(3, debugServer.getRequestCount());
+    }
+
+    @Test
+    public void execute_shouldProvideRetryAfterFromResponse() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.INTERNAL_ERROR, null, Collections.singletonMap("Retry-After", "120"));
+
+        ApiIOException error = post("/a");
+
+        assertTrue(error instanceof ApiBackendException);
+        assertEquals(120000, error.getRetryAfterMillis());
+    }
+
+    @Test
+    public void onFailure_shouldKeepLimitedNumberOfCircuits() {
+        for (int i = 0; i <= CircuitBreaker.MAX_CIRCUITS; i++) {
+            circuitBreaker.onFailure("POST /" + i);
+            circuitBreaker.onFailure("POST /" + i);
+        }
+
+        assertFalse(circuitBreaker.isOpen("POST /0"));
+        assertTrue(circuitBreaker.isOpen("POST /1"));
+        assertTrue(circuitBreaker.isOpen("POST /" + CircuitBreaker.MAX_CIRCUITS));
+    }
+
+    @Test
+    public void parseRetryAfter_shouldSupportSecondsAndHttpDate() {
+        long now = 1539943200000L; // Fri, 19 Oct 2018 10:00:00 GMT
+
+        assertEquals(30000, DefaultApiClient.parseRetryAfter(" 30 ", now));
+        assertEquals(90000, DefaultApiClient.parseRetryAfter("Fri, 19 Oct 2018 10:01:30 GMT", now));
+        assertEquals(0, DefaultApiClient.parseRetryAfter("Fri, 19 Oct 2018 09:00:00 GMT", now));
+        assertEquals(0, DefaultApiClient.parseRetryAfter("soon", now));
+        assertEquals(0, DefaultApiClient.parseRetryAfter(null, now));
+    }
+
+    private Map execute(String path) {
+        return apiClient.execute(HttpMethod.POST, url(path), null, null, MapUtils.map(), MapUtils.map(), null, Map.class);
+    }
+
+    private ApiIOException post(String path) {
+        try {
+            execute(path);
+        } catch (ApiIOException e) {
+            return e;
+        }
+        fail("Request should fail");
+        return null;
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + debugServer.getListeningPort() + path;
+    }
+
+    private static void assertCode(String code, ApiIOException error) {
+        assertEquals(code, error.getCode());
+    }
+}
@@ -0,0 +1,170 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.data.MobileApiData;
+import org.infobip.mobile.messaging.api.data.UserDataReport;
+import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.DebugServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import fi.iki.elonen.NanoHTTPD;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class ConditionalRequestTest {
+
+    private static final String LAST_MODIFIED = "Wed, 19 Sep 2018 10:00:00 GMT";
+
+    private DebugServer debugServer;
+    private ConditionalRequestCache cache;
+    private DefaultApiClient apiClient;
+
+    @Before
+    public void setUp() throws Exception {
+        debugServer = new DebugServer();
+        debugServer.start();
+        cache = new ConditionalRequestCache(new InMemoryValidatorCache());
+        apiClient = new DefaultApiClient(
+                DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT,
+                null,
+                new RequestInterceptor[0],
+                new ResponsePreProcessor[0],
+                new Logger(),
+                new DefaultHttpTransport(),
+                false,
+                HttpCompression.DISABLED,
+                cache);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        debugServer.stop();
+    }
+
+    @Test
+    public void get_withEtag_shouldUseCachedBodyWhenNotModified() throws Exception {
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"name\":\"value\"}", "\"v1\"", null);
+
+        Map first = get();
+        assertNull(debugServer.getHeader("If-None-Match"));
+        Map second = get();
+
+        assertEquals("\"v1\"", debugServer.getHeader("If-None-Match"));
+        assertEquals(1, debugServer.getNotModifiedCount());
+        assertEquals("value", first.get("name"));
+        assertEquals(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_withLastModified_shouldSendIfModifiedSince() throws Exception {
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"name\":\"value\"}", null, LAST_MODIFIED);
+
+        get();
+        Map second = get();
+
+        assertEquals(LAST_MODIFIED, debugServer.getHeader("If-Modified-Since"));
+        assertNull(debugServer.getHeader("If-None-Match"));
+        assertEquals("value", second.get("name"));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void get_withChangedEtag_shouldReplaceCachedBody() throws Exception {
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"name\":\"value1\"}", "\"v1\"", null);
+        get();
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"name\":\"value2\"}", "\"v2\"", null);
+
+        assertEquals("value2", get().get("name"));
+        assertEquals("value2", get().get("name"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void get_withoutValidators_shouldNotSendConditionalHeaders() throws Exception {
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"name\":\"value1\"}", "\"v1\"", null);
+        get();
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"name\":\"value2\"}", null, null);
+        get();
+
+        get();
+
+        assertNull(debugServer.getHeader("If-None-Match"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void get_withDifferentHeaders_shouldNotShareValidators() throws Exception {
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{}", "\"v1\"", null);
+        get(Collections.<String, Collection<Object>>singletonMap("pushregistrationid", Collections.<Object>singletonList("id1")));
+
+        get(Collections.<String, Collection<Object>>singletonMap("pushregistrationid", Collections.<Object>singletonList("id2")));
+
+        assertNull(debugServer.getHeader("If-None-Match"));
+        assertEquals(0, debugServer.getNotModifiedCount());
+    }
+
+    @Test
+    public void post_shouldNotBeConditionalByDefault() throws Exception {
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{}", "\"v1\"", null);
+
+        for (int i = 0; i < 2; i++) {
+            apiClient.execute(HttpMethod.POST, url(), null, null, MapUtils.map(), MapUtils.map(), Collections.singletonMap("key", "value"), Map.class);
+        }
+
+        assertNull(debugServer.getHeader("If-None-Match"));
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void userDataReport_shouldNotBeConditional() throws Exception {
+        Properties properties = new Properties();
+        properties.put("api.key", "my_API_key");
+        Generator generator = new Generator.Builder()
+                .withBaseUrl(url())
+                .withProperties(properties)
+                .withValidatorCache(new InMemoryValidatorCache())
+                .build();
+        MobileApiData mobileApiData = generator.create(MobileApiData.class);
+        debugServer.respondWithValidators(NanoHTTPD.Response.Status.OK, "{\"predefinedUserData\":{\"firstName\":\"John\"}}", "\"v1\"", null);
+
+        mobileApiData.reportUserData("externalUserId", new UserDataReport());
+        UserDataReport report = mobileApiData.reportUserData("externalUserId", new UserDataReport());
+
+        assertEquals("John", report.getPredefinedUserData().get("firstName"));
+        assertNull(debugServer.getHeader("If-None-Match"));
+        assertEquals(0, debugServer.getNotModifiedCount());
+        assertEquals(0, generator.getConditionalRequestCache().getMissCount());
+    }
+
+    private Map get() {
+        return get(MapUtils.map());
+    }
+
+    private Map get(Map<String, Collection<Object>> headers) {
+        return apiClient.execute(HttpMethod.GET, url(), null, null, MapUtils.map(), new HashMap<>(headers), null, Map.class);
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + debugServer.getListeningPort();
+    }
+}
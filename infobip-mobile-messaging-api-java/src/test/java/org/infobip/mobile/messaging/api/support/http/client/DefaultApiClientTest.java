@@ -210,6 +210,88 @@ public class DefaultApiClientTest {
         }
     }
 
+    @Test
+    public void execute_receivesOK_withRequestErrorNotDeclaredByResponse() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{\"items\":[{\"name\":\"Test\"}],\"requestError\":{\"serviceException\":{\"messageId\":\"1\",\"text\":\"Invalid Application ID\"}}}");
+
+        try {
+            apiClient.execute(HttpMethod.POST, "http://127.0.0.1:" + debugServer.getListeningPort(), null, null, MapUtils.map(), null, null, SomeApiListResponse.class);
+            Assert.fail("Expected exception ApiBackendExceptionWithContent is not thrown");
+        } catch (ApiBackendExceptionWithContent error) {
+            Assert.assertEquals("1", error.getCode());
+            Assert.assertEquals("Invalid Application ID", error.getMessage());
+            Assert.assertEquals("Test", ((SomeApiListResponse) error.getContent()).getItems().get(0).getName());
+        }
+    }
+
+    @Test
+    public void execute_receivesOK_withRequestErrorOnlyInsideResponseValues() throws Exception {
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{\"items\":[{\"name\":\"\\\"requestError\\\"\",\"requestError\":{}}]}");
+
+        SomeApiListResponse result = apiClient.execute(HttpMethod.POST, "http://127.0.0.1:" + debugServer.getListeningPort(), null, null, MapUtils.map(), null, null, SomeApiListResponse.class);
+
+        Assert.assertEquals("\"requestError\"", result.getItems().get(0).getName());
+    }
+
+    @Test
+    public void execute_withChunkedRequestBody_receivesOK() throws Exception {
+        DefaultApiClient chunkedApiClient = new DefaultApiClient(
+                DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT,
+                null,
+                new RequestInterceptor[0],
+                new ResponsePreProcessor[0],
+                new Logger(),
+                new DefaultHttpTransport(),
+                true);
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiResponse(11)));
+
+        SomeApiResponse result = chunkedApiClient.execute(HttpMethod.POST, "http://127.0.0.1:" + debugServer.getListeningPort(), null, null, MapUtils.map(), null, new SomeApiRequest("Test"), SomeApiResponse.class);
+
+        Assert.assertEquals(11, result.getInternalRegistrationId());
+        Assert.assertEquals("chunked", debugServer.getHeader("Transfer-Encoding"));
+        Assert.assertNull(debugServer.getHeader("Content-Length"));
+        Assert.assertEquals("{\"name\":\"Test\"}", debugServer.getBody());
+    }
+
+    @Test
+    public void execute_receivesOK_withLargeResponseBody() throws Exception {
+        List<SomeApiRequest> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new SomeApiRequest("Test \u00fcnicode " + i));
+        }
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiListResponse(items)));
+
+        SomeApiListResponse result = apiClient.execute(HttpMethod.POST, "http://127.0.0.1:" + debugServer.getListeningPort(), null, null, MapUtils.map(), null, new SomeApiListResponse(items), SomeApiListResponse.class);
+
+        Assert.assertEquals(items, result.getItems());
+        Assert.assertEquals(DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiListResponse(items)), debugServer.getBody());
+    }
+
+    @Test
+    public void execute_receivesOK_withChunkedResponseBody() throws Exception {
+        debugServer.respondChunkedWith(NanoHTTPD.Response.Status.OK, DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiResponse(11)));
+
+        SomeApiResponse result = apiClient.execute(HttpMethod.GET, "http://127.0.0.1:" + debugServer.getListeningPort(), null, null, MapUtils.map(), null, null, SomeApiResponse.class);
+
+        Assert.assertEquals(11, result.getInternalRegistrationId());
+    }
+
+    @Test
+    public void execute_receivesError_withChunkedResponseBody() throws Exception {
+        debugServer.respondChunkedWith(NanoHTTPD.Response.Status.BAD_REQUEST,
+                DefaultApiClient.JSON_SERIALIZER.serialize(new ApiResponse(
+                        new ApiError(new ApiServiceException("1", "Invalid Application ID")))));
+
+        try {
+            apiClient.execute(HttpMethod.GET, "http://127.0.0.1:" + debugServer.getListeningPort(), null, null, MapUtils.map(), null, null, SomeApiResponse.class);
+            Assert.fail("Expected exception ApiException is not thrown");
+        } catch (ApiException error) {
+            Assert.assertEquals("1", error.getCode());
+            Assert.assertEquals("Invalid Application ID", error.getMessage());
+        }
+    }
+
     @Test
     public void execute_withRequestInterceptors_interceptorsShouldReceiveAllData() throws Exception {
         Map<String, Collection<Object>> givenQueryParams = new HashMap<String, Collection<Object>>() {{
@@ -285,6 +367,13 @@ public class DefaultApiClientTest {
         }
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class SomeApiListResponse {
+        private List<SomeApiRequest> items;
+    }
+
     private static Request matches(final Request givenRequest) {
         return argThat(new ArgumentMatcher<Request>() {
             @Override
@@ -0,0 +1,147 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.ApiException;
+import org.infobip.mobile.messaging.api.support.CustomApiHeaders;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiError;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiServiceException;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.Http2DebugServer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import okhttp3.Protocol;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class Http2TransportTest {
+
+    private static final List<Protocol> HTTP_2 = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    private static final List<Protocol> HTTP_1_1 = Collections.singletonList(Protocol.HTTP_1_1);
+
+    private Http2DebugServer debugServer;
+    private final RecordingPreProcessor preProcessor = new RecordingPreProcessor();
+
+    @After
+    public void tearDown() throws Exception {
+        if (null != debugServer) {
+            debugServer.stop();
+        }
+    }
+
+    @Test
+    public void execute_withHttp2Server_shouldNegotiateHttp2() throws Exception {
+        DefaultApiClient apiClient = apiClient(HTTP_2, HTTP_2);
+        debugServer.respondWith(200, "{\"name\":\"value\"}");
+
+        Map result = apiClient.execute(HttpMethod.POST, debugServer.getBaseUrl(), null, null, MapUtils.map(), MapUtils.map(), Collections.singletonMap("key", "value"), Map.class);
+
+        assertEquals("value", result.get("name"));
+        assertEquals("{\"key\":\"value\"}", debugServer.getRequests().get(0).getBody().readUtf8());
+        assertEquals(Collections.singletonList("h2"), preProcessor.selectedProtocols);
+    }
+
+    @Test
+    public void execute_withHttp1Server_shouldFallBackToHttp1() throws Exception {
+        DefaultApiClient apiClient = apiClient(HTTP_1_1, HTTP_2);
+        debugServer.respondWith(200, "{}");
+
+        for (int i = 0; i < 3; i++) {
+            apiClient.execute(HttpMethod.GET, debugServer.getBaseUrl(), null, null, MapUtils.map(), MapUtils.map(), null, Object.class);
+        }
+
+        assertEquals(Arrays.asList("http/1.1", "http/1.1", "http/1.1"), preProcessor.selectedProtocols);
+        assertEquals(3, debugServer.getRequestCount());
+        assertEquals(1, debugServer.getConnectionCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_withoutIdleConnections_shouldFail() {
+        new Http2Transport(0, Http2Transport.DEFAULT_KEEP_ALIVE_DURATION_MILLIS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_withoutKeepAliveDuration_shouldFail() {
+        new Http2Transport(Http2Transport.DEFAULT_MAX_IDLE_CONNECTIONS, 0);
+    }
+
+    @Test
+    public void execute_withHttp2_shouldPassResponseHeadersToPreProcessors() throws Exception {
+        DefaultApiClient apiClient = apiClient(HTTP_2, HTTP_2);
+        debugServer.respondWith(200, "{}", Collections.singletonMap("newBaseUrl", "https://new.example.com"));
+
+        apiClient.execute(HttpMethod.GET, debugServer.getBaseUrl(), null, null, MapUtils.map(), MapUtils.map(), null, Object.class);
+
+        assertEquals("https://new.example.com", preProcessor.newBaseUrl);
+    }
+
+    @Test
+    public void execute_withHttp2_shouldParseErrorResponse() throws Exception {
+        DefaultApiClient apiClient = apiClient(HTTP_2, HTTP_2);
+        debugServer.respondWith(401, DefaultApiClient.JSON_SERIALIZER.serialize(new ApiResponse(
+                new ApiError(new ApiServiceException("1", "Invalid Application ID")))));
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                apiClient.execute(HttpMethod.GET, debugServer.getBaseUrl(), null, null, MapUtils.map(), MapUtils.map(), null, Object.class);
+                fail();
+            } catch (ApiException e) {
+                assertEquals("1", e.getCode());
+            }
+        }
+
+        assertEquals(1, debugServer.getConnectionCount());
+    }
+
+    @Test
+    public void isAvailable_withOkHttpOnClasspath_shouldReturnTrue() throws Exception {
+        assertTrue(Http2Transport.isAvailable());
+    }
+
+    private DefaultApiClient apiClient(List<Protocol> serverProtocols, List<Protocol> clientProtocols) throws Exception {
+        debugServer = new Http2DebugServer(serverProtocols);
+        debugServer.start();
+        return new DefaultApiClient(
+                DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT,
+                null,
+                new RequestInterceptor[0],
+                new ResponsePreProcessor[]{preProcessor},
+                new Logger(),
+                new Http2Transport(debugServer.newClient(clientProtocols)));
+    }
+
+    private static class RecordingPreProcessor implements ResponsePreProcessor {
+
+        private final List<String> selectedProtocols = new ArrayList<>();
+        private String newBaseUrl;
+
+        @Override
+        public void beforeResponse(int responseCode, Map<String, List<String>> headers) {
+            List<String> protocol = headers.get("OkHttp-Selected-Protocol");
+            selectedProtocols.add(protocol != null ? protocol.get(0) : null);
+            List<String> baseUrl = headers.get(CustomApiHeaders.NEW_BASE_URL.getValue());
+            if (baseUrl != null) {
+                newBaseUrl = baseUrl.get(0);
+            }
+        }
+
+        @Override
+        public void beforeResponse(Exception error) {
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.ApiException;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiError;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiServiceException;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.DebugServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import fi.iki.elonen.NanoHTTPD;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class HttpCompressionTest {
+
+    private DebugServer debugServer;
+    private RecordingListener listener;
+
+    @Before
+    public void setUp() throws Exception {
+        debugServer = new DebugServer();
+        debugServer.start();
+        listener = new RecordingListener();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        debugServer.stop();
+    }
+
+    @Test
+    public void execute_withLargeBody_shouldSendGzippedBody() throws Exception {
+        DefaultApiClient apiClient = apiClient(false, new HttpCompression(HttpCompression.DEFAULT_MIN_REQUEST_BODY_SIZE, false));
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{}");
+        Map<String, Object> body = largeBody();
+        String json = DefaultApiClient.JSON_SERIALIZER.serialize(body);
+
+        apiClient.execute(HttpMethod.POST, url(), null, null, MapUtils.map(), MapUtils.map(), body, Object.class);
+
+        assertEquals("gzip", debugServer.getHeader("Content-Encoding"));
+        assertEquals(json, debugServer.getBody());
+        assertEquals(Integer.toString(debugServer.getRawBodyLength()), debugServer.getHeader("Content-Length"));
+        assertTrue(debugServer.getRawBodyLength() < json.length());
+        assertEquals(1, listener.requests.size());
+        assertEquals(json.length(), (long) listener.requests.get(0)[0]);
+        assertEquals(debugServer.getRawBodyLength(), (long) listener.requests.get(0)[1]);
+    }
+
+    @Test
+    public void execute_withSmallBody_shouldSendPlainBody() throws Exception {
+        DefaultApiClient apiClient = apiClient(false, new HttpCompression(HttpCompression.DEFAULT_MIN_REQUEST_BODY_SIZE, false));
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{}");
+
+        apiClient.execute(HttpMethod.POST, url(), null, null, MapUtils.map(), MapUtils.map(), Collections.singletonMap("key", "value"), Object.class);
+
+        assertNull(debugServer.getHeader("Content-Encoding"));
+        assertEquals("{\"key\":\"value\"}", debugServer.getBody());
+        assertTrue(listener.requests.isEmpty());
+    }
+
+    @Test
+    public void execute_withChunkedBody_shouldSendGzippedChunks() throws Exception {
+        DefaultApiClient apiClient = apiClient(true, new HttpCompression(HttpCompression.DEFAULT_MIN_REQUEST_BODY_SIZE, false));
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{}");
+        Map<String, Object> body = largeBody();
+
+        apiClient.execute(HttpMethod.POST, url(), null, null, MapUtils.map(), MapUtils.map(), body, Object.class);
+
+        assertEquals("chunked", debugServer.getHeader("Transfer-Encoding"));
+        assertEquals("gzip", debugServer.getHeader("Content-Encoding"));
+        assertEquals(DefaultApiClient.JSON_SERIALIZER.serialize(body), debugServer.getBody());
+        assertEquals(1, listener.requests.size());
+        assertEquals(debugServer.getRawBodyLength(), (long) listener.requests.get(0)[1]);
+    }
+
+    @Test
+    public void execute_withResponseCompression_shouldDecodeGzippedResponse() throws Exception {
+        DefaultApiClient apiClient = apiClient(false, new HttpCompression(-1, true));
+        Map<String, Object> response = largeBody();
+        String json = DefaultApiClient.JSON_SERIALIZER.serialize(response);
+        debugServer.respondGzippedWith(NanoHTTPD.Response.Status.OK, json);
+
+        Map result = apiClient.execute(HttpMethod.GET, url(), null, null, MapUtils.map(), MapUtils.map(), null, Map.class);
+
+        assertEquals("gzip, deflate", debugServer.getHeader("Accept-Encoding"));
+        assertEquals(response.get("items"), result.get("items"));
+        assertEquals(1, listener.responses.size());
+        assertEquals(json.length(), (long) listener.responses.get(0)[1]);
+        assertTrue(listener.responses.get(0)[0] < json.length());
+    }
+
+    @Test
+    public void execute_withResponseCompression_shouldDecodeGzippedError() throws Exception {
+        DefaultApiClient apiClient = apiClient(false, new HttpCompression(-1, true));
+        debugServer.respondGzippedWith(NanoHTTPD.Response.Status.UNAUTHORIZED,
+                DefaultApiClient.JSON_SERIALIZER.serialize(new ApiResponse(
+                        new ApiError(new ApiServiceException("1", "Invalid Application ID")))));
+
+        try {
+            apiClient.execute(HttpMethod.GET, url(), null, null, MapUtils.map(), MapUtils.map(), null, Object.class);
+            fail();
+        } catch (ApiException e) {
+            assertEquals("1", e.getCode());
+            assertEquals("Invalid Application ID", e.getMessage());
+        }
+    }
+
+    @Test
+    public void execute_withoutCompression_shouldNotAcceptEncoding() throws Exception {
+        DefaultApiClient apiClient = apiClient(false, HttpCompression.DISABLED);
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{}");
+        Map<String, Object> body = largeBody();
+
+        apiClient.execute(HttpMethod.POST, url(), null, null, MapUtils.map(), MapUtils.map(), body, Object.class);
+
+        assertNull(debugServer.getHeader("Content-Encoding"));
+        assertEquals(DefaultApiClient.JSON_SERIALIZER.serialize(body), debugServer.getBody());
+        assertTrue(listener.requests.isEmpty());
+        assertTrue(listener.responses.isEmpty());
+    }
+
+    private Map<String, Object> largeBody() {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            items.add("message-" + i);
+        }
+        return Collections.<String, Object>singletonMap("items", items);
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + debugServer.getListeningPort();
+    }
+
+    private DefaultApiClient apiClient(boolean chunkedRequestBody, HttpCompression compression) {
+        return new DefaultApiClient(
+                DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT,
+                null,
+                new RequestInterceptor[]{listener},
+                new ResponsePreProcessor[0],
+                new Logger(),
+                new DefaultHttpTransport(),
+                chunkedRequestBody,
+                compression);
+    }
+
+    private static class RecordingListener implements RequestInterceptor, CompressionListener {
+
+        private final List<long[]> requests = new ArrayList<>();
+        private final List<long[]> responses = new ArrayList<>();
+
+        @Override
+        public Request intercept(Request request) {
+            return request;
+        }
+
+        @Override
+        public void onRequestBodyCompressed(String uri, long originalBytes, long compressedBytes) {
+            requests.add(new long[]{originalBytes, compressedBytes});
+        }
+
+        @Override
+        public void onResponseBodyDecompressed(String uri, long compressedBytes, long decompressedBytes) {
+            responses.add(new long[]{compressedBytes, decompressedBytes});
+        }
+    }
+}
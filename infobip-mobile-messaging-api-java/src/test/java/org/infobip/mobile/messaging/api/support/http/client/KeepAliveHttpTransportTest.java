@@ -0,0 +1,101 @@
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.ApiException;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiError;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiServiceException;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.DebugServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import fi.iki.elonen.NanoHTTPD;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class KeepAliveHttpTransportTest {
+
+    private DebugServer debugServer;
+
+    @Before
+    public void setUp() throws Exception {
+        debugServer = new DebugServer();
+        debugServer.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        debugServer.stop();
+    }
+
+    @Test
+    public void execute_withKeepAliveTransport_shouldReuseSocket() throws Exception {
+        DefaultApiClient apiClient = apiClient(new KeepAliveHttpTransport());
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{\"name\":\"value\"}");
+
+        for (int i = 0; i < 3; i++) {
+            apiClient.execute(HttpMethod.POST, url(), null, null, MapUtils.map(), MapUtils.map(), Collections.singletonMap("key", "value"), Object.class);
+            apiClient.execute(HttpMethod.GET, url(), null, null, MapUtils.map(), MapUtils.map(), null, Void.class);
+        }
+
+        assertEquals(6, debugServer.getRequestCount());
+        assertEquals(1, debugServer.getConnectionCount());
+    }
+
+    @Test
+    public void execute_withKeepAliveTransport_shouldReuseSocketAfterErrorResponse() throws Exception {
+        DefaultApiClient apiClient = apiClient(new KeepAliveHttpTransport());
+        debugServer.respondWith(NanoHTTPD.Response.Status.UNAUTHORIZED,
+                DefaultApiClient.JSON_SERIALIZER.serialize(new ApiResponse(
+                        new ApiError(new ApiServiceException("1", "Invalid Application ID")))));
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                apiClient.execute(HttpMethod.GET, url(), null, null, MapUtils.map(), MapUtils.map(), null, Object.class);
+                fail();
+            } catch (ApiException ignored) {
+            }
+        }
+
+        assertEquals(3, debugServer.getRequestCount());
+        assertEquals(1, debugServer.getConnectionCount());
+    }
+
+    @Test
+    public void execute_withDefaultTransport_shouldOpenSocketForEachRequest() throws Exception {
+        DefaultApiClient apiClient = apiClient(new DefaultHttpTransport());
+        debugServer.respondWith(NanoHTTPD.Response.Status.OK, "{\"name\":\"value\"}");
+
+        for (int i = 0; i < 3; i++) {
+            apiClient.execute(HttpMethod.GET, url(), null, null, MapUtils.map(), MapUtils.map(), null, Object.class);
+        }
+
+        assertEquals(3, debugServer.getRequestCount());
+        assertEquals(3, debugServer.getConnectionCount());
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + debugServer.getListeningPort();
+    }
+
+    private DefaultApiClient apiClient(HttpTransport httpTransport) {
+        return new DefaultApiClient(
+                DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT,
+                null,
+                new RequestInterceptor[0],
+                new ResponsePreProcessor[0],
+                new Logger(),
+                httpTransport);
+    }
+}
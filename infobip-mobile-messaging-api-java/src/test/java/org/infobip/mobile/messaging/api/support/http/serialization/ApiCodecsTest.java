@@ -0,0 +1,130 @@
+package org.infobip.mobile.messaging.api.support.http.serialization;
+
+import com.google.gson.TypeAdapterFactory;
+
+import org.infobip.mobile.messaging.api.data.CustomUserDataValueReport;
+import org.infobip.mobile.messaging.api.data.UserDataReport;
+import org.infobip.mobile.messaging.api.geo.EventReport;
+import org.infobip.mobile.messaging.api.geo.EventReportBody;
+import org.infobip.mobile.messaging.api.geo.EventType;
+import org.infobip.mobile.messaging.api.geo.MessagePayload;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.MoMessage;
+import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
+import org.infobip.mobile.messaging.api.messages.SeenMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class ApiCodecsTest {
+
+    private final JsonSerializer codecs = new JsonSerializer(true, ApiCodecs.INSTANCE);
+    private final JsonSerializer reflection = new JsonSerializer(true, (TypeAdapterFactory) null);
+    private final JsonSerializer codecsWithoutNulls = new JsonSerializer(false, ApiCodecs.INSTANCE);
+    private final JsonSerializer reflectionWithoutNulls = new JsonSerializer(false, (TypeAdapterFactory) null);
+
+    @Test
+    public void syncMessagesResponse_shouldMatchReflection() throws Exception {
+        SyncMessagesResponse response = new SyncMessagesResponse(Arrays.asList(
+                new MessageResponse("id1", "title", "body", "default", "true", "false", "category", "{\"key\":\"value\"}", "{\"inApp\":true}"),
+                new MessageResponse("id2", null, "body2", null, null, null, null, null, null)));
+
+        assertSameJson(response, SyncMessagesResponse.class);
+        assertEquals(response, codecs.deserialize(reflection.serialize(response), SyncMessagesResponse.class));
+    }
+
+    @Test
+    public void messageResponse_shouldReadLikeReflection() throws Exception {
+        String json = "{\"gcm.notification.messageId\":\"id\",\"gcm.notification.silent\":true,\"unknown\":{\"a\":[1,2]},\"customPayload\":null}";
+
+        assertEquals(reflection.deserialize(json, MessageResponse.class), codecs.deserialize(json, MessageResponse.class));
+        assertNull(codecs.deserialize("null", MessageResponse.class));
+    }
+
+    @Test
+    public void moMessagesBody_shouldMatchReflection() throws Exception {
+        Map<String, Object> customPayload = new HashMap<>();
+        customPayload.put("string", "value");
+        customPayload.put("number", 1.5);
+        customPayload.put("nested", Collections.singletonMap("bool", true));
+        MoMessagesBody body = new MoMessagesBody("from", new MoMessage[]{
+                new MoMessage("id", "destination", "text", "initialId", "bulkId", customPayload),
+                new MoMessage("id2", null, "text2", null, null, null)
+        });
+
+        assertSameJson(body, MoMessagesBody.class);
+        assertEquals(reflection.deserialize(reflection.serialize(body), MoMessagesBody.class),
+                codecs.deserialize(reflection.serialize(body), MoMessagesBody.class));
+    }
+
+    @Test
+    public void seenMessages_shouldMatchReflection() throws Exception {
+        SeenMessages seenMessages = new SeenMessages(new SeenMessages.Message[]{
+                new SeenMessages.Message("id1", 10),
+                new SeenMessages.Message("id2", 20)
+        });
+
+        assertSameJson(seenMessages, SeenMessages.class);
+        SeenMessages deserialized = codecs.deserialize(reflection.serialize(seenMessages), SeenMessages.class);
+        assertEquals(reflection.serialize(seenMessages), reflection.serialize(deserialized));
+    }
+
+    @Test
+    public void eventReportBody_shouldMatchReflection() throws Exception {
+        EventReportBody body = new EventReportBody(
+                new LinkedHashSet<>(Arrays.asList(new MessagePayload("id", "title", "body", "sound", true, "category", null, "{}", "{\"geo\":[]}"))),
+                new LinkedHashSet<>(Arrays.asList(
+                        new EventReport(EventType.entry, "areaId", "campaignId", "id", "sdkId", 5L),
+                        new EventReport(EventType.exit, "areaId", "campaignId", "id", "sdkId2", null))),
+                "instanceId");
+
+        assertSameJson(body, EventReportBody.class);
+        EventReportBody deserialized = codecs.deserialize(reflection.serialize(body), EventReportBody.class);
+        assertEquals(reflection.serialize(body), reflection.serialize(deserialized));
+    }
+
+    @Test
+    public void userDataReport_shouldMatchReflection() throws Exception {
+        Map<String, Object> predefinedUserData = new HashMap<>();
+        predefinedUserData.put("firstName", "John");
+        predefinedUserData.put("msisdn", null);
+        Map<String, CustomUserDataValueReport> customUserData = new HashMap<>();
+        customUserData.put("height", new CustomUserDataValueReport(180.5, "Number"));
+        customUserData.put("nick", new CustomUserDataValueReport("jd", "String"));
+        customUserData.put("removed", null);
+        UserDataReport report = new UserDataReport(predefinedUserData, customUserData);
+
+        assertSameJson(report, UserDataReport.class);
+        assertEquals(reflection.deserialize(reflection.serialize(report), UserDataReport.class),
+                codecs.deserialize(reflection.serialize(report), UserDataReport.class));
+    }
+
+    @Test
+    public void subclass_shouldBeSerializedWithReflection() throws Exception {
+        SeenMessages seenMessages = new SeenMessages() {{
+            setMessages(new Message[]{new Message("id", 1)});
+        }};
+
+        assertEquals(reflection.serialize(seenMessages), codecs.serialize(seenMessages));
+        assertNotSame(SeenMessages.class, seenMessages.getClass());
+    }
+
+    private <T> void assertSameJson(T value, Class<T> type) {
+        assertEquals(reflection.serialize(value), codecs.serialize(value));
+        assertEquals(reflectionWithoutNulls.serialize(value), codecsWithoutNulls.serialize(value));
+        assertEquals(reflection.serialize(value), codecs.serialize(codecs.deserialize(codecs.serialize(value), type)));
+    }
+}
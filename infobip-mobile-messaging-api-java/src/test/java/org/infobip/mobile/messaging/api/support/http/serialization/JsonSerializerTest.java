@@ -6,6 +6,9 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -68,6 +71,92 @@ public class JsonSerializerTest {
         assertEquals(givenObject.string, actualDeserialized.string);
     }
 
+    @Test
+    public void should_serialize_to_writer_and_deserialize_from_reader() throws Exception {
+        JsonSerializer givenSerializer = new JsonSerializer();
+        GivenClass givenObject = new GivenClass();
+        givenObject.string = "someValue";
+
+        // When
+        StringWriter writer = new StringWriter();
+        givenSerializer.serialize(givenObject, writer);
+        GivenClass actualDeserialized = givenSerializer.deserialize(new StringReader(writer.toString()), GivenClass.class);
+
+        // Then
+        JSONAssert.assertEquals("{\"string\":\"someValue\"}", writer.toString(), true);
+        assertEquals(givenObject.string, actualDeserialized.string);
+    }
+
+    @Test
+    public void should_pass_parsed_value_to_streaming_adapter() throws Exception {
+        final Object[] received = new Object[1];
+        JsonSerializer givenSerializer = new JsonSerializer(false, new JsonSerializer.StreamingObjectAdapter<GivenClass>() {
+            @Override
+            public GivenClass fromJsonValue(Object value) {
+                received[0] = value;
+                GivenClass obj = new GivenClass();
+                obj.string = (String) ((Map) value).get("strrr");
+                return obj;
+            }
+
+            @Override
+            public Class<GivenClass> getCls() {
+                return GivenClass.class;
+            }
+
+            @Override
+            public GivenClass deserialize(String value) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String serialize(GivenClass value) {
+                return "{\"strrr\":\"" + value.string + "\"}";
+            }
+        });
+
+        // When
+        GivenClass actualDeserialized = givenSerializer.deserialize(
+                "{\"strrr\":\"someValue\",\"int\":1,\"long\":3000000000,\"double\":1.0,\"null\":null,\"array\":[true,null]}", GivenClass.class);
+
+        // Then
+        Map<?, ?> value = (Map<?, ?>) received[0];
+        assertEquals("someValue", actualDeserialized.string);
+        assertEquals(1, value.get("int"));
+        assertEquals(3000000000L, value.get("long"));
+        assertEquals(1.0, value.get("double"));
+        assertEquals(JsonSerializer.NULL, value.get("null"));
+        assertEquals(Arrays.asList(true, JsonSerializer.NULL), value.get("array"));
+    }
+
+    @Test
+    public void should_read_unbound_top_level_member_together_with_object() throws Exception {
+        JsonSerializer givenSerializer = new JsonSerializer();
+        JsonSerializer.UnboundMember<GivenClass> member = new JsonSerializer.UnboundMember<>("error", GivenClass.class);
+
+        // When
+        GivenClass actualDeserialized = givenSerializer.deserialize(
+                new StringReader("{\"nested\":{\"error\":{\"string\":\"nestedValue\"}},\"error\":{\"string\":\"errorValue\"},\"string\":\"someValue\"}"),
+                GivenClass.class, member);
+
+        // Then
+        assertEquals("someValue", actualDeserialized.string);
+        assertEquals("errorValue", member.getValue().string);
+    }
+
+    @Test
+    public void should_not_read_unbound_member_if_it_is_missing() throws Exception {
+        JsonSerializer givenSerializer = new JsonSerializer();
+        JsonSerializer.UnboundMember<GivenClass> member = new JsonSerializer.UnboundMember<>("error", GivenClass.class);
+
+        // When
+        GivenClass actualDeserialized = givenSerializer.deserialize(new StringReader("{\"string\":\"error\"}"), GivenClass.class, member);
+
+        // Then
+        assertEquals("error", actualDeserialized.string);
+        Assert.assertNull(member.getValue());
+    }
+
     private String getMessageForClassMismatch(Class expeceted, Class observed) {
         return "Expected <" + expeceted.toString() + "> found <" + observed.toString() + ">";
     }
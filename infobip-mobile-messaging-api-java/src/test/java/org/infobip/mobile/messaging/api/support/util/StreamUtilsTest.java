@@ -0,0 +1,92 @@
+package org.infobip.mobile.messaging.api.support.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class StreamUtilsTest {
+
+    @Test
+    public void readToString_emptyLength_mustReturn_empty() throws Exception {
+        assertThat(StreamUtils.readToString(stream("abc"), "UTF-8", 0)).isEmpty();
+    }
+
+    @Test
+    public void readToString_mustRead_onlyRequestedLength() throws Exception {
+        InputStream inputStream = stream("abcdef");
+
+        assertThat(StreamUtils.readToString(inputStream, "UTF-8", 3)).isEqualTo("abc");
+        assertThat(inputStream.read()).isEqualTo('d');
+    }
+
+    @Test
+    public void readToString_mustDecode_multiByteCharacters_acrossBlocks() throws Exception {
+        String expected = longString("žćčđš€😀", 10000);
+
+        assertThat(StreamUtils.readToString(stream(expected), "UTF-8", expected.getBytes("UTF-8").length)).isEqualTo(expected);
+        assertThat(StreamUtils.readToString(new OneByteInputStream(expected.getBytes("UTF-8")), "UTF-8")).isEqualTo(expected);
+    }
+
+    @Test
+    public void readToString_withoutLength_mustRead_untilEndOfStream() throws Exception {
+        String expected = longString("abc", 5000);
+
+        assertThat(StreamUtils.readToString(stream(expected), "UTF-8")).isEqualTo(expected);
+    }
+
+    @Test(expected = StreamUtils.StreamTooLongException.class)
+    public void readToString_withoutLength_mustThrow_ifStreamTooLong() throws Exception {
+        StreamUtils.readToString(stream(longString("a", 100)), "UTF-8", -1, 99);
+    }
+
+    @Test(expected = StreamUtils.StreamTooLongException.class)
+    public void readToString_mustThrow_ifLengthTooLong() throws Exception {
+        StreamUtils.readToString(stream("abc"), "UTF-8", 3, 2);
+    }
+
+    @Test
+    public void limit_mustAllow_streamOfMaxLength() throws Exception {
+        InputStream inputStream = StreamUtils.limit(stream("abc"), 3);
+
+        assertThat(StreamUtils.readToString(inputStream, "UTF-8")).isEqualTo("abc");
+    }
+
+    @Test(expected = StreamUtils.StreamTooLongException.class)
+    public void limit_mustThrow_ifStreamTooLong() throws Exception {
+        InputStream inputStream = StreamUtils.limit(stream("abcd"), 3);
+
+        StreamUtils.readToString(inputStream, "UTF-8");
+    }
+
+    private static InputStream stream(String s) throws IOException {
+        return new ByteArrayInputStream(s.getBytes("UTF-8"));
+    }
+
+    private static String longString(String s, int times) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static class OneByteInputStream extends ByteArrayInputStream {
+
+        OneByteInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
@@ -2,10 +2,16 @@ package org.infobip.mobile.messaging.api.tools;
 
 import org.infobip.mobile.messaging.api.support.util.StreamUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import fi.iki.elonen.NanoHTTPD;
 
@@ -14,12 +20,19 @@ public class DebugServer extends NanoHTTPD {
     private Map<String, String> headers = new HashMap<>();
     private Map<String, String> responseHeaders = new HashMap<>();
     private AtomicInteger requestCount = new AtomicInteger(0);
+    private AtomicInteger connectionCount = new AtomicInteger(0);
+    private AtomicInteger notModifiedCount = new AtomicInteger(0);
     private Response.Status status;
     private String mimeType;
     private String txt;
     private Method requestMethod;
     private String uri;
     private String body;
+    private boolean chunkedResponse;
+    private boolean gzippedResponse;
+    private int rawBodyLength;
+    private String etag;
+    private String lastModified;
 
     public DebugServer() {
         super(0);
@@ -32,41 +45,138 @@ public class DebugServer extends NanoHTTPD {
         requestMethod = session.getMethod();
         uri = session.getUri();
         queryParameters = session.getParms();
-        headers = session.getHeaders();
+        headers = new HashMap<>(session.getHeaders());
         body = readBody(session);
+        // session keeps headers of the previous request on the same connection
+        session.getHeaders().clear();
 
-        Response response = new Response(status, mimeType, txt);
+        if (isNotModified()) {
+            notModifiedCount.incrementAndGet();
+            Response response = new Response(Response.Status.NOT_MODIFIED, mimeType, (String) null);
+            addValidators(response);
+            return response;
+        }
+
+        Response response = gzippedResponse && txt != null
+                ? new Response(status, mimeType, new ByteArrayInputStream(gzip(txt)))
+                : new Response(status, mimeType, txt);
+        if (gzippedResponse) {
+            response.addHeader("Content-Encoding", "gzip");
+        }
+        response.setChunkedTransfer(chunkedResponse);
         for (String key : responseHeaders.keySet()) {
             response.addHeader(key, responseHeaders.get(key));
         }
+        addValidators(response);
 
         return response;
     }
 
-    private String readBody(IHTTPSession session) {
-        if (null != headers) {
-            String contentLength = headers.get("content-length");
-            if (null != contentLength) {
-                long length = Long.parseLong(contentLength);
-                if (length > 0) {
-                    try {
-                        return StreamUtils.readToString(session.getInputStream(), "UTF-8", length);
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                }
-            }
+    private boolean isNotModified() {
+        if (null != etag) {
+            return etag.equals(headers.get("if-none-match"));
         }
-/*
+        return null != lastModified && lastModified.equals(headers.get("if-modified-since"));
+    }
+
+    private void addValidators(Response response) {
+        if (null != etag) {
+            response.addHeader("ETag", etag);
+        }
+        if (null != lastModified) {
+            response.addHeader("Last-Modified", lastModified);
+        }
+    }
+
+    @Override
+    public synchronized void registerConnection(Socket socket) {
+        connectionCount.incrementAndGet();
+        super.registerConnection(socket);
+    }
+
+    private String readBody(IHTTPSession session) {
+        rawBodyLength = 0;
         try {
-            return StreamUtils.readToString(session.getInputStream(), "UTF-8");
+            byte[] bytes = readRawBody(session);
+            if (null == bytes) {
+                return null;
+            }
+            rawBodyLength = bytes.length;
+            if ("gzip".equalsIgnoreCase(headers.get("content-encoding"))) {
+                return StreamUtils.readToString(new GZIPInputStream(new ByteArrayInputStream(bytes)), "UTF-8");
+            }
+            return new String(bytes, "UTF-8");
         } catch (IOException e) {
             e.printStackTrace();
         }
-*/
         return null;
     }
 
+    private byte[] readRawBody(IHTTPSession session) throws IOException {
+        if (null == headers) {
+            return null;
+        }
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            return readChunkedBody(session.getInputStream());
+        }
+        String contentLength = headers.get("content-length");
+        if (null == contentLength) {
+            return null;
+        }
+        int length = Integer.parseInt(contentLength);
+        if (length < 1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = session.getInputStream().read(bytes, offset, length - offset);
+            if (read == -1) {
+                break;
+            }
+            offset += read;
+        }
+        return bytes;
+    }
+
+    private byte[] readChunkedBody(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            int chunkSize = Integer.parseInt(readLine(inputStream).split(";")[0].trim(), 16);
+            if (chunkSize == 0) {
+                readLine(inputStream);
+                return body.toByteArray();
+            }
+            for (int i = 0; i < chunkSize; i++) {
+                body.write(inputStream.read());
+            }
+            readLine(inputStream);
+        }
+    }
+
+    private static byte[] gzip(String txt) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bytes);
+            gzipOutputStream.write(txt.getBytes("UTF-8"));
+            gzipOutputStream.close();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String readLine(InputStream inputStream) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int b;
+        while ((b = inputStream.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                sb.append((char) b);
+            }
+        }
+        return sb.toString();
+    }
+
     public void respondWith(Response.Status status, String json) {
         this.respondWith(status, "application/json", json);
     }
@@ -84,6 +194,26 @@ public class DebugServer extends NanoHTTPD {
         this.responseHeaders = headers;
     }
 
+    public void respondChunkedWith(Response.Status status, String json) {
+        this.respondWith(status, json);
+        this.chunkedResponse = true;
+    }
+
+    public void respondGzippedWith(Response.Status status, String json) {
+        this.respondWith(status, json);
+        this.gzippedResponse = true;
+    }
+
+    /**
+     * Responds with validators, and with {@code 304 Not Modified} without body to requests with matching
+     * {@code If-None-Match} or, if etag is null, {@code If-Modified-Since}.
+     */
+    public void respondWithValidators(Response.Status status, String json, String etag, String lastModified) {
+        this.respondWith(status, json);
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
     public String getQueryParameter(String paramName) {
         return queryParameters.get(paramName);
     }
@@ -92,6 +222,14 @@ public class DebugServer extends NanoHTTPD {
         return requestCount.get();
     }
 
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
     public Method getRequestMethod() {
         return requestMethod;
     }
@@ -104,6 +242,13 @@ public class DebugServer extends NanoHTTPD {
         return body;
     }
 
+    /**
+     * @return number of bytes received in request body before decoding Content-Encoding
+     */
+    public int getRawBodyLength() {
+        return rawBodyLength;
+    }
+
     public String getHeader(String headerName) {
         return headers.get(headerName.toLowerCase());
     }
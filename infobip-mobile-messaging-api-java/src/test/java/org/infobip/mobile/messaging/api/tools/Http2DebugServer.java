@@ -0,0 +1,126 @@
+package org.infobip.mobile.messaging.api.tools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.tls.HandshakeCertificates;
+import okhttp3.tls.HeldCertificate;
+
+/**
+ * Local https server which negotiates HTTP/2 with ALPN, a counterpart of {@link DebugServer} for HTTP/2 tests.
+ * Responds to all requests with the same response after a configurable delay and counts connections.
+ *
+ * @author agent
+ * @since 18/10/2026.
+ */
+public class Http2DebugServer {
+
+    private final MockWebServer server = new MockWebServer();
+    private final HandshakeCertificates clientCertificates;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final List<RecordedRequest> requests = Collections.synchronizedList(new ArrayList<RecordedRequest>());
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile Map<String, String> headers = new HashMap<>();
+    private volatile long delayMillis;
+
+    /**
+     * @param protocols protocols which server is willing to negotiate, i.e. only {@link Protocol#HTTP_1_1} to test fallback
+     */
+    public Http2DebugServer(List<Protocol> protocols) {
+        HeldCertificate rootCertificate = new HeldCertificate.Builder()
+                .certificateAuthority(0)
+                .build();
+        HeldCertificate serverCertificate = new HeldCertificate.Builder()
+                .addSubjectAlternativeName("localhost")
+                .signedBy(rootCertificate)
+                .build();
+        HandshakeCertificates serverCertificates = new HandshakeCertificates.Builder()
+                .heldCertificate(serverCertificate)
+                .build();
+        clientCertificates = new HandshakeCertificates.Builder()
+                .addTrustedCertificate(rootCertificate.certificate())
+                .build();
+
+        server.useHttps(serverCertificates.sslSocketFactory(), false);
+        server.setProtocols(protocols);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getSequenceNumber() == 0) {
+                    connectionCount.incrementAndGet();
+                }
+                requests.add(request);
+
+                MockResponse response = new MockResponse()
+                        .setResponseCode(status)
+                        .setBody(body)
+                        .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+                for (Map.Entry<String, String> header : headers.entrySet()) {
+                    response.addHeader(header.getKey(), header.getValue());
+                }
+                return response;
+            }
+        });
+    }
+
+    public void start() throws IOException {
+        server.start();
+    }
+
+    public void stop() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * @return client which trusts certificate of this server
+     */
+    public OkHttpClient newClient(List<Protocol> protocols) {
+        return new OkHttpClient.Builder()
+                .sslSocketFactory(clientCertificates.sslSocketFactory(), clientCertificates.trustManager())
+                .protocols(protocols)
+                .build();
+    }
+
+    public String getBaseUrl() {
+        return server.url("/").toString();
+    }
+
+    public void respondWith(int status, String body) {
+        respondWith(status, body, new HashMap<String, String>());
+    }
+
+    public void respondWith(int status, String body, Map<String, String> headers) {
+        this.status = status;
+        this.body = body;
+        this.headers = headers;
+    }
+
+    public void setResponseDelay(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public int getRequestCount() {
+        return requests.size();
+    }
+
+    public List<RecordedRequest> getRequests() {
+        return new ArrayList<>(requests);
+    }
+}